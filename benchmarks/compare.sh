@@ -0,0 +1,58 @@
+#!/bin/bash
+# Compares two JMH result files (-rf json) benchmark by benchmark, e.g. the
+# target/jmh-result.json of main against that of a branch.
+#
+# Usage (from benchmarks/):
+#   ./compare.sh baseline.json candidate.json
+#
+# Prints one line per benchmark + parameter combination present in both files:
+# baseline and candidate score, change in percent, and a verdict. A change is
+# only reported as faster/slower when the two 99.9% confidence intervals do
+# not overlap; otherwise it is "~" (within noise).
+# Tunables (env): THRESHOLD (exit with status 1 if any benchmark got slower
+# by more than THRESHOLD percent; unset = never fail)
+# Requires jq on the PATH.
+set -euo pipefail
+
+[ $# -eq 2 ] || { echo "Usage: $0 baseline.json candidate.json" >&2; exit 2; }
+command -v jq >/dev/null || { echo "jq not found on PATH" >&2; exit 1; }
+
+THRESHOLD="${THRESHOLD:-}"
+
+# One TSV line per benchmark{params} present in both files:
+# name, baseline, candidate, unit, change, verdict, signed change (for THRESHOLD)
+read -r -d '' PROGRAM <<'JQ' || true
+def index: map({
+    key: ((.benchmark | sub("^music\\.library\\.benchmark\\."; ""))
+          + (if .params then " {" + (.params | to_entries | map("\(.key)=\(.value)") | join(",")) + "}" else "" end)),
+    value: .
+  }) | from_entries;
+# JMH writes "NaN" when there are too few iterations for an interval
+def err: .primaryMetric.scoreError | if type == "number" then . else 0 end;
+def round3: . * 1000 | round / 1000;
+
+($base[0] | index) as $b | ($cand[0] | index) as $c
+| $b | keys[] as $k | select($c[$k])
+| $b[$k] as $old | $c[$k] as $new
+| $old.primaryMetric.score as $bs | $new.primaryMetric.score as $cs
+# Lower is better for time per operation, higher for throughput
+| (if $old.mode == "thrpt" then -1 else 1 end) as $sign
+| (($cs - $bs) / $bs * 100) as $pct
+| (if ($cs - $bs | fabs) <= ($old | err) + ($new | err) then "~"
+   elif $sign * ($cs - $bs) > 0 then "slower" else "faster" end) as $verdict
+| [$k, ($bs | round3), ($cs | round3), $old.primaryMetric.scoreUnit,
+   (($pct * 10 | round / 10) | tostring) + "%", $verdict, $sign * $pct]
+| @tsv
+JQ
+
+REPORT=$(jq -rn --slurpfile base "$1" --slurpfile cand "$2" "$PROGRAM")
+
+printf '%s\n' "$REPORT" | awk -F'\t' '{ printf "%-70s %14s %14s %-6s %8s  %s\n", $1, $2, $3, $4, $5, $6 }'
+
+if [ -n "$THRESHOLD" ]; then
+  REGRESSIONS=$(printf '%s\n' "$REPORT" | awk -F'\t' -v t="$THRESHOLD" '$6 == "slower" && $7 > t' | wc -l)
+  if [ "$REGRESSIONS" -gt 0 ]; then
+    echo "$REGRESSIONS benchmark(s) slower by more than ${THRESHOLD}%" >&2
+    exit 1
+  fi
+fi
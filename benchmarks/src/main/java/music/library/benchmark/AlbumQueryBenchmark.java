@@ -0,0 +1,84 @@
+package music.library.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import music.library.benchmark.CatalogSeeder.Selectivity;
+import music.library.entity.Album;
+import music.library.entity.AlbumView;
+import music.library.service.AlbumService;
+
+/**
+ * Album search through AlbumService, by catalog size and by the fraction of
+ * the catalog the title term matches (see {@link Selectivity}).
+ *
+ * - search: AlbumService.search with a title only (AlbumSpecs.titleContains)
+ * - searchWithAllCriteria: the same plus a year range and a genre, i.e. all
+ *   specifications of AlbumSpecs.matching combined
+ * - searchTitleOrArtist: GET /api/albums/search?q=... (album_view, title or artist name)
+ *
+ * Each call returns the first page of 20, sorted by title.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-DLOG_LEVEL=WARN")
+public class AlbumQueryBenchmark {
+
+    @Param({ "1000", "10000" })
+    public int albums;
+
+    @Param({ "RARE", "UNCOMMON", "COMMON", "ALL" })
+    public Selectivity selectivity;
+
+    private final Pageable page = PageRequest.of(0, 20, Sort.by("title"));
+
+    private ConfigurableApplicationContext context;
+    private AlbumService albumService;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start(albums);
+        albumService = context.getBean(AlbumService.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<Album> search() {
+        return albumService.search(selectivity.term, null, null, null, page);
+    }
+
+    @Benchmark
+    public Page<Album> searchWithAllCriteria() {
+        return albumService.search(selectivity.term, 1970, 1999, 1L, page);
+    }
+
+    @Benchmark
+    public Page<AlbumView> searchTitleOrArtist() {
+        return albumService.searchByTitleOrArtist(selectivity.term, page);
+    }
+}
@@ -0,0 +1,80 @@
+package music.library.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import music.library.entity.Album;
+import music.library.specification.AlbumSpecs;
+
+/**
+ * Cost of AlbumSpecs before any SQL runs: combining the specifications,
+ * turning them into Criteria predicates, and having Hibernate build a query
+ * from the result. Nothing here touches the database, so there is no
+ * catalog-size parameter; AlbumQueryBenchmark covers execution.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-DLOG_LEVEL=WARN")
+public class AlbumSpecBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private EntityManager em;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start(0);
+        em = context.getBean(EntityManagerFactory.class).createEntityManager();
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        em.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Specification<Album> compose() {
+        return AlbumSpecs.matching("quartz", 1970, 1999, 1L);
+    }
+
+    @Benchmark
+    public Predicate composeToPredicate() {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Album> query = cb.createQuery(Album.class);
+        Root<Album> root = query.from(Album.class);
+        return AlbumSpecs.matching("quartz", 1970, 1999, 1L).toPredicate(root, query, cb);
+    }
+
+    @Benchmark
+    public TypedQuery<Album> composeToQuery() {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Album> query = cb.createQuery(Album.class);
+        Root<Album> root = query.from(Album.class);
+        query.where(AlbumSpecs.matching("quartz", 1970, 1999, 1L).toPredicate(root, query, cb));
+        return em.createQuery(query);
+    }
+}
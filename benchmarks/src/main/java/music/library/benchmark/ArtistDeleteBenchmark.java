@@ -0,0 +1,103 @@
+package music.library.benchmark;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import music.library.dto.ArtistDeletionResponse;
+import music.library.repository.ArtistRepository;
+import music.library.service.ArtistDeletionService;
+
+/**
+ * Deleting an artist with {@code albums} albums (two genre links each),
+ * through the JPA cascade (Artist.albums, CascadeType.ALL) and through the
+ * set-based ArtistDeletionService (DELETE /api/artists/{id}).
+ *
+ * Every call deletes a different artist, so the artist is seeded before each
+ * invocation and only the delete is timed (single shot).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-DLOG_LEVEL=WARN")
+public class ArtistDeleteBenchmark {
+
+    private static final int CATALOG_SIZE = 1000;
+
+    @Param({ "1000", "10000" })
+    public int albums;
+
+    private ConfigurableApplicationContext context;
+    private ArtistRepository artistRepo;
+    private ArtistDeletionService deletionService;
+    private TransactionTemplate tx;
+    private JdbcTemplate jdbc;
+    private long seeded;
+    private Long artistId;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start(CATALOG_SIZE);
+        artistRepo = context.getBean(ArtistRepository.class);
+        deletionService = context.getBean(ArtistDeletionService.class);
+        tx = context.getBean(TransactionTemplate.class);
+        jdbc = context.getBean(JdbcTemplate.class);
+    }
+
+    // One artist with `albums` albums, each linked to the first two genres
+    @Setup(Level.Invocation)
+    public void seedArtist() {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        String name = "Deleted artist " + ++seeded;
+        jdbc.update("INSERT INTO artist (name, created_at, updated_at, version) VALUES (?, ?, ?, 0)", name, now, now);
+        artistId = jdbc.queryForObject("SELECT artist_id FROM artist WHERE name = ?", Long.class, name);
+
+        jdbc.batchUpdate("INSERT INTO album (title, artist_id, created_at, updated_at, version) VALUES (?, ?, ?, ?, 0)",
+                IntStream.range(0, albums).boxed().toList(), 1000, (PreparedStatement ps, Integer i) -> {
+                    ps.setString(1, name + " album " + i);
+                    ps.setLong(2, artistId);
+                    ps.setTimestamp(3, now);
+                    ps.setTimestamp(4, now);
+                });
+        for (long genreId = 1; genreId <= 2; genreId++) {
+            jdbc.update("INSERT INTO album_genre (album_id, genre_id) SELECT album_id, ? FROM album WHERE artist_id = ?",
+                    genreId, artistId);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public void jpaCascade() {
+        tx.executeWithoutResult(status -> artistRepo.deleteById(artistId));
+    }
+
+    @Benchmark
+    public ArtistDeletionResponse setBased() {
+        return deletionService.delete(artistId);
+    }
+}
@@ -0,0 +1,62 @@
+package music.library.benchmark;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.boot.Banner;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import music.library.MusicLibraryApplication;
+import music.library.service.AlbumViewService;
+
+/**
+ * Starts the application (without a web server) against a private in-memory
+ * H2 database and seeds it with a synthetic catalog of the requested size.
+ * The seed bypasses JPA, so the album_view read model is rebuilt after it.
+ *
+ * The configuration is the application's own application.yaml with only the
+ * datasource and schema settings swapped for H2, the same overrides the test
+ * profile uses. Admission control is off so it never rejects benchmark calls.
+ */
+final class BenchmarkContext {
+
+    private static final AtomicInteger DATABASES = new AtomicInteger();
+
+    private BenchmarkContext() {
+    }
+
+    /**
+     * @param albums number of albums to seed (artists and genres scale with it)
+     * @return the running context; close it in the benchmark's tear-down
+     */
+    static ConfigurableApplicationContext start(int albums) {
+        Map<String, String> props = new LinkedHashMap<>();
+        // One database per context, so trials run in the same JVM (-f 0) never share data
+        props.put("spring.datasource.url",
+                "jdbc:h2:mem:bench" + DATABASES.incrementAndGet() + ";DB_CLOSE_DELAY=-1;MODE=MYSQL");
+        props.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        props.put("spring.datasource.username", "sa");
+        props.put("spring.datasource.password", "");
+        props.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        // Hibernate builds the schema and CatalogSeeder fills it, as in the tests
+        props.put("spring.flyway.enabled", "false");
+        props.put("spring.jpa.show-sql", "false");
+        props.put("admission.enabled", "false");
+        props.put("covers.store-dir", "target/benchmark-covers");
+        props.put("snapshots.dir", "target/benchmark-snapshots");
+
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MusicLibraryApplication.class)
+                .web(WebApplicationType.NONE)
+                .bannerMode(Banner.Mode.OFF)
+                .logStartupInfo(false)
+                // As command-line arguments, which take precedence over application.yaml
+                .run(props.entrySet().stream().map(e -> "--" + e.getKey() + "=" + e.getValue()).toArray(String[]::new));
+        new CatalogSeeder(context.getBean(JdbcTemplate.class)).seed(albums);
+        context.getBean(AlbumViewService.class).rebuild();
+        return context;
+    }
+}
@@ -0,0 +1,105 @@
+package music.library.benchmark;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Bulk-loads a synthetic catalog with plain JDBC batches.
+ *
+ * Shape for N albums:
+ * - {@value #GENRES} genres, N / {@value #ALBUMS_PER_ARTIST} artists (at least one)
+ * - album i is "Album i" by artist (i % artists) + 1, released in 1960 + (i % 60),
+ *   tagged with genres (i % G) + 1 and (7i % G) + 1
+ * - every album whose number is a multiple of a {@link Selectivity}'s period
+ *   also carries that selectivity's marker word in its title, so a title
+ *   search for the marker matches an exact, known fraction of the catalog
+ *
+ * Ids are left to the identity columns; on a fresh database they run 1..n in
+ * insertion order, which the genre links rely on.
+ */
+public final class CatalogSeeder {
+
+    static final int GENRES = 50;
+    static final int ALBUMS_PER_ARTIST = 10;
+
+    private static final int BATCH_SIZE = 1000;
+
+    /** Fraction of the catalog a title search matches. */
+    public enum Selectivity {
+        RARE("zircon", 1000),       // 0.1 %
+        UNCOMMON("garnet", 100),    // 1 %
+        COMMON("quartz", 10),       // 10 %
+        ALL("album", 1);            // every title starts with "Album"
+
+        final String term;
+        final int period;
+
+        Selectivity(String term, int period) {
+            this.term = term;
+            this.period = period;
+        }
+    }
+
+    private final JdbcTemplate jdbc;
+
+    CatalogSeeder(JdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+    }
+
+    void seed(int albums) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int artists = Math.max(1, albums / ALBUMS_PER_ARTIST);
+
+        List<Object[]> rows = new ArrayList<>();
+        for (int g = 1; g <= GENRES; g++) {
+            rows.add(new Object[] { "Genre " + g, "Synthetic genre " + g, now, now });
+        }
+        insert("INSERT INTO genre (name, description, created_at, updated_at, version) VALUES (?, ?, ?, ?, 0)", rows);
+
+        for (int a = 1; a <= artists; a++) {
+            rows.add(new Object[] { "Artist " + a, "Synthetic artist " + a, now, now });
+        }
+        insert("INSERT INTO artist (name, description, created_at, updated_at, version) VALUES (?, ?, ?, ?, 0)", rows);
+
+        for (int i = 1; i <= albums; i++) {
+            rows.add(new Object[] { title(i), Date.valueOf(LocalDate.of(1960 + i % 60, 1 + i % 12, 1)),
+                    8 + i % 10, "CAT-" + i, (long) (i % artists) + 1, now, now });
+        }
+        insert("INSERT INTO album (title, release_date, track_count, catalog_number, artist_id, "
+                + "created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, 0)", rows);
+
+        for (int i = 1; i <= albums; i++) {
+            long first = i % GENRES + 1;
+            long second = 7L * i % GENRES + 1;
+            rows.add(new Object[] { (long) i, first });
+            if (second != first) {
+                rows.add(new Object[] { (long) i, second });
+            }
+        }
+        insert("INSERT INTO album_genre (album_id, genre_id) VALUES (?, ?)", rows);
+    }
+
+    static String title(int i) {
+        StringBuilder title = new StringBuilder("Album ").append(i);
+        for (Selectivity s : Selectivity.values()) {
+            if (s != Selectivity.ALL && i % s.period == 0) {
+                title.append(' ').append(s.term);
+            }
+        }
+        return title.toString();
+    }
+
+    // Inserts and clears the rows, BATCH_SIZE per JDBC batch
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbc.batchUpdate(sql, rows.subList(from, Math.min(from + BATCH_SIZE, rows.size())));
+        }
+        rows.clear();
+    }
+}
@@ -0,0 +1,81 @@
+package music.library.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import music.library.dto.CreateAlbumRequest;
+import music.library.entity.Album;
+import music.library.service.AlbumService;
+
+/**
+ * AlbumService.createAlbum (POST /api/albums) with a varying number of genre
+ * ids, on a catalog of {@value #CATALOG_SIZE} albums.
+ *
+ * Every call creates a new album with a unique title; the albums created
+ * during an iteration are deleted after it, so the catalog does not grow
+ * from one iteration to the next.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-DLOG_LEVEL=WARN")
+public class CreateAlbumBenchmark {
+
+    private static final int CATALOG_SIZE = 1000;
+    private static final String TITLE_PREFIX = "Benchmark album ";
+
+    @Param({ "0", "1", "5", "20" })
+    public int genres;
+
+    private ConfigurableApplicationContext context;
+    private AlbumService albumService;
+    private JdbcTemplate jdbc;
+    private List<Long> genreIds;
+    private long created;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start(CATALOG_SIZE);
+        albumService = context.getBean(AlbumService.class);
+        jdbc = context.getBean(JdbcTemplate.class);
+        genreIds = LongStream.rangeClosed(1, genres).boxed().toList();
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteCreated() {
+        jdbc.update("DELETE FROM album_genre WHERE album_id IN "
+                + "(SELECT album_id FROM album WHERE title LIKE '" + TITLE_PREFIX + "%')");
+        jdbc.update("DELETE FROM album WHERE title LIKE '" + TITLE_PREFIX + "%'");
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public Album createAlbum() {
+        CreateAlbumRequest request = new CreateAlbumRequest(TITLE_PREFIX + ++created, null, 1L, genreIds);
+        request.setTrackCount(10);
+        return albumService.createAlbum(request);
+    }
+}
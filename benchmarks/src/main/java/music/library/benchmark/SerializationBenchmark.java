@@ -0,0 +1,100 @@
+package music.library.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PagedModel;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import music.library.entity.AlbumView;
+import music.library.service.AlbumService;
+import music.library.service.SparseFieldService;
+
+/**
+ * One page of albums as GET /api/albums returns it: album_view rows (the
+ * default response) versus the map DTOs SparseFieldService builds for
+ * fields=..., requesting every field so both produce nearly the same JSON
+ * (the view reduces artist and genres to id and name).
+ *
+ * - write*: Jackson only, with the application's ObjectMapper and the same
+ *   PagedModel wrapper PageConfig's VIA_DTO mode uses
+ * - loadAndWrite*: query plus serialization, the whole cost of the response body
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-DLOG_LEVEL=WARN")
+public class SerializationBenchmark {
+
+    private static final int CATALOG_SIZE = 1000;
+    private static final String ALL_FIELDS =
+            "albumId,title,releaseDate,coverImageUrl,trackCount,catalogNumber,createdAt,updatedAt,artist,genres";
+
+    @Param({ "20", "100" })
+    public int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private AlbumService albumService;
+    private SparseFieldService sparseService;
+    private ObjectMapper mapper;
+    private Pageable page;
+    private Page<AlbumView> entities;
+    private Page<Map<String, Object>> dtos;
+
+    @Setup(Level.Trial)
+    public void start() {
+        context = BenchmarkContext.start(CATALOG_SIZE);
+        albumService = context.getBean(AlbumService.class);
+        sparseService = context.getBean(SparseFieldService.class);
+        mapper = context.getBean(ObjectMapper.class);
+        page = PageRequest.of(0, pageSize);
+        entities = albumService.findAll(page);
+        dtos = sparseService.findAlbums(ALL_FIELDS, null, page);
+    }
+
+    @TearDown(Level.Trial)
+    public void stop() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] writeEntities() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(new PagedModel<>(entities));
+    }
+
+    @Benchmark
+    public byte[] writeDtos() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(new PagedModel<>(dtos));
+    }
+
+    @Benchmark
+    public byte[] loadAndWriteEntities() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(new PagedModel<>(albumService.findAll(page)));
+    }
+
+    @Benchmark
+    public byte[] loadAndWriteDtos() throws JsonProcessingException {
+        return mapper.writeValueAsBytes(new PagedModel<>(sparseService.findAlbums(ALL_FIELDS, null, page)));
+    }
+}
@@ -0,0 +1,71 @@
+#!/bin/bash
+# Side-by-side benchmark: blocking MVC endpoints vs. the reactive catalog
+# module, same MySQL database, same (small) connection pool, high concurrency.
+#
+# Usage (from catalog-reactive/):
+#   (cd .. && mvn package -DskipTests) && mvn package -DskipTests
+#   MYSQL_HOST=... MYSQL_PORT=... MYSQL_DATABASE=... MYSQL_USER=... MYSQL_PASSWORD=... ./benchmark.sh
+#
+# Tunables (env): POOL (5), CONNECTIONS (1000), DURATION (60s), WARMUP (20s), THREADS (8)
+# Requires wrk (https://github.com/wg/wrk) on the PATH.
+set -euo pipefail
+
+POOL="${POOL:-5}"
+CONNECTIONS="${CONNECTIONS:-1000}"
+DURATION="${DURATION:-60s}"
+WARMUP="${WARMUP:-20s}"
+THREADS="${THREADS:-8}"
+
+MVC_JAR="$(ls ../target/music-library-*.jar | grep -v original | head -1)"
+REACTIVE_JAR="$(ls target/music-library-catalog-reactive-*.jar | grep -v original | head -1)"
+
+ENDPOINTS=(
+  "/api/albums?page=0&size=20"
+  "/api/albums/search?q=the&page=0&size=20"
+  "/api/artists/1/albums"
+  "/api/genres?page=0&size=10"
+)
+
+log() { echo "[$(date +'%Y-%m-%d %H:%M:%S')] $1"; }
+
+command -v wrk >/dev/null || { echo "wrk not found on PATH" >&2; exit 1; }
+
+RESULTS=$(mktemp)
+trap 'rm -f "$RESULTS"; [ -n "${APP_PID:-}" ] && kill "$APP_PID" 2>/dev/null || true' EXIT
+
+run_app() {
+  local name="$1" jar="$2" port="$3"
+  log "Starting $name on port $port (pool size $POOL)"
+  DB_POOL_SIZE="$POOL" java -jar "$jar" --server.port="$port" > "benchmark-${name}.log" 2>&1 &
+  APP_PID=$!
+
+  for _ in $(seq 1 60); do
+    curl -fs "http://localhost:${port}/actuator/health" >/dev/null && break
+    sleep 1
+  done
+  curl -fs "http://localhost:${port}/actuator/health" >/dev/null \
+    || { echo "$name did not start, see benchmark-${name}.log" >&2; exit 1; }
+
+  for path in "${ENDPOINTS[@]}"; do
+    log "$name: warm-up $path"
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d"$WARMUP" "http://localhost:${port}${path}" >/dev/null
+    log "$name: measuring $path"
+    local out rps p99 errors
+    out=$(wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency "http://localhost:${port}${path}")
+    rps=$(echo "$out" | awk '/Requests\/sec/ {print $2}')
+    p99=$(echo "$out" | awk '$1 == "99%" {print $2}')
+    errors=$(echo "$out" | awk '/Non-2xx|Socket errors/ {print}' | tr '\n' ' ')
+    printf "%-9s %-42s %12s %10s  %s\n" "$name" "$path" "$rps" "$p99" "$errors" >> "$RESULTS"
+  done
+
+  kill "$APP_PID"
+  wait "$APP_PID" 2>/dev/null || true
+  APP_PID=""
+}
+
+run_app mvc "$MVC_JAR" 8080
+run_app reactive "$REACTIVE_JAR" 8081
+
+echo
+printf "%-9s %-42s %12s %10s  %s\n" "stack" "endpoint" "req/s" "p99" "errors"
+cat "$RESULTS"
@@ -0,0 +1,20 @@
+package music.library.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+/**
+ * Entry point for the read-only reactive catalog API.
+ *
+ * Serves the GET side of the Music Library API (albums, artists, genres,
+ * search and the albums-by-artist/genre sub-resources) on WebFlux/Netty with
+ * R2DBC, against the same MySQL schema the MVC application manages.
+ * Writes stay with the MVC application.
+ */
+@SpringBootApplication
+public class CatalogReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(CatalogReactiveApplication.class, args);
+	}
+}
@@ -0,0 +1,144 @@
+package music.library.reactive.controller;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ResponseStatusException;
+
+import music.library.reactive.model.AlbumDto;
+import music.library.reactive.model.ArtistDto;
+import music.library.reactive.model.GenreDto;
+import music.library.reactive.repository.CatalogRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only catalog endpoints, mirroring the GET side of the MVC
+ * MusicLibraryController: same paths, parameters and defaults. The JSON
+ * differs in places (no version, full artist and genres in album lists);
+ * see {@link music.library.reactive.model.AlbumDto}.
+ *
+ * - GET /api/albums, /api/albums/{id}, /api/albums/search?q=
+ * - GET /api/artists, /api/artists/{id}, /api/artists/{artistId}/albums
+ * - GET /api/genres, /api/genres/{id}, /api/genres/{genreId}/albums
+ * - GET /api/albums/stream - every album as NDJSON, streamed with backpressure
+ *
+ * Cover URLs are returned as stored; the content-hashed rewrite done by the
+ * MVC application's cover store is not applied here.
+ */
+@RestController
+@RequestMapping("/api")
+public class CatalogController {
+
+	// Same ceiling Spring Data applies to page sizes in the MVC application
+	static final int MAX_PAGE_SIZE = 2000;
+
+	private final CatalogRepository catalog;
+
+	public CatalogController(CatalogRepository catalog) {
+		this.catalog = catalog;
+	}
+
+	// ========== Albums ==========
+
+	@GetMapping("/albums")
+	public Mono<PagedModel<AlbumDto>> getAllAlbums(
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size,
+			@RequestParam(defaultValue = "id") String sortBy,
+			@RequestParam(defaultValue = "asc") String sortDir) {
+		Sort sort = sortDir.equalsIgnoreCase("desc") ? Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
+		return catalog.findAlbums(pageable(page, size, sort)).map(PagedModel::new);
+	}
+
+	@GetMapping("/albums/{id}")
+	public Mono<AlbumDto> getAlbumById(@PathVariable Long id) {
+		return catalog.findAlbum(id).switchIfEmpty(notFound("Album with id " + id + " not found"));
+	}
+
+	@GetMapping("/albums/search")
+	public Mono<PagedModel<AlbumDto>> searchAlbums(
+			@RequestParam String q,
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "20") int size) {
+		return catalog.searchAlbums(q, pageable(page, size, Sort.by("title").ascending())).map(PagedModel::new);
+	}
+
+	/**
+	 * Streams the whole catalog as newline-delimited JSON. Netty writes each
+	 * album as it arrives and only requests more rows from the database as
+	 * the client reads, so memory stays flat regardless of catalog size.
+	 */
+	@GetMapping(value = "/albums/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public Flux<AlbumDto> streamAlbums() {
+		return catalog.streamAlbums();
+	}
+
+	// ========== Artists ==========
+
+	@GetMapping("/artists")
+	public Mono<PagedModel<ArtistDto>> getAllArtists(
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "10") int size,
+			@RequestParam(defaultValue = "name") String sortBy) {
+		return catalog.findArtists(pageable(page, size, Sort.by(sortBy))).map(PagedModel::new);
+	}
+
+	@GetMapping("/artists/{id}")
+	public Mono<ArtistDto> getArtistById(@PathVariable Long id) {
+		return catalog.findArtist(id).switchIfEmpty(notFound("Artist with ID " + id + " not found"));
+	}
+
+	@GetMapping("/artists/{artistId}/albums")
+	public Flux<AlbumDto> getAlbumsByArtist(@PathVariable Long artistId) {
+		return catalog.findAlbumsByArtist(artistId);
+	}
+
+	// ========== Genres ==========
+
+	@GetMapping("/genres")
+	public Mono<PagedModel<GenreDto>> getAllGenres(
+			@RequestParam(defaultValue = "0") int page,
+			@RequestParam(defaultValue = "10") int size,
+			@RequestParam(defaultValue = "name") String sortBy) {
+		return catalog.findGenres(pageable(page, size, Sort.by(sortBy))).map(PagedModel::new);
+	}
+
+	@GetMapping("/genres/{id}")
+	public Mono<GenreDto> getGenreById(@PathVariable Long id) {
+		return catalog.findGenre(id).switchIfEmpty(notFound("Genre with ID " + id + " not found"));
+	}
+
+	@GetMapping("/genres/{genreId}/albums")
+	public Flux<AlbumDto> getAlbumsByGenre(@PathVariable Long genreId) {
+		return catalog.findAlbumsByGenre(genreId);
+	}
+
+	// ========== Helpers ==========
+
+	@ExceptionHandler(IllegalArgumentException.class)
+	public ProblemDetail badRequest(IllegalArgumentException e) {
+		return ProblemDetail.forStatusAndDetail(HttpStatus.BAD_REQUEST, e.getMessage());
+	}
+
+	private static Pageable pageable(int page, int size, Sort sort) {
+		if (page < 0 || size < 1) {
+			throw new IllegalArgumentException("page must be >= 0 and size >= 1");
+		}
+		return PageRequest.of(page, Math.min(size, MAX_PAGE_SIZE), sort);
+	}
+
+	private static <T> Mono<T> notFound(String message) {
+		return Mono.error(new ResponseStatusException(HttpStatus.NOT_FOUND, message));
+	}
+}
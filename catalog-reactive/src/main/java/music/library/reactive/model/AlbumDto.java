@@ -0,0 +1,46 @@
+package music.library.reactive.model;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Album as returned by the catalog API, with its full artist and genres and
+ * the derived {@code id} and {@code releaseYear} properties. This is the JSON
+ * of the MVC Album entity without {@code version}, which differs from the MVC
+ * application today:
+ * - there is no {@code version} (the MVC ETag), on any endpoint
+ * - the MVC album list and search ({@code AlbumView}) reduce the artist to
+ *   {@code {artistId, name}} and each genre to {@code {genreId, name}};
+ *   here every album endpoint returns the full artist and genre objects
+ */
+public record AlbumDto(
+		Long albumId,
+		String title,
+		LocalDate releaseDate,
+		String coverImageUrl,
+		Integer trackCount,
+		String catalogNumber,
+		@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime createdAt,
+		@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime updatedAt,
+		ArtistDto artist,
+		List<GenreDto> genres) {
+
+	@JsonProperty("id")
+	public Long id() {
+		return albumId;
+	}
+
+	@JsonProperty("releaseYear")
+	public Integer releaseYear() {
+		return releaseDate != null ? releaseDate.getYear() : null;
+	}
+
+	public AlbumDto withGenres(List<GenreDto> genres) {
+		return new AlbumDto(albumId, title, releaseDate, coverImageUrl, trackCount, catalogNumber,
+				createdAt, updatedAt, artist, genres);
+	}
+}
@@ -0,0 +1,17 @@
+package music.library.reactive.model;
+
+import java.time.LocalDateTime;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+/**
+ * Genre as returned by the catalog API; the JSON of the MVC Genre entity
+ * without its {@code version}.
+ */
+public record GenreDto(
+		Long genreId,
+		String name,
+		String description,
+		@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime createdAt,
+		@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss") LocalDateTime updatedAt) {
+}
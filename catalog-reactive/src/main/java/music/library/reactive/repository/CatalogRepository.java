@@ -0,0 +1,271 @@
+package music.library.reactive.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+
+import io.r2dbc.spi.Readable;
+import music.library.reactive.model.AlbumDto;
+import music.library.reactive.model.ArtistDto;
+import music.library.reactive.model.GenreDto;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Read-only SQL for the catalog API, on R2DBC's {@link DatabaseClient}.
+ *
+ * Albums are read with their artist in one joined query; genres for a page
+ * (or for each streamed batch) are then loaded with a single IN query, so a
+ * page never costs more than three statements (rows, genres, count).
+ *
+ * Sort properties are mapped through a fixed whitelist to column names;
+ * anything else is rejected with IllegalArgumentException.
+ */
+@Repository
+public class CatalogRepository {
+
+	private static final String ALBUM_SELECT = "SELECT a.album_id, a.title, a.release_date, a.cover_image_url, "
+			+ "a.track_count, a.catalog_number, a.created_at, a.updated_at, "
+			+ "ar.artist_id, ar.name AS artist_name, ar.description AS artist_description, "
+			+ "ar.created_at AS artist_created_at, ar.updated_at AS artist_updated_at "
+			+ "FROM album a JOIN artist ar ON ar.artist_id = a.artist_id";
+
+	private static final Map<String, String> ALBUM_SORT = Map.of(
+			"id", "a.album_id",
+			"albumId", "a.album_id",
+			"title", "a.title",
+			"releaseDate", "a.release_date",
+			"trackCount", "a.track_count",
+			"catalogNumber", "a.catalog_number",
+			"createdAt", "a.created_at",
+			"updatedAt", "a.updated_at",
+			"artist.name", "ar.name");
+
+	private static final Map<String, String> ARTIST_SORT = Map.of(
+			"id", "artist_id", "artistId", "artist_id", "name", "name",
+			"createdAt", "created_at", "updatedAt", "updated_at");
+
+	private static final Map<String, String> GENRE_SORT = Map.of(
+			"id", "genre_id", "genreId", "genre_id", "name", "name",
+			"createdAt", "created_at", "updatedAt", "updated_at");
+
+	private final DatabaseClient db;
+
+	// Albums per genre lookup while streaming
+	private final int streamBatchSize;
+
+	public CatalogRepository(DatabaseClient db, @Value("${catalog.stream.batch-size:200}") int streamBatchSize) {
+		this.db = db;
+		this.streamBatchSize = streamBatchSize;
+	}
+
+	// ========== Albums ==========
+
+	public Mono<Page<AlbumDto>> findAlbums(Pageable pageable) {
+		return pageOfAlbums("", Map.of(), pageable);
+	}
+
+	/**
+	 * Title or artist name contains {@code query} (case-insensitive), like
+	 * AlbumViewRepository.searchByTitleOrArtist in the MVC application.
+	 */
+	public Mono<Page<AlbumDto>> searchAlbums(String query, Pageable pageable) {
+		if (query == null || query.isBlank()) {
+			return findAlbums(pageable);
+		}
+		return pageOfAlbums(" WHERE LOWER(a.title) LIKE :pattern OR LOWER(ar.name) LIKE :pattern",
+				Map.of("pattern", "%" + query.trim().toLowerCase() + "%"), pageable);
+	}
+
+	public Mono<AlbumDto> findAlbum(Long id) {
+		return db.sql(ALBUM_SELECT + " WHERE a.album_id = :id")
+				.bind("id", id)
+				.map(CatalogRepository::album)
+				.all()
+				.collectList()
+				.flatMap(this::withGenres)
+				.flatMap(albums -> Mono.justOrEmpty(albums.stream().findFirst()));
+	}
+
+	public Flux<AlbumDto> findAlbumsByArtist(Long artistId) {
+		return listOfAlbums(" WHERE a.artist_id = :id ORDER BY a.album_id", artistId);
+	}
+
+	public Flux<AlbumDto> findAlbumsByGenre(Long genreId) {
+		return listOfAlbums(" WHERE a.album_id IN (SELECT album_id FROM album_genre WHERE genre_id = :id)"
+				+ " ORDER BY a.album_id", genreId);
+	}
+
+	/**
+	 * Streams every album in id order. Rows are pulled from the driver only as
+	 * fast as the client consumes them; genres are attached per batch of
+	 * {@code catalog.stream.batch-size} albums.
+	 */
+	public Flux<AlbumDto> streamAlbums() {
+		return db.sql(ALBUM_SELECT + " ORDER BY a.album_id")
+				.map(CatalogRepository::album)
+				.all()
+				.buffer(streamBatchSize)
+				.concatMap(this::withGenres, 1)
+				.flatMapIterable(Function.identity());
+	}
+
+	private Mono<Page<AlbumDto>> pageOfAlbums(String where, Map<String, Object> params, Pageable pageable) {
+		DatabaseClient.GenericExecuteSpec rows = bindAll(db.sql(ALBUM_SELECT + where
+				+ orderBy(pageable.getSort(), ALBUM_SORT, "a.album_id") + " LIMIT :limit OFFSET :offset"), params)
+				.bind("limit", pageable.getPageSize())
+				.bind("offset", pageable.getOffset());
+		DatabaseClient.GenericExecuteSpec count = bindAll(db.sql(
+				"SELECT COUNT(*) FROM album a JOIN artist ar ON ar.artist_id = a.artist_id" + where), params);
+
+		Mono<List<AlbumDto>> content = rows.map(CatalogRepository::album).all().collectList().flatMap(this::withGenres);
+		return Mono.zip(content, count.map(row -> row.get(0, Long.class)).one())
+				.map(t -> new PageImpl<>(t.getT1(), pageable, t.getT2()));
+	}
+
+	private Flux<AlbumDto> listOfAlbums(String where, Long id) {
+		return db.sql(ALBUM_SELECT + where)
+				.bind("id", id)
+				.map(CatalogRepository::album)
+				.all()
+				.collectList()
+				.flatMap(this::withGenres)
+				.flatMapIterable(Function.identity());
+	}
+
+	/**
+	 * Loads the genres of all given albums with one query and returns the
+	 * albums, in the same order, with their genres set.
+	 */
+	private Mono<List<AlbumDto>> withGenres(List<AlbumDto> albums) {
+		if (albums.isEmpty()) {
+			return Mono.just(albums);
+		}
+		List<Long> ids = albums.stream().map(AlbumDto::albumId).toList();
+		return db.sql("SELECT ag.album_id, g.genre_id, g.name, g.description, g.created_at, g.updated_at "
+				+ "FROM album_genre ag JOIN genre g ON g.genre_id = ag.genre_id "
+				+ "WHERE ag.album_id IN (:ids) ORDER BY g.name")
+				.bind("ids", ids)
+				.map(row -> Map.entry(row.get("album_id", Long.class), genre(row)))
+				.all()
+				.collect(Collectors.groupingBy(Map.Entry::getKey,
+						Collectors.mapping(Map.Entry::getValue, Collectors.toList())))
+				.map(byAlbum -> albums.stream()
+						.map(a -> a.withGenres(byAlbum.getOrDefault(a.albumId(), List.of())))
+						.toList());
+	}
+
+	// ========== Artists and Genres ==========
+
+	public Mono<Page<ArtistDto>> findArtists(Pageable pageable) {
+		return page("SELECT artist_id, name, description, created_at, updated_at FROM artist",
+				"SELECT COUNT(*) FROM artist", orderBy(pageable.getSort(), ARTIST_SORT, "artist_id"),
+				CatalogRepository::artist, pageable);
+	}
+
+	public Mono<ArtistDto> findArtist(Long id) {
+		return db.sql("SELECT artist_id, name, description, created_at, updated_at FROM artist WHERE artist_id = :id")
+				.bind("id", id)
+				.map(CatalogRepository::artist)
+				.one();
+	}
+
+	public Mono<Page<GenreDto>> findGenres(Pageable pageable) {
+		return page("SELECT genre_id, name, description, created_at, updated_at FROM genre",
+				"SELECT COUNT(*) FROM genre", orderBy(pageable.getSort(), GENRE_SORT, "genre_id"),
+				CatalogRepository::genre, pageable);
+	}
+
+	public Mono<GenreDto> findGenre(Long id) {
+		return db.sql("SELECT genre_id, name, description, created_at, updated_at FROM genre WHERE genre_id = :id")
+				.bind("id", id)
+				.map(CatalogRepository::genre)
+				.one();
+	}
+
+	private <T> Mono<Page<T>> page(String select, String countSql, String orderBy, Function<Readable, T> mapper,
+			Pageable pageable) {
+		Mono<List<T>> content = db.sql(select + orderBy + " LIMIT :limit OFFSET :offset")
+				.bind("limit", pageable.getPageSize())
+				.bind("offset", pageable.getOffset())
+				.map(mapper)
+				.all()
+				.collectList();
+		Mono<Long> total = db.sql(countSql).map(row -> row.get(0, Long.class)).one();
+		return Mono.zip(content, total).map(t -> new PageImpl<>(t.getT1(), pageable, t.getT2()));
+	}
+
+	// ========== Helpers ==========
+
+	private static DatabaseClient.GenericExecuteSpec bindAll(DatabaseClient.GenericExecuteSpec spec,
+			Map<String, Object> params) {
+		for (Map.Entry<String, Object> param : params.entrySet()) {
+			spec = spec.bind(param.getKey(), param.getValue());
+		}
+		return spec;
+	}
+
+	// Whitelisted ORDER BY; the id tiebreaker keeps LIMIT/OFFSET paging stable
+	private static String orderBy(Sort sort, Map<String, String> columns, String idColumn) {
+		String clauses = sort.stream()
+				.map(order -> {
+					String column = columns.get(order.getProperty());
+					if (column == null) {
+						throw new IllegalArgumentException("Cannot sort by '" + order.getProperty()
+								+ "'. Allowed: " + String.join(", ", columns.keySet()));
+					}
+					return column + (order.isDescending() ? " DESC" : " ASC");
+				})
+				.collect(Collectors.joining(", "));
+		return " ORDER BY " + (clauses.isEmpty() ? idColumn : clauses + ", " + idColumn);
+	}
+
+	private static AlbumDto album(Readable row) {
+		ArtistDto artist = new ArtistDto(
+				row.get("artist_id", Long.class),
+				row.get("artist_name", String.class),
+				row.get("artist_description", String.class),
+				row.get("artist_created_at", LocalDateTime.class),
+				row.get("artist_updated_at", LocalDateTime.class));
+		return new AlbumDto(
+				row.get("album_id", Long.class),
+				row.get("title", String.class),
+				row.get("release_date", LocalDate.class),
+				row.get("cover_image_url", String.class),
+				row.get("track_count", Integer.class),
+				row.get("catalog_number", String.class),
+				row.get("created_at", LocalDateTime.class),
+				row.get("updated_at", LocalDateTime.class),
+				artist,
+				List.of());
+	}
+
+	private static ArtistDto artist(Readable row) {
+		return new ArtistDto(
+				row.get("artist_id", Long.class),
+				row.get("name", String.class),
+				row.get("description", String.class),
+				row.get("created_at", LocalDateTime.class),
+				row.get("updated_at", LocalDateTime.class));
+	}
+
+	private static GenreDto genre(Readable row) {
+		return new GenreDto(
+				row.get("genre_id", Long.class),
+				row.get("name", String.class),
+				row.get("description", String.class),
+				row.get("created_at", LocalDateTime.class),
+				row.get("updated_at", LocalDateTime.class));
+	}
+}
@@ -0,0 +1,116 @@
+package music.library.reactive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import music.library.reactive.model.AlbumDto;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+/* Runs against H2 (MySQL mode) created from the MVC application's
+ * V1__Create_Schema.sql and seeded from catalog-test-data.sql. */
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class CatalogControllerIT {
+
+	@Autowired
+	private WebTestClient client;
+
+	@Test
+	void albums_returnsPageWithArtistAndGenres() {
+		JsonNode body = client.get().uri("/api/albums?page=0&size=2&sortBy=title")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody(JsonNode.class).returnResult().getResponseBody();
+
+		JsonNode content = body.get("content");
+		assertThat(content).hasSize(2);
+		assertThat(content.get(0).get("title").asText()).isEqualTo("Abbey Road");
+		assertThat(content.get(0).get("releaseYear").asInt()).isEqualTo(1969);
+		assertThat(content.get(0).get("artist").get("name").asText()).isEqualTo("The Beatles");
+		assertThat(content.get(0).get("genres")).extracting(g -> g.get("name").asText())
+				.containsExactly("Pop", "Rock");
+		assertThat(body.get("page").get("totalElements").asInt()).isEqualTo(5);
+		assertThat(body.get("page").get("totalPages").asInt()).isEqualTo(3);
+	}
+
+	@Test
+	void search_matchesTitleOrArtistName() {
+		client.get().uri("/api/albums/search?q=miles")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.content.length()").isEqualTo(2)
+				.jsonPath("$.content[0].title").isEqualTo("Bitches Brew");
+	}
+
+	@Test
+	void albumById_unknownId_returns404() {
+		client.get().uri("/api/albums/999").exchange().expectStatus().isNotFound();
+	}
+
+	@Test
+	void albums_unknownSort_returns400() {
+		client.get().uri("/api/albums?sortBy=title;drop").exchange().expectStatus().isBadRequest();
+	}
+
+	@Test
+	void subResources_returnAlbumsByArtistAndGenre() {
+		client.get().uri("/api/artists/2/albums")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.length()").isEqualTo(2)
+				.jsonPath("$[0].title").isEqualTo("Kind of Blue");
+
+		client.get().uri("/api/genres/1/albums")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.length()").isEqualTo(3);
+	}
+
+	@Test
+	void artistsAndGenres_arePaged() {
+		client.get().uri("/api/artists")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.content[0].name").isEqualTo("Miles Davis")
+				.jsonPath("$.page.totalElements").isEqualTo(2);
+
+		client.get().uri("/api/genres/2")
+				.exchange()
+				.expectStatus().isOk()
+				.expectBody()
+				.jsonPath("$.name").isEqualTo("Jazz");
+	}
+
+	@Test
+	void stream_emitsEveryAlbumInOrderWithGenres() {
+		Flux<AlbumDto> stream = client.get().uri("/api/albums/stream")
+				.accept(MediaType.APPLICATION_NDJSON)
+				.exchange()
+				.expectStatus().isOk()
+				.returnResult(AlbumDto.class)
+				.getResponseBody();
+
+		// Batch size is 2 in the test profile, so genres are attached across three batches
+		StepVerifier.create(stream.map(a -> a.albumId() + ":" + a.genres().size()))
+				.expectNextSequence(List.of("1:2", "2:1", "3:1", "4:1", "5:1"))
+				.verifyComplete();
+	}
+}
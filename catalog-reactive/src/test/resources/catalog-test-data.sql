@@ -0,0 +1,18 @@
+INSERT INTO artist (artist_id, name, description) VALUES
+    (1, 'The Beatles', 'British rock band'),
+    (2, 'Miles Davis', 'Jazz trumpeter');
+
+INSERT INTO genre (genre_id, name, description) VALUES
+    (1, 'Rock', 'Rock music'),
+    (2, 'Jazz', 'Jazz music'),
+    (3, 'Pop', 'Pop music');
+
+INSERT INTO album (album_id, title, release_date, track_count, catalog_number, artist_id) VALUES
+    (1, 'Abbey Road', '1969-09-26', 17, 'PCS 7088', 1),
+    (2, 'Help!', '1965-08-06', 14, 'PCS 3071', 1),
+    (3, 'Kind of Blue', '1959-08-17', 5, 'CL 1355', 2),
+    (4, 'Revolver', '1966-08-05', 14, 'PCS 7009', 1),
+    (5, 'Bitches Brew', '1970-03-30', 6, 'GP 26', 2);
+
+INSERT INTO album_genre (album_id, genre_id) VALUES
+    (1, 1), (1, 3), (2, 1), (3, 2), (4, 1), (5, 2);
@@ -0,0 +1,70 @@
+#!/bin/bash
+# Compares throughput and p99 latency of the platform-thread pool against
+# virtual threads. Starts the same jar twice (VIRTUAL_THREADS_ENABLED=false,
+# then true) against the MySQL database in MYSQL_* and drives it with wrk.
+#
+# Usage:
+#   mvn -Pjava21 package -DskipTests
+#   MYSQL_HOST=... MYSQL_PORT=... MYSQL_DATABASE=... MYSQL_USER=... MYSQL_PASSWORD=... ./load-compare.sh
+#
+# Tunables (env): CONNECTIONS (500), DURATION (60s), WARMUP (20s), THREADS (4), PORT (18080)
+# Requires Java 21 and wrk (https://github.com/wg/wrk) on the PATH.
+set -euo pipefail
+
+CONNECTIONS="${CONNECTIONS:-500}"
+DURATION="${DURATION:-60s}"
+WARMUP="${WARMUP:-20s}"
+THREADS="${THREADS:-4}"
+PORT="${PORT:-18080}"
+JAR="${JAR:-$(ls target/music-library-*.jar | grep -v original | head -1)}"
+BASE="http://localhost:${PORT}"
+
+# Read-heavy endpoints that spend most of their time waiting on MySQL
+ENDPOINTS=(
+  "/api/albums?page=0&size=20"
+  "/api/albums/search?q=the&page=0&size=20"
+  "/api/artists?page=0&size=20"
+)
+
+log() { echo "[$(date +'%Y-%m-%d %H:%M:%S')] $1"; }
+
+command -v wrk >/dev/null || { echo "wrk not found on PATH" >&2; exit 1; }
+[ -f "$JAR" ] || { echo "Jar not found; build with: mvn -Pjava21 package -DskipTests" >&2; exit 1; }
+
+RESULTS=$(mktemp)
+trap 'rm -f "$RESULTS"; [ -n "${APP_PID:-}" ] && kill "$APP_PID" 2>/dev/null || true' EXIT
+
+run_mode() {
+  local mode="$1" virtual="$2"
+  log "Starting app ($mode threads)"
+  VIRTUAL_THREADS_ENABLED="$virtual" java -jar "$JAR" --server.port="$PORT" > "app-${mode}.log" 2>&1 &
+  APP_PID=$!
+
+  for _ in $(seq 1 60); do
+    curl -fs "${BASE}/actuator/health" >/dev/null && break
+    sleep 1
+  done
+  curl -fs "${BASE}/actuator/health" >/dev/null || { echo "App did not start, see app-${mode}.log" >&2; exit 1; }
+
+  for path in "${ENDPOINTS[@]}"; do
+    log "Warm-up $path"
+    wrk -t"$THREADS" -c"$CONNECTIONS" -d"$WARMUP" "${BASE}${path}" >/dev/null
+    log "Measuring $path"
+    local out rps p99
+    out=$(wrk -t"$THREADS" -c"$CONNECTIONS" -d"$DURATION" --latency "${BASE}${path}")
+    rps=$(echo "$out" | awk '/Requests\/sec/ {print $2}')
+    p99=$(echo "$out" | awk '$1 == "99%" {print $2}')
+    printf "%-9s %-45s %12s %10s\n" "$mode" "$path" "$rps" "$p99" >> "$RESULTS"
+  done
+
+  kill "$APP_PID"
+  wait "$APP_PID" 2>/dev/null || true
+  APP_PID=""
+}
+
+run_mode platform false
+run_mode virtual true
+
+echo
+printf "%-9s %-45s %12s %10s\n" "threads" "endpoint" "req/s" "p99"
+cat "$RESULTS"
@@ -0,0 +1,44 @@
+#!/bin/bash
+# Starts the application on the in-memory H2 profile, waits until it is up,
+# runs the load generator against it, and stops it again.
+#
+# Usage (from load-test/):
+#   (cd .. && mvn package -DskipTests) && mvn package
+#   ./run-local.sh --rps=100 --duration=60        # options go to the load generator
+#
+# Tunables (env): PORT (18080), JAVA_OPTS (application JVM options, e.g. -Xmx1g),
+#                 CATALOG_GENERATOR_ALBUMS (synthetic catalog generated at startup),
+#                 STARTUP_TIMEOUT (seconds until the app must be ready; 60, or 900 when generating)
+# The application log is written to load-test-app.log.
+set -euo pipefail
+
+PORT="${PORT:-18080}"
+if [ "${CATALOG_GENERATOR_ALBUMS:-0}" -gt 0 ]; then
+  STARTUP_TIMEOUT="${STARTUP_TIMEOUT:-900}"
+else
+  STARTUP_TIMEOUT="${STARTUP_TIMEOUT:-60}"
+fi
+APP_JAR="$(ls ../target/music-library-*.jar | grep -v original | head -1)"
+LOAD_JAR="$(ls target/music-library-load-test-*.jar | grep -v original | head -1)"
+BASE="http://localhost:${PORT}"
+
+log() { echo "[$(date +'%Y-%m-%d %H:%M:%S')] $1"; }
+
+trap '[ -n "${APP_PID:-}" ] && kill "$APP_PID" 2>/dev/null || true' EXIT
+
+log "Starting $APP_JAR on port $PORT (profile h2)"
+# The load generator reads cover file names from ../covers, so serve the same directory
+COVER_STORE_DIR="$(cd ../covers && pwd)" java ${JAVA_OPTS:-} -jar "$APP_JAR" --spring.profiles.active=h2 \
+  --server.port="$PORT" > load-test-app.log 2>&1 &
+APP_PID=$!
+
+# Readiness (unlike /actuator/health) waits for startup runners such as the catalog generator
+READY="${BASE}/actuator/health/readiness"
+for _ in $(seq 1 "$STARTUP_TIMEOUT"); do
+  curl -sf "$READY" > /dev/null && break
+  kill -0 "$APP_PID" 2>/dev/null || { echo "Application exited, see load-test-app.log" >&2; exit 1; }
+  sleep 1
+done
+curl -sf "$READY" > /dev/null || { echo "Application not ready after ${STARTUP_TIMEOUT} s" >&2; exit 1; }
+
+java -jar "$LOAD_JAR" --base-url="$BASE" --covers-dir=../covers "$@"
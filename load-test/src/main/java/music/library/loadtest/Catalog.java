@@ -0,0 +1,148 @@
+package music.library.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.Stream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * What the workload needs to know about the target's data (artist and genre
+ * ids, album count, cover URLs), seeding it first through the API if the
+ * catalog has fewer than --seed-albums albums.
+ *
+ * Seeded album titles are two or three words from {@link #WORDS} plus a
+ * number, and search-as-you-type types prefixes of the same words, so
+ * searches match a realistic, mixed share of the catalog.
+ */
+final class Catalog {
+
+    static final List<String> WORDS = List.of("midnight", "river", "echoes", "golden", "electric", "summer",
+            "shadows", "dream", "fire", "ocean", "silver", "highway", "heart", "city", "lights", "paradise",
+            "thunder", "velvet", "winter", "stone", "wild", "blue", "love", "road", "sky", "moon", "garden",
+            "rain", "neon", "gravity", "horizon", "island", "machine", "mirror", "rebel", "signal", "spirit",
+            "storm", "sunset", "tide");
+
+    private static final int GENRES = 20;
+    private static final int ALBUMS_PER_ARTIST = 10;
+    private static final int BULK_CHUNK = 1000;
+
+    final List<Long> artistIds;
+    final List<Long> genreIds;
+    final long albums;
+    final List<String> coverUrls;
+
+    private Catalog(List<Long> artistIds, List<Long> genreIds, long albums, List<String> coverUrls) {
+        this.artistIds = artistIds;
+        this.genreIds = genreIds;
+        this.albums = albums;
+        this.coverUrls = coverUrls;
+    }
+
+    static Catalog prepare(Http http, Options options) throws IOException, InterruptedException {
+        List<String> covers = coverUrls(options.coversDir);
+        long albums = total(http, "/api/albums");
+        if (albums < options.seedAlbums) {
+            seed(http, options.seedAlbums, albums, covers);
+        }
+        Catalog catalog = new Catalog(ids(http, "/api/artists", "artistId"), ids(http, "/api/genres", "genreId"),
+                total(http, "/api/albums"), covers);
+        if (catalog.artistIds.isEmpty() || catalog.genreIds.isEmpty()) {
+            throw new IllegalStateException("The catalog needs at least one artist and one genre");
+        }
+        return catalog;
+    }
+
+    /** Random element, for ids and cover URLs. */
+    static <T> T any(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static void seed(Http http, int target, long existing, List<String> covers)
+            throws IOException, InterruptedException {
+        LoadTest.log("Seeding catalog: " + existing + " -> " + target + " albums");
+        Random random = new Random(42);
+
+        long genres = total(http, "/api/genres");
+        for (long g = genres + 1; g <= GENRES; g++) {
+            http.post("/api/genres", Map.of("name", "Load Genre " + g, "description", "Load test genre"));
+        }
+        long artists = total(http, "/api/artists");
+        for (long a = artists + 1; a <= Math.max(1, target / ALBUMS_PER_ARTIST); a++) {
+            http.post("/api/artists", Map.of("name", "Load Artist " + a));
+        }
+        List<Long> artistIds = ids(http, "/api/artists", "artistId");
+        List<Long> genreIds = ids(http, "/api/genres", "genreId");
+
+        int failed = 0;
+        for (long from = existing; from < target; from += BULK_CHUNK) {
+            List<Map<String, Object>> operations = new ArrayList<>();
+            for (long n = from + 1; n <= Math.min(from + BULK_CHUNK, target); n++) {
+                Map<String, Object> op = new LinkedHashMap<>();
+                op.put("op", "CREATE");
+                op.put("title", title(random) + " " + n);
+                op.put("artistId", any(artistIds, random));
+                op.put("genreIds", random.nextInt(3) == 0
+                        ? List.of(any(genreIds, random), any(genreIds, random)).stream().distinct().toList()
+                        : List.of(any(genreIds, random)));
+                op.put("releaseDate", LocalDate.of(1960 + random.nextInt(65), 1 + random.nextInt(12), 1).toString());
+                op.put("trackCount", 6 + random.nextInt(12));
+                if (!covers.isEmpty()) {
+                    op.put("coverImageUrl", any(covers, random));
+                }
+                operations.add(op);
+            }
+            failed += http.post("/api/albums/bulk", Map.of("operations", operations)).path("failed").asInt();
+        }
+        if (failed > 0) {
+            LoadTest.log("Warning: " + failed + " album creates failed while seeding");
+        }
+    }
+
+    private static String title(Random random) {
+        int words = 2 + random.nextInt(2);
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            String word = any(WORDS, random);
+            title.append(i == 0 ? "" : " ").append(Character.toUpperCase(word.charAt(0))).append(word.substring(1));
+        }
+        return title.toString();
+    }
+
+    private static long total(Http http, String path) throws IOException, InterruptedException {
+        return http.get(path + "?page=0&size=1").path("page").path("totalElements").asLong();
+    }
+
+    // Every id of a paginated list endpoint
+    private static List<Long> ids(Http http, String path, String idField) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        for (int page = 0;; page++) {
+            JsonNode response = http.get(path + "?page=" + page + "&size=1000");
+            response.path("content").forEach(item -> ids.add(item.path(idField).asLong()));
+            if (page + 1 >= response.path("page").path("totalPages").asInt()) {
+                return ids;
+            }
+        }
+    }
+
+    // Plain /covers/{file} URLs of the images in the app's cover store, if it is local
+    private static List<String> coverUrls(Path dir) throws IOException {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.map(f -> f.getFileName().toString())
+                    .filter(name -> name.matches("(?i).+\\.(jpe?g|png|webp|gif)"))
+                    .sorted()
+                    .map(name -> "/covers/" + name)
+                    .toList();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package music.library.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Asynchronous HTTP client for the load and a blocking one for set-up.
+ *
+ * {@link #send} never blocks the caller: the schedule keeps its pace however
+ * slowly the server answers (open loop). Outstanding requests are capped at
+ * --max-in-flight so an overloaded server cannot exhaust the generator;
+ * requests beyond the cap are counted as dropped.
+ */
+final class Http {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    final ObjectMapper mapper = new ObjectMapper();
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    private final URI baseUrl;
+    private final Metrics metrics;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+
+    Http(URI baseUrl, int maxInFlight, Metrics metrics) {
+        this.baseUrl = baseUrl;
+        this.metrics = metrics;
+        this.maxInFlight = maxInFlight;
+        this.inFlight = new Semaphore(maxInFlight);
+    }
+
+    HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUrl.resolve(path)).timeout(TIMEOUT).header("Accept", "application/json");
+    }
+
+    HttpRequest.BodyPublisher json(Object body) {
+        try {
+            return HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(body));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Sends a request and records its latency from {@code scheduledNanos}
+     * under {@code endpoint}. Completes with the response, or with null if
+     * the request failed or was dropped (already counted).
+     */
+    CompletableFuture<HttpResponse<byte[]>> send(String endpoint, HttpRequest request, long scheduledNanos) {
+        if (!inFlight.tryAcquire()) {
+            metrics.dropped(endpoint, scheduledNanos);
+            return CompletableFuture.completedFuture(null);
+        }
+        return client.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, failure) -> {
+                    inFlight.release();
+                    metrics.record(endpoint, scheduledNanos, System.nanoTime(),
+                            failure == null ? response.statusCode() : Metrics.IO_ERROR);
+                    return failure == null ? response : null;
+                });
+    }
+
+    /** Waits until every outstanding request has completed, or the timeout passes. */
+    boolean awaitIdle(Duration timeout) throws InterruptedException {
+        if (inFlight.tryAcquire(maxInFlight, timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+            inFlight.release(maxInFlight);
+            return true;
+        }
+        return false;
+    }
+
+    JsonNode parse(HttpResponse<byte[]> response) {
+        try {
+            return mapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Blocking call for set-up (not measured).
+     *
+     * @throws IllegalStateException if the status is not 2xx
+     */
+    JsonNode call(HttpRequest request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(request.method() + " " + request.uri() + " returned "
+                    + response.statusCode() + ": " + new String(response.body()));
+        }
+        return response.body().length == 0 ? mapper.nullNode() : mapper.readTree(response.body());
+    }
+
+    JsonNode get(String path) throws IOException, InterruptedException {
+        return call(request(path).GET().build());
+    }
+
+    JsonNode post(String path, Object body) throws IOException, InterruptedException {
+        return call(request(path).header("Content-Type", "application/json").POST(json(body)).build());
+    }
+}
@@ -0,0 +1,92 @@
+package music.library.loadtest;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator for the Music Library API.
+ *
+ * Interactions (see {@link Workload}) are started on a fixed schedule derived
+ * from --rps, whether or not earlier ones have finished, the way independent
+ * users arrive. Each request's latency is measured from its scheduled start,
+ * so a stalled server shows up in the percentiles instead of silently
+ * lowering the request rate.
+ *
+ * Usage:
+ *   java -jar target/music-library-load-test-0.0.1-SNAPSHOT.jar --rps=100 --duration=60
+ */
+public final class LoadTest {
+
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options;
+        try {
+            options = Options.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        Metrics metrics = new Metrics();
+        Http http = new Http(options.baseUrl, options.maxInFlight, metrics);
+        Catalog catalog = Catalog.prepare(http, options);
+        log("Catalog: " + catalog.albums + " albums, " + catalog.artistIds.size() + " artists, "
+                + catalog.genreIds.size() + " genres, " + catalog.coverUrls.size() + " covers");
+
+        ScheduledExecutorService keystrokes = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "keystrokes");
+            t.setDaemon(true);
+            return t;
+        });
+        Workload workload = new Workload(http, catalog, options, keystrokes);
+        double perInteraction = workload.requestsPerInteraction();
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) * perInteraction / options.rps);
+        log(String.format("Target %.1f req/s = %.2f interactions/s (%.2f requests each), warm-up %d s, run %d s",
+                options.rps, options.rps / perInteraction, perInteraction, options.warmup.toSeconds(),
+                options.duration.toSeconds()));
+
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup.toNanos();
+        long end = measureFrom + options.duration.toNanos();
+        metrics.startMeasuring(measureFrom);
+        for (long i = 0;; i++) {
+            long scheduled = start + i * interval;
+            if (scheduled >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = scheduled - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            workload.fire(scheduled);
+        }
+
+        // Let the last keystrokes and cover fetches go out, then drain
+        keystrokes.shutdown();
+        keystrokes.awaitTermination(5, TimeUnit.SECONDS);
+        if (!http.awaitIdle(Duration.ofSeconds(60))) {
+            log("Warning: requests still outstanding after 60 s; they are not in the results");
+        }
+
+        System.out.println();
+        metrics.report(System.out, options.duration.toNanos() / 1e9, options.rps);
+        if (options.out != null) {
+            metrics.writeHistograms(options.out);
+            log("Percentile distributions written to " + options.out.toAbsolutePath());
+        }
+    }
+
+    static void log(String message) {
+        System.out.println("[" + LocalDateTime.now().format(TIME) + "] " + message);
+    }
+}
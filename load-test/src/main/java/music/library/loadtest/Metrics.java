@@ -0,0 +1,129 @@
+package music.library.loadtest;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+/**
+ * Latency histogram and counters per endpoint.
+ *
+ * Latency runs from the time a request was <em>scheduled</em> to be sent,
+ * not from when it actually left, so time spent waiting behind a slow
+ * server or an overloaded client still counts (no coordinated omission).
+ * Requests scheduled before {@link #startMeasuring} are warm-up and are
+ * not recorded.
+ */
+final class Metrics {
+
+    static final int IO_ERROR = -1;
+
+    private final Map<String, Endpoint> endpoints = new ConcurrentSkipListMap<>();
+    private volatile long measureFrom = Long.MAX_VALUE;
+
+    /** Requests scheduled at or after this System.nanoTime() are recorded. */
+    void startMeasuring(long nanos) {
+        measureFrom = nanos;
+    }
+
+    /**
+     * @param status HTTP status, or {@link #IO_ERROR} if no response arrived;
+     *               400 and above count as errors
+     */
+    void record(String endpoint, long scheduledNanos, long doneNanos, int status) {
+        if (scheduledNanos < measureFrom) {
+            return;
+        }
+        Endpoint stats = endpoint(endpoint);
+        stats.latency.recordValue(Math.max(0, TimeUnit.NANOSECONDS.toMicros(doneNanos - scheduledNanos)));
+        if (status >= 400 || status == IO_ERROR) {
+            stats.errors.computeIfAbsent(status, s -> new LongAdder()).increment();
+        }
+    }
+
+    /** A request that was never sent because --max-in-flight requests were outstanding. */
+    void dropped(String endpoint, long scheduledNanos) {
+        if (scheduledNanos >= measureFrom) {
+            endpoint(endpoint).dropped.increment();
+        }
+    }
+
+    private Endpoint endpoint(String name) {
+        return endpoints.computeIfAbsent(name, n -> new Endpoint());
+    }
+
+    /**
+     * Prints one line per endpoint plus a total: completed requests, errors
+     * (status >= 400 or I/O failure), dropped requests, throughput and
+     * latency percentiles in milliseconds; then the errors by status.
+     */
+    void report(PrintStream out, double seconds, double targetRps) {
+        String format = "%-40s %8s %7s %7s %8s %8s %8s %8s %8s %8s%n";
+        out.printf(format, "Endpoint", "Count", "Errors", "Dropped", "Req/s", "p50", "p90", "p99", "p99.9", "max");
+        Histogram total = new Histogram(3);
+        long errors = 0;
+        long dropped = 0;
+        for (Map.Entry<String, Endpoint> e : endpoints.entrySet()) {
+            Endpoint stats = e.getValue();
+            Histogram latency = stats.latency.copy();
+            total.add(latency);
+            errors += stats.errorCount();
+            dropped += stats.dropped.sum();
+            line(out, format, e.getKey(), latency, stats.errorCount(), stats.dropped.sum(), seconds);
+        }
+        line(out, format, "TOTAL", total, errors, dropped, seconds);
+        out.printf("%nTarget %.1f req/s, achieved %.1f req/s over %.0f s (latency in ms, from scheduled send time)%n",
+                targetRps, total.getTotalCount() / seconds, seconds);
+
+        if (errors > 0) {
+            out.printf("%nErrors by status (503 with Retry-After is admission control shedding load):%n");
+            endpoints.forEach((name, stats) -> stats.errors.forEach((status, count) -> out.printf("  %-40s %5s %8d%n",
+                    name, status == IO_ERROR ? "I/O" : status.toString(), count.sum())));
+        }
+    }
+
+    private static void line(PrintStream out, String format, String name, Histogram h, long errors, long dropped,
+            double seconds) {
+        out.printf(format, name, h.getTotalCount(), errors, dropped,
+                String.format("%.1f", h.getTotalCount() / seconds),
+                millis(h.getValueAtPercentile(50)), millis(h.getValueAtPercentile(90)),
+                millis(h.getValueAtPercentile(99)), millis(h.getValueAtPercentile(99.9)), millis(h.getMaxValue()));
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1f", micros / 1000.0);
+    }
+
+    /**
+     * Writes each endpoint's full percentile distribution (HdrHistogram .hgrm
+     * text, values in milliseconds) to the directory, for plotting or for
+     * comparing runs.
+     */
+    void writeHistograms(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        for (Map.Entry<String, Endpoint> e : endpoints.entrySet()) {
+            String file = e.getKey().replaceAll("[^A-Za-z0-9]+", "_").replaceAll("^_|_$", "") + ".hgrm";
+            try (PrintStream out = new PrintStream(Files.newOutputStream(dir.resolve(file)))) {
+                e.getValue().latency.outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    private static final class Endpoint {
+        // Microseconds, auto-resizing so no latency is ever out of range
+        final ConcurrentHistogram latency = new ConcurrentHistogram(3);
+        final Map<Integer, LongAdder> errors = new ConcurrentSkipListMap<>();
+        final LongAdder dropped = new LongAdder();
+
+        long errorCount() {
+            return errors.values().stream().mapToLong(LongAdder::sum).sum();
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package music.library.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Command-line options, given as {@code --name=value}. See README.md.
+ */
+final class Options {
+
+    private static final Set<String> NAMES = Set.of("base-url", "rps", "warmup", "duration", "write-ratio",
+            "seed-albums", "covers-dir", "cover-miss", "max-in-flight", "out");
+
+    final URI baseUrl;
+    final double rps;
+    final Duration warmup;
+    final Duration duration;
+    final double writeRatio;
+    final int seedAlbums;
+    final Path coversDir;
+    final double coverMiss;
+    final int maxInFlight;
+    final Path out;
+
+    private Options(Map<String, String> values) {
+        String base = values.getOrDefault("base-url", "http://localhost:8080");
+        baseUrl = URI.create(base.endsWith("/") ? base.substring(0, base.length() - 1) : base);
+        rps = positive("rps", Double.parseDouble(values.getOrDefault("rps", "50")));
+        warmup = Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "15")));
+        duration = Duration.ofSeconds((long) positive("duration",
+                Long.parseLong(values.getOrDefault("duration", "60"))));
+        writeRatio = fraction("write-ratio", Double.parseDouble(values.getOrDefault("write-ratio", "0.05")));
+        seedAlbums = Integer.parseInt(values.getOrDefault("seed-albums", "2000"));
+        coversDir = Path.of(values.getOrDefault("covers-dir", "../covers"));
+        coverMiss = fraction("cover-miss", Double.parseDouble(values.getOrDefault("cover-miss", "0.3")));
+        maxInFlight = (int) positive("max-in-flight", Integer.parseInt(values.getOrDefault("max-in-flight", "2000")));
+        out = values.containsKey("out") ? Path.of(values.get("out")) : null;
+    }
+
+    /**
+     * @throws IllegalArgumentException for unknown options, missing values or out-of-range numbers
+     */
+    static Options parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got '" + arg + "'");
+            }
+            String name = arg.substring(2, eq);
+            if (!NAMES.contains(name)) {
+                throw new IllegalArgumentException("Unknown option --" + name + " (known: " + NAMES + ")");
+            }
+            values.put(name, arg.substring(eq + 1));
+        }
+        return new Options(values);
+    }
+
+    private static double positive(String name, double value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("--" + name + " must be positive");
+        }
+        return value;
+    }
+
+    private static double fraction(String name, double value) {
+        if (value < 0 || value > 1) {
+            throw new IllegalArgumentException("--" + name + " must be between 0 and 1");
+        }
+        return value;
+    }
+}
@@ -0,0 +1,313 @@
+package music.library.loadtest;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * The user interactions of library.html, plus a write mix, each turned into
+ * the requests the page (or an API client) makes.
+ *
+ * Reads, by share of interactions:
+ * - 5%  dashboard: album, artist and genre counts (size=1), in parallel
+ * - 5%  filter dropdowns: artists and genres with size=100, sorted by name
+ * - 45% album grid: a page of 20 sorted by title, mostly the first pages
+ * - 10% albums of an artist, 5% albums of a genre (the filter views)
+ * - 30% search-as-you-type: one search per keystroke of a title word
+ *   (from the second letter, every {@value #KEYSTROKE_MILLIS} ms)
+ *
+ * Every grid view then loads the covers of the albums shown; each image is
+ * requested with probability --cover-miss (the rest are in the browser cache,
+ * since cover URLs are immutable).
+ *
+ * Writes (--write-ratio of interactions): create an album (40%), update one
+ * with If-Match after a GET (25%), add a genre to one (20%), delete one (15%).
+ * Only albums created by this run are changed, each picked at random, and
+ * never one that another write of this run is still working on: a
+ * concurrent tag would make the update's If-Match stale (412), a concurrent
+ * delete would make it 404. Those statuses then only come from the server.
+ */
+final class Workload {
+
+    static final int PAGE_SIZE = 20;
+    static final long KEYSTROKE_MILLIS = 150;
+
+    private static final int[] READ_WEIGHTS = { 5, 5, 45, 10, 5, 30 };
+    private static final int[] WRITE_WEIGHTS = { 40, 25, 20, 15 };
+
+    private final Http http;
+    private final Catalog catalog;
+    private final Options options;
+    private final ScheduledExecutorService keystrokes;
+    private final CreatedAlbums created = new CreatedAlbums();
+    private final AtomicLong titles = new AtomicLong();
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+
+    Workload(Http http, Catalog catalog, Options options, ScheduledExecutorService keystrokes) {
+        this.http = http;
+        this.catalog = catalog;
+        this.options = options;
+        this.keystrokes = keystrokes;
+    }
+
+    /**
+     * Average number of requests one interaction makes, to turn --rps into
+     * interactions per second.
+     */
+    double requestsPerInteraction() {
+        double coverShare = catalog.coverUrls.isEmpty() ? 0 : options.coverMiss;
+        double perArtist = Math.min(PAGE_SIZE, (double) catalog.albums / catalog.artistIds.size());
+        double perGenre = Math.min(PAGE_SIZE, (double) catalog.albums / catalog.genreIds.size());
+        double searches = Catalog.WORDS.stream().mapToInt(w -> w.length() - 1).average().orElse(1);
+        double[] requests = { 3, 2, 1 + PAGE_SIZE * coverShare, 1 + perArtist * coverShare,
+                1 + perGenre * coverShare, searches };
+        double reads = weighted(READ_WEIGHTS, requests);
+        double writes = weighted(WRITE_WEIGHTS, new double[] { 1, 2, 1, 1 });
+        return (1 - options.writeRatio) * reads + options.writeRatio * writes;
+    }
+
+    /** Starts one interaction scheduled for {@code scheduled} (System.nanoTime()). Never blocks. */
+    void fire(long scheduled) {
+        Random random = ThreadLocalRandom.current();
+        if (random.nextDouble() < options.writeRatio) {
+            switch (pick(WRITE_WEIGHTS, random)) {
+                case 0 -> createAlbum(scheduled, random);
+                case 1 -> updateAlbum(scheduled, random);
+                case 2 -> tagAlbum(scheduled, random);
+                default -> deleteAlbum(scheduled, random);
+            }
+            return;
+        }
+        switch (pick(READ_WEIGHTS, random)) {
+            case 0 -> dashboard(scheduled);
+            case 1 -> dropdowns(scheduled);
+            case 2 -> albumGrid(scheduled, random);
+            case 3 -> grid("GET /api/artists/{id}/albums",
+                    "/api/artists/" + Catalog.any(catalog.artistIds, random) + "/albums", scheduled);
+            case 4 -> grid("GET /api/genres/{id}/albums",
+                    "/api/genres/" + Catalog.any(catalog.genreIds, random) + "/albums", scheduled);
+            default -> searchAsYouType(scheduled, random);
+        }
+    }
+
+    // ========== Reads ==========
+
+    private void dashboard(long scheduled) {
+        get("GET /api/albums?size=1", "/api/albums?page=0&size=1", scheduled);
+        get("GET /api/artists?size=1", "/api/artists?page=0&size=1", scheduled);
+        get("GET /api/genres?size=1", "/api/genres?page=0&size=1", scheduled);
+    }
+
+    private void dropdowns(long scheduled) {
+        get("GET /api/artists?size=100", "/api/artists?size=100&sort=name,asc", scheduled);
+        get("GET /api/genres?size=100", "/api/genres?size=100&sort=name,asc", scheduled);
+    }
+
+    private void albumGrid(long scheduled, Random random) {
+        // Geometric: half the views are page 0, a quarter page 1, ...
+        long pages = Math.max(1, (catalog.albums + PAGE_SIZE - 1) / PAGE_SIZE);
+        long page = Math.min(pages - 1, (long) (Math.log(1 - random.nextDouble()) / Math.log(0.5)));
+        grid("GET /api/albums?page={n}", "/api/albums?page=" + page + "&size=" + PAGE_SIZE + "&sort=title,asc",
+                scheduled);
+    }
+
+    private void searchAsYouType(long scheduled, Random random) {
+        String word = Catalog.any(Catalog.WORDS, random);
+        for (int length = 2; length <= word.length(); length++) {
+            String path = "/api/albums/search?q=" + URLEncoder.encode(word.substring(0, length), StandardCharsets.UTF_8)
+                    + "&page=0&size=" + PAGE_SIZE;
+            long keystroke = scheduled + TimeUnit.MILLISECONDS.toNanos(KEYSTROKE_MILLIS * (length - 2));
+            keystrokes.schedule(() -> get("GET /api/albums/search", path, keystroke),
+                    keystroke - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // A list of albums (page or array), then the covers the browser does not have cached
+    private void grid(String endpoint, String path, long scheduled) {
+        http.send(endpoint, http.request(path).GET().build(), scheduled).thenAccept(response -> {
+            if (response == null || response.statusCode() != 200 || catalog.coverUrls.isEmpty()) {
+                return;
+            }
+            JsonNode body = http.parse(response);
+            JsonNode albums = body.isArray() ? body : body.path("content");
+            long now = System.nanoTime();
+            Random random = ThreadLocalRandom.current();
+            for (int i = 0; i < Math.min(PAGE_SIZE, albums.size()); i++) {
+                String cover = albums.get(i).path("coverImageUrl").asText("");
+                if (cover.startsWith("/covers/") && random.nextDouble() < options.coverMiss) {
+                    http.send("GET /covers/{hash}/{file}",
+                            http.request(cover).setHeader("Accept", "image/*").GET().build(), now);
+                }
+            }
+        });
+    }
+
+    private void get(String endpoint, String path, long scheduled) {
+        http.send(endpoint, http.request(path).GET().build(), scheduled);
+    }
+
+    // ========== Writes ==========
+
+    private void createAlbum(long scheduled, Random random) {
+        Map<String, Object> album = new LinkedHashMap<>();
+        album.put("title", "Load " + runId + " " + titles.incrementAndGet());
+        album.put("artistId", Catalog.any(catalog.artistIds, random));
+        album.put("genreIds", List.of(Catalog.any(catalog.genreIds, random)));
+        album.put("trackCount", 10);
+        if (!catalog.coverUrls.isEmpty()) {
+            album.put("coverImageUrl", Catalog.any(catalog.coverUrls, random));
+        }
+        HttpRequest request = http.request("/api/albums").header("Content-Type", "application/json")
+                .POST(http.json(album)).build();
+        http.send("POST /api/albums", request, scheduled).thenAccept(response -> {
+            if (response != null && response.statusCode() == 201) {
+                created.add(http.parse(response).path("albumId").asLong());
+            }
+        });
+    }
+
+    // GET for the ETag, then PUT with If-Match (how any client updates)
+    private void updateAlbum(long scheduled, Random random) {
+        Long id = created.claim(random);
+        if (id == null) {
+            createAlbum(scheduled, random);
+            return;
+        }
+        http.send("GET /api/albums/{id}", http.request("/api/albums/" + id).GET().build(), scheduled)
+                .thenCompose(response -> {
+                    if (response == null || response.statusCode() != 200) {
+                        return CompletableFuture.completedFuture(null);
+                    }
+                    JsonNode album = http.parse(response);
+                    List<Long> genreIds = new ArrayList<>();
+                    album.path("genres").forEach(g -> genreIds.add(g.path("genreId").asLong()));
+                    Map<String, Object> update = new LinkedHashMap<>();
+                    update.put("title", album.path("title").asText());
+                    update.put("artistId", album.path("artist").path("artistId").asLong());
+                    update.put("genreIds", genreIds);
+                    update.put("trackCount", album.path("trackCount").asInt(10) + 1);
+                    HttpRequest put = http.request("/api/albums/" + id)
+                            .header("Content-Type", "application/json")
+                            .header("If-Match", response.headers().firstValue("ETag").orElse("*"))
+                            .PUT(http.json(update)).build();
+                    return http.send("PUT /api/albums/{id}", put, System.nanoTime());
+                })
+                .whenComplete((response, failure) -> created.release(id));
+    }
+
+    private void tagAlbum(long scheduled, Random random) {
+        Long id = created.claim(random);
+        if (id == null) {
+            createAlbum(scheduled, random);
+            return;
+        }
+        String path = "/api/albums/" + id + "/genres/" + Catalog.any(catalog.genreIds, random);
+        http.send("PUT /api/albums/{id}/genres/{genreId}",
+                http.request(path).PUT(HttpRequest.BodyPublishers.noBody()).build(), scheduled)
+                .whenComplete((response, failure) -> created.release(id));
+    }
+
+    private void deleteAlbum(long scheduled, Random random) {
+        Long id = created.take(random);
+        if (id == null) {
+            createAlbum(scheduled, random);
+            return;
+        }
+        http.send("DELETE /api/albums/{id}", http.request("/api/albums/" + id).DELETE().build(), scheduled);
+    }
+
+    // ========== Helpers ==========
+
+    private static int pick(int[] weights, Random random) {
+        int total = 0;
+        for (int w : weights) {
+            total += w;
+        }
+        int r = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            r -= weights[i];
+            if (r < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private static double weighted(int[] weights, double[] values) {
+        double sum = 0;
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i] * values[i];
+            total += weights[i];
+        }
+        return sum / total;
+    }
+
+    /**
+     * The albums this run created, for picking one at random. An album is
+     * claimed while an update or tag on it is in flight; claimed albums are
+     * neither claimed again nor deleted. Removal swaps in the last element,
+     * so every operation is O(1) under the lock.
+     */
+    private static final class CreatedAlbums {
+
+        // Random picks tried before giving up when most albums are claimed
+        private static final int ATTEMPTS = 8;
+
+        private final List<Long> ids = new ArrayList<>();
+        private final Set<Long> claimed = new HashSet<>();
+
+        synchronized void add(Long id) {
+            ids.add(id);
+        }
+
+        /** @return an unclaimed album, now claimed, or null if none was found */
+        synchronized Long claim(Random random) {
+            int index = pickUnclaimed(random);
+            if (index < 0) {
+                return null;
+            }
+            Long id = ids.get(index);
+            claimed.add(id);
+            return id;
+        }
+
+        synchronized void release(Long id) {
+            claimed.remove(id);
+        }
+
+        /** @return an unclaimed album, now removed, or null if none was found */
+        synchronized Long take(Random random) {
+            int index = pickUnclaimed(random);
+            if (index < 0) {
+                return null;
+            }
+            Long last = ids.remove(ids.size() - 1);
+            return index == ids.size() ? last : ids.set(index, last);
+        }
+
+        private int pickUnclaimed(Random random) {
+            for (int attempt = 0; attempt < ATTEMPTS && !ids.isEmpty(); attempt++) {
+                int index = random.nextInt(ids.size());
+                if (!claimed.contains(ids.get(index))) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+#!/bin/bash
+# Compares the GraalVM native executable with the JVM jar: time from launch to
+# the first successful GET /api/albums, and resident memory (VmRSS) right
+# after that request and after a short warm-up of further requests.
+#
+# Needs GraalVM for JDK 17+ as JAVA_HOME (native-image on the PATH) and Linux
+# (/proc). Building the native executable takes several minutes and a few GB
+# of memory.
+#
+# Usage:
+#   ./native-compare.sh                      # builds both, in-memory H2
+#   SKIP_BUILD=1 ./native-compare.sh         # reuse target/native-compare
+#
+# Tunables (env): RUNS (5), PORT (18080), PROFILE (h2; empty = default profile/MySQL),
+#                 JAVA_OPTS (-Xmx512m -Xms256m, as in startup.sh), NATIVE_OPTS (-Xmx512m),
+#                 WARMUP_REQUESTS (200)
+set -euo pipefail
+
+RUNS="${RUNS:-5}"
+PORT="${PORT:-18080}"
+PROFILE="${PROFILE-h2}"
+JAVA_OPTS="${JAVA_OPTS:--Xmx512m -Xms256m}"
+# The native executable takes -Xmx too; without it the heap may grow to 80% of RAM
+NATIVE_OPTS="${NATIVE_OPTS:--Xmx512m}"
+WARMUP_REQUESTS="${WARMUP_REQUESTS:-200}"
+WORK="target/native-compare"
+URL="http://localhost:${PORT}/api/albums?page=0&size=20"
+COVERS="$(pwd)/covers"
+
+log() { echo "[$(date +'%Y-%m-%d %H:%M:%S')] $1"; }
+
+trap '[ -n "${APP_PID:-}" ] && kill "$APP_PID" 2>/dev/null || true' EXIT
+
+APP_ARGS=(--server.port="$PORT" --covers.store-dir="$COVERS")
+[ -n "$PROFILE" ] && APP_ARGS+=(--spring.profiles.active="$PROFILE")
+
+jar_of() { ls target/music-library-*.jar | grep -v original | head -1; }
+
+if [ -z "${SKIP_BUILD:-}" ]; then
+  command -v native-image > /dev/null || { echo "native-image not found; set JAVA_HOME to a GraalVM JDK" >&2; exit 1; }
+  mkdir -p "$WORK"
+  log "Building the JVM jar"
+  mvn -B -q -DskipTests package
+  cp "$(jar_of)" "$WORK/jvm.jar"
+  log "Building the native executable (-Pnative native:compile)"
+  mvn -B -q -DskipTests -Pnative native:compile
+  cp target/music-library "$WORK/music-library"
+fi
+
+rss_kb() { awk '/^VmRSS:/ { print $2 }' "/proc/$1/status"; }
+
+# Prints "<ms to first request> <RSS kB after it> <RSS kB after the warm-up>"
+run_once() {
+  local start now first_rss
+  start=$(date +%s%N)
+  "$@" "${APP_ARGS[@]}" > "$WORK/run.log" 2>&1 &
+  APP_PID=$!
+  until curl -sf -o /dev/null "$URL"; do
+    kill -0 "$APP_PID" 2>/dev/null || { echo "Application exited, see $WORK/run.log" >&2; exit 1; }
+    sleep 0.02
+  done
+  now=$(date +%s%N)
+  first_rss=$(rss_kb "$APP_PID")
+  for _ in $(seq 1 "$WARMUP_REQUESTS"); do
+    curl -sf -o /dev/null "$URL"
+  done
+  echo "$(((now - start) / 1000000)) $first_rss $(rss_kb "$APP_PID")"
+  kill "$APP_PID"
+  wait "$APP_PID" 2>/dev/null || true
+  APP_PID=
+}
+
+measure() {
+  local name="$1"
+  shift
+  # One unmeasured start first, so both variants see a warm OS file cache
+  run_once "$@" > /dev/null
+  for run in $(seq 1 "$RUNS"); do
+    run_once "$@" | tee -a "$WORK/$name.txt" | awk -v name="$name" -v run="$run" \
+      '{ printf "%s run %d: %d ms, RSS %d MB, after warm-up %d MB\n", name, run, $1, $2 / 1024, $3 / 1024 }'
+  done
+  sort -n "$WORK/$name.txt" | awk -v name="$name" '
+    { t[NR] = $1; r[NR] = $2; w[NR] = $3 }
+    END { m = int((NR + 1) / 2)
+          printf "%-7s median %6d ms   RSS %5d MB   after warm-up %5d MB\n", name, t[m], r[m] / 1024, w[m] / 1024 }' \
+    >> "$WORK/results.txt"
+}
+
+rm -f "$WORK"/*.txt
+# shellcheck disable=SC2086
+measure jvm java $JAVA_OPTS -jar "$WORK/jvm.jar"
+# shellcheck disable=SC2086
+measure native "$WORK/music-library" $NATIVE_OPTS
+
+echo
+echo "Startup and memory (${RUNS} runs, profile ${PROFILE:-default}, RSS of the run with the median startup):"
+cat "$WORK/results.txt"
@@ -1,29 +1,224 @@
 package music.library.actuator;
 
 import java.sql.Connection;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.sql.DataSource;
 
-import org.springframework.beans.factory.annotation.Autowired;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.boot.actuate.health.Health;
 import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
 import org.springframework.stereotype.Component;
 
-// The custom DB health indicator adds a clear status field for monitoring tools (Datadog, Prometheus).
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import music.library.service.CoverStore;
+
+/**
+ * Database health for the readiness probe, answered from a cached result.
+ *
+ * A background thread runs the validation query on a pooled connection every
+ * {@code db-health.interval}. {@link #health()} never touches the database or
+ * waits for the pool, so probes answer instantly even when every connection
+ * is busy. Details:
+ * - the last probe: database, validation latency, when it ran, and on MySQL
+ *   whether this is a replica and how far it lags
+ * - pool (read live): active, idle and pending connections, saturation
+ * - warm: whether the pool holds its minimum idle connections, and how many
+ *   covers the cover store has indexed
+ *
+ * When every pooled connection is in use the probe is skipped instead of
+ * queueing behind requests. A saturated pool means the database is answering
+ * requests, so a skip renews the last result (same status, plus
+ * {@code saturated: true}) rather than letting it age: otherwise every busy
+ * replica would turn DOWN after {@code db-health.stale-after} of steady load
+ * and leave readiness at the same moment. Only a probe that stops running at
+ * all (or fails unexpectedly) lets the result turn stale, then DOWN.
+ *
+ * @see DbHealthProperties
+ */
 @Component("dbHealth")
 public class DbHealth implements HealthIndicator {
 
-	@Autowired
-	private DataSource dataSource;
+	private static final Logger log = LoggerFactory.getLogger(DbHealth.class);
+
+	private final DataSource dataSource;
+	private final CoverStore coverStore;
+	private final DbHealthProperties props;
+	// The Hikari pool behind the (proxied) DataSource; null for other pools
+	private final HikariDataSource pool;
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+		Thread thread = new Thread(r, "db-health");
+		thread.setDaemon(true);
+		return thread;
+	});
+	private final AtomicLong skippedProbes = new AtomicLong();
+
+	private volatile Result last;
+
+	// Outcome of one probe; health() adds the live pool and warm-up details
+	record Result(Status status, Instant checkedAt, long checkedAtNanos, Map<String, Object> details) {
+	}
+
+	public DbHealth(DataSource dataSource, CoverStore coverStore, DbHealthProperties props) {
+		this.dataSource = dataSource;
+		this.coverStore = coverStore;
+		this.props = props;
+		this.pool = hikari(dataSource);
+	}
+
+	// First probe before the application takes traffic, then in the background
+	@PostConstruct
+	void start() {
+		probe();
+		long interval = props.getInterval().toMillis();
+		scheduler.scheduleWithFixedDelay(this::probe, interval, interval, TimeUnit.MILLISECONDS);
+	}
+
+	@PreDestroy
+	void stop() {
+		scheduler.shutdownNow();
+	}
 
 	@Override
 	public Health health() {
-		try (Connection conn = dataSource.getConnection()) {
-			// simple ping – if it succeeds we are good
-			return Health.up().withDetail("status", "DB reachable").build();
+		Result result = last;
+		if (result == null) {
+			return Health.unknown().withDetail("reason", "no probe has run yet").build();
+		}
+		Duration age = Duration.ofNanos(System.nanoTime() - result.checkedAtNanos());
+		boolean stale = age.compareTo(props.getStaleAfter()) > 0;
+		Health.Builder health = Health.status(stale ? Status.DOWN : result.status());
+		if (stale) {
+			health.withDetail("reason", "no probe result for " + age.toSeconds() + " s");
+		}
+		return health.withDetails(result.details())
+				.withDetail("checkedAt", result.checkedAt().toString())
+				.withDetail("ageMs", age.toMillis())
+				.withDetail("pool", poolDetails())
+				.withDetail("warm", warmDetails())
+				.build();
+	}
+
+	/** Runs the validation query (and the replica check) and caches the result. */
+	void probe() {
+		try {
+			HikariPoolMXBean mx = poolBean();
+			if (mx != null && mx.getIdleConnections() == 0 && mx.getActiveConnections() >= pool.getMaximumPoolSize()) {
+				// Borrowing now would only queue behind requests. Every connection
+				// being in use is evidence enough that the database answers: renew
+				// the last result instead of letting it go stale under load
+				skippedProbes.incrementAndGet();
+				Result previous = last;
+				if (previous != null) {
+					Map<String, Object> details = new LinkedHashMap<>(previous.details());
+					details.put("saturated", true);
+					last = new Result(previous.status(), Instant.now(), System.nanoTime(), details);
+				}
+				return;
+			}
+			Map<String, Object> details = new LinkedHashMap<>();
+			Status status;
+			long start = System.nanoTime();
+			try (Connection con = dataSource.getConnection(); Statement statement = con.createStatement()) {
+				statement.setQueryTimeout(Math.max(1, (int) props.getTimeout().toSeconds()));
+				statement.execute(props.getValidationQuery());
+				String database = con.getMetaData().getDatabaseProductName();
+				details.put("database", database);
+				details.put("validationMs", (System.nanoTime() - start) / 1_000_000);
+				status = replication(con, database, details);
+			} catch (SQLException e) {
+				status = Status.DOWN;
+				details.put("error", e.getClass().getSimpleName() + ": " + e.getMessage());
+			}
+			last = new Result(status, Instant.now(), System.nanoTime(), details);
+		} catch (RuntimeException e) {
+			// Keep the schedule alive; a result that stops updating turns stale
+			log.warn("Database health probe failed: {}", e.toString());
+		}
+	}
+
+	// MySQL 8.0.22+: SHOW REPLICA STATUS has a row on a replica and none on a primary
+	private Status replication(Connection con, String database, Map<String, Object> details) {
+		if (!"MySQL".equalsIgnoreCase(database)) {
+			details.put("replication", "n/a");
+			return Status.UP;
+		}
+		try (Statement statement = con.createStatement(); ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+			if (!rs.next()) {
+				details.put("replication", "primary");
+				return Status.UP;
+			}
+			details.put("replication", "replica");
+			long lag = rs.getLong("Seconds_Behind_Source");
+			if (rs.wasNull()) {
+				// NULL: the replication threads are not running
+				details.put("replicaLagSeconds", "unknown, replication stopped");
+				return Status.OUT_OF_SERVICE;
+			}
+			details.put("replicaLagSeconds", lag);
+			return lag > props.getMaxReplicaLag().toSeconds() ? Status.OUT_OF_SERVICE : Status.UP;
+		} catch (SQLException e) {
+			// e.g. no REPLICATION CLIENT privilege: report it, the database itself answered
+			details.put("replication", "unknown: " + e.getMessage());
+			return Status.UP;
+		}
+	}
+
+	private Map<String, Object> poolDetails() {
+		Map<String, Object> details = new LinkedHashMap<>();
+		HikariPoolMXBean mx = poolBean();
+		if (mx == null) {
+			details.put("state", "not started");
+			return details;
+		}
+		int max = pool.getMaximumPoolSize();
+		int active = mx.getActiveConnections();
+		int pending = mx.getThreadsAwaitingConnection();
+		details.put("active", active);
+		details.put("idle", mx.getIdleConnections());
+		details.put("total", mx.getTotalConnections());
+		details.put("max", max);
+		details.put("pending", pending);
+		details.put("saturation", Math.round(100.0 * active / max) / 100.0);
+		details.put("saturated", pending > 0 || active >= max);
+		details.put("skippedProbes", skippedProbes.get());
+		return details;
+	}
+
+	private Map<String, Object> warmDetails() {
+		Map<String, Object> details = new LinkedHashMap<>();
+		HikariPoolMXBean mx = poolBean();
+		details.put("pool", mx != null && mx.getTotalConnections() >= pool.getMinimumIdle());
+		details.put("coversIndexed", coverStore.size());
+		return details;
+	}
+
+	// Null until the pool has started (it starts on the first connection)
+	private HikariPoolMXBean poolBean() {
+		return pool != null ? pool.getHikariPoolMXBean() : null;
+	}
+
+	private static HikariDataSource hikari(DataSource dataSource) {
+		try {
+			return dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
 		} catch (SQLException e) {
-			return Health.down(e).build();
+			return null;
 		}
 	}
 }
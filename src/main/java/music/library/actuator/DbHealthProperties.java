@@ -0,0 +1,34 @@
+package music.library.actuator;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings for the background database health probe (prefix {@code db-health}).
+ *
+ * @see DbHealth
+ */
+@Configuration
+@ConfigurationProperties(prefix = "db-health")
+@Getter
+@Setter
+public class DbHealthProperties {
+
+    // Time between probes (measured from the end of one to the start of the next)
+    private Duration interval = Duration.ofSeconds(10);
+
+    // Statement run on a pooled connection by each probe, and its query timeout
+    private String validationQuery = "SELECT 1";
+    private Duration timeout = Duration.ofSeconds(2);
+
+    // A result older than this reports DOWN: the probe itself is stuck (skips under load renew it)
+    private Duration staleAfter = Duration.ofSeconds(60);
+
+    // Replication lag (MySQL replicas) above which the health is OUT_OF_SERVICE
+    private Duration maxReplicaLag = Duration.ofSeconds(30);
+}
@@ -0,0 +1,87 @@
+package music.library.actuator;
+
+import java.sql.PreparedStatement;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import music.library.jdbc.SlowQuery;
+import music.library.jdbc.SlowQueryLog;
+import music.library.jdbc.SlowQueryProperties;
+
+/**
+ * {@code /actuator/slowqueries}: the slowest statements recorded by the
+ * {@link SlowQueryLog}.
+ *
+ * - GET lists them, slowest first; GET /{id} returns one
+ * - POST /{id} runs EXPLAIN for a SELECT with the values it was executed
+ *   with, stores the plan on the entry and returns it (EXPLAIN does not run
+ *   the statement). MySQL returns one row per table, H2 a single PLAN column.
+ * - DELETE clears the list
+ */
+@Component
+@Endpoint(id = "slowqueries")
+public class SlowQueryEndpoint {
+
+	private final SlowQueryLog slowQueries;
+	private final SlowQueryProperties props;
+	private final JdbcTemplate jdbc;
+
+	public SlowQueryEndpoint(SlowQueryLog slowQueries, SlowQueryProperties props, JdbcTemplate jdbc) {
+		this.slowQueries = slowQueries;
+		this.props = props;
+		this.jdbc = jdbc;
+	}
+
+	@ReadOperation
+	public Map<String, Object> list() {
+		Map<String, Object> result = new LinkedHashMap<>();
+		result.put("thresholdMillis", props.getThreshold().toMillis());
+		result.put("capacity", props.getCapacity());
+		result.put("statements", slowQueries.slowest());
+		return result;
+	}
+
+	@ReadOperation
+	public SlowQuery get(@Selector long id) {
+		return slowQueries.find(id).orElse(null);
+	}
+
+	@WriteOperation
+	public SlowQuery explain(@Selector long id) {
+		SlowQuery entry = slowQueries.find(id).orElse(null);
+		if (entry == null) {
+			return null;
+		}
+		String sql = entry.getSql().strip();
+		String verb = sql.substring(0, Math.min(6, sql.length())).toLowerCase(Locale.ROOT);
+		if (entry.isBatch() || !(verb.equals("select") || verb.startsWith("with"))) {
+			throw new InvalidEndpointRequestException("Only SELECT statements can be explained", "not a SELECT");
+		}
+		entry.setPlan(jdbc.query(con -> {
+			PreparedStatement statement = con.prepareStatement("EXPLAIN " + sql);
+			List<Object> values = entry.getValues();
+			for (int i = 0; i < values.size(); i++) {
+				statement.setObject(i + 1, values.get(i));
+			}
+			return statement;
+		}, new ColumnMapRowMapper()));
+		return entry;
+	}
+
+	@DeleteOperation
+	public void clear() {
+		slowQueries.clear();
+	}
+}
@@ -0,0 +1,90 @@
+package music.library.admission;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit for one endpoint class that adapts to observed latency
+ * with AIMD (additive increase, multiplicative decrease), the same rule TCP
+ * congestion control uses.
+ *
+ * - A request that finishes within the latency threshold while the limit is
+ *   actually in use (at least half of it in flight) raises the limit by one
+ * - A request that takes longer than the threshold, or fails, multiplies the
+ *   limit by the backoff ratio (0.9 by default)
+ *
+ * When the database slows down, requests get slower before they fail; the
+ * limit then shrinks and the surplus is rejected at the door instead of
+ * queueing for a pool connection. When latency recovers the limit climbs
+ * back towards the maximum one request at a time.
+ *
+ * Acquire and release are lock-free on the in-flight counter; limit updates
+ * are synchronized, which is cheap next to a database round trip.
+ */
+public class AdaptiveLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyThresholdNanos;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile double limit;
+
+    public AdaptiveLimiter(int initialLimit, int minLimit, int maxLimit, long latencyThresholdNanos,
+            double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= max");
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyThresholdNanos = latencyThresholdNanos;
+        this.backoffRatio = backoffRatio;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    /**
+     * Takes a slot if fewer than {@link #getLimit()} requests are in flight.
+     *
+     * @return true if the request may proceed; it must then call
+     *         {@link #release(long, boolean)} exactly once
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= getLimit()) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives the slot back and feeds the request's outcome into the limit.
+     *
+     * @param latencyNanos how long the request held the slot
+     * @param failed true if the request failed with a server error
+     */
+    public void release(long latencyNanos, boolean failed) {
+        int current = inFlight.getAndDecrement();
+        synchronized (this) {
+            if (failed || latencyNanos > latencyThresholdNanos) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+            } else if (current * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
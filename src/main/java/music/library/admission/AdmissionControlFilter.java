@@ -0,0 +1,128 @@
+package music.library.admission;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import music.library.exception.ApiError;
+
+/**
+ * Sheds load before it reaches the connection pool.
+ *
+ * Without a limit, a traffic spike sends every Tomcat thread into
+ * HikariCP's queue; each waits up to connection-timeout and latency rises
+ * for every endpoint at once. Here each {@link EndpointClass} has its own
+ * {@link AdaptiveLimiter}. A request over its class's limit is answered
+ * immediately with 503 (or 429, see {@code admission.reject-status}) and a
+ * Retry-After header, without touching the database. Requests outside any
+ * class are passed through.
+ *
+ * Metrics (tag {@code class}):
+ * - admission.limit: current concurrency limit
+ * - admission.inflight: requests holding a slot
+ * - admission.rejected: requests shed
+ */
+@Component
+@Order(AdmissionControlFilter.ORDER)
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    // Early, so shed requests cost as little as possible
+    public static final int ORDER = Ordered.HIGHEST_PRECEDENCE + 20;
+
+    private static final Logger log = LoggerFactory.getLogger(AdmissionControlFilter.class);
+
+    private final AdmissionProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<EndpointClass, AdaptiveLimiter> limiters = new EnumMap<>(EndpointClass.class);
+    private final Map<EndpointClass, Counter> rejected = new EnumMap<>(EndpointClass.class);
+
+    public AdmissionControlFilter(AdmissionProperties properties, ObjectMapper objectMapper, MeterRegistry registry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            AdmissionProperties.Limit cfg = properties.limitFor(endpointClass);
+            AdaptiveLimiter limiter = new AdaptiveLimiter(cfg.getInitialLimit(), cfg.getMinLimit(),
+                    cfg.getMaxLimit(), cfg.getLatencyThreshold().toNanos(), cfg.getBackoffRatio());
+            String tag = endpointClass.name().toLowerCase(Locale.ROOT);
+            limiters.put(endpointClass, limiter);
+            rejected.put(endpointClass, Counter.builder("admission.rejected").tag("class", tag)
+                    .description("Requests shed by admission control").register(registry));
+            Gauge.builder("admission.limit", limiter, AdaptiveLimiter::getLimit).tag("class", tag)
+                    .description("Current adaptive concurrency limit").register(registry);
+            Gauge.builder("admission.inflight", limiter, AdaptiveLimiter::getInFlight).tag("class", tag)
+                    .description("Requests currently admitted").register(registry);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointClass endpointClass = EndpointClass.of(request);
+        if (endpointClass == null) {
+            chain.doFilter(request, response);
+            return;
+        }
+        AdaptiveLimiter limiter = limiters.get(endpointClass);
+        if (!limiter.tryAcquire()) {
+            reject(endpointClass, limiter, request, response);
+            return;
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = response.getStatus() >= 500;
+        } finally {
+            limiter.release(System.nanoTime() - start, failed);
+        }
+    }
+
+    AdaptiveLimiter limiter(EndpointClass endpointClass) {
+        return limiters.get(endpointClass);
+    }
+
+    private void reject(EndpointClass endpointClass, AdaptiveLimiter limiter, HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        rejected.get(endpointClass).increment();
+        log.debug("Shed {} {} ({} limit {} reached)", request.getMethod(), request.getRequestURI(), endpointClass,
+                limiter.getLimit());
+
+        HttpStatus status = HttpStatus.valueOf(properties.getRejectStatus());
+        ApiError error = ApiError.builder().timestamp(Instant.now()).status(status.value())
+                .error(status.getReasonPhrase())
+                .message("Too many concurrent " + endpointClass.name().toLowerCase(Locale.ROOT) + " requests; retry later")
+                .path(request.getRequestURI()).validationErrors(null).build();
+
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                String.valueOf(Math.max(1, properties.getRetryAfter().toSeconds())));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+}
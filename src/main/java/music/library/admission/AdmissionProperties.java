@@ -0,0 +1,74 @@
+package music.library.admission;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings for admission control (prefix {@code admission}).
+ *
+ * Every {@link EndpointClass} gets its own adaptive concurrency limit. Classes
+ * missing from {@code admission.classes} use the defaults of {@link Limit}.
+ * Identical concurrent reads are coalesced first ({@code admission.single-flight}).
+ *
+ * @see AdmissionControlFilter
+ */
+@Configuration
+@ConfigurationProperties(prefix = "admission")
+@Getter
+@Setter
+public class AdmissionProperties {
+
+    // Switch admission control off entirely (every request is admitted)
+    private boolean enabled = true;
+
+    // Status for shed requests: 503 (server overloaded) or 429 (slow down)
+    private int rejectStatus = 503;
+
+    // Sent as Retry-After (whole seconds, at least 1) on shed requests
+    private Duration retryAfter = Duration.ofSeconds(1);
+
+    private Map<EndpointClass, Limit> classes = new EnumMap<>(EndpointClass.class);
+
+    private SingleFlight singleFlight = new SingleFlight();
+
+    public Limit limitFor(EndpointClass endpointClass) {
+        return classes.getOrDefault(endpointClass, new Limit());
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private int initialLimit = 10;
+        private int minLimit = 1;
+        private int maxLimit = 20;
+
+        // Requests slower than this count as a sign of overload and shrink the limit
+        private Duration latencyThreshold = Duration.ofMillis(500);
+
+        // Factor the limit is multiplied by on a slow or failed request
+        private double backoffRatio = 0.9;
+    }
+
+    /**
+     * Coalescing of identical concurrent list and search requests.
+     *
+     * @see SingleFlightFilter
+     */
+    @Getter
+    @Setter
+    public static class SingleFlight {
+
+        private boolean enabled = true;
+
+        // Longest a follower waits for the leader before running the request itself
+        private Duration maxWait = Duration.ofSeconds(10);
+    }
+}
@@ -0,0 +1,58 @@
+package music.library.admission;
+
+import java.util.regex.Pattern;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Groups API endpoints by how they use the database, so that each group gets
+ * its own concurrency limit (a bulkhead). A burst of searches can then use up
+ * the search limit without starving writes or list pages, and a reset cannot
+ * run alongside anything heavier than one other reset.
+ *
+ * Requests that fall in no class (GET by id, the API info, covers, actuator,
+ * Swagger) are cheap or served without the pool and are never limited.
+ */
+public enum EndpointClass {
+
+    // GET /api/albums/search: LIKE scans and joins
+    SEARCH,
+    // Paged collections, batch multi-gets and sub-resource lists
+    LIST,
+    // POST / PUT / DELETE on artists, albums and genres, bulk and tagging
+    WRITE,
+    // POST /api/snapshots/{name}: reads every catalog row
+    EXPORT,
+    // DELETE /api/reset: truncates and reloads every table
+    RESET;
+
+    private static final Pattern LIST_PATHS = Pattern.compile(
+            "/api/(albums|artists|genres)(/batch)?|/api/(artists|genres)/[^/]+/albums");
+
+    /**
+     * @return the class of the request, or null if it is not limited
+     */
+    public static EndpointClass of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.length() > 1 && path.endsWith("/")) {
+            path = path.substring(0, path.length() - 1);
+        }
+        if (!path.startsWith("/api/")) {
+            return null;
+        }
+        String method = request.getMethod();
+        if (path.equals("/api/reset")) {
+            return RESET;
+        }
+        if (path.startsWith("/api/snapshots")) {
+            return "POST".equals(method) ? EXPORT : null;
+        }
+        if ("GET".equals(method) || "HEAD".equals(method)) {
+            if (path.equals("/api/albums/search")) {
+                return SEARCH;
+            }
+            return LIST_PATHS.matcher(path).matches() ? LIST : null;
+        }
+        return "OPTIONS".equals(method) ? null : WRITE;
+    }
+}
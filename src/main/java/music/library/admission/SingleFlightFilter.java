@@ -0,0 +1,198 @@
+package music.library.admission;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Single-flight coalescing of identical concurrent reads.
+ *
+ * When many clients ask for the same list page or search at the same time
+ * (the first page of /api/albums, a trending search term), only the first
+ * request (the leader) runs the query and the JSON serialization. Requests
+ * with the same key that arrive while it is in flight (followers) wait for
+ * it and get a copy of its status, headers and body. Nothing is cached: once
+ * the leader finishes, the next request runs the query again.
+ *
+ * Only GETs in the {@link EndpointClass#LIST} and {@link EndpointClass#SEARCH}
+ * classes are coalesced. The key is the path plus the query parameters
+ * sorted by name (values as sent, so ?q= is not the same as no q), plus the
+ * Accept and Origin headers; so ?size=20&page=0 and ?page=0&size=20 share one
+ * execution, and the replayed CORS headers name the follower's own origin.
+ * A follower whose value differs from the leader's for any other header the
+ * response lists in Vary runs the request itself. The leader's X-Sql-*
+ * headers describe its own statements and are not replayed.
+ *
+ * The filter runs before {@link AdmissionControlFilter}, so followers do not
+ * take admission slots. If the leader throws or answers 5xx, or does not
+ * finish within {@code admission.single-flight.max-wait}, followers run the
+ * request themselves.
+ *
+ * Metrics:
+ * - singleflight.requests (tag role=leader|follower)
+ * - singleflight.coalescing.ratio: followers / all coalescable requests
+ */
+@Component
+@Order(SingleFlightFilter.ORDER)
+public class SingleFlightFilter extends OncePerRequestFilter {
+
+    public static final int ORDER = AdmissionControlFilter.ORDER - 10;
+
+    // Statement counts and timings of the leader's own execution (SqlStatsFilter)
+    private static final String SQL_STATS_HEADERS = "X-Sql-";
+
+    private final AdmissionProperties.SingleFlight properties;
+    private final Map<String, CompletableFuture<Result>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter followers;
+
+    public SingleFlightFilter(AdmissionProperties properties, MeterRegistry registry) {
+        this.properties = properties.getSingleFlight();
+        this.leaders = Counter.builder("singleflight.requests").tag("role", "leader")
+                .description("Coalescable reads that ran the request").register(registry);
+        this.followers = Counter.builder("singleflight.requests").tag("role", "follower")
+                .description("Coalescable reads answered with a concurrent identical request's result")
+                .register(registry);
+        Gauge.builder("singleflight.coalescing.ratio", this, SingleFlightFilter::coalescingRatio)
+                .description("Share of coalescable reads that did not hit the database").register(registry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled() || !"GET".equals(request.getMethod())) {
+            return true;
+        }
+        EndpointClass endpointClass = EndpointClass.of(request);
+        return endpointClass != EndpointClass.LIST && endpointClass != EndpointClass.SEARCH;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = key(request);
+        CompletableFuture<Result> flight = new CompletableFuture<>();
+        CompletableFuture<Result> leader = inFlight.putIfAbsent(key, flight);
+        if (leader == null) {
+            lead(key, flight, request, response, chain);
+            return;
+        }
+        followers.increment();
+        Result result = await(leader);
+        if (result == null || !result.matches(request)) {
+            chain.doFilter(request, response);
+        } else {
+            result.writeTo(response);
+        }
+    }
+
+    private void lead(String key, CompletableFuture<Result> flight, HttpServletRequest request,
+            HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        leaders.increment();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        Result result = null;
+        try {
+            chain.doFilter(request, wrapper);
+            if (wrapper.getStatus() < 500 && !request.isAsyncStarted()) {
+                result = Result.of(request, wrapper);
+            }
+        } finally {
+            // Unregister before completing, so no request joins a finished flight
+            inFlight.remove(key, flight);
+            flight.complete(result);
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    // The leader's result, or null if followers should run the request themselves
+    private Result await(CompletableFuture<Result> leader) throws IOException {
+        try {
+            return leader.get(properties.getMaxWait().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for an identical request", e);
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    static String key(HttpServletRequest request) {
+        StringBuilder key = new StringBuilder(request.getRequestURI()).append('?');
+        Map<String, List<String>> params = new TreeMap<>();
+        request.getParameterMap().forEach((name, values) -> params.put(name, List.of(values)));
+        params.forEach((name, values) -> values.forEach(value -> key.append(name).append('=').append(value).append('&')));
+        return key.append('#').append(header(request, HttpHeaders.ACCEPT))
+                .append('#').append(header(request, HttpHeaders.ORIGIN)).toString();
+    }
+
+    private static String header(HttpServletRequest request, String name) {
+        String value = request.getHeader(name);
+        return value == null ? "" : value;
+    }
+
+    private double coalescingRatio() {
+        double total = leaders.count() + followers.count();
+        return total == 0 ? 0 : followers.count() / total;
+    }
+
+    // Status, headers and body of a finished leader, replayed to followers; varying
+    // holds the leader's request headers named in Vary, which a follower must match
+    private record Result(int status, Map<String, List<String>> headers, byte[] body, Map<String, String> varying) {
+
+        static Result of(HttpServletRequest request, ContentCachingResponseWrapper response) {
+            Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (String name : response.getHeaderNames()) {
+                if (!name.regionMatches(true, 0, SQL_STATS_HEADERS, 0, SQL_STATS_HEADERS.length())) {
+                    headers.put(name, List.copyOf(response.getHeaders(name)));
+                }
+            }
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+            if (response.getContentType() != null) {
+                headers.put(HttpHeaders.CONTENT_TYPE, List.of(response.getContentType()));
+            }
+            Map<String, String> varying = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (String vary : response.getHeaders(HttpHeaders.VARY)) {
+                for (String name : vary.split(",")) {
+                    if (!name.isBlank()) {
+                        varying.put(name.trim(), header(request, name.trim()));
+                    }
+                }
+            }
+            return new Result(response.getStatus(), Collections.unmodifiableMap(headers),
+                    response.getContentAsByteArray(), varying);
+        }
+
+        // Vary: * means the response depends on more than the request headers
+        boolean matches(HttpServletRequest request) {
+            return !varying.containsKey("*")
+                    && varying.entrySet().stream().allMatch(e -> e.getValue().equals(header(request, e.getKey())));
+        }
+
+        void writeTo(HttpServletResponse response) throws IOException {
+            response.setStatus(status);
+            headers.forEach((name, values) -> values.forEach(value -> response.addHeader(name, value)));
+            response.setContentLength(body.length);
+            response.getOutputStream().write(body);
+        }
+    }
+}
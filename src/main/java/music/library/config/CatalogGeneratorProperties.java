@@ -0,0 +1,43 @@
+package music.library.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Size and shape of the synthetic catalog (prefix {@code catalog-generator}).
+ *
+ * Nothing is generated unless {@code albums} is above zero. The same seed
+ * and sizes always produce the same catalog.
+ *
+ * @see music.library.service.CatalogGenerator
+ */
+@Configuration
+@ConfigurationProperties(prefix = "catalog-generator")
+@Getter
+@Setter
+public class CatalogGeneratorProperties {
+
+    // Albums to generate at startup into an empty catalog; 0 turns the generator off
+    private int albums;
+
+    // Artists; 0 means one artist per 10 albums
+    private int artists;
+
+    private int genres = 300;
+
+    private long seed = 42;
+
+    // Zipf exponents of artist and genre popularity (higher = more skewed)
+    private double artistExponent = 0.8;
+    private double genreExponent = 1.0;
+
+    // Rows per JDBC batch
+    private int batchSize = 5000;
+
+    public int artistCount() {
+        return artists > 0 ? artists : Math.max(1, albums / 10);
+    }
+}
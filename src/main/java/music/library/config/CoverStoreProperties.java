@@ -0,0 +1,36 @@
+package music.library.config;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings for the external album cover store (prefix {@code covers}).
+ *
+ * Covers used to be bundled under {@code static/covers} inside the fat jar.
+ * They now live in a plain directory on disk so the artifact stays small and
+ * the files can be handed to the kernel with sendfile instead of being
+ * streamed through the Spring resource handler.
+ *
+ * @see music.library.service.CoverStore
+ */
+@Configuration
+@ConfigurationProperties(prefix = "covers")
+@Getter
+@Setter
+public class CoverStoreProperties {
+
+    // Directory holding the cover files; relative paths resolve against the working directory
+    private Path storeDir = Path.of("covers");
+
+    // URL prefix the covers are published under (must match CoverController's mapping)
+    private String urlPrefix = "/covers/";
+
+    // Cache lifetime for content-hashed URLs. The content behind them never changes.
+    private Duration immutableMaxAge = Duration.ofDays(365);
+}
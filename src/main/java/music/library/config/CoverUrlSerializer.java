@@ -0,0 +1,36 @@
+package music.library.config;
+
+import java.io.IOException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import music.library.service.CoverStore;
+
+/**
+ * Writes {@code coverImageUrl} values in their content-hashed form so clients
+ * always request the immutable, long-cached URL.
+ *
+ * Spring Boot's ObjectMapper creates serializers through the application
+ * context, so the {@link CoverStore} is injected. A plain ObjectMapper (no
+ * Spring) leaves it null and the URL is written unchanged.
+ */
+public class CoverUrlSerializer extends StdSerializer<String> {
+
+    private static final long serialVersionUID = 1L;
+
+    @Autowired(required = false)
+    private transient CoverStore coverStore;
+
+    public CoverUrlSerializer() {
+        super(String.class);
+    }
+
+    @Override
+    public void serialize(String value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeString(coverStore != null ? coverStore.resolveUrl(value) : value);
+    }
+}
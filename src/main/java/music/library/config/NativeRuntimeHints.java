@@ -0,0 +1,96 @@
+package music.library.config;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Wrapper;
+
+import javax.sql.DataSource;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import music.library.dto.ApiInfoResponse;
+import music.library.dto.ArtistDeletionResponse;
+import music.library.dto.BatchLookupResponse;
+import music.library.dto.BulkAlbumOperation;
+import music.library.dto.BulkAlbumRequest;
+import music.library.dto.BulkAlbumResponse;
+import music.library.dto.CreateAlbumRequest;
+import music.library.dto.CreateArtistRequest;
+import music.library.dto.CreateGenreRequest;
+import music.library.dto.DatabaseResetResponse;
+import music.library.dto.GenreTaggingRequest;
+import music.library.dto.GenreTaggingResponse;
+import music.library.dto.SnapshotInfo;
+import music.library.dto.UpdateAlbumRequest;
+import music.library.dto.UpdateArtistRequest;
+import music.library.dto.UpdateGenreRequest;
+import music.library.entity.Album;
+import music.library.entity.AlbumView;
+import music.library.entity.Artist;
+import music.library.entity.Genre;
+import music.library.exception.ApiError;
+import music.library.jdbc.SlowQuery;
+import music.library.logging.AsyncLogAppender;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+
+/**
+ * Hints for the GraalVM native image (mvn -Pnative native:compile) that
+ * Spring's AOT processing cannot infer on its own. On the JVM they are unused.
+ *
+ * - Jackson binding for the entities and DTOs. Controllers return them inside
+ *   Page, PagedModel and ResponseEntity, so the element types are not visible
+ *   to AOT. Lombok's generated getters, setters and builders are covered by
+ *   the same registration.
+ * - CoverUrlSerializer, which Jackson instantiates from @JsonSerialize(using = ...)
+ * - the JDK proxies datasource-proxy puts around every JDBC object, and
+ *   reflective calls through them to the driver
+ * - Flyway migration scripts
+ * - the logback configuration: AsyncLogAppender, which logback instantiates
+ *   and configures by reflection, and the included console-*.xml files
+ *
+ * The lazy {@code artist} and {@code genres} associations need no proxy
+ * hints: the native profile enhances the entities at build time
+ * (hibernate-enhance-maven-plugin), so Hibernate does not generate proxy
+ * classes at runtime.
+ */
+@Configuration
+@ImportRuntimeHints(NativeRuntimeHints.class)
+@RegisterReflectionForBinding({ Album.class, AlbumView.class, Artist.class, Genre.class, ApiError.class,
+        ApiInfoResponse.class, ArtistDeletionResponse.class, BatchLookupResponse.class, BulkAlbumOperation.class,
+        BulkAlbumRequest.class, BulkAlbumResponse.class, CreateAlbumRequest.class, CreateArtistRequest.class,
+        CreateGenreRequest.class, DatabaseResetResponse.class, GenreTaggingRequest.class, GenreTaggingResponse.class,
+        SnapshotInfo.class, UpdateAlbumRequest.class, UpdateArtistRequest.class, UpdateGenreRequest.class,
+        SlowQuery.class })
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    // Interfaces datasource-proxy proxies (JdkJdbcProxyFactory), each together with ProxyJdbcObject
+    private static final Class<?>[] PROXIED_JDBC_TYPES = { DataSource.class, Connection.class, Statement.class,
+            PreparedStatement.class, CallableStatement.class, ResultSet.class };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(CoverUrlSerializer.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        for (Class<?> type : PROXIED_JDBC_TYPES) {
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, type);
+            hints.reflection().registerType(type, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.reflection().registerType(Wrapper.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(ProxyJdbcObject.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        hints.resources().registerPattern("db/migration/*.sql");
+        hints.resources().registerPattern("db/vendor/*/*.sql");
+
+        hints.reflection().registerType(AsyncLogAppender.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.resources().registerPattern("logback/*.xml");
+    }
+}
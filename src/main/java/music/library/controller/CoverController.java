@@ -0,0 +1,223 @@
+package music.library.controller;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import music.library.config.CoverStoreProperties;
+import music.library.service.CoverStore;
+import music.library.service.CoverStore.StoredCover;
+
+/**
+ * Serves album cover images from the external {@link CoverStore}.
+ *
+ * Two URL forms are supported:
+ * - GET /covers/{hash}/{fileName} - content-hashed, cached for a year as immutable
+ * - GET /covers/{fileName} - legacy form, always revalidated via ETag
+ *
+ * Bodies are written with zero-copy transfer: when Tomcat advertises sendfile
+ * support the file is handed to the connector (the bytes never enter the JVM
+ * heap or occupy a request thread while being written), otherwise
+ * {@link FileChannel#transferTo} is used. Single byte ranges are honoured
+ * with 206 Partial Content; multi-range requests get the full body, which
+ * RFC 9110 allows.
+ *
+ * @see CoverStore
+ */
+@Controller
+@Hidden // static content, not part of the REST API docs
+public class CoverController {
+
+    // Tomcat request attributes for sendfile (see org.apache.catalina.Globals)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end"; // exclusive
+
+    @Autowired
+    private CoverStore store;
+    @Autowired
+    private CoverStoreProperties props;
+
+    /**
+     * Serves a cover by its immutable, content-hashed URL. If the hash is
+     * stale (the file was replaced) the client is redirected to the current URL.
+     */
+    @RequestMapping(value = "/covers/{hash}/{fileName:.+}", method = { RequestMethod.GET, RequestMethod.HEAD })
+    public void getImmutableCover(@PathVariable String hash, @PathVariable String fileName,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        StoredCover cover = store.find(fileName).orElse(null);
+        if (cover == null) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        if (!cover.hash().equals(hash)) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CacheControl.noStore().getHeaderValue());
+            response.sendRedirect(store.immutableUrl(cover));
+            return;
+        }
+        String cacheControl = CacheControl.maxAge(props.getImmutableMaxAge()).cachePublic().immutable()
+                .getHeaderValue();
+        serve(cover, cacheControl, request, response);
+    }
+
+    /**
+     * Serves a cover by its plain file name. Kept for album rows that still
+     * store "/covers/{fileName}"; API responses already rewrite those to the
+     * hashed form.
+     */
+    @RequestMapping(value = "/covers/{fileName:.+}", method = { RequestMethod.GET, RequestMethod.HEAD })
+    public void getCover(@PathVariable String fileName,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        StoredCover cover = store.find(fileName).orElse(null);
+        if (cover == null) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        serve(cover, CacheControl.noCache().cachePublic().getHeaderValue(), request, response);
+    }
+
+    private void serve(StoredCover cover, String cacheControl,
+            HttpServletRequest request, HttpServletResponse response) throws IOException {
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+        response.setHeader(HttpHeaders.ETAG, cover.etag());
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, cover.lastModified().toEpochMilli());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // Conditional GET - the hash is a strong validator
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.contains(cover.etag()) || ifNoneMatch.trim().equals("*"))) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        long size = cover.size();
+        long start = 0;
+        long end = size - 1; // inclusive
+
+        ByteRange range = rangeFor(request, cover);
+        if (range != null) {
+            if (!range.isSatisfiable(size)) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            start = range.firstByte(size);
+            end = range.lastByte(size);
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+        } else {
+            response.setStatus(HttpStatus.OK.value());
+        }
+
+        long length = end - start + 1;
+        response.setContentType(cover.contentType().toString());
+        response.setContentLengthLong(length);
+
+        if (RequestMethod.HEAD.name().equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            // Tomcat writes the file with sendfile(2) after the servlet returns
+            request.setAttribute(SENDFILE_FILENAME, cover.path().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(cover.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long written = channel.transferTo(position, remaining, out);
+                if (written <= 0) {
+                    break; // file shrank underneath us
+                }
+                position += written;
+                remaining -= written;
+            }
+        }
+    }
+
+    /**
+     * Returns the single byte range to serve, or null when the full body
+     * should be sent (no Range header, stale If-Range, multiple ranges or an
+     * unparseable header - all of which RFC 9110 lets us answer with 200).
+     */
+    private static ByteRange rangeFor(HttpServletRequest request, StoredCover cover) {
+        String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.equals(cover.etag())) {
+            return null;
+        }
+        return ByteRange.parse(header);
+    }
+
+    /**
+     * A single "bytes=" range. Either bound may be null: "500-" means from
+     * byte 500 to the end, "-500" means the last 500 bytes.
+     */
+    record ByteRange(Long first, Long last) {
+
+        static ByteRange parse(String header) {
+            String value = header.trim();
+            if (!value.startsWith("bytes=") || value.contains(",")) {
+                return null;
+            }
+            String spec = value.substring("bytes=".length()).trim();
+            int dash = spec.indexOf('-');
+            if (dash < 0) {
+                return null;
+            }
+            try {
+                String left = spec.substring(0, dash).trim();
+                String right = spec.substring(dash + 1).trim();
+                Long first = left.isEmpty() ? null : Long.parseLong(left);
+                Long last = right.isEmpty() ? null : Long.parseLong(right);
+                if ((first == null && last == null) || (first != null && last != null && last < first)) {
+                    return null;
+                }
+                return new ByteRange(first, last);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        boolean isSatisfiable(long size) {
+            if (first == null) {
+                return last > 0 && size > 0; // suffix range
+            }
+            return first < size;
+        }
+
+        long firstByte(long size) {
+            return first == null ? Math.max(0, size - last) : first;
+        }
+
+        long lastByte(long size) {
+            return (first == null || last == null) ? size - 1 : Math.min(last, size - 1);
+        }
+    }
+}
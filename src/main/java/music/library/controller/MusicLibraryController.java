@@ -3,14 +3,17 @@ package music.library.controller;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -19,6 +22,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -36,20 +40,36 @@ import jakarta.validation.Valid;
 import music.library.dto.ApiInfoResponse;
 import music.library.dto.ApiInfoResponse.Endpoint;
 import music.library.dto.ApiInfoResponse.EndpointCategory;
+import music.library.dto.ArtistDeletionResponse;
+import music.library.dto.BatchLookupResponse;
+import music.library.dto.BulkAlbumRequest;
+import music.library.dto.BulkAlbumResponse;
 import music.library.dto.CreateAlbumRequest;
 import music.library.dto.CreateArtistRequest;
 import music.library.dto.CreateGenreRequest;
 import music.library.dto.DatabaseResetResponse;
+import music.library.dto.GenreTaggingRequest;
+import music.library.dto.GenreTaggingResponse;
+import music.library.dto.SnapshotInfo;
 import music.library.dto.UpdateAlbumRequest;
 import music.library.dto.UpdateArtistRequest;
 import music.library.dto.UpdateGenreRequest;
 import music.library.entity.Album;
 import music.library.entity.Artist;
 import music.library.entity.Genre;
+import music.library.exception.BadRequestException;
+import music.library.exception.PreconditionFailedException;
+import music.library.exception.PreconditionRequiredException;
+import music.library.service.AlbumBulkService;
+import music.library.service.AlbumGenreLinkService;
 import music.library.service.AlbumService;
 import music.library.service.ArtistService;
 import music.library.service.DatabaseResetService;
 import music.library.service.GenreService;
+import music.library.service.GenreTaggingService;
+import music.library.service.SnapshotService;
+import music.library.service.SparseFieldService;
+import music.library.specification.AlbumSpecs;
 
 /**
  * Main REST controller for the Music Library API.
@@ -64,7 +84,7 @@ import music.library.service.GenreService;
  * /api/artists - List all artists with pagination (200 OK) - GET
  * /api/artists/{id} - Get artist by ID (200 OK, 404 Not Found) - PUT
  * /api/artists/{id} - Update artist (200 OK, 404 Not Found) - DELETE
- * /api/artists/{id} - Delete artist (204 No Content, 404 Not Found)
+ * /api/artists/{id} - Delete artist and its albums (200 OK with counts, 404 Not Found)
  * 
  * - POST /api/albums - Create new album (201 Created) 
  * - GET /api/albums - List  all albums with pagination (200 OK) 
@@ -82,12 +102,31 @@ import music.library.service.GenreService;
  * - Get all albums by artist (200 OK) 
  * - GET /api/genres/{genreId}/albums 
  * - Get all albums by genre (200 OK) 
+ * - PUT|DELETE /api/albums/{albumId}/genres/{genreId}
+ * - Add / remove one genre on an album, idempotent (204 No Content)
+ * - POST /api/genres/{genreId}/albums/tag|untag
+ * - Add / remove a genre on many albums by id list or search filter (200 OK)
+ * - GET /api/{albums|artists|genres}/batch?ids=1,2,3
+ * - Multi-get by id list, results in request order (200 OK, 400 if too many ids)
  * - DELETE /api/reset?confirm=true - Reset database (200 OK, 400 Bad Request)
+ * - DELETE /api/reset?confirm=true&snapshot={name}
+ * - Restore a named snapshot instead of emptying the database (200 OK, 404 Not Found)
+ * - POST /api/snapshots/{name} - Capture the catalog into a snapshot (201 Created)
+ * - GET /api/snapshots - List snapshots (200 OK)
  * 
  * Pagination: All list endpoints support Spring Data pagination via query
  * parameters: - page: zero-based page number (default: 0) - size: page size
  * (default: 20) - sort: sort criteria (e.g., "name,asc" or "createdAt,desc")
  * 
+ * Sparse fieldsets: album, artist and genre list/get endpoints (and album
+ * search) accept fields=title,coverImageUrl,artist.name to return only those
+ * fields; only the matching columns and joins are queried.
+ * 
+ * Optimistic concurrency: GET by id (with or without fields=) returns the
+ * entity's version as a strong ETag ("3"), and PUT requires If-Match with
+ * that tag. A missing If-Match is rejected with 428, a stale one with 412;
+ * the response carries the new ETag.
+ * 
  * Error Handling: All exceptions are handled by GlobalExceptionHandler,
  * returning standardized ApiError responses with appropriate HTTP status codes.
  * 
@@ -103,15 +142,28 @@ import music.library.service.GenreService;
 
 public class MusicLibraryController {
 
+	// Upper bound on ids accepted by the multi-get (batch) endpoints
+	static final int MAX_BATCH_IDS = 100;
+
 	// Service layer dependencies injected via Spring's @Autowired
 	@Autowired
 	private ArtistService artistSvc;
 	@Autowired
 	private AlbumService albumSvc;
 	@Autowired
+	private AlbumBulkService albumBulkSvc;
+	@Autowired
+	private AlbumGenreLinkService linkSvc;
+	@Autowired
 	private GenreService genreSvc;
 	@Autowired
+	private GenreTaggingService taggingSvc;
+	@Autowired
 	private DatabaseResetService resetSvc;
+	@Autowired
+	private SnapshotService snapshotSvc;
+	@Autowired
+	private SparseFieldService sparseSvc;
 
 	/**
 	 * Welcome/Info endpoint for the Music Library API.
@@ -157,8 +209,9 @@ public class MusicLibraryController {
 				new Endpoint("POST", "/api/artists", "Create a new artist", "201"),
 				new Endpoint("GET", "/api/artists", "Get all artists (paginated)", "200"),
 				new Endpoint("GET", "/api/artists/{id}", "Get artist by ID", "200"),
+				new Endpoint("GET", "/api/artists/batch?ids=1,2,3", "Get several artists by ID (max " + MAX_BATCH_IDS + ")", "200"),
 				new Endpoint("PUT", "/api/artists/{id}", "Update an artist", "200"),
-				new Endpoint("DELETE", "/api/artists/{id}", "Delete an artist", "204"),
+				new Endpoint("DELETE", "/api/artists/{id}", "Delete an artist with its albums", "200"),
 				new Endpoint("GET", "/api/artists/{artistId}/albums", "Get all albums by artist", "200")
 			)
 		));
@@ -171,8 +224,12 @@ public class MusicLibraryController {
 				new Endpoint("POST", "/api/albums", "Create a new album", "201"),
 				new Endpoint("GET", "/api/albums", "Get all albums (paginated)", "200"),
 				new Endpoint("GET", "/api/albums/{id}", "Get album by ID", "200"),
+				new Endpoint("GET", "/api/albums/batch?ids=1,2,3", "Get several albums by ID (max " + MAX_BATCH_IDS + ")", "200"),
 				new Endpoint("PUT", "/api/albums/{id}", "Update an album", "200"),
-				new Endpoint("DELETE", "/api/albums/{id}", "Delete an album", "204")
+				new Endpoint("DELETE", "/api/albums/{id}", "Delete an album", "204"),
+				new Endpoint("POST", "/api/albums/bulk", "Create, update and delete many albums (max " + BulkAlbumRequest.MAX_OPERATIONS + ")", "200"),
+				new Endpoint("PUT", "/api/albums/{albumId}/genres/{genreId}", "Add a genre to an album (idempotent)", "204"),
+				new Endpoint("DELETE", "/api/albums/{albumId}/genres/{genreId}", "Remove a genre from an album (idempotent)", "204")
 			)
 		));
 		
@@ -184,9 +241,12 @@ public class MusicLibraryController {
 				new Endpoint("POST", "/api/genres", "Create a new genre", "201"),
 				new Endpoint("GET", "/api/genres", "Get all genres (paginated)", "200"),
 				new Endpoint("GET", "/api/genres/{id}", "Get genre by ID", "200"),
+				new Endpoint("GET", "/api/genres/batch?ids=1,2,3", "Get several genres by ID (max " + MAX_BATCH_IDS + ")", "200"),
 				new Endpoint("PUT", "/api/genres/{id}", "Update a genre", "200"),
 				new Endpoint("DELETE", "/api/genres/{id}", "Delete a genre", "204"),
-				new Endpoint("GET", "/api/genres/{genreId}/albums", "Get all albums by genre", "200")
+				new Endpoint("GET", "/api/genres/{genreId}/albums", "Get all albums by genre", "200"),
+				new Endpoint("POST", "/api/genres/{genreId}/albums/tag", "Add the genre to many albums (ids or filter)", "200"),
+				new Endpoint("POST", "/api/genres/{genreId}/albums/untag", "Remove the genre from many albums (ids or filter)", "200")
 			)
 		));
 		
@@ -195,7 +255,10 @@ public class MusicLibraryController {
 			"Database Management",
 			"Administrative operations for database management",
 			Arrays.asList(
-				new Endpoint("DELETE", "/api/reset?confirm=true", "Reset database (requires confirmation)", "200")
+				new Endpoint("DELETE", "/api/reset?confirm=true", "Reset database (requires confirmation)", "200"),
+				new Endpoint("DELETE", "/api/reset?confirm=true&snapshot={name}", "Restore a named snapshot", "200"),
+				new Endpoint("POST", "/api/snapshots/{name}", "Capture the catalog into a named snapshot", "201"),
+				new Endpoint("GET", "/api/snapshots", "List snapshots", "200")
 			)
 		));
 		
@@ -205,11 +268,15 @@ public class MusicLibraryController {
 			"Comprehensive CRUD operations for Artists, Albums, and Genres",
 			"Pagination support on all list endpoints (page, size, sort parameters)",
 			"Relationship-based queries (albums by artist, albums by genre)",
+			"Multi-get endpoints that load many albums, artists or genres in one query",
+			"Sparse fieldsets (fields=title,artist.name) that limit both the JSON and the columns queried",
+			"Bulk album create/update/delete with per-item results",
 			"Input validation with detailed error messages",
 			"OpenAPI 3.0 specification with Swagger UI",
 			"Standardized error handling with ApiError responses",
 			"Automatic timestamp tracking (createdAt, updatedAt)",
 			"Database reset functionality for development/testing",
+			"Named catalog snapshots that reset restores in bulk",
 			"JSON request/response format"
 		);
 		
@@ -273,12 +340,17 @@ public class MusicLibraryController {
 
 		@GetMapping("/artists")
 		@Tag(name = "Artists", description = "CRUD operations for artists")
-		public Page<Artist> getAllArtists(
+		public Page<?> getAllArtists(
 		    @RequestParam(defaultValue = "0") int page,
 		    @RequestParam(defaultValue = "10") int size,
-		    @RequestParam(defaultValue = "name") String sortBy) {
+		    @RequestParam(defaultValue = "name") String sortBy,
+		    @Parameter(description = "Comma-separated fields to return, e.g. name (default: all)")
+		    @RequestParam(required = false) String fields) {
 		    
 		    Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
+		    if (fields != null) {
+		        return sparseSvc.findArtists(fields, pageable);
+		    }
 		    return artistSvc.findAll(pageable);
 		}
 
@@ -309,10 +381,54 @@ public class MusicLibraryController {
 	
 	@GetMapping("/artists/{id}")
 	@Tag(name = "Artists", description = "CRUD operations for artists")
-	public Artist getArtistById(
+	public ResponseEntity<?> getArtistById(
 		@Parameter(description = "ID of the artist to retrieve", required = true)
-		@PathVariable Long id) {
-		return artistSvc.findById(id);
+		@PathVariable Long id,
+		@Parameter(description = "Comma-separated fields to return, e.g. name (default: all)")
+		@RequestParam(required = false) String fields) {
+		if (fields != null) {
+			SparseFieldService.Versioned sparse = sparseSvc.findArtist(id, fields);
+			return ResponseEntity.ok().eTag(etag(sparse.version())).body(sparse.fields());
+		}
+		Artist artist = artistSvc.findById(id);
+		return ResponseEntity.ok().eTag(etag(artist.getVersion())).body(artist);
+	}
+
+	/**
+	 * Retrieves several artists by ID in a single call (multi-get).
+	 * Backed by one query regardless of how many ids are requested.
+	 * Results come back in request order; unknown ids are reported inline
+	 * with found=false and listed in missingIds.
+	 * 
+	 * @param ids comma-separated artist IDs (at most {@value #MAX_BATCH_IDS})
+	 * @return one result per requested id, in request order
+	 */
+	@Operation(
+		summary = "Get artists by ID list",
+		description = "Returns several artists in one call, in the order the ids were given. "
+				+ "Ids that do not exist are reported inline (found=false) and in missingIds. "
+				+ "At most " + MAX_BATCH_IDS + " ids per request."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "Successfully looked up artists",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = BatchLookupResponse.class))
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Bad Request - no ids or more than " + MAX_BATCH_IDS + " ids",
+			content = @Content(mediaType = "application/json")
+		)
+	})
+	
+	@GetMapping("/artists/batch")
+	@Tag(name = "Artists", description = "CRUD operations for artists")
+	public BatchLookupResponse<Artist> getArtistsByIds(
+		@Parameter(description = "Comma-separated artist IDs, e.g. 3,1,2", required = true)
+		@RequestParam List<Long> ids) {
+		List<Long> requested = requireBatchIds(ids);
+		return BatchLookupResponse.of(requested, artistSvc.findAllByIds(new LinkedHashSet<>(requested)), Artist::getArtistId);
 	}
 	
 	/**
@@ -338,13 +454,18 @@ public class MusicLibraryController {
 	})
 	@GetMapping("/albums/search")
 	@Tag(name = "Albums", description = "CRUD operations for albums")
-	public Page<Album> searchAlbums(
+	public Page<?> searchAlbums(
 		@Parameter(description = "Search query (matches album title or artist name)")
 		@RequestParam String q,
 		@RequestParam(defaultValue = "0") int page,
-		@RequestParam(defaultValue = "20") int size) {
+		@RequestParam(defaultValue = "20") int size,
+		@Parameter(description = "Comma-separated fields to return, e.g. title,coverImageUrl,artist.name (default: all)")
+		@RequestParam(required = false) String fields) {
 		
 		Pageable pageable = PageRequest.of(page, size, Sort.by("title").ascending());
+		if (fields != null) {
+			return sparseSvc.findAlbums(fields, q.isBlank() ? null : AlbumSpecs.titleOrArtistContains(q.trim()), pageable);
+		}
 		return albumSvc.searchByTitleOrArtist(q, pageable);
 	}
 
@@ -361,7 +482,7 @@ public class MusicLibraryController {
 	 */
 	@Operation(
 		summary = "Update artist",
-		description = "Updates an existing artist and returns the updated entity. Only the fields provided in the request will be updated."
+		description = "Updates an existing artist and returns the updated entity. Requires If-Match with the ETag from GET; returns 412 if the artist changed since."
 	)
 	@ApiResponses(value = {
 		@ApiResponse(
@@ -378,35 +499,50 @@ public class MusicLibraryController {
 			responseCode = "400",
 			description = "Bad Request - Invalid input data",
 			content = @Content(mediaType = "application/json")
+		),
+		@ApiResponse(
+			responseCode = "412",
+			description = "If-Match does not match the current version (someone else updated it first)",
+			content = @Content(mediaType = "application/json")
+		),
+		@ApiResponse(
+			responseCode = "428",
+			description = "If-Match header missing",
+			content = @Content(mediaType = "application/json")
 		)
 	})
 	
 	@PutMapping("/artists/{id}")
 	@Tag(name = "Artists", description = "CRUD operations for artists")
-	public Artist updateArtist(
+	public ResponseEntity<Artist> updateArtist(
 		@Parameter(description = "ID of the artist to update", required = true)
 		@PathVariable Long id, 
+		@Parameter(description = "ETag of the artist version being updated, as returned by GET", required = true)
+		@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
 		@Valid @RequestBody UpdateArtistRequest request) {
-		return artistSvc.updateArtist(id, request);
+		Artist updated = artistSvc.updateArtist(id, requireIfMatch(ifMatch), request);
+		return ResponseEntity.ok().eTag(etag(updated.getVersion())).body(updated);
 	}
 
 	/**
-	 * Deletes an artist by ID. Note: Deletion behavior depends on cascade settings.
-	 * If albums reference this artist, the operation may fail with a constraint
-	 * violation or cascade delete albums.
+	 * Deletes an artist by ID together with all of its albums and their genre
+	 * links, using a few set-based statements in one transaction.
 	 * 
 	 * @param id the artist ID to delete
+	 * @return the number of albums and genre links removed with the artist
 	 * @throws music.library.exception.ResourceNotFoundException if artist not found
 	 *                                                           (404)
 	 */
 	@Operation(
 		summary = "Delete artist",
-		description = "Deletes an artist by ID. Note: Deletion behavior depends on cascade settings and may affect related albums."
+		description = "Deletes an artist by ID along with all of its albums and their genre links. "
+				+ "Returns how many albums and genre links were removed."
 	)
 	@ApiResponses(value = {
 		@ApiResponse(
-			responseCode = "204",
-			description = "Artist successfully deleted"
+			responseCode = "200",
+			description = "Artist successfully deleted",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = ArtistDeletionResponse.class))
 		),
 		@ApiResponse(
 			responseCode = "404",
@@ -416,12 +552,11 @@ public class MusicLibraryController {
 	})
 	
 	@DeleteMapping("/artists/{id}")
-	@ResponseStatus(HttpStatus.NO_CONTENT)
 	@Tag(name = "Artists", description = "CRUD operations for artists")
-	public void deleteArtist(
+	public ArtistDeletionResponse deleteArtist(
 		@Parameter(description = "ID of the artist to delete", required = true)
 		@PathVariable Long id) {
-		artistSvc.delete(id);
+		return artistSvc.delete(id);
 	}
 
 	/**
@@ -487,17 +622,22 @@ public class MusicLibraryController {
 	
 	@GetMapping("/albums")
 	@Tag(name = "Albums", description = "CRUD operations for albums")
-	public Page<Album> getAllAlbums(
+	public Page<?> getAllAlbums(
 	    @RequestParam(defaultValue = "0") int page,
 	    @RequestParam(defaultValue = "20") int size,
 	    @RequestParam(defaultValue = "id") String sortBy,
-	    @RequestParam(defaultValue = "asc") String sortDir
+	    @RequestParam(defaultValue = "asc") String sortDir,
+	    @Parameter(description = "Comma-separated fields to return, e.g. title,coverImageUrl,artist.name (default: all)")
+	    @RequestParam(required = false) String fields
 	) {
 	    Sort sort = sortDir.equalsIgnoreCase("desc") ? 
 	        Sort.by(sortBy).descending() : 
 	        Sort.by(sortBy).ascending();
 	    
 	    Pageable pageable = PageRequest.of(page, size, sort);
+	    if (fields != null) {
+	        return sparseSvc.findAlbums(fields, null, pageable);
+	    }
 	    return albumSvc.findAll(pageable);
 	}
 
@@ -528,10 +668,54 @@ public class MusicLibraryController {
 	
 	@GetMapping("/albums/{id}")
 	@Tag(name = "Albums", description = "CRUD operations for albums")
-	public Album getAlbumById(
+	public ResponseEntity<?> getAlbumById(
 		@Parameter(description = "ID of the album to retrieve", required = true)
-		@PathVariable Long id) {
-		return albumSvc.findById(id);
+		@PathVariable Long id,
+		@Parameter(description = "Comma-separated fields to return, e.g. title,coverImageUrl,artist.name (default: all)")
+		@RequestParam(required = false) String fields) {
+		if (fields != null) {
+			SparseFieldService.Versioned sparse = sparseSvc.findAlbum(id, fields);
+			return ResponseEntity.ok().eTag(etag(sparse.version())).body(sparse.fields());
+		}
+		Album album = albumSvc.findById(id);
+		return ResponseEntity.ok().eTag(etag(album.getVersion())).body(album);
+	}
+
+	/**
+	 * Retrieves several albums by ID in a single call (multi-get).
+	 * Backed by one query regardless of how many ids are requested.
+	 * Results come back in request order; unknown ids are reported inline
+	 * with found=false and listed in missingIds.
+	 * 
+	 * @param ids comma-separated album IDs (at most {@value #MAX_BATCH_IDS})
+	 * @return one result per requested id, in request order
+	 */
+	@Operation(
+		summary = "Get albums by ID list",
+		description = "Returns several albums in one call, in the order the ids were given. "
+				+ "Ids that do not exist are reported inline (found=false) and in missingIds. "
+				+ "At most " + MAX_BATCH_IDS + " ids per request."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "Successfully looked up albums",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = BatchLookupResponse.class))
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Bad Request - no ids or more than " + MAX_BATCH_IDS + " ids",
+			content = @Content(mediaType = "application/json")
+		)
+	})
+	
+	@GetMapping("/albums/batch")
+	@Tag(name = "Albums", description = "CRUD operations for albums")
+	public BatchLookupResponse<Album> getAlbumsByIds(
+		@Parameter(description = "Comma-separated album IDs, e.g. 3,1,2", required = true)
+		@RequestParam List<Long> ids) {
+		List<Long> requested = requireBatchIds(ids);
+		return BatchLookupResponse.of(requested, albumSvc.findAllByIds(new LinkedHashSet<>(requested)), Album::getAlbumId);
 	}
 
 	/**
@@ -544,7 +728,7 @@ public class MusicLibraryController {
 	 */
 	@Operation(
 		summary = "Update album",
-		description = "Updates an existing album and returns the updated entity. Only the fields provided in the request will be updated."
+		description = "Updates an existing album and returns the updated entity. Requires If-Match with the ETag from GET; returns 412 if the album changed since."
 	)
 	@ApiResponses(value = {
 		@ApiResponse(
@@ -561,16 +745,29 @@ public class MusicLibraryController {
 			responseCode = "400",
 			description = "Bad Request - Invalid input data",
 			content = @Content(mediaType = "application/json")
+		),
+		@ApiResponse(
+			responseCode = "412",
+			description = "If-Match does not match the current version (someone else updated it first)",
+			content = @Content(mediaType = "application/json")
+		),
+		@ApiResponse(
+			responseCode = "428",
+			description = "If-Match header missing",
+			content = @Content(mediaType = "application/json")
 		)
 	})
 	
 	@PutMapping("/albums/{id}")
 	@Tag(name = "Albums", description = "CRUD operations for albums")
-	public Album updateAlbum(
+	public ResponseEntity<Album> updateAlbum(
 		@Parameter(description = "ID of the album to update", required = true)
 		@PathVariable Long id, 
+		@Parameter(description = "ETag of the album version being updated, as returned by GET", required = true)
+		@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
 		@Valid @RequestBody UpdateAlbumRequest request) {
-		return albumSvc.updateAlbum(id, request);
+		Album updated = albumSvc.updateAlbum(id, requireIfMatch(ifMatch), request);
+		return ResponseEntity.ok().eTag(etag(updated.getVersion())).body(updated);
 	}
 
 	/**
@@ -605,6 +802,40 @@ public class MusicLibraryController {
 		albumSvc.delete(id);
 	}
 
+	/**
+	 * Applies many album creates, updates and deletes in one call.
+	 * Each operation is validated on its own and reported with an HTTP-like
+	 * status; valid operations are written in batched chunks even when
+	 * others in the same request fail.
+	 * 
+	 * @param request the operations to apply (at most {@value BulkAlbumRequest#MAX_OPERATIONS})
+	 * @return one result per operation, in request order
+	 */
+	@Operation(
+		summary = "Bulk create/update/delete albums",
+		description = "Applies a list of CREATE, UPDATE and DELETE operations. Each item gets its own result "
+				+ "(201 created, 200 updated, 204 deleted, or 400/404/409 with a message); one bad item does not "
+				+ "fail the rest. At most " + BulkAlbumRequest.MAX_OPERATIONS + " operations per request."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "Request processed; see per-item results",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = BulkAlbumResponse.class))
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Bad Request - empty operation list, too many operations or missing op",
+			content = @Content(mediaType = "application/json")
+		)
+	})
+	
+	@PostMapping("/albums/bulk")
+	@Tag(name = "Albums", description = "CRUD operations for albums")
+	public BulkAlbumResponse bulkAlbums(@Valid @RequestBody BulkAlbumRequest request) {
+		return albumBulkSvc.apply(request.getOperations());
+	}
+
 	/**
 	 * Creates a new genre.
 	 * 
@@ -659,10 +890,15 @@ public class MusicLibraryController {
 	
 	@GetMapping("/genres")
 	@Tag(name = "Genres", description = "CRUD operations for genres")
-	public Page<Genre> getAllGenres(@RequestParam(defaultValue = "0") int page,
+	public Page<?> getAllGenres(@RequestParam(defaultValue = "0") int page,
 		    @RequestParam(defaultValue = "10") int size,
-		    @RequestParam(defaultValue = "name") String sortBy) {  
+		    @RequestParam(defaultValue = "name") String sortBy,
+		    @Parameter(description = "Comma-separated fields to return, e.g. name (default: all)")
+		    @RequestParam(required = false) String fields) {  
 		Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
+		if (fields != null) {
+			return sparseSvc.findGenres(fields, pageable);
+		}
 		return genreSvc.findAll(pageable);
 	}
 
@@ -692,10 +928,54 @@ public class MusicLibraryController {
 	
 	@GetMapping("/genres/{id}")
 	@Tag(name = "Genres", description = "CRUD operations for genres")
-	public Genre getGenreById(
+	public ResponseEntity<?> getGenreById(
 		@Parameter(description = "ID of the genre to retrieve", required = true)
-		@PathVariable Long id) {
-		return genreSvc.findById(id);
+		@PathVariable Long id,
+		@Parameter(description = "Comma-separated fields to return, e.g. name (default: all)")
+		@RequestParam(required = false) String fields) {
+		if (fields != null) {
+			SparseFieldService.Versioned sparse = sparseSvc.findGenre(id, fields);
+			return ResponseEntity.ok().eTag(etag(sparse.version())).body(sparse.fields());
+		}
+		Genre genre = genreSvc.findById(id);
+		return ResponseEntity.ok().eTag(etag(genre.getVersion())).body(genre);
+	}
+
+	/**
+	 * Retrieves several genres by ID in a single call (multi-get).
+	 * Backed by one query regardless of how many ids are requested.
+	 * Results come back in request order; unknown ids are reported inline
+	 * with found=false and listed in missingIds.
+	 * 
+	 * @param ids comma-separated genre IDs (at most {@value #MAX_BATCH_IDS})
+	 * @return one result per requested id, in request order
+	 */
+	@Operation(
+		summary = "Get genres by ID list",
+		description = "Returns several genres in one call, in the order the ids were given. "
+				+ "Ids that do not exist are reported inline (found=false) and in missingIds. "
+				+ "At most " + MAX_BATCH_IDS + " ids per request."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "Successfully looked up genres",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = BatchLookupResponse.class))
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Bad Request - no ids or more than " + MAX_BATCH_IDS + " ids",
+			content = @Content(mediaType = "application/json")
+		)
+	})
+	
+	@GetMapping("/genres/batch")
+	@Tag(name = "Genres", description = "CRUD operations for genres")
+	public BatchLookupResponse<Genre> getGenresByIds(
+		@Parameter(description = "Comma-separated genre IDs, e.g. 3,1,2", required = true)
+		@RequestParam List<Long> ids) {
+		List<Long> requested = requireBatchIds(ids);
+		return BatchLookupResponse.of(requested, genreSvc.findAllByIds(new LinkedHashSet<>(requested)), Genre::getGenreId);
 	}
 
 	/**
@@ -711,7 +991,7 @@ public class MusicLibraryController {
 	 */
 	@Operation(
 		summary = "Update genre",
-		description = "Updates an existing genre and returns the updated entity. Only the fields provided in the request will be updated."
+		description = "Updates an existing genre and returns the updated entity. Requires If-Match with the ETag from GET; returns 412 if the genre changed since."
 	)
 	@ApiResponses(value = {
 		@ApiResponse(
@@ -728,16 +1008,29 @@ public class MusicLibraryController {
 			responseCode = "400",
 			description = "Bad Request - Invalid input data",
 			content = @Content(mediaType = "application/json")
+		),
+		@ApiResponse(
+			responseCode = "412",
+			description = "If-Match does not match the current version (someone else updated it first)",
+			content = @Content(mediaType = "application/json")
+		),
+		@ApiResponse(
+			responseCode = "428",
+			description = "If-Match header missing",
+			content = @Content(mediaType = "application/json")
 		)
 	})
 	
 	@PutMapping("/genres/{id}")
 	@Tag(name = "Genres", description = "CRUD operations for genres")
-	public Genre updateGenre(
+	public ResponseEntity<Genre> updateGenre(
 		@Parameter(description = "ID of the genre to update", required = true)
 		@PathVariable Long id, 
+		@Parameter(description = "ETag of the genre version being updated, as returned by GET", required = true)
+		@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
 		@Valid @RequestBody UpdateGenreRequest request) {
-		return genreSvc.updateGenre(id, request);
+		Genre updated = genreSvc.updateGenre(id, requireIfMatch(ifMatch), request);
+		return ResponseEntity.ok().eTag(etag(updated.getVersion())).body(updated);
 	}
 
 	/**
@@ -836,31 +1129,255 @@ public class MusicLibraryController {
 		return albumSvc.findByGenreId(genreId);
 	}
 
+	/**
+	 * Adds a genre to many albums at once, selected by id list or by album
+	 * search criteria. Applied as set-based statements in chunks, so tagging
+	 * thousands of albums costs a few statements per chunk, not per album.
+	 * 
+	 * @param genreId the genre to add
+	 * @param request albumIds or filter (exactly one)
+	 * @return how many albums matched and how many actually gained the genre
+	 * @throws music.library.exception.ResourceNotFoundException if genre not found (404)
+	 */
+	@Operation(
+		summary = "Bulk add genre to albums",
+		description = "Tags every selected album with the genre. Select albums with albumIds (max "
+				+ GenreTaggingRequest.MAX_ALBUM_IDS + ") or with filter {title, startYear, endYear, genreId}, "
+				+ "which needs at least one criterion. Idempotent: albums that already have the genre are counted as matched but not changed."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "Albums tagged",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = GenreTaggingResponse.class))
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Neither or both of albumIds and filter given, too many ids, or a filter without criteria",
+			content = @Content(mediaType = "application/json")
+		),
+		@ApiResponse(
+			responseCode = "404",
+			description = "Genre not found with the provided ID",
+			content = @Content(mediaType = "application/json")
+		)
+	})
+	@PostMapping("/genres/{genreId}/albums/tag")
+	@Tag(name = "Genres", description = "CRUD operations for genres")
+	public GenreTaggingResponse tagAlbums(
+		@Parameter(description = "ID of the genre to add", required = true) @PathVariable Long genreId,
+		@Valid @RequestBody GenreTaggingRequest request) {
+		return taggingSvc.tag(genreId, request);
+	}
+
+	/**
+	 * Removes a genre from many albums at once; the counterpart of
+	 * {@link #tagAlbums(Long, GenreTaggingRequest)}.
+	 * 
+	 * @param genreId the genre to remove
+	 * @param request albumIds or filter (exactly one)
+	 * @return how many albums matched and how many actually lost the genre
+	 * @throws music.library.exception.ResourceNotFoundException if genre not found (404)
+	 */
+	@Operation(
+		summary = "Bulk remove genre from albums",
+		description = "Removes the genre from every selected album. Same selection rules as the tag endpoint."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(
+			responseCode = "200",
+			description = "Albums untagged",
+			content = @Content(mediaType = "application/json", schema = @Schema(implementation = GenreTaggingResponse.class))
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "Neither or both of albumIds and filter given, too many ids, or a filter without criteria",
+			content = @Content(mediaType = "application/json")
+		),
+		@ApiResponse(
+			responseCode = "404",
+			description = "Genre not found with the provided ID",
+			content = @Content(mediaType = "application/json")
+		)
+	})
+	@PostMapping("/genres/{genreId}/albums/untag")
+	@Tag(name = "Genres", description = "CRUD operations for genres")
+	public GenreTaggingResponse untagAlbums(
+		@Parameter(description = "ID of the genre to remove", required = true) @PathVariable Long genreId,
+		@Valid @RequestBody GenreTaggingRequest request) {
+		return taggingSvc.untag(genreId, request);
+	}
+
+	/**
+	 * Tags an album with a genre. Idempotent: tagging twice leaves one link.
+	 * Writes the album_genre row directly, so the cost does not grow with
+	 * the number of albums in the genre.
+	 * 
+	 * @param albumId the album ID
+	 * @param genreId the genre ID
+	 * @throws music.library.exception.ResourceNotFoundException if album or genre not found (404)
+	 */
+	@Operation(
+		summary = "Add genre to album",
+		description = "Links a genre to an album. Idempotent; the album's ETag changes only if the link was new."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "204", description = "Genre linked (or already linked)"),
+		@ApiResponse(
+			responseCode = "404",
+			description = "Album or genre not found with the provided ID",
+			content = @Content(mediaType = "application/json")
+		)
+	})
+	@PutMapping("/albums/{albumId}/genres/{genreId}")
+	@ResponseStatus(HttpStatus.NO_CONTENT)
+	@Tag(name = "Albums", description = "CRUD operations for albums")
+	public void addGenreToAlbum(
+		@Parameter(description = "ID of the album", required = true) @PathVariable Long albumId,
+		@Parameter(description = "ID of the genre to add", required = true) @PathVariable Long genreId) {
+		linkSvc.link(albumId, genreId);
+	}
+
+	/**
+	 * Removes a genre from an album. Idempotent: removing a genre the album
+	 * does not have succeeds without changes.
+	 * 
+	 * @param albumId the album ID
+	 * @param genreId the genre ID
+	 * @throws music.library.exception.ResourceNotFoundException if album or genre not found (404)
+	 */
+	@Operation(
+		summary = "Remove genre from album",
+		description = "Unlinks a genre from an album. Idempotent; the album's ETag changes only if a link was removed."
+	)
+	@ApiResponses(value = {
+		@ApiResponse(responseCode = "204", description = "Genre unlinked (or was not linked)"),
+		@ApiResponse(
+			responseCode = "404",
+			description = "Album or genre not found with the provided ID",
+			content = @Content(mediaType = "application/json")
+		)
+	})
+	@DeleteMapping("/albums/{albumId}/genres/{genreId}")
+	@ResponseStatus(HttpStatus.NO_CONTENT)
+	@Tag(name = "Albums", description = "CRUD operations for albums")
+	public void removeGenreFromAlbum(
+		@Parameter(description = "ID of the album", required = true) @PathVariable Long albumId,
+		@Parameter(description = "ID of the genre to remove", required = true) @PathVariable Long genreId) {
+		linkSvc.unlink(albumId, genreId);
+	}
+
 	@Operation(summary = "Reset database", description = "Deletes all data from the database "
-			+ "(albums, artists, and genres) in the correct order to avoid foreign key constraint violations. "
+			+ "(albums, artists, and genres) by truncating the tables, and resets the auto-increment sequences. "
+			+ "With snapshot={name} the tables are reloaded from that snapshot instead of being left empty. "
 			+ "⚠️ WARNING: This operation cannot be undone! You must pass confirm=true as a query parameter "
 			+ "to execute this action.")
 	@ApiResponses(value = {
-			@ApiResponse(responseCode = "200", description = "Database successfully reset - all data deleted and auto-increment sequences reset to 1", 
+			@ApiResponse(responseCode = "200", description = "Database successfully reset - all data deleted and auto-increment sequences reset to 1, "
+					+ "or the named snapshot restored", 
 					content = @Content(mediaType = "application/json", schema = @Schema(implementation = DatabaseResetResponse.class))),
 			@ApiResponse(responseCode = "400", description = "Bad Request - Confirmation parameter missing or invalid. "
 					+ "Pass ?confirm=true to confirm the reset operation.", 
+					content = @Content(mediaType = "application/json")),
+			@ApiResponse(responseCode = "404", description = "No snapshot with the given name", 
 					content = @Content(mediaType = "application/json")) })
 	@DeleteMapping("/reset")
 	@Tag(name = "Database", description = "Database management operations")
 	public ResponseEntity<DatabaseResetResponse> resetDatabase(
 			@Parameter(description = "Confirmation flag - must be set to 'true' to execute the reset", required = true)
-			@RequestParam(value = "confirm", required = false, defaultValue = "false") boolean confirm) {
+			@RequestParam(value = "confirm", required = false, defaultValue = "false") boolean confirm,
+			@Parameter(description = "Name of a snapshot to restore (omit to leave the database empty)")
+			@RequestParam(value = "snapshot", required = false) String snapshot) {
 		if (!confirm) {
-			throw new IllegalArgumentException(
+			throw new BadRequestException(
 					"⚠️ WARNING: This will delete ALL data from the database (artists, albums, genres). "
 							+ "This action CANNOT be undone! " + "To confirm, pass the query parameter: "
 									+ "?confirm=true");
 		}
-		resetSvc.resetDatabase();
+		SnapshotInfo restored = resetSvc.resetDatabase(snapshot);
+		if (restored != null) {
+			return ResponseEntity.ok(new DatabaseResetResponse(
+				"Database reset successfully. All data has been replaced with snapshot '" + restored.getName() + "'.",
+				restored));
+		}
 		DatabaseResetResponse response = new DatabaseResetResponse(
 			"Database reset successfully. All data has been deleted and auto-increment sequences have been reset to 1."
 		);
 		return ResponseEntity.ok(response);
 	}
+
+	@Operation(summary = "Capture a snapshot", description = "Writes the current catalog (artists, genres, albums "
+			+ "and their genre links) to a compact snapshot file on the server, replacing any snapshot of the same "
+			+ "name. Restore it with DELETE /api/reset?confirm=true&snapshot={name}.")
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "201", description = "Snapshot written", 
+					content = @Content(mediaType = "application/json", schema = @Schema(implementation = SnapshotInfo.class))),
+			@ApiResponse(responseCode = "400", description = "Invalid snapshot name (allowed: A-Z, a-z, 0-9, '_' and '-', at most 64)", 
+					content = @Content(mediaType = "application/json")) })
+	@PostMapping("/snapshots/{name}")
+	@ResponseStatus(HttpStatus.CREATED)
+	@Tag(name = "Database", description = "Database management operations")
+	public SnapshotInfo captureSnapshot(
+			@Parameter(description = "Name of the snapshot", required = true) @PathVariable String name) {
+		return snapshotSvc.capture(name);
+	}
+
+	@Operation(summary = "List snapshots", description = "Lists the snapshots available for reset, newest first")
+	@ApiResponse(responseCode = "200", description = "Snapshots retrieved successfully")
+	@GetMapping("/snapshots")
+	@Tag(name = "Database", description = "Database management operations")
+	public List<SnapshotInfo> listSnapshots() {
+		return snapshotSvc.list();
+	}
+
+	// Strong ETag for an entity version: 3 -> "3"
+	private static String etag(Long version) {
+		return "\"" + version + "\"";
+	}
+
+	/**
+	 * Parses the If-Match header of an update into the version it names.
+	 * "*" matches any version (null). Weak or unparseable tags can never
+	 * match a strong ETag, so they fail the precondition.
+	 */
+	private static Long requireIfMatch(String ifMatch) {
+		if (ifMatch == null || ifMatch.isBlank()) {
+			throw new PreconditionRequiredException(
+					"If-Match header is required; send the ETag returned by GET for this resource");
+		}
+		String tag = ifMatch.trim();
+		if (tag.equals("*")) {
+			return null;
+		}
+		if (tag.contains(",")) {
+			throw new BadRequestException("If-Match must contain a single entity tag");
+		}
+		if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+			try {
+				return Long.valueOf(tag.substring(1, tag.length() - 1));
+			} catch (NumberFormatException ignored) {
+				// falls through to 412
+			}
+		}
+		throw new PreconditionFailedException("If-Match " + tag + " does not match the current version");
+	}
+
+	/**
+	 * Validates the id list of a multi-get request.
+	 * 
+	 * @param ids the ids from the query string (may contain nulls for empty segments)
+	 * @return the non-null ids, in request order
+	 * @throws BadRequestException if no ids were given or more than MAX_BATCH_IDS
+	 */
+	private static List<Long> requireBatchIds(List<Long> ids) {
+		List<Long> requested = ids == null ? List.of() : ids.stream().filter(Objects::nonNull).toList();
+		if (requested.isEmpty()) {
+			throw new BadRequestException("At least one id is required");
+		}
+		if (requested.size() > MAX_BATCH_IDS) {
+			throw new BadRequestException(
+					"At most " + MAX_BATCH_IDS + " ids may be requested at once (got " + requested.size() + ")");
+		}
+		return requested;
+	}
 }
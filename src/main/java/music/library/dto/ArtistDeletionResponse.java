@@ -0,0 +1,49 @@
+package music.library.dto;
+
+/**
+ * Data Transfer Object returned by DELETE /api/artists/{id}.
+ *
+ * Reports how many rows the set-based delete removed along with the artist:
+ * the artist's albums and those albums' genre links.
+ */
+public class ArtistDeletionResponse {
+
+    private Long artistId;
+    private int albumsDeleted;
+    private int genreLinksDeleted;
+
+    // Constructors
+    public ArtistDeletionResponse() {
+    }
+
+    public ArtistDeletionResponse(Long artistId, int albumsDeleted, int genreLinksDeleted) {
+        this.artistId = artistId;
+        this.albumsDeleted = albumsDeleted;
+        this.genreLinksDeleted = genreLinksDeleted;
+    }
+
+    // Getters and Setters
+    public Long getArtistId() {
+        return artistId;
+    }
+
+    public void setArtistId(Long artistId) {
+        this.artistId = artistId;
+    }
+
+    public int getAlbumsDeleted() {
+        return albumsDeleted;
+    }
+
+    public void setAlbumsDeleted(int albumsDeleted) {
+        this.albumsDeleted = albumsDeleted;
+    }
+
+    public int getGenreLinksDeleted() {
+        return genreLinksDeleted;
+    }
+
+    public void setGenreLinksDeleted(int genreLinksDeleted) {
+        this.genreLinksDeleted = genreLinksDeleted;
+    }
+}
@@ -0,0 +1,133 @@
+package music.library.dto;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Data Transfer Object for the multi-get endpoints
+ * (GET /api/albums/batch, /api/artists/batch, /api/genres/batch).
+ *
+ * Results are returned in the same order as the requested ids. Ids that do
+ * not exist are reported inline as a result with {@code found = false} and
+ * are also collected in {@code missingIds} for convenience.
+ *
+ * @param <T> the entity type being looked up
+ */
+public class BatchLookupResponse<T> {
+
+    private int requested;
+    private int found;
+    private List<Long> missingIds;
+    private List<Result<T>> results;
+
+    // Constructors
+    public BatchLookupResponse() {
+    }
+
+    public BatchLookupResponse(List<Result<T>> results) {
+        this.results = results;
+        this.requested = results.size();
+        this.missingIds = results.stream().filter(r -> !r.isFound()).map(Result::getId).toList();
+        this.found = requested - missingIds.size();
+    }
+
+    /**
+     * Builds a response by matching loaded entities back to the requested ids.
+     *
+     * @param ids      the requested ids, in request order (duplicates allowed)
+     * @param entities the entities returned by the batch query, in any order
+     * @param idOf     extracts the id from an entity
+     * @return response with one result per requested id
+     */
+    public static <T> BatchLookupResponse<T> of(List<Long> ids, Collection<T> entities, Function<T, Long> idOf) {
+        Map<Long, T> byId = new HashMap<>();
+        for (T entity : entities) {
+            byId.put(idOf.apply(entity), entity);
+        }
+        List<Result<T>> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            results.add(new Result<>(id, byId.get(id)));
+        }
+        return new BatchLookupResponse<>(results);
+    }
+
+    // Getters and Setters
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getFound() {
+        return found;
+    }
+
+    public void setFound(int found) {
+        this.found = found;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
+
+    public List<Result<T>> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Result<T>> results) {
+        this.results = results;
+    }
+
+    /**
+     * One entry per requested id. {@code item} is null when the id was not found.
+     */
+    public static class Result<T> {
+
+        private Long id;
+        private boolean found;
+        private T item;
+
+        public Result() {
+        }
+
+        public Result(Long id, T item) {
+            this.id = id;
+            this.found = item != null;
+            this.item = item;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public boolean isFound() {
+            return found;
+        }
+
+        public void setFound(boolean found) {
+            this.found = found;
+        }
+
+        public T getItem() {
+            return item;
+        }
+
+        public void setItem(T item) {
+            this.item = item;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package music.library.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * A single operation inside a bulk album request (POST /api/albums/bulk).
+ *
+ * - CREATE uses the album fields; {@code id} is ignored
+ * - UPDATE requires {@code id} and {@code version} plus the album fields (same
+ *   rules as PUT /api/albums/{id}); {@code version} is the album version the
+ *   change is based on, i.e. the ETag that PUT sends in If-Match
+ * - DELETE requires only {@code id}
+ *
+ * Field-level rules are the same as for {@link CreateAlbumRequest} and
+ * {@link UpdateAlbumRequest}; they are checked per operation so one invalid
+ * item does not reject the whole request.
+ */
+public class BulkAlbumOperation {
+
+    /**
+     * Kind of mutation to apply.
+     */
+    public enum Op {
+        CREATE, UPDATE, DELETE
+    }
+
+    @NotNull(message = "Operation (CREATE, UPDATE or DELETE) is required")
+    private Op op;
+
+    private Long id;
+    // Expected current version of the album (UPDATE only)
+    private Long version;
+    private String title;
+    private LocalDate releaseDate;
+    private Long artistId;
+    private List<Long> genreIds;
+    private String coverImageUrl;
+    private Integer trackCount;
+    private String catalogNumber;
+
+    // Constructors
+    public BulkAlbumOperation() {
+    }
+
+    public BulkAlbumOperation(Op op, Long id, String title, Long artistId, List<Long> genreIds) {
+        this.op = op;
+        this.id = id;
+        this.title = title;
+        this.artistId = artistId;
+        this.genreIds = genreIds;
+    }
+
+    /**
+     * @return the album fields as a create request, for validation
+     */
+    public CreateAlbumRequest toCreateRequest() {
+        CreateAlbumRequest request = new CreateAlbumRequest(title, releaseDate, artistId, genreIds);
+        request.setCoverImageUrl(coverImageUrl);
+        request.setTrackCount(trackCount);
+        request.setCatalogNumber(catalogNumber);
+        return request;
+    }
+
+    /**
+     * @return the album fields as an update request, for validation
+     */
+    public UpdateAlbumRequest toUpdateRequest() {
+        UpdateAlbumRequest request = new UpdateAlbumRequest();
+        request.setTitle(title);
+        request.setReleaseDate(releaseDate);
+        request.setArtistId(artistId);
+        request.setGenreIds(genreIds);
+        request.setCoverImageUrl(coverImageUrl);
+        request.setTrackCount(trackCount);
+        request.setCatalogNumber(catalogNumber);
+        return request;
+    }
+
+    // Getters and Setters
+    public Op getOp() {
+        return op;
+    }
+
+    public void setOp(Op op) {
+        this.op = op;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public LocalDate getReleaseDate() {
+        return releaseDate;
+    }
+
+    public void setReleaseDate(LocalDate releaseDate) {
+        this.releaseDate = releaseDate;
+    }
+
+    public Long getArtistId() {
+        return artistId;
+    }
+
+    public void setArtistId(Long artistId) {
+        this.artistId = artistId;
+    }
+
+    public List<Long> getGenreIds() {
+        return genreIds;
+    }
+
+    public void setGenreIds(List<Long> genreIds) {
+        this.genreIds = genreIds;
+    }
+
+    public String getCoverImageUrl() {
+        return coverImageUrl;
+    }
+
+    public void setCoverImageUrl(String coverImageUrl) {
+        this.coverImageUrl = coverImageUrl;
+    }
+
+    public Integer getTrackCount() {
+        return trackCount;
+    }
+
+    public void setTrackCount(Integer trackCount) {
+        this.trackCount = trackCount;
+    }
+
+    public String getCatalogNumber() {
+        return catalogNumber;
+    }
+
+    public void setCatalogNumber(String catalogNumber) {
+        this.catalogNumber = catalogNumber;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkAlbumOperation{" +
+                "op=" + op +
+                ", id=" + id +
+                ", version=" + version +
+                ", title='" + title + '\'' +
+                ", artistId=" + artistId +
+                ", genreIds=" + genreIds +
+                '}';
+    }
+}
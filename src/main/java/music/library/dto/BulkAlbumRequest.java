@@ -0,0 +1,43 @@
+package music.library.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Data Transfer Object for POST /api/albums/bulk.
+ * Carries an ordered list of create/update/delete operations that are
+ * applied in chunked, JDBC-batched transactions.
+ *
+ * @see BulkAlbumOperation
+ * @see BulkAlbumResponse
+ */
+public class BulkAlbumRequest {
+
+    // Upper bound per HTTP call; larger syncs should be split client-side
+    public static final int MAX_OPERATIONS = 10_000;
+
+    @NotEmpty(message = "At least one operation is required")
+    @Size(max = MAX_OPERATIONS, message = "At most 10000 operations per request")
+    private List<@NotNull(message = "Operations must not be null") @Valid BulkAlbumOperation> operations;
+
+    // Constructors
+    public BulkAlbumRequest() {
+    }
+
+    public BulkAlbumRequest(List<BulkAlbumOperation> operations) {
+        this.operations = operations;
+    }
+
+    // Getters and Setters
+    public List<BulkAlbumOperation> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<BulkAlbumOperation> operations) {
+        this.operations = operations;
+    }
+}
@@ -0,0 +1,130 @@
+package music.library.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object returned by POST /api/albums/bulk.
+ *
+ * Contains one {@link ItemResult} per submitted operation, in submission
+ * order. Each result carries the HTTP status the equivalent single-album
+ * call would have returned (201, 200, 204, 400, 404, 409, 412, 428, 500).
+ */
+public class BulkAlbumResponse {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<ItemResult> results;
+
+    // Constructors
+    public BulkAlbumResponse() {
+    }
+
+    public BulkAlbumResponse(List<ItemResult> results) {
+        this.results = results;
+        this.total = results.size();
+        this.succeeded = (int) results.stream().filter(ItemResult::isSuccess).count();
+        this.failed = total - succeeded;
+    }
+
+    // Getters and Setters
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<ItemResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<ItemResult> results) {
+        this.results = results;
+    }
+
+    /**
+     * Outcome of one operation.
+     */
+    public static class ItemResult {
+
+        private int index;
+        private BulkAlbumOperation.Op op;
+        private Long id;
+        private int status;
+        private String message;
+
+        public ItemResult() {
+        }
+
+        public ItemResult(int index, BulkAlbumOperation.Op op, Long id, int status, String message) {
+            this.index = index;
+            this.op = op;
+            this.id = id;
+            this.status = status;
+            this.message = message;
+        }
+
+        // 2xx means the operation was applied
+        public boolean isSuccess() {
+            return status >= 200 && status < 300;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public BulkAlbumOperation.Op getOp() {
+            return op;
+        }
+
+        public void setOp(BulkAlbumOperation.Op op) {
+            this.op = op;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public void setId(Long id) {
+            this.id = id;
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public void setStatus(int status) {
+            this.status = status;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+    }
+}
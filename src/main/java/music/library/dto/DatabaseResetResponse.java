@@ -1,5 +1,7 @@
 package music.library.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 /**
  * Data Transfer Object (DTO) for the database reset operation response.
  * 
@@ -19,6 +21,13 @@ public class DatabaseResetResponse {
      */
     private String message;
 
+    /**
+     * The snapshot the database was restored from, or null when the reset
+     * emptied the database. Omitted from the JSON when null.
+     */
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private SnapshotInfo snapshot;
+
     /**
      * Default constructor for JSON deserialization.
      * Required by Jackson for proper DTO mapping.
@@ -26,6 +35,17 @@ public class DatabaseResetResponse {
     public DatabaseResetResponse() {
     }
 
+    /**
+     * Constructor to create a DatabaseResetResponse for a snapshot restore.
+     * 
+     * @param message the response message describing the result of the reset operation
+     * @param snapshot the snapshot that was restored
+     */
+    public DatabaseResetResponse(String message, SnapshotInfo snapshot) {
+        this.message = message;
+        this.snapshot = snapshot;
+    }
+
     /**
      * Constructor to create a DatabaseResetResponse with a specific message.
      * 
@@ -52,4 +72,22 @@ public class DatabaseResetResponse {
     public void setMessage(String message) {
         this.message = message;
     }
-}
\ No newline at end of file
+
+    /**
+     * Gets the snapshot the database was restored from.
+     * 
+     * @return the restored snapshot, or null if the database was emptied
+     */
+    public SnapshotInfo getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Sets the snapshot the database was restored from.
+     * 
+     * @param snapshot the snapshot to set
+     */
+    public void setSnapshot(SnapshotInfo snapshot) {
+        this.snapshot = snapshot;
+    }
+}
@@ -0,0 +1,107 @@
+package music.library.dto;
+
+import java.util.List;
+
+import jakarta.validation.constraints.Size;
+
+/**
+ * Data Transfer Object for POST /api/genres/{genreId}/albums/tag and /untag.
+ *
+ * Selects the albums either by id ({@code albumIds}) or with the same
+ * criteria as album search ({@code filter}); exactly one of the two must be
+ * given. A filter is resolved on the server, so it can match any number of
+ * albums without the client listing them.
+ *
+ * @see GenreTaggingResponse
+ */
+public class GenreTaggingRequest {
+
+    // Upper bound for an explicit id list; use a filter for larger selections
+    public static final int MAX_ALBUM_IDS = 10_000;
+
+    @Size(max = MAX_ALBUM_IDS, message = "At most 10000 album ids per request")
+    private List<Long> albumIds;
+
+    private Filter filter;
+
+    // Constructors
+    public GenreTaggingRequest() {
+    }
+
+    public GenreTaggingRequest(List<Long> albumIds, Filter filter) {
+        this.albumIds = albumIds;
+        this.filter = filter;
+    }
+
+    // Getters and Setters
+    public List<Long> getAlbumIds() {
+        return albumIds;
+    }
+
+    public void setAlbumIds(List<Long> albumIds) {
+        this.albumIds = albumIds;
+    }
+
+    public Filter getFilter() {
+        return filter;
+    }
+
+    public void setFilter(Filter filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Album search criteria (see AlbumService.search), combined with AND.
+     * Each is optional, but at least one must be set: a filter without
+     * criteria is rejected with 400 rather than selecting every album.
+     */
+    public static class Filter {
+
+        private String title;
+        private Integer startYear;
+        private Integer endYear;
+        private Long genreId;
+
+        public Filter() {
+        }
+
+        public Filter(String title, Integer startYear, Integer endYear, Long genreId) {
+            this.title = title;
+            this.startYear = startYear;
+            this.endYear = endYear;
+            this.genreId = genreId;
+        }
+
+        public String getTitle() {
+            return title;
+        }
+
+        public void setTitle(String title) {
+            this.title = title;
+        }
+
+        public Integer getStartYear() {
+            return startYear;
+        }
+
+        public void setStartYear(Integer startYear) {
+            this.startYear = startYear;
+        }
+
+        public Integer getEndYear() {
+            return endYear;
+        }
+
+        public void setEndYear(Integer endYear) {
+            this.endYear = endYear;
+        }
+
+        public Long getGenreId() {
+            return genreId;
+        }
+
+        public void setGenreId(Long genreId) {
+            this.genreId = genreId;
+        }
+    }
+}
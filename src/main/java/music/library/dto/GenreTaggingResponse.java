@@ -0,0 +1,63 @@
+package music.library.dto;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object returned by the bulk genre tag/untag endpoints.
+ *
+ * {@code matched} counts the albums selected by the request, {@code changed}
+ * the ones that actually gained (or lost) the genre; the rest already had
+ * (or lacked) it. For id-list requests, ids with no album are listed in
+ * {@code missingIds}.
+ */
+public class GenreTaggingResponse {
+
+    private Long genreId;
+    private int matched;
+    private int changed;
+    private List<Long> missingIds;
+
+    // Constructors
+    public GenreTaggingResponse() {
+    }
+
+    public GenreTaggingResponse(Long genreId, int matched, int changed, List<Long> missingIds) {
+        this.genreId = genreId;
+        this.matched = matched;
+        this.changed = changed;
+        this.missingIds = missingIds;
+    }
+
+    // Getters and Setters
+    public Long getGenreId() {
+        return genreId;
+    }
+
+    public void setGenreId(Long genreId) {
+        this.genreId = genreId;
+    }
+
+    public int getMatched() {
+        return matched;
+    }
+
+    public void setMatched(int matched) {
+        this.matched = matched;
+    }
+
+    public int getChanged() {
+        return changed;
+    }
+
+    public void setChanged(int changed) {
+        this.changed = changed;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
@@ -0,0 +1,73 @@
+package music.library.dto;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Data Transfer Object describing a catalog snapshot.
+ *
+ * Returned by POST /api/snapshots/{name} (capture), GET /api/snapshots (list)
+ * and DELETE /api/reset?snapshot={name} (restore). Row counts per table and
+ * the elapsed time are only filled in by capture and restore.
+ */
+public class SnapshotInfo {
+
+    private String name;
+    private long bytes;
+    private Instant createdAt;
+    private Map<String, Integer> rows;
+    private long millis;
+
+    // Constructors
+    public SnapshotInfo() {
+    }
+
+    public SnapshotInfo(String name, long bytes, Instant createdAt, Map<String, Integer> rows, long millis) {
+        this.name = name;
+        this.bytes = bytes;
+        this.createdAt = createdAt;
+        this.rows = rows;
+        this.millis = millis;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public void setBytes(long bytes) {
+        this.bytes = bytes;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Map<String, Integer> getRows() {
+        return rows;
+    }
+
+    public void setRows(Map<String, Integer> rows) {
+        this.rows = rows;
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+
+    public void setMillis(long millis) {
+        this.millis = millis;
+    }
+}
@@ -7,6 +7,10 @@ import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -16,6 +20,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -23,20 +28,28 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
-import jakarta.persistence.Transient;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import music.library.config.CoverUrlSerializer;
 
 @Entity
-@Table(name = "album")
+// Indexes as created by db/migration/V5 (the DDL of the tests and the h2 profile)
+@Table(name = "album", indexes = {
+		@Index(name = "idx_album_artist", columnList = "artist_id"),
+		@Index(name = "idx_album_release_year", columnList = "release_year"),
+		@Index(name = "idx_album_title", columnList = "title"),
+		@Index(name = "idx_album_release_date", columnList = "release_date"),
+		@Index(name = "idx_album_created_at", columnList = "created_at") })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -76,7 +89,14 @@ public class Album {
 	@Schema(description = "Album release date", example = "1969-09-26")
 	private LocalDate releaseDate; // stores full date; optional
 
-	@Transient // not persisted, calculated on the fly
+	// Generated by the database from release_date (db/vendor/*/V4), read-only here.
+	// Only queries use it (AlbumSpecs.releasedBetween); the getter derives the year
+	// from releaseDate, so it is right before the row has been written and re-read.
+	@Column(name = "release_year", insertable = false, updatable = false,
+			columnDefinition = "INT GENERATED ALWAYS AS (YEAR(release_date))")
+	@Setter(AccessLevel.NONE)
+	private Integer releaseYear;
+
 	@Schema(description = "Release year derived from release date", example = "1969")
 	public Integer getReleaseYear() {
 		return (releaseDate != null) ? releaseDate.getYear() : null;
@@ -88,6 +108,7 @@ public class Album {
 	// more real.
 	@Size(max = 255, message = "Cover image URL too long")
 	@Schema(description = "URL to album cover image", example = "https://example.com/covers/abbey-road.jpg")
+	@JsonSerialize(using = CoverUrlSerializer.class) // "/covers/x.jpg" -> content-hashed immutable URL
 	private String coverImageUrl;
 
 	// NEW FIELD: track count. Useful for UI sorting and shows you can extend the
@@ -111,6 +132,13 @@ public class Album {
 	@Schema(description = "Update timestamp", example = "2024-12-09T10:30:00")
 	private LocalDateTime updatedAt;
 
+	// Optimistic-lock counter, bumped by Hibernate on every update and sent as the ETag
+	@Version
+	@Column(nullable = false)
+	@ColumnDefault("0")
+	@Schema(description = "Version for optimistic locking (the ETag value)", example = "0", accessMode = Schema.AccessMode.READ_ONLY)
+	private Long version;
+
 	/* Many-to-one with Artist */
 	@ManyToOne(fetch = FetchType.LAZY)
 	@JoinColumn(name = "artist_id", nullable = false)
@@ -119,11 +147,15 @@ public class Album {
 	@JsonIgnoreProperties({"albums"}) // Prevents circular reference
 	private Artist artist;
 
-	/* Owner side of the many-to-many with Genre via join table */
+	/* Owner side of the many-to-many with Genre via join table.
+	 * @BatchSize: when a page of albums is serialized, the genre sets are
+	 * initialized for up to 100 albums per query instead of one query per album. */
 	@ManyToMany(fetch = FetchType.LAZY)
+	@BatchSize(size = 100)
 	@JoinTable(name = "album_genre", 
 	    joinColumns = @JoinColumn(name = "album_id"), 
-	    inverseJoinColumns = @JoinColumn(name = "genre_id"))
+	    inverseJoinColumns = @JoinColumn(name = "genre_id"),
+	    indexes = @Index(name = "idx_album_genre_genre", columnList = "genre_id, album_id"))
 	@Builder.Default
 	@Schema(description = "Genres associated with this album")
 	@JsonIgnoreProperties({"albums"}) // Prevents circular reference
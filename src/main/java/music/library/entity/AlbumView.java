@@ -0,0 +1,155 @@
+package music.library.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+
+import org.hibernate.annotations.Immutable;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import music.library.config.CoverUrlSerializer;
+
+/**
+ * Read model behind the album list and search endpoints: one row per album
+ * with the artist name and the genres copied in, so a page is read from one
+ * table without joins and serialized without touching lazy associations.
+ *
+ * Rows are written only by {@link music.library.service.AlbumViewService},
+ * in the same transaction as the album, artist or genre change they reflect.
+ * The JSON has the same shape as {@link Album}, except that the artist and
+ * genres carry only their id and name.
+ */
+@Entity
+@Immutable
+// Indexes as created by db/migration/V7 (the DDL of the tests and the h2 profile)
+@Table(name = "album_view", indexes = {
+		@Index(name = "idx_album_view_title", columnList = "title"),
+		@Index(name = "idx_album_view_release_date", columnList = "release_date"),
+		@Index(name = "idx_album_view_release_year", columnList = "release_year"),
+		@Index(name = "idx_album_view_created_at", columnList = "created_at"),
+		@Index(name = "idx_album_view_artist", columnList = "artist_id"),
+		@Index(name = "idx_album_view_artist_name", columnList = "artist_name") })
+@Getter
+@NoArgsConstructor
+@Schema(description = "Album as listed and searched: artist and genres reduced to id and name")
+public class AlbumView {
+
+	@Id
+	@Column(name = "album_id")
+	@Schema(description = "Unique identifier", example = "1")
+	private Long albumId;
+
+	public Long getId() {
+		return albumId;
+	}
+
+	@Column(nullable = false, length = 255)
+	@Schema(description = "Album title", example = "Abbey Road")
+	private String title;
+
+	@Schema(description = "Album release date", example = "1969-09-26")
+	private LocalDate releaseDate;
+
+	@Schema(description = "Release year derived from release date", example = "1969")
+	private Integer releaseYear;
+
+	@Schema(description = "URL to album cover image", example = "https://example.com/covers/abbey-road.jpg")
+	@JsonSerialize(using = CoverUrlSerializer.class)
+	private String coverImageUrl;
+
+	@Schema(description = "Number of tracks on the album", example = "17")
+	private Integer trackCount;
+
+	@Column(name = "catalog_number", length = 50)
+	@Schema(description = "Catalog number for the album", example = "PCS 7088")
+	private String catalogNumber;
+
+	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+	@Schema(description = "Creation timestamp", example = "2024-12-09T10:30:00")
+	private LocalDateTime createdAt;
+
+	@JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd'T'HH:mm:ss")
+	@Schema(description = "Update timestamp", example = "2024-12-09T10:30:00")
+	private LocalDateTime updatedAt;
+
+	// The album's version when the row was written, i.e. its current ETag
+	@Column(nullable = false)
+	@Schema(description = "Version for optimistic locking (the ETag value)", example = "0")
+	private Long version;
+
+	@Column(name = "artist_id", nullable = false)
+	@JsonIgnore
+	private Long artistId;
+
+	@Column(name = "artist_name", nullable = false, length = 255)
+	@JsonIgnore
+	private String artistName;
+
+	// [{"genreId":1,"name":"Rock"}, ...], ordered by name
+	@Column(columnDefinition = "TEXT")
+	@Convert(converter = GenreRefsConverter.class)
+	@Schema(description = "Genres associated with this album")
+	private List<GenreRef> genres;
+
+	@JsonProperty("artist")
+	@Schema(description = "Artist who created this album")
+	public ArtistRef getArtist() {
+		return new ArtistRef(artistId, artistName);
+	}
+
+	public record ArtistRef(Long artistId, String name) {
+	}
+
+	public record GenreRef(Long genreId, String name) {
+	}
+
+	/**
+	 * Stores the genres as a JSON array in a TEXT column, which reads and
+	 * writes the same on MySQL and H2 (unlike their JSON types).
+	 */
+	public static class GenreRefsConverter implements AttributeConverter<List<GenreRef>, String> {
+
+		private static final ObjectMapper JSON = new ObjectMapper();
+		private static final TypeReference<List<GenreRef>> TYPE = new TypeReference<>() {
+		};
+
+		@Override
+		public String convertToDatabaseColumn(List<GenreRef> genres) {
+			try {
+				return JSON.writeValueAsString(genres == null ? List.of() : genres);
+			} catch (JsonProcessingException e) {
+				throw new IllegalArgumentException("Could not write genres " + genres, e);
+			}
+		}
+
+		@Override
+		public List<GenreRef> convertToEntityAttribute(String column) {
+			if (column == null || column.isEmpty()) {
+				return List.of();
+			}
+			try {
+				return JSON.readValue(column, TYPE);
+			} catch (JsonProcessingException e) {
+				throw new IllegalArgumentException("Could not read genres " + column, e);
+			}
+		}
+	}
+}
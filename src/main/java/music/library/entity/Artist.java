@@ -5,6 +5,8 @@ import java.time.LocalDateTime;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
@@ -17,10 +19,12 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
@@ -32,7 +36,7 @@ import lombok.Setter;
 
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Entity
-@Table(name = "artist")
+@Table(name = "artist", indexes = @Index(name = "idx_artist_name", columnList = "name"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 @Schema(description = "Music artist entity")
 
@@ -66,6 +70,13 @@ public class Artist {
     @Schema(description = "Update timestamp", example = "2024-12-09T10:30:00") 
     private LocalDateTime updatedAt;
 
+    // Optimistic-lock counter, bumped by Hibernate on every update and sent as the ETag
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Schema(description = "Version for optimistic locking (the ETag value)", example = "0", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long version;
+
     /* One-to-many with Album */
     @JsonIgnore /*This hides the collection from the JSON representation, 
     * breaking the cycle for serialization and for OpenAPI generation.*/
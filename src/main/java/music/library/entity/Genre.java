@@ -8,6 +8,8 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -15,10 +17,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -28,7 +32,7 @@ import lombok.Setter;
 
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 @Entity
-@Table(name = "genre")
+@Table(name = "genre", indexes = @Index(name = "idx_genre_name", columnList = "name"))
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 @EqualsAndHashCode(onlyExplicitlyIncluded = true) //Avoids accidental recursion; prevents StackOverflowErrors
 // if you ever put Genre in a Set that relies on equals().
@@ -63,6 +67,13 @@ public class Genre {
 	@Schema(description = "Last update timestamp", example = "2024-12-09T10:30:00")
     private LocalDateTime updatedAt;
 
+    // Optimistic-lock counter, bumped by Hibernate on every update and sent as the ETag
+    @Version
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Schema(description = "Version for optimistic locking (the ETag value)", example = "0", accessMode = Schema.AccessMode.READ_ONLY)
+    private Long version;
+
     //Inverse side of the many-to-many.
     @JsonIgnore /*This hides the collection from the JSON representation, 
     * breaking the cycle for serialization and for OpenAPI generation.*/
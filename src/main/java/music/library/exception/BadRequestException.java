@@ -0,0 +1,16 @@
+package music.library.exception;
+
+/**
+ * Exception thrown when a request is well-formed but its arguments are not
+ * acceptable, e.g. too many ids in a batch request or an unknown field name.
+ * The message is written for the client.
+ * 
+ * This exception should be caught by the GlobalExceptionHandler and returned
+ * as an HTTP 400 Bad Request response. Other IllegalArgumentExceptions are
+ * programming errors and stay 500s.
+ */
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
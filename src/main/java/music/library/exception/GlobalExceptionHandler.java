@@ -9,6 +9,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -25,7 +26,7 @@ import jakarta.validation.ConstraintViolationException;
  based on exception type specificity, not on declaration order.
  But placing the most specific handlers before the catch-all Exception handler makes the file 
  easier to read and mirrors the logical flow: 
- Specific → Validation → Type-mismatch → JSON parsing → Not-found → Duplicate → Fallback.
+ Specific → Validation → Type-mismatch → JSON parsing → Not-found → Duplicate → Precondition → Fallback.
 */
 
 @RestControllerAdvice
@@ -105,6 +106,41 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(error, HttpStatus.CONFLICT);
 	}
 
+	/*
+	 * ---------------------------------------------------------
+	 * 412 – If-Match names a stale version, or a concurrent update
+	 *       won the race between our read and our write
+	 * ---------------------------------------------------------
+	 */
+	@ExceptionHandler({ PreconditionFailedException.class, ObjectOptimisticLockingFailureException.class })
+	public ResponseEntity<ApiError> handlePreconditionFailed(RuntimeException ex, HttpServletRequest request) {
+
+		String msg = ex instanceof PreconditionFailedException ? ex.getMessage()
+				: "The resource was modified by another request; fetch it again and retry with the new ETag";
+
+		ApiError error = ApiError.builder().timestamp(Instant.now()).status(HttpStatus.PRECONDITION_FAILED.value())
+				.error(HttpStatus.PRECONDITION_FAILED.getReasonPhrase()).message(msg).path(request.getRequestURI())
+				.validationErrors(null).build();
+
+		return new ResponseEntity<>(error, HttpStatus.PRECONDITION_FAILED);
+	}
+
+	/*
+	 * ---------------------------------------------------------
+	 * 428 – Update sent without If-Match
+	 * ---------------------------------------------------------
+	 */
+	@ExceptionHandler(PreconditionRequiredException.class)
+	public ResponseEntity<ApiError> handlePreconditionRequired(PreconditionRequiredException ex,
+			HttpServletRequest request) {
+
+		ApiError error = ApiError.builder().timestamp(Instant.now()).status(HttpStatus.PRECONDITION_REQUIRED.value())
+				.error(HttpStatus.PRECONDITION_REQUIRED.getReasonPhrase()).message(ex.getMessage())
+				.path(request.getRequestURI()).validationErrors(null).build();
+
+		return new ResponseEntity<>(error, HttpStatus.PRECONDITION_REQUIRED);
+	}
+
 	/*
 	 * --------------------------------------------------------- 
 	 * 400 – Wrong type for a request parameter or path variable
@@ -139,6 +175,22 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
 	}
 
+	/*
+	 * --------------------------------------------------------- 
+	 * 400 – Invalid argument (e.g. too many ids in a batch request,
+	 *       missing ?confirm=true on reset)
+	 * ---------------------------------------------------------
+	 */
+	@ExceptionHandler(BadRequestException.class)
+	public ResponseEntity<ApiError> handleBadRequest(BadRequestException ex, HttpServletRequest request) {
+
+		ApiError error = ApiError.builder().timestamp(Instant.now()).status(HttpStatus.BAD_REQUEST.value())
+				.error(HttpStatus.BAD_REQUEST.getReasonPhrase()).message(ex.getMessage())
+				.path(request.getRequestURI()).validationErrors(null).build();
+
+		return new ResponseEntity<>(error, HttpStatus.BAD_REQUEST);
+	}
+
 	/*
 	 * --------------------------------------------------------- 
 	 * 500 – Any other unexpected exception (fallback)
@@ -0,0 +1,16 @@
+package music.library.exception;
+
+/**
+ * Exception thrown when a conditional write does not match the current state
+ * of the resource, i.e. the If-Match entity tag names a version that is no
+ * longer current because someone else updated the resource first.
+ * 
+ * This exception should be caught by the GlobalExceptionHandler and returned
+ * as an HTTP 412 Precondition Failed response. The client is expected to
+ * re-read the resource (and its new ETag) before retrying.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
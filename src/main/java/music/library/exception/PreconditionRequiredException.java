@@ -0,0 +1,15 @@
+package music.library.exception;
+
+/**
+ * Exception thrown when an update arrives without an If-Match header.
+ * Updates must name the version they were based on so that concurrent
+ * editors cannot silently overwrite each other.
+ * 
+ * This exception should be caught by the GlobalExceptionHandler and returned
+ * as an HTTP 428 Precondition Required response.
+ */
+public class PreconditionRequiredException extends RuntimeException {
+    public PreconditionRequiredException(String message) {
+        super(message);
+    }
+}
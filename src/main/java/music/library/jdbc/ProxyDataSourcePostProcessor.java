@@ -0,0 +1,61 @@
+package music.library.jdbc;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+
+/**
+ * Wraps the application DataSource in a datasource-proxy that reports every
+ * statement to the {@link QueryExecutionListener} beans and every JDBC
+ * method call to the {@link MethodExecutionListener} beans. This sits below
+ * both Hibernate and JdbcTemplate, so all SQL is seen.
+ *
+ * The proxy implements {@link java.sql.Wrapper}, so the pool metrics and
+ * health checks still find the HikariDataSource behind it. Installed when
+ * either {@code sql-stats.enabled} or {@code slow-queries.enabled} is on;
+ * with both off the DataSource is left as it is.
+ */
+@Component
+public class ProxyDataSourcePostProcessor implements BeanPostProcessor {
+
+    private static final Logger log = LoggerFactory.getLogger(ProxyDataSourcePostProcessor.class);
+
+    private final ObjectProvider<SqlStatsProperties> sqlStats;
+    private final ObjectProvider<SlowQueryProperties> slowQueries;
+    private final ObjectProvider<QueryExecutionListener> queryListeners;
+    private final ObjectProvider<MethodExecutionListener> methodListeners;
+
+    public ProxyDataSourcePostProcessor(ObjectProvider<SqlStatsProperties> sqlStats,
+            ObjectProvider<SlowQueryProperties> slowQueries,
+            ObjectProvider<QueryExecutionListener> queryListeners,
+            ObjectProvider<MethodExecutionListener> methodListeners) {
+        this.sqlStats = sqlStats;
+        this.slowQueries = slowQueries;
+        this.queryListeners = queryListeners;
+        this.methodListeners = methodListeners;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+            return bean;
+        }
+        if (!sqlStats.getObject().isEnabled() && !slowQueries.getObject().isEnabled()) {
+            log.info("sql-stats and slow-queries are both disabled; DataSource '{}' is not proxied", beanName);
+            return bean;
+        }
+        ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource).name(beanName).proxyResultSet();
+        queryListeners.orderedStream().forEach(builder::listener);
+        methodListeners.orderedStream().forEach(builder::methodListener);
+        return builder.build();
+    }
+}
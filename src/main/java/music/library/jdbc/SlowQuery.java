@@ -0,0 +1,103 @@
+package music.library.jdbc;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * One statement recorded by the {@link SlowQueryLog}.
+ *
+ * Rows are counted while the caller reads the result, so a SELECT's count
+ * grows until its ResultSet is closed. The EXPLAIN plan is empty until
+ * requested (POST /actuator/slowqueries/{id}).
+ */
+public final class SlowQuery {
+
+    private final long id;
+    private final Instant at;
+    private final long elapsedMillis;
+    private final String shape;
+    private final String sql;
+    private final List<String> parameters;
+    private final String caller;
+    private final String thread;
+    private final boolean batch;
+    private final AtomicLong rows = new AtomicLong();
+    // Bind values as executed, to re-bind for EXPLAIN; never serialized
+    private final List<Object> values;
+    private volatile List<Map<String, Object>> plan;
+
+    SlowQuery(long id, long elapsedMillis, String sql, List<String> parameters, List<Object> values,
+            String caller, boolean batch) {
+        this.id = id;
+        this.at = Instant.now();
+        this.elapsedMillis = elapsedMillis;
+        this.shape = SqlStats.shape(sql);
+        this.sql = sql;
+        this.parameters = parameters;
+        this.values = values;
+        this.caller = caller;
+        this.thread = Thread.currentThread().getName();
+        this.batch = batch;
+    }
+
+    void rows(long count) {
+        rows.addAndGet(count);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public Instant getAt() {
+        return at;
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    public String getShape() {
+        return shape;
+    }
+
+    public String getSql() {
+        return sql;
+    }
+
+    public List<String> getParameters() {
+        return parameters;
+    }
+
+    public String getCaller() {
+        return caller;
+    }
+
+    public String getThread() {
+        return thread;
+    }
+
+    public boolean isBatch() {
+        return batch;
+    }
+
+    public long getRows() {
+        return rows.get();
+    }
+
+    @JsonIgnore
+    public List<Object> getValues() {
+        return values;
+    }
+
+    public List<Map<String, Object>> getPlan() {
+        return plan;
+    }
+
+    public void setPlan(List<Map<String, Object>> plan) {
+        this.plan = plan;
+    }
+}
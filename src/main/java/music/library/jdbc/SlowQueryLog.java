@@ -0,0 +1,201 @@
+package music.library.jdbc;
+
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+
+/**
+ * Records every statement that takes longer than {@code slow-queries.threshold}
+ * to execute, on any thread, and keeps the slowest {@code slow-queries.capacity}
+ * of them. Each entry has the SQL and its normalized shape (see
+ * {@link SqlStats#shape}), a summary of the bind parameters, the rows read or
+ * written, and the application method that issued it.
+ *
+ * Slow statements are also logged at WARN, so they show up without
+ * show-sql. Served by {@code /actuator/slowqueries}, which can also run
+ * EXPLAIN for an entry. Switched off with {@code slow-queries.enabled=false};
+ * it does not depend on {@code sql-stats.enabled}.
+ */
+@Component
+public class SlowQueryLog implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryLog.class);
+
+    private static final int MAX_VALUE_LENGTH = 40;
+    private static final StackWalker STACK = StackWalker.getInstance();
+
+    // Fastest entry first, so it is the one dropped when a slower statement arrives
+    private final PriorityQueue<SlowQuery> slowest = new PriorityQueue<>(
+            Comparator.comparingLong(SlowQuery::getElapsedMillis).thenComparingLong(SlowQuery::getId));
+    private final AtomicLong ids = new AtomicLong();
+    // Result sets of recorded SELECTs still being read on this thread (driver objects, not proxies)
+    private final ThreadLocal<Map<ResultSet, SlowQuery>> reading = new ThreadLocal<>();
+    private final SlowQueryProperties props;
+
+    public SlowQueryLog(SlowQueryProperties props) {
+        this.props = props;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (!props.isEnabled() || execInfo.getElapsedTime() < props.getThreshold().toMillis()
+                || queryInfoList.isEmpty()) {
+            return;
+        }
+        QueryInfo query = queryInfoList.get(0);
+        List<Object> values = values(query);
+        SlowQuery entry = new SlowQuery(ids.incrementAndGet(), execInfo.getElapsedTime(), query.getQuery(),
+                summary(execInfo, values), values, caller(), execInfo.isBatch());
+        add(entry);
+
+        if (execInfo.getResult() instanceof ResultSet resultSet) {
+            ResultSet target = resultSet instanceof ProxyJdbcObject proxy ? (ResultSet) proxy.getTarget() : resultSet;
+            Map<ResultSet, SlowQuery> open = reading.get();
+            if (open == null || open.size() > 16) { // a caller that never closes its result sets
+                open = new IdentityHashMap<>();
+                reading.set(open);
+            }
+            open.put(target, entry);
+        } else {
+            entry.rows(SqlStatsListener.updateCount(execInfo.getResult()));
+        }
+        log.warn("Slow SQL ({} ms) from {}: {} {}", entry.getElapsedMillis(), entry.getCaller(), entry.getShape(),
+                entry.getParameters());
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext context) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext context) {
+        Map<ResultSet, SlowQuery> open = reading.get();
+        if (open == null || !(context.getTarget() instanceof ResultSet resultSet)) {
+            return;
+        }
+        String method = context.getMethod().getName();
+        if ("next".equals(method) && Boolean.TRUE.equals(context.getResult())) {
+            SlowQuery entry = open.get(resultSet);
+            if (entry != null) {
+                entry.rows(1);
+            }
+        } else if ("close".equals(method)) {
+            open.remove(resultSet);
+            if (open.isEmpty()) {
+                reading.remove();
+            }
+        }
+    }
+
+    /**
+     * @return the recorded statements, slowest first
+     */
+    public List<SlowQuery> slowest() {
+        List<SlowQuery> entries;
+        synchronized (slowest) {
+            entries = new ArrayList<>(slowest);
+        }
+        entries.sort(slowest.comparator().reversed());
+        return entries;
+    }
+
+    public Optional<SlowQuery> find(long id) {
+        synchronized (slowest) {
+            return slowest.stream().filter(entry -> entry.getId() == id).findFirst();
+        }
+    }
+
+    public void clear() {
+        synchronized (slowest) {
+            slowest.clear();
+        }
+    }
+
+    private void add(SlowQuery entry) {
+        synchronized (slowest) {
+            slowest.add(entry);
+            while (slowest.size() > props.getCapacity()) {
+                slowest.poll();
+            }
+        }
+    }
+
+    // Bind values of the first (or only) parameter set, in index order
+    private static List<Object> values(QueryInfo query) {
+        List<Object> values = new ArrayList<>();
+        if (query.getParametersList().isEmpty()) {
+            return values;
+        }
+        List<ParameterSetOperation> operations = new ArrayList<>(query.getParametersList().get(0));
+        operations.removeIf(op -> !(op.getArgs()[0] instanceof Integer));
+        operations.sort(Comparator.comparingInt(op -> (Integer) op.getArgs()[0]));
+        for (ParameterSetOperation op : operations) {
+            values.add(ParameterSetOperation.isSetNullParameterOperation(op) || op.getArgs().length < 2
+                    ? null
+                    : op.getArgs()[1]);
+        }
+        return values;
+    }
+
+    private List<String> summary(ExecutionInfo execInfo, List<Object> values) {
+        List<String> summary = new ArrayList<>();
+        for (Object value : values) {
+            summary.add(describe(value));
+        }
+        if (execInfo.isBatch()) {
+            summary.add("(first of a batch of " + execInfo.getBatchSize() + ")");
+        }
+        return summary;
+    }
+
+    private String describe(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        String type = value.getClass().getSimpleName();
+        if (!props.isShowValues()) {
+            return type;
+        }
+        String text = value.toString();
+        if (text.length() > MAX_VALUE_LENGTH) {
+            text = text.substring(0, MAX_VALUE_LENGTH) + "... (" + text.length() + " chars)";
+        }
+        return value instanceof CharSequence ? "'" + text + "'" : text;
+    }
+
+    // First application frame outside this package and Spring's proxies, e.g. "AlbumService.search"
+    private static String caller() {
+        return STACK.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith("music.library.")
+                        && !frame.getClassName().startsWith("music.library.jdbc.")
+                        && !frame.getClassName().contains("$$"))
+                .findFirst()
+                .map(frame -> {
+                    String type = frame.getClassName();
+                    return type.substring(type.lastIndexOf('.') + 1) + "." + frame.getMethodName();
+                })
+                .orElse("unknown"));
+    }
+}
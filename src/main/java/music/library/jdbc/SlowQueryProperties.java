@@ -0,0 +1,33 @@
+package music.library.jdbc;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings for the slow-query log (prefix {@code slow-queries}).
+ *
+ * @see SlowQueryLog
+ */
+@Configuration
+@ConfigurationProperties(prefix = "slow-queries")
+@Getter
+@Setter
+public class SlowQueryProperties {
+
+    // Record slow statements at all. Keeps the DataSource proxied even with sql-stats.enabled=false.
+    private boolean enabled = true;
+
+    // Statements whose execution takes longer than this are recorded
+    private Duration threshold = Duration.ofMillis(200);
+
+    // How many of the slowest statements are kept
+    private int capacity = 50;
+
+    // Show bind values (truncated) in the parameter summary; otherwise only their types
+    private boolean showValues = false;
+}
@@ -0,0 +1,118 @@
+package music.library.jdbc;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import music.library.admission.AdmissionControlFilter;
+
+/**
+ * Counts the JDBC statements, rows and driver time of every API request and
+ * flags likely N+1s: requests that ran one statement shape more than
+ * {@code sql-stats.repeat-threshold} times.
+ *
+ * In production a flagged request is logged at WARN with its route and the
+ * repeated statement, and counted in {@code sql.nplusone{uri}}; every request
+ * also feeds the {@code sql.request.statements} and {@code sql.request.rows}
+ * summaries per route. With {@code sql-stats.expose-headers} (dev, test) the
+ * numbers are returned as response headers as well:
+ * <pre>
+ * X-Sql-Statements: 3
+ * X-Sql-Rows: 41
+ * X-Sql-Time-Ms: 2
+ * X-Sql-Repeated: 21x select ... from genre g1_0 where g1_0.genre_id=?   (only when flagged)
+ * </pre>
+ * Headers have to be set before the body is sent, and the lazy loads that
+ * cause N+1s often happen during JSON serialization, so that mode buffers
+ * the response.
+ */
+@Component
+@Order(SqlStatsFilter.ORDER)
+public class SqlStatsFilter extends OncePerRequestFilter {
+
+    // Inside admission control: shed and coalesced requests run no SQL
+    public static final int ORDER = AdmissionControlFilter.ORDER + 10;
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String ROWS_HEADER = "X-Sql-Rows";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+    public static final String REPEATED_HEADER = "X-Sql-Repeated";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatsFilter.class);
+    private static final int MAX_SHAPE_LENGTH = 200;
+
+    private final SqlStatsProperties properties;
+    private final MeterRegistry registry;
+
+    public SqlStatsFilter(SqlStatsProperties properties, MeterRegistry registry) {
+        this.properties = properties;
+        this.registry = registry;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled() || !request.getRequestURI().startsWith(request.getContextPath() + "/api");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStats stats = SqlStats.start();
+        ContentCachingResponseWrapper buffered = properties.isExposeHeaders()
+                ? new ContentCachingResponseWrapper(response) : null;
+        try {
+            chain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            SqlStats.end();
+            Map.Entry<String, Integer> repeated = stats.getMostRepeated();
+            boolean flagged = repeated != null && repeated.getValue() > properties.getRepeatThreshold();
+            record(request, stats, flagged ? repeated : null);
+            if (buffered != null) {
+                buffered.setHeader(STATEMENTS_HEADER, String.valueOf(stats.getStatements()));
+                buffered.setHeader(ROWS_HEADER, String.valueOf(stats.getRows()));
+                buffered.setHeader(TIME_HEADER, String.valueOf(stats.getElapsedMillis()));
+                if (flagged) {
+                    buffered.setHeader(REPEATED_HEADER, repeated.getValue() + "x " + truncate(repeated.getKey()));
+                }
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStats stats, Map.Entry<String, Integer> repeated) {
+        if (stats.getStatements() == 0) {
+            return;
+        }
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("sql.request.statements").baseUnit("statements").tag("uri", uri)
+                .description("JDBC statements per request").register(registry).record(stats.getStatements());
+        DistributionSummary.builder("sql.request.rows").baseUnit("rows").tag("uri", uri)
+                .description("Rows read or written per request").register(registry).record(stats.getRows());
+        if (repeated != null) {
+            Counter.builder("sql.nplusone").tag("uri", uri)
+                    .description("Requests that repeated one statement shape beyond the threshold")
+                    .register(registry).increment();
+            log.warn("Possible N+1 on {} {} ({}): {} statements, {}x {}", request.getMethod(), request.getRequestURI(),
+                    uri, stats.getStatements(), repeated.getValue(), truncate(repeated.getKey()));
+        }
+    }
+
+    private static String truncate(String shape) {
+        return shape.length() <= MAX_SHAPE_LENGTH ? shape : shape.substring(0, MAX_SHAPE_LENGTH) + "...";
+    }
+}
@@ -0,0 +1,79 @@
+package music.library.jdbc;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * Feeds statement executions and result-set rows into the current
+ * request's {@link SqlStats}. Does nothing outside a request.
+ *
+ * A JDBC batch counts as one statement (one round trip) and is left out of
+ * the shape counts: a batch is the fix for repeated statements, not an
+ * instance of them.
+ */
+@Component
+public class SqlStatsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String START = SqlStatsListener.class.getName() + ".start";
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        if (SqlStats.current() != null) {
+            execInfo.addCustomValue(START, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStats stats = SqlStats.current();
+        Long start = execInfo.getCustomValue(START, Long.class);
+        if (stats == null || start == null) {
+            return;
+        }
+        String sql = execInfo.isBatch() || queryInfoList.isEmpty() ? null : queryInfoList.get(0).getQuery();
+        stats.statement(sql, System.nanoTime() - start);
+        stats.rows(updateCount(execInfo.getResult()));
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext context) {
+    }
+
+    // Rows read: every ResultSet.next() that returned true
+    @Override
+    public void afterMethod(MethodExecutionContext context) {
+        if (context.getTarget() instanceof ResultSet && "next".equals(context.getMethod().getName())
+                && Boolean.TRUE.equals(context.getResult())) {
+            SqlStats stats = SqlStats.current();
+            if (stats != null) {
+                stats.rows(1);
+            }
+        }
+    }
+
+    // Rows written according to the driver's update count(s)
+    static long updateCount(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof Long count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                total += Math.max(count, 0);
+            }
+            return total;
+        }
+        return 0;
+    }
+}
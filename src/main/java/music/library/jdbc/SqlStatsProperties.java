@@ -0,0 +1,28 @@
+package music.library.jdbc;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Settings for per-request SQL statistics (prefix {@code sql-stats}).
+ *
+ * @see SqlStatsFilter
+ */
+@Configuration
+@ConfigurationProperties(prefix = "sql-stats")
+@Getter
+@Setter
+public class SqlStatsProperties {
+
+    // Wrap the DataSource in the counting proxy at all (read at startup)
+    private boolean enabled = true;
+
+    // A request running one statement shape more often than this is reported as a likely N+1
+    private int repeatThreshold = 10;
+
+    // Add X-Sql-* response headers. Buffers each API response; meant for dev and test, not prod.
+    private boolean exposeHeaders = false;
+}
@@ -0,0 +1,212 @@
+package music.library.logging;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+/**
+ * Hands log events to a single writer thread through a bounded ring buffer,
+ * so the thread that logs (usually a request thread) never waits for the
+ * console or any other attached appender.
+ *
+ * Unlike logback's AsyncAppender, which can drop silently, every event that
+ * does not fit is counted:
+ * - with fewer than {@code discardingThreshold} free slots, events below WARN
+ *   are dropped, keeping the remaining room for warnings and errors
+ * - with no free slot, any event is dropped
+ *
+ * After each batch it writes, the writer logs one WARN with the number
+ * dropped since the previous summary, so the gap is visible in the log. The total is exported as the
+ * {@code logback.events.dropped} counter (see {@link AsyncLogMetrics}).
+ *
+ * Caller data (class, line) is not captured; the message, arguments and MDC
+ * are fixed on the logging thread before the event is queued.
+ */
+public class AsyncLogAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final AtomicLong DROPPED_TOTAL = new AtomicLong();
+    private static final int BATCH_SIZE = 256;
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    // Dropped since the last summary
+    private final AtomicLong dropped = new AtomicLong();
+
+    private int queueSize = 8192;
+    // -1: a fifth of the queue
+    private int discardingThreshold = -1;
+    // How long stop() waits for the queued events to be written
+    private int maxFlushTime = 1000;
+
+    private ArrayBlockingQueue<ILoggingEvent> queue;
+    private Thread writer;
+
+    /**
+     * @return events dropped by all instances since the JVM started
+     */
+    public static long droppedTotal() {
+        return DROPPED_TOTAL.get();
+    }
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No appender attached to " + getName());
+            return;
+        }
+        if (queueSize < 1) {
+            addError("Invalid queueSize " + queueSize);
+            return;
+        }
+        if (discardingThreshold < 0) {
+            discardingThreshold = queueSize / 5;
+        }
+        queue = new ArrayBlockingQueue<>(queueSize);
+        writer = new Thread(this::write, "log-writer-" + getName());
+        writer.setDaemon(true);
+        super.start();
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        writer.interrupt();
+        try {
+            writer.join(maxFlushTime);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writer.isAlive()) {
+            addWarn("Stopped " + getName() + " with " + queue.size() + " events not written");
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (queue.remainingCapacity() < discardingThreshold && event.getLevel().toInt() < Level.WARN_INT) {
+            drop();
+            return;
+        }
+        event.prepareForDeferredProcessing();
+        if (!queue.offer(event)) {
+            drop();
+        }
+    }
+
+    private void drop() {
+        dropped.incrementAndGet();
+        DROPPED_TOTAL.incrementAndGet();
+    }
+
+    private void write() {
+        List<ILoggingEvent> batch = new ArrayList<>(BATCH_SIZE);
+        try {
+            while (isStarted()) {
+                batch.add(queue.take());
+                queue.drainTo(batch, BATCH_SIZE - 1);
+                writeAll(batch);
+            }
+        } catch (InterruptedException e) {
+            // stop(): write what is left
+        }
+        Thread.interrupted(); // in case stop() interrupted an appender rather than take()
+        queue.drainTo(batch);
+        writeAll(batch);
+    }
+
+    private void writeAll(List<ILoggingEvent> batch) {
+        for (ILoggingEvent event : batch) {
+            appenders.appendLoopOnAppenders(event);
+        }
+        batch.clear();
+        long count = dropped.getAndSet(0);
+        if (count > 0) {
+            appenders.appendLoopOnAppenders(summary(count));
+        }
+    }
+
+    private ILoggingEvent summary(long count) {
+        LoggerContext context = (LoggerContext) getContext();
+        return new LoggingEvent(AsyncLogAppender.class.getName(), context.getLogger(AsyncLogAppender.class),
+                Level.WARN, "{} log events dropped by {}: the log queue ({} events) was full", null,
+                new Object[] { count, getName(), queueSize });
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public void setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+    }
+
+    public int getDiscardingThreshold() {
+        return discardingThreshold;
+    }
+
+    public void setDiscardingThreshold(int discardingThreshold) {
+        this.discardingThreshold = discardingThreshold;
+    }
+
+    public int getMaxFlushTime() {
+        return maxFlushTime;
+    }
+
+    public void setMaxFlushTime(int maxFlushTime) {
+        this.maxFlushTime = maxFlushTime;
+    }
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -0,0 +1,23 @@
+package music.library.logging;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * {@code logback.events.dropped}: log events the {@link AsyncLogAppender}
+ * dropped because its queue was full. Next to Micrometer's
+ * {@code logback.events}, which counts events per level before they are queued.
+ */
+@Component
+public class AsyncLogMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("logback.events.dropped", AsyncLogAppender.class, type -> AsyncLogAppender.droppedTotal())
+                .description("Log events dropped because the async log queue was full")
+                .register(registry);
+    }
+}
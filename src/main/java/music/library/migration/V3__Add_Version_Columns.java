@@ -0,0 +1,56 @@
+package music.library.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Locale;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.stereotype.Component;
+
+/**
+ * Optimistic locking: every update bumps the row's version, which the API
+ * exposes as the ETag and checks against If-Match on PUT.
+ *
+ * A Java migration rather than SQL because the column may already be there.
+ * Databases from before Flyway are baselined at 2, so this runs on all of
+ * them, but those that ran a build with {@code @Version} under the former
+ * ddl-auto: update got the (nullable) column from Hibernate. MySQL has no
+ * ADD COLUMN IF NOT EXISTS, so the metadata is checked instead, and rows
+ * Hibernate left without a version get 0.
+ *
+ * Registered as a bean, which Spring Boot hands to Flyway.
+ */
+@Component
+public class V3__Add_Version_Columns extends BaseJavaMigration {
+
+    private static final List<String> TABLES = List.of("artist", "genre", "album");
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                if (hasColumn(connection, table, "version")) {
+                    statement.executeUpdate("UPDATE " + table + " SET version = 0 WHERE version IS NULL");
+                    statement.execute("ALTER TABLE " + table + " ALTER COLUMN version SET DEFAULT 0");
+                } else {
+                    statement.execute("ALTER TABLE " + table + " ADD COLUMN version BIGINT NOT NULL DEFAULT 0");
+                }
+            }
+        }
+    }
+
+    private static boolean hasColumn(Connection connection, String table, String column) throws SQLException {
+        DatabaseMetaData meta = connection.getMetaData();
+        boolean upper = meta.storesUpperCaseIdentifiers();
+        try (ResultSet columns = meta.getColumns(connection.getCatalog(), connection.getSchema(),
+                upper ? table.toUpperCase(Locale.ROOT) : table, upper ? column.toUpperCase(Locale.ROOT) : column)) {
+            return columns.next();
+        }
+    }
+}
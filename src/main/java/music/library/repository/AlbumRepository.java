@@ -1,5 +1,6 @@
 package music.library.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,6 +10,7 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.repository.query.Param;
 
 import music.library.entity.Album;
@@ -23,9 +25,11 @@ import music.library.entity.Album;
  * Custom Query Methods:
  * - findByArtist_ArtistId: Retrieves all albums by a specific artist
  * - findByGenres_GenreId: Retrieves all albums in a specific genre
+ * - findByAlbumIdIn: Batch lookup of albums by id list (multi-get)
  * 
- * These methods use Spring Data JPA's property expression syntax to navigate
- * relationships (e.g., "artist.artistId" becomes "Artist_ArtistId").
+ * The two relationship lookups keep their property-expression names
+ * ("artist.artistId" becomes "Artist_ArtistId") but spell out their JPQL, so
+ * the filter lands on the indexed foreign-key columns (see QueryPlanTest).
  * 
  * The JpaSpecificationExecutor interface enables dynamic queries using the
  * Criteria API, allowing complex search operations with multiple optional
@@ -39,25 +43,65 @@ import music.library.entity.Album;
  */
 public interface AlbumRepository extends JpaRepository<Album, Long>, JpaSpecificationExecutor<Album> {
     
+    /**
+     * Returns a page of albums with their artists joined in the same query.
+     * Genres are not part of the graph: fetching a collection would make
+     * Hibernate paginate in memory. They are batch-loaded instead (see
+     * {@code @BatchSize} on Album.genres).
+     * 
+     * @param pageable pagination parameters
+     * @return the requested page of albums
+     */
+    @Override
+    @EntityGraph(attributePaths = {"artist"})
+    Page<Album> findAll(Pageable pageable);
+
+    /**
+     * Returns a page of albums matching the specification, with artists
+     * joined as in {@link #findAll(Pageable)}.
+     * 
+     * @param spec the filter criteria (may be null)
+     * @param pageable pagination parameters
+     * @return the requested page of matching albums
+     */
+    @Override
+    @EntityGraph(attributePaths = {"artist"})
+    Page<Album> findAll(Specification<Album> spec, Pageable pageable);
+
     /**
      * Finds all albums by a specific artist.
-     * Uses Spring Data JPA property expression to navigate the artist relationship.
+     * Filters on album.artist_id (idx_album_artist) rather than on the joined
+     * artist row, which is what the derived query compared.
      * 
      * @param artistId the artist's ID
      * @return list of albums by the artist (empty if none found)
      */
     @EntityGraph(attributePaths = {"artist", "genres"})
-    List<Album> findByArtist_ArtistId(Long artistId);
+    @Query("SELECT a FROM Album a WHERE a.artist.artistId = :artistId")
+    List<Album> findByArtist_ArtistId(@Param("artistId") Long artistId);
     
     /**
      * Finds all albums that have a specific genre.
-     * Uses Spring Data JPA property expression to navigate the many-to-many genres relationship.
+     * Filters on album_genre.genre_id (idx_album_genre_genre), as
+     * AlbumSpecs.hasGenre does, rather than on the joined genre row.
      * 
      * @param genreId the genre's ID
      * @return list of albums in the genre (empty if none found)
      */
     @EntityGraph(attributePaths = {"artist", "genres"})
-    List<Album> findByGenres_GenreId(Long genreId);
+    @Query("SELECT a FROM Album a JOIN a.genres g WHERE g.genreId = :genreId")
+    List<Album> findByGenres_GenreId(@Param("genreId") Long genreId);
+    
+    /**
+     * Finds all albums whose id is in the given collection, fetching artist and
+     * genres in the same query so serializing the result does not trigger
+     * lazy loads. Backs the multi-get endpoint (GET /api/albums/batch).
+     * 
+     * @param ids the album IDs to load
+     * @return the albums that exist, in no particular order
+     */
+    @EntityGraph(attributePaths = {"artist", "genres"})
+    List<Album> findByAlbumIdIn(Collection<Long> ids);
     
     /**
      * Finds an album by title (case-insensitive).
@@ -67,20 +111,7 @@ public interface AlbumRepository extends JpaRepository<Album, Long>, JpaSpecific
      * @return Optional containing the album if found, empty otherwise
      */
     Optional<Album> findByTitleIgnoreCase(String title);
-	
-	/**
-	* Searches albums by title OR artist name (case-insensitive substring match).
-	* Returns albums, not artists - so album covers display in the UI.
-	* 
-	* @param query the search term
-	* @param pageable pagination parameters
-	* @return paginated albums matching the search
-	*/
-	@EntityGraph(attributePaths = {"artist", "genres"})
-	@Query("SELECT a FROM Album a WHERE " +
-		   "LOWER(a.title) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
-		   "LOWER(a.artist.name) LIKE LOWER(CONCAT('%', :query, '%'))")
-	Page<Album> searchByTitleOrArtist(@Param("query") String query, Pageable pageable);
+
     
     /**
      * Checks if an album with the given title exists (case-insensitive).
@@ -0,0 +1,35 @@
+package music.library.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import music.library.entity.AlbumView;
+
+/**
+ * Spring Data JPA repository for the album_view read model.
+ *
+ * Every query here reads the one table: pages are sorted through its
+ * indexes, and search matches the copied artist name instead of joining
+ * artist. The rows are written by AlbumViewService only; save/delete
+ * through this repository is not used.
+ *
+ * @see AlbumView
+ * @see music.library.service.AlbumViewService
+ */
+public interface AlbumViewRepository extends JpaRepository<AlbumView, Long> {
+
+    /**
+     * Searches albums by title OR artist name (case-insensitive substring match).
+     *
+     * @param query the search term
+     * @param pageable pagination parameters
+     * @return paginated albums matching the search
+     */
+    @Query("SELECT v FROM AlbumView v WHERE "
+            + "LOWER(v.title) LIKE LOWER(CONCAT('%', :query, '%')) OR "
+            + "LOWER(v.artistName) LIKE LOWER(CONCAT('%', :query, '%'))")
+    Page<AlbumView> searchByTitleOrArtist(@Param("query") String query, Pageable pageable);
+}
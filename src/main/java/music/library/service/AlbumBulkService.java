@@ -0,0 +1,504 @@
+package music.library.service;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import music.library.dto.BulkAlbumOperation;
+import music.library.dto.BulkAlbumOperation.Op;
+import music.library.dto.BulkAlbumResponse;
+import music.library.dto.BulkAlbumResponse.ItemResult;
+
+/**
+ * Applies many album create/update/delete operations in one call
+ * (POST /api/albums/bulk), aimed at the nightly catalog sync.
+ *
+ * Compared with calling AlbumService once per album this:
+ * 1. Prefetches every referenced artist, genre and album id with one IN query each
+ * 2. Checks title and catalog-number duplicates for the whole batch with one set query
+ * 3. Validates each operation up front and reports failures per item
+ * 4. Writes the valid operations with JDBC batch statements, in chunks of
+ *    {@code albums.bulk.chunk-size}, each chunk in its own transaction
+ *
+ * If a chunk fails at the database (e.g. a constraint the prefetch could not
+ * foresee) it is rolled back and replayed one operation per transaction, so
+ * only the offending items are reported as failed.
+ *
+ * Within a chunk deletes are applied first, then updates, then creates.
+ * Deleted and updated albums are locked in album id order, whatever order
+ * the request lists them in, as everywhere else albums are locked, so two
+ * bulk requests over the same albums cannot deadlock.
+ * An album id may appear in only one operation per request. A DELETE frees
+ * the album's title and catalog number for the operations after it.
+ *
+ * Like PUT with If-Match, an UPDATE names the version it was based on and
+ * only applies if the album still has it: 428 without a version, 412 if
+ * the album has changed since, 404 if it has been deleted after the
+ * prefetch.
+ *
+ * @see music.library.dto.BulkAlbumRequest
+ * @see BulkAlbumResponse
+ */
+@Service
+@RequiredArgsConstructor
+public class AlbumBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(AlbumBulkService.class);
+
+    // Keeps IN lists well below driver/database limits
+    private static final int IN_LIST_SIZE = 1000;
+
+    private static final String INSERT_ALBUM =
+            "INSERT INTO album (title, release_date, cover_image_url, track_count, catalog_number, artist_id, "
+            + "created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE_ALBUM =
+            "UPDATE album SET title = ?, release_date = ?, cover_image_url = ?, track_count = ?, catalog_number = ?, "
+            + "artist_id = ?, updated_at = ?, version = version + 1 WHERE album_id = ? AND version = ?";
+    private static final String INSERT_ALBUM_GENRE = "INSERT INTO album_genre (album_id, genre_id) VALUES (?, ?)";
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final AlbumViewService albumViews;
+    private final TransactionTemplate tx;
+    private final Validator validator;
+
+    // Operations written per transaction
+    @Value("${albums.bulk.chunk-size:500}")
+    private int chunkSize = 500;
+
+    /**
+     * Validates and applies the operations.
+     *
+     * @param operations the operations, in submission order
+     * @return one result per operation, in submission order
+     */
+    public BulkAlbumResponse apply(List<BulkAlbumOperation> operations) {
+        ItemResult[] results = new ItemResult[operations.size()];
+        Prefetched existing = prefetch(operations);
+
+        // Titles / catalog numbers / album ids claimed by earlier operations in this batch
+        Map<String, Long> claimedTitles = new HashMap<>();
+        Map<String, Long> claimedCatalogNumbers = new HashMap<>();
+        Set<Long> claimedIds = new HashSet<>();
+
+        List<Pending> pending = new ArrayList<>();
+        for (int i = 0; i < operations.size(); i++) {
+            BulkAlbumOperation op = operations.get(i);
+            ItemResult failure = validate(i, op, existing, claimedTitles, claimedCatalogNumbers, claimedIds);
+            if (failure != null) {
+                results[i] = failure;
+            } else {
+                pending.add(new Pending(i, op));
+            }
+        }
+
+        for (int from = 0; from < pending.size(); from += chunkSize) {
+            List<Pending> chunk = pending.subList(from, Math.min(from + chunkSize, pending.size()));
+            for (ItemResult result : write(chunk)) {
+                results[result.getIndex()] = result;
+            }
+        }
+
+        BulkAlbumResponse response = new BulkAlbumResponse(Arrays.asList(results));
+        log.info("Bulk album request: {} operations, {} succeeded, {} failed",
+                response.getTotal(), response.getSucceeded(), response.getFailed());
+        return response;
+    }
+
+    // ========== Prefetch ==========
+
+    /**
+     * Ids and unique keys that already exist in the database, loaded with a
+     * handful of set queries for the whole request.
+     */
+    private record Prefetched(Set<Long> artistIds, Set<Long> genreIds, Set<Long> albumIds,
+                              Map<String, Long> titles, Map<String, Long> catalogNumbers) {
+    }
+
+    private Prefetched prefetch(List<BulkAlbumOperation> operations) {
+        Set<Long> artistIds = new HashSet<>();
+        Set<Long> genreIds = new HashSet<>();
+        Set<Long> albumIds = new HashSet<>();
+        Set<String> titles = new HashSet<>();
+        Set<String> catalogNumbers = new HashSet<>();
+
+        for (BulkAlbumOperation op : operations) {
+            if (op.getOp() == null) {
+                continue;
+            }
+            if (op.getOp() != Op.CREATE && op.getId() != null) {
+                albumIds.add(op.getId());
+            }
+            if (op.getOp() != Op.DELETE) {
+                if (op.getArtistId() != null) {
+                    artistIds.add(op.getArtistId());
+                }
+                if (op.getGenreIds() != null) {
+                    op.getGenreIds().stream().filter(Objects::nonNull).forEach(genreIds::add);
+                }
+                if (op.getTitle() != null) {
+                    titles.add(titleKey(op.getTitle()));
+                }
+                if (op.getCatalogNumber() != null && !op.getCatalogNumber().isBlank()) {
+                    catalogNumbers.add(op.getCatalogNumber());
+                }
+            }
+        }
+
+        Map<String, Long> existingTitles = new HashMap<>();
+        Map<String, Long> existingCatalogNumbers = new HashMap<>();
+        for (List<String> part : partition(titles)) {
+            namedJdbc.query("SELECT album_id, LOWER(title) AS title_key FROM album WHERE LOWER(title) IN (:keys)",
+                    Map.of("keys", part),
+                    rs -> { existingTitles.put(rs.getString("title_key"), rs.getLong("album_id")); });
+        }
+        for (List<String> part : partition(catalogNumbers)) {
+            namedJdbc.query("SELECT album_id, catalog_number FROM album WHERE catalog_number IN (:keys)",
+                    Map.of("keys", part),
+                    rs -> { existingCatalogNumbers.put(rs.getString("catalog_number"), rs.getLong("album_id")); });
+        }
+
+        return new Prefetched(
+                existingIds("SELECT artist_id FROM artist WHERE artist_id IN (:ids)", artistIds),
+                existingIds("SELECT genre_id FROM genre WHERE genre_id IN (:ids)", genreIds),
+                existingIds("SELECT album_id FROM album WHERE album_id IN (:ids)", albumIds),
+                existingTitles,
+                existingCatalogNumbers);
+    }
+
+    private Set<Long> existingIds(String sql, Set<Long> ids) {
+        Set<Long> found = new HashSet<>();
+        for (List<Long> part : partition(ids)) {
+            found.addAll(namedJdbc.queryForList(sql, Map.of("ids", part), Long.class));
+        }
+        return found;
+    }
+
+    // ========== Validation ==========
+
+    private ItemResult validate(int index, BulkAlbumOperation op, Prefetched existing,
+            Map<String, Long> claimedTitles, Map<String, Long> claimedCatalogNumbers, Set<Long> claimedIds) {
+
+        if (op.getOp() == null) {
+            return failure(index, op, HttpStatus.BAD_REQUEST, "Operation (CREATE, UPDATE or DELETE) is required");
+        }
+        if (op.getOp() != Op.CREATE) {
+            if (op.getId() == null) {
+                return failure(index, op, HttpStatus.BAD_REQUEST, "Album id is required for " + op.getOp());
+            }
+            if (!claimedIds.add(op.getId())) {
+                return failure(index, op, HttpStatus.BAD_REQUEST,
+                        "Album with id " + op.getId() + " appears in more than one operation");
+            }
+            if (!existing.albumIds().contains(op.getId())) {
+                return failure(index, op, HttpStatus.NOT_FOUND, "Album with id " + op.getId() + " not found");
+            }
+            if (op.getOp() == Op.UPDATE && op.getVersion() == null) {
+                return failure(index, op, HttpStatus.PRECONDITION_REQUIRED,
+                        "version is required for UPDATE; send the album's current version (its ETag)");
+            }
+            if (op.getOp() == Op.DELETE) {
+                // Deletes run before the updates and creates of their chunk and of later chunks
+                existing.titles().values().removeIf(op.getId()::equals);
+                existing.catalogNumbers().values().removeIf(op.getId()::equals);
+                return null;
+            }
+        }
+
+        Set<? extends ConstraintViolation<?>> violations = op.getOp() == Op.CREATE
+                ? validator.validate(op.toCreateRequest())
+                : validator.validate(op.toUpdateRequest());
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            return failure(index, op, HttpStatus.BAD_REQUEST, message);
+        }
+
+        if (!existing.artistIds().contains(op.getArtistId())) {
+            return failure(index, op, HttpStatus.NOT_FOUND, "Artist with ID " + op.getArtistId() + " not found");
+        }
+        if (op.getGenreIds() != null) {
+            for (Long genreId : op.getGenreIds()) {
+                if (!existing.genreIds().contains(genreId)) {
+                    return failure(index, op, HttpStatus.NOT_FOUND, "Genre with ID " + genreId + " not found");
+                }
+            }
+        }
+
+        // For updates the album may keep its own title / catalog number
+        Long self = op.getOp() == Op.UPDATE ? op.getId() : null;
+        String titleKey = titleKey(op.getTitle());
+        if (isTaken(titleKey, self, existing.titles(), claimedTitles)) {
+            return failure(index, op, HttpStatus.CONFLICT, "Album with title '" + op.getTitle() + "' already exists");
+        }
+        String catalogNumber = op.getCatalogNumber();
+        boolean hasCatalogNumber = catalogNumber != null && !catalogNumber.isBlank();
+        if (hasCatalogNumber && isTaken(catalogNumber, self, existing.catalogNumbers(), claimedCatalogNumbers)) {
+            return failure(index, op, HttpStatus.CONFLICT,
+                    "Album with catalog number '" + catalogNumber + "' already exists");
+        }
+
+        claimedTitles.put(titleKey, self);
+        if (hasCatalogNumber) {
+            claimedCatalogNumbers.put(catalogNumber, self);
+        }
+        return null;
+    }
+
+    private static boolean isTaken(String key, Long self, Map<String, Long> existing, Map<String, Long> claimed) {
+        if (claimed.containsKey(key)) {
+            return true;
+        }
+        Long owner = existing.get(key);
+        return owner != null && !owner.equals(self);
+    }
+
+    // ========== Writing ==========
+
+    /**
+     * An operation that passed validation, with its position in the request.
+     */
+    private record Pending(int index, BulkAlbumOperation op) {
+    }
+
+    private List<ItemResult> write(List<Pending> chunk) {
+        try {
+            return tx.execute(status -> writeChunk(chunk));
+        } catch (DataAccessException e) {
+            log.warn("Bulk chunk of {} operations failed ({}); retrying one by one",
+                    chunk.size(), e.getMostSpecificCause().getMessage());
+        }
+
+        // Isolate the failing operation(s)
+        List<ItemResult> results = new ArrayList<>(chunk.size());
+        for (Pending p : chunk) {
+            try {
+                results.addAll(tx.execute(status -> writeChunk(List.of(p))));
+            } catch (DataIntegrityViolationException e) {
+                log.warn("Bulk operation {} rejected by the database: {}", p.index(),
+                        e.getMostSpecificCause().getMessage());
+                results.add(failure(p.index(), p.op(), HttpStatus.CONFLICT,
+                        "The operation conflicts with existing data (duplicate or invalid value)"));
+            } catch (DataAccessException e) {
+                log.error("Bulk operation {} failed", p.index(), e);
+                results.add(failure(p.index(), p.op(), HttpStatus.INTERNAL_SERVER_ERROR, "Unexpected error"));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Writes one chunk with set-based deletes and JDBC batches for updates,
+     * inserts and genre links, then rewrites the album_view rows of every
+     * album it touched. Runs inside the caller's transaction.
+     */
+    private List<ItemResult> writeChunk(List<Pending> chunk) {
+        List<ItemResult> results = new ArrayList<>(chunk.size());
+        List<Pending> deletes = filter(chunk, Op.DELETE);
+        // By album id, the order every album lock in this application is taken in
+        List<Pending> updates = filter(chunk, Op.UPDATE).stream()
+                .sorted(Comparator.comparing((Pending p) -> p.op().getId())).toList();
+        List<Pending> creates = filter(chunk, Op.CREATE);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        if (!deletes.isEmpty()) {
+            MapSqlParameterSource ids = new MapSqlParameterSource("ids", ids(deletes));
+            // Album rows before their links, the same order AlbumGenreLinkService locks in
+            namedJdbc.queryForList("SELECT album_id FROM album WHERE album_id IN (:ids) ORDER BY album_id FOR UPDATE",
+                    ids, Long.class);
+            namedJdbc.update("DELETE FROM album_genre WHERE album_id IN (:ids)", ids);
+            namedJdbc.update("DELETE FROM album WHERE album_id IN (:ids)", ids);
+            deletes.forEach(p -> results.add(success(p, p.op().getId(), HttpStatus.NO_CONTENT)));
+        }
+
+        // Genre links to (re)write, per album id
+        Map<Long, Collection<Long>> links = new HashMap<>();
+
+        if (!updates.isEmpty()) {
+            // Lock the rows (by id) and read their versions first. The batch's
+            // update counts cannot be relied on alone: a driver may answer
+            // SUCCESS_NO_INFO (-2) instead of 0 or 1 per statement.
+            Map<Long, Long> versions = new HashMap<>();
+            namedJdbc.query("SELECT album_id, version FROM album WHERE album_id IN (:ids) ORDER BY album_id FOR UPDATE",
+                    new MapSqlParameterSource("ids", ids(updates)),
+                    rs -> { versions.put(rs.getLong("album_id"), rs.getLong("version")); });
+            List<Pending> current = new ArrayList<>(updates.size());
+            List<Pending> missed = new ArrayList<>();
+            for (Pending p : updates) {
+                (p.op().getVersion().equals(versions.get(p.op().getId())) ? current : missed).add(p);
+            }
+
+            List<Pending> updated = new ArrayList<>(current.size());
+            if (!current.isEmpty()) {
+                int[][] counts = jdbc.batchUpdate(UPDATE_ALBUM, current, current.size(), (ps, p) -> {
+                    bindAlbum(ps, p.op(), now);
+                    ps.setTimestamp(7, now);
+                    ps.setLong(8, p.op().getId());
+                    ps.setLong(9, p.op().getVersion());
+                });
+                for (int i = 0; i < current.size(); i++) {
+                    // The row is locked at the expected version, so only an explicit 0 is a miss;
+                    // a negative count (no info) is the update the lock guarantees
+                    (counts[0][i] == 0 ? missed : updated).add(current.get(i));
+                }
+            }
+            for (Pending p : missed) {
+                // Changed (412) or deleted (404) since the client read it
+                Long id = p.op().getId();
+                Long version = versions.get(id);
+                results.add(version != null
+                        ? failure(p.index(), p.op(), HttpStatus.PRECONDITION_FAILED, "Album with ID " + id
+                                + " is at version " + version + ", not " + p.op().getVersion())
+                        : failure(p.index(), p.op(), HttpStatus.NOT_FOUND, "Album with id " + id + " not found"));
+            }
+            // A null genreIds list leaves the album's genres untouched (same as PUT)
+            List<Pending> regenred = updated.stream().filter(p -> p.op().getGenreIds() != null).toList();
+            if (!regenred.isEmpty()) {
+                namedJdbc.update("DELETE FROM album_genre WHERE album_id IN (:ids)",
+                        new MapSqlParameterSource("ids", ids(regenred)));
+                regenred.forEach(p -> links.put(p.op().getId(), p.op().getGenreIds()));
+            }
+            updated.forEach(p -> results.add(success(p, p.op().getId(), HttpStatus.OK)));
+        }
+
+        if (!creates.isEmpty()) {
+            KeyHolder keys = new GeneratedKeyHolder();
+            jdbc.batchUpdate(con -> con.prepareStatement(INSERT_ALBUM, Statement.RETURN_GENERATED_KEYS),
+                    new BatchPreparedStatementSetter() {
+                        @Override
+                        public void setValues(PreparedStatement ps, int i) throws SQLException {
+                            bindAlbum(ps, creates.get(i).op(), now);
+                            ps.setTimestamp(7, now);
+                            ps.setTimestamp(8, now);
+                        }
+
+                        @Override
+                        public int getBatchSize() {
+                            return creates.size();
+                        }
+                    }, keys);
+
+            List<Map<String, Object>> generated = keys.getKeyList();
+            for (int i = 0; i < creates.size(); i++) {
+                Pending p = creates.get(i);
+                Long albumId = generatedId(generated.get(i));
+                links.put(albumId, p.op().getGenreIds());
+                results.add(success(p, albumId, HttpStatus.CREATED));
+            }
+        }
+
+        List<long[]> linkRows = new ArrayList<>();
+        links.forEach((albumId, genreIds) -> new LinkedHashSet<>(genreIds)
+                .forEach(genreId -> linkRows.add(new long[] { albumId, genreId })));
+        if (!linkRows.isEmpty()) {
+            jdbc.batchUpdate(INSERT_ALBUM_GENRE, linkRows, linkRows.size(), (ps, row) -> {
+                ps.setLong(1, row[0]);
+                ps.setLong(2, row[1]);
+            });
+        }
+        albumViews.refresh(results.stream().filter(ItemResult::isSuccess).map(ItemResult::getId).toList());
+        return results;
+    }
+
+    // Binds the six album columns shared by INSERT and UPDATE (parameters 1-6)
+    private static void bindAlbum(PreparedStatement ps, BulkAlbumOperation op, Timestamp now)
+            throws SQLException {
+        ps.setString(1, op.getTitle());
+        if (op.getReleaseDate() != null) {
+            ps.setDate(2, Date.valueOf(op.getReleaseDate()));
+        } else {
+            ps.setNull(2, Types.DATE);
+        }
+        ps.setString(3, op.getCoverImageUrl());
+        if (op.getTrackCount() != null) {
+            ps.setInt(4, op.getTrackCount());
+        } else {
+            ps.setNull(4, Types.INTEGER);
+        }
+        String catalogNumber = op.getCatalogNumber();
+        ps.setString(5, catalogNumber == null || catalogNumber.isBlank() ? null : catalogNumber);
+        ps.setLong(6, op.getArtistId());
+    }
+
+    // MySQL reports the key as GENERATED_KEY, H2 by column name
+    private static Long generatedId(Map<String, Object> keyRow) {
+        for (Map.Entry<String, Object> entry : keyRow.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase("album_id") && entry.getValue() instanceof Number n) {
+                return n.longValue();
+            }
+        }
+        return keyRow.values().stream()
+                .filter(Number.class::isInstance)
+                .map(v -> ((Number) v).longValue())
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("No generated album id returned: " + keyRow));
+    }
+
+    // ========== Helpers ==========
+
+    private static List<Pending> filter(List<Pending> chunk, Op op) {
+        return chunk.stream().filter(p -> p.op().getOp() == op).toList();
+    }
+
+    private static List<Long> ids(List<Pending> pending) {
+        return pending.stream().map(p -> p.op().getId()).toList();
+    }
+
+    private static String titleKey(String title) {
+        return title == null ? "" : title.toLowerCase(Locale.ROOT);
+    }
+
+    private static <T> List<List<T>> partition(Collection<T> values) {
+        List<T> all = new ArrayList<>(values);
+        List<List<T>> parts = new ArrayList<>();
+        for (int from = 0; from < all.size(); from += IN_LIST_SIZE) {
+            parts.add(all.subList(from, Math.min(from + IN_LIST_SIZE, all.size())));
+        }
+        return parts;
+    }
+
+    private static ItemResult success(Pending p, Long id, HttpStatus status) {
+        return new ItemResult(p.index(), p.op().getOp(), id, status.value(), null);
+    }
+
+    private static ItemResult failure(int index, BulkAlbumOperation op, HttpStatus status, String message) {
+        return new ItemResult(index, op.getOp(), op.getId(), status.value(), message);
+    }
+}
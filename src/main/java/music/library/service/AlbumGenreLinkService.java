@@ -0,0 +1,170 @@
+package music.library.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.Hibernate;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import music.library.entity.Album;
+import music.library.entity.Genre;
+import music.library.exception.ResourceNotFoundException;
+
+/**
+ * Adds and removes single album-genre links by writing the album_genre row
+ * directly, instead of loading both sides of the many-to-many.
+ *
+ * The old path (album.getGenres().add(genre) plus genre.getAlbums().add(album))
+ * initialized the genre's album collection, i.e. every album in the genre,
+ * to change one row. Here each call costs a handful of single-row statements
+ * regardless of how many albums the genre has.
+ *
+ * Semantics:
+ * - Idempotent: linking an existing pair or unlinking a missing one is a no-op
+ * - The album's version (its ETag) is bumped only when a link actually changes
+ * - Unknown album or genre ids throw ResourceNotFoundException (404)
+ *
+ * Lock ordering: the album row is locked (SELECT ... FOR UPDATE) before the
+ * album_genre row is touched and before the genre row is read (shared, by
+ * the INSERT ... SELECT and the foreign key). JPA updates of an album and
+ * bulk writes lock the album row first as well, and genre renames and
+ * deletes lock the genre's albums (in id order, {@link #lockGenreAlbums})
+ * before they write the genre row, so concurrent writers queue behind each
+ * other instead of deadlocking.
+ *
+ * Pending JPA changes are flushed before the SQL runs, and managed copies
+ * of the album and genre are refreshed afterwards so the persistence
+ * context does not hold a stale version or genre set. The album's
+ * album_view row is rewritten in the same transaction.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class AlbumGenreLinkService {
+
+    private static final String LOCK_ALBUM = "SELECT album_id FROM album WHERE album_id = ? FOR UPDATE";
+    private static final String BUMP_ALBUM_VERSION =
+            "UPDATE album SET version = version + 1, updated_at = ? WHERE album_id = ?";
+    private static final String INSERT_LINK =
+            "INSERT INTO album_genre (album_id, genre_id) SELECT ?, ? FROM genre WHERE genre_id = ? "
+            + "AND NOT EXISTS (SELECT 1 FROM album_genre WHERE album_id = ? AND genre_id = ?)";
+    private static final String DELETE_LINK = "DELETE FROM album_genre WHERE album_id = ? AND genre_id = ?";
+    private static final String LOCK_GENRE_ALBUMS = "SELECT album_id FROM album WHERE album_id IN "
+            + "(SELECT album_id FROM album_genre WHERE genre_id = ?) ORDER BY album_id FOR UPDATE";
+
+    private final JdbcTemplate jdbc;
+    private final AlbumViewService albumViews;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    /**
+     * Links a genre to an album.
+     *
+     * @return true if the link was created, false if it already existed
+     * @throws ResourceNotFoundException if the album or genre does not exist
+     */
+    public boolean link(Long albumId, Long genreId) {
+        lockAlbum(albumId);
+        requireGenre(genreId);
+        int inserted;
+        try {
+            inserted = jdbc.update(INSERT_LINK, albumId, genreId, genreId, albumId, genreId);
+        } catch (DuplicateKeyException e) {
+            // Inserted by a writer that bypassed the album lock; the link exists either way
+            inserted = 0;
+        }
+        return changed(albumId, genreId, inserted);
+    }
+
+    /**
+     * Removes a genre from an album.
+     *
+     * @return true if the link was removed, false if there was none
+     * @throws ResourceNotFoundException if the album or genre does not exist
+     */
+    public boolean unlink(Long albumId, Long genreId) {
+        lockAlbum(albumId);
+        requireGenre(genreId);
+        return changed(albumId, genreId, jdbc.update(DELETE_LINK, albumId, genreId));
+    }
+
+    /**
+     * Locks (FOR UPDATE, in id order) every album that has the genre. Called
+     * before the genre row itself is written, to keep the album-then-genre
+     * lock order of {@link #link} and {@link #unlink}.
+     *
+     * @return the ids of the locked albums
+     */
+    public List<Long> lockGenreAlbums(Long genreId) {
+        em.flush();
+        return jdbc.queryForList(LOCK_GENRE_ALBUMS, Long.class, genreId);
+    }
+
+    /**
+     * Removes a genre from every album that has it, e.g. before the genre is
+     * deleted. The albums are locked in id order, and each gets a new version
+     * and album_view row. Only the links of locked albums are deleted; a link
+     * committed by a concurrent {@link #link} in the meantime is picked up
+     * (locked and removed) by the next round.
+     *
+     * @return the number of albums the genre was removed from
+     */
+    public int unlinkGenre(Long genreId) {
+        int unlinked = 0;
+        for (List<Long> albumIds = lockGenreAlbums(genreId); !albumIds.isEmpty(); albumIds = lockGenreAlbums(genreId)) {
+            jdbc.batchUpdate(DELETE_LINK, albumIds.stream().map(id -> new Object[] { id, genreId }).toList());
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            jdbc.batchUpdate(BUMP_ALBUM_VERSION, albumIds.stream().map(id -> new Object[] { now, id }).toList());
+            albumViews.refresh(albumIds);
+            albumIds.forEach(id -> refreshIfLoaded(Album.class, id));
+            unlinked += albumIds.size();
+        }
+        if (unlinked > 0) {
+            refreshIfLoaded(Genre.class, genreId);
+        }
+        return unlinked;
+    }
+
+    private void lockAlbum(Long albumId) {
+        em.flush();
+        List<Long> locked = jdbc.queryForList(LOCK_ALBUM, Long.class, albumId);
+        if (locked.isEmpty()) {
+            throw new ResourceNotFoundException("Album with id " + albumId + " not found");
+        }
+    }
+
+    private void requireGenre(Long genreId) {
+        Integer count = jdbc.queryForObject("SELECT COUNT(*) FROM genre WHERE genre_id = ?", Integer.class, genreId);
+        if (count == null || count == 0) {
+            throw new ResourceNotFoundException("Genre with ID " + genreId + " not found");
+        }
+    }
+
+    private boolean changed(Long albumId, Long genreId, int rows) {
+        if (rows == 0) {
+            return false;
+        }
+        jdbc.update(BUMP_ALBUM_VERSION, Timestamp.valueOf(LocalDateTime.now()), albumId);
+        albumViews.refresh(List.of(albumId));
+        refreshIfLoaded(Album.class, albumId);
+        refreshIfLoaded(Genre.class, genreId);
+        return true;
+    }
+
+    // getReference returns the managed instance if there is one, otherwise an
+    // uninitialized proxy (no query); only loaded instances can be stale
+    private void refreshIfLoaded(Class<?> type, Long id) {
+        Object entity = em.getReference(type, id);
+        if (Hibernate.isInitialized(entity)) {
+            em.refresh(entity);
+        }
+    }
+}
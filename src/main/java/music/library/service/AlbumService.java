@@ -1,14 +1,18 @@
 package music.library.service;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-import org.hibernate.Hibernate;    // for explicit init
+import org.hibernate.Hibernate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,11 +20,14 @@ import lombok.RequiredArgsConstructor;
 import music.library.dto.CreateAlbumRequest;
 import music.library.dto.UpdateAlbumRequest;
 import music.library.entity.Album;
+import music.library.entity.AlbumView;
 import music.library.entity.Artist;
 import music.library.entity.Genre;
 import music.library.exception.DuplicateResourceException;
+import music.library.exception.PreconditionFailedException;
 import music.library.exception.ResourceNotFoundException;
 import music.library.repository.AlbumRepository;
+import music.library.repository.AlbumViewRepository;
 import music.library.repository.ArtistRepository;
 import music.library.repository.GenreRepository;
 import music.library.specification.AlbumSpecs;
@@ -39,6 +46,10 @@ import music.library.specification.AlbumSpecs;
  * - Advanced search with multiple criteria (title, release year range, genre)
  * - Pagination support for all list operations
  * 
+ * The paged list and the title/artist search read the album_view read model
+ * (see {@link AlbumView}): one table, no joins, no lazy loading. The writes
+ * here go through JPA and reach the view via AlbumViewChangeListener.
+ * 
  * Transaction Management: All methods run within a transaction to guarantee
  * a Hibernate Session exists for the entire method execution. This ensures
  * lazy-loaded collections can be accessed and bidirectional relationships
@@ -54,10 +65,14 @@ import music.library.specification.AlbumSpecs;
 @Transactional  // Guarantees a Hibernate Session lives for the entire method execution
 public class AlbumService {
 
+	private static final Logger log = LoggerFactory.getLogger(AlbumService.class);
+
 	// Repository dependencies injected via Lombok's @RequiredArgsConstructor
 	private final AlbumRepository albumRepo;
 	private final GenreRepository genreRepo;
 	private final ArtistRepository artistRepo;
+	private final AlbumGenreLinkService linkSvc;   // album_genre writes without loading either collection
+	private final AlbumViewRepository viewRepo;    // read model of the list and search endpoints
 	
 	// ========== CRUD Operations ==========
 
@@ -72,13 +87,13 @@ public class AlbumService {
 	}
 
 	/**
-	 * Retrieves all albums with pagination support.
+	 * Retrieves all albums with pagination support, from album_view.
 	 * 
 	 * @param pageable pagination parameters (page, size, sort)
 	 * @return paginated list of albums
 	 */
-	public Page<Album> findAll(Pageable pageable) {
-		return albumRepo.findAll(pageable);
+	public Page<AlbumView> findAll(Pageable pageable) {
+		return viewRepo.findAll(onView(pageable));
 	}
 
 	/**
@@ -93,6 +108,21 @@ public class AlbumService {
 				"Album with id " + id + " not found"));
 	}
 	
+	/**
+	 * Retrieves several albums by ID in a single query.
+	 * Artist and genres are fetched in the same query (entity graph).
+	 * Missing IDs are simply absent from the result.
+	 * 
+	 * @param ids the album IDs to load
+	 * @return the albums that exist, in no particular order
+	 */
+	public List<Album> findAllByIds(Collection<Long> ids) {
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		return albumRepo.findByAlbumIdIn(ids);
+	}
+	
 	/**
 	 * Searches albums by title or artist name.
 	 * Case-insensitive substring matching on both fields.
@@ -102,15 +132,17 @@ public class AlbumService {
 	 * - "abbey" finds "Abbey Road"
 	 * - "eagles" finds Eagles albums (not "Greatest" from "test")
 	 * 
+	 * Reads album_view, where the artist name is a column of the album row.
+	 * 
 	 * @param query the search term
 	 * @param pageable pagination parameters
 	 * @return paginated search results
 	 */
-	public Page<Album> searchByTitleOrArtist(String query, Pageable pageable) {
+	public Page<AlbumView> searchByTitleOrArtist(String query, Pageable pageable) {
 		if (query == null || query.isBlank()) {
-			return albumRepo.findAll(pageable);
+			return findAll(pageable);
 		}
-		return albumRepo.searchByTitleOrArtist(query.trim(), pageable);
+		return viewRepo.searchByTitleOrArtist(query.trim(), onView(pageable));
 	}
 
 	/**
@@ -157,15 +189,12 @@ public class AlbumService {
 	    // Fetch and validate all genres exist
 	    List<Genre> genres = new ArrayList<>();
 	    if (request.getGenreIds() != null && !request.getGenreIds().isEmpty()) {
-	        System.out.println("=== DEBUG: Request genreIds: " + request.getGenreIds());
 	        for (Long genreId : request.getGenreIds()) {
 	            Genre genre = genreRepo.findById(genreId)
 	                .orElseThrow(() -> new ResourceNotFoundException(
 	                    "Genre with ID " + genreId + " not found"));
-	            System.out.println("=== DEBUG: Fetched genre: " + genre.getGenreId() + " - " + genre.getName());
 	            genres.add(genre);
 	        }
-	        System.out.println("=== DEBUG: Total genres in list: " + genres.size());
 	    }
 	    
 	    // Build the album entity with validated relationships
@@ -178,12 +207,11 @@ public class AlbumService {
 	    album.setArtist(artist);
 	    
 	    Set<Genre> genreSet = new HashSet<>(genres);
-	    System.out.println("=== DEBUG: Genres in HashSet: " + genreSet.size());
-	    for (Genre g : genreSet) {
-	        System.out.println("=== DEBUG: Genre in set: " + g.getGenreId());
-	    }
-	    
 	    album.setGenres(genreSet);
+	    if (log.isDebugEnabled()) {
+	        log.debug("Creating album '{}' for artist {} with genres {}", request.getTitle(), artist.getArtistId(),
+	                genreSet.stream().map(Genre::getGenreId).toList());
+	    }
 	    
 	    return albumRepo.save(album);
 	}
@@ -207,8 +235,25 @@ public class AlbumService {
 	 * @throws ResourceNotFoundException if album, artist, or any genre ID not found
 	 */
 	public Album updateAlbum(Long id, UpdateAlbumRequest request) {
+	    return updateAlbum(id, null, request);
+	}
+
+	/**
+	 * Same as {@link #updateAlbum(Long, UpdateAlbumRequest)}, but only if the
+	 * album is still at {@code expectedVersion} (the client's If-Match).
+	 * An update that commits between our read and our write is caught by
+	 * Hibernate's version check and surfaces as an optimistic-lock failure.
+	 * 
+	 * @param expectedVersion version the client read, or null to skip the check
+	 * @throws PreconditionFailedException if the album is at another version
+	 */
+	public Album updateAlbum(Long id, Long expectedVersion, UpdateAlbumRequest request) {
 	    // Fetch and validate the album exists
 	    Album album = findById(id);
+	    if (expectedVersion != null && !expectedVersion.equals(album.getVersion())) {
+	        throw new PreconditionFailedException("Album with id " + id + " is at version "
+	            + album.getVersion() + ", not " + expectedVersion);
+	    }
 	    
 	    // Fetch and validate the artist exists
 	    Artist artist = artistRepo.findById(request.getArtistId())
@@ -278,50 +323,32 @@ public class AlbumService {
 	// ========== Many-to-Many Relationship Management ==========
 	
 	/**
-	 * Adds a genre to an album's genre collection.
-	 * Maintains bidirectional relationship consistency by updating both sides.
-	 * 
-	 * Important: Album owns the relationship (via @JoinTable), so changes to
-	 * album.genres are what actually modify the join table. However, we also
-	 * update genre.albums to keep the object graph consistent in memory.
+	 * Adds a genre to an album. Writes the album_genre row directly through
+	 * {@link AlbumGenreLinkService}, so the cost does not depend on how many
+	 * albums the genre already has. Adding a genre the album already has is
+	 * a no-op.
 	 * 
 	 * @param albumId the album ID
 	 * @param genreId the genre ID to add
-	 * @return the updated album with the new genre
+	 * @return the album, reloaded with its current genres
 	 * @throws ResourceNotFoundException if album or genre not found
 	 */
 	public Album addGenre(Long albumId, Long genreId) {
-		Album album = findById(albumId);
-		Genre genre = genreRepo.findById(genreId).orElseThrow(() -> new ResourceNotFoundException(
-				"Genre with ID " + genreId + " not found"));
-		album.getGenres().add(genre); // Owning side - this updates the join table
-		genre.getAlbums().add(album); // Inverse side - keeps object graph consistent
-        Hibernate.initialize(genre.getAlbums()); // Force initialization while transaction is open
-		albumRepo.save(album);
-		genreRepo.save(genre);
-		return album;
+		linkSvc.link(albumId, genreId);
+		return findById(albumId);
 	}
 
 	/**
-	 * Removes a genre from an album's genre collection.
-	 * Maintains bidirectional relationship consistency by updating both sides.
+	 * Removes a genre from an album (no-op if the album does not have it).
 	 * 
 	 * @param albumId the album ID
 	 * @param genreId the genre ID to remove
-	 * @return the updated album without the removed genre
+	 * @return the album, reloaded with its current genres
 	 * @throws ResourceNotFoundException if album or genre not found
 	 */
 	public Album removeGenre(Long albumId, Long genreId) {
-		Album album = findById(albumId);
-		Genre genre = genreRepo.findById(genreId).orElseThrow(() -> new ResourceNotFoundException(
-				"Genre with ID " + genreId + " not found"));
-		album.getGenres().remove(genre); // Owning side - updates join table
-		genre.getAlbums().remove(album); // Inverse side - keeps object graph consistent
-		Hibernate.initialize(genre.getAlbums()); // Initialize before transaction ends
-		// Explicit save makes intent clear (transaction will flush at commit anyway)
-		albumRepo.save(album);
-		genreRepo.save(genre);
-		return album;
+		linkSvc.unlink(albumId, genreId);
+		return findById(albumId);
 	}
 	
 	// ========== Search and Filtering ==========
@@ -343,26 +370,8 @@ public class AlbumService {
 	 * @return paginated search results
 	 */
 	public Page<Album> search(String title, Integer startYear, Integer endYear, Long genreId, Pageable pageable) {
-
-		Specification<Album> spec = null;
-
-		// Build specification dynamically based on provided criteria
-		if (title != null && !title.isBlank()) {
-		    spec = AlbumSpecs.titleContains(title);
-		}
-		if (startYear != null || endYear != null) {
-		    spec = (spec == null)
-		            ? AlbumSpecs.releasedBetween(startYear, endYear)
-		            : spec.and(AlbumSpecs.releasedBetween(startYear, endYear));
-		}
-		if (genreId != null) {
-		    spec = (spec == null)
-		            ? AlbumSpecs.hasGenre(genreId)
-		            : spec.and(AlbumSpecs.hasGenre(genreId));
-		}
-
 		// Null spec means "match everything" - returns all albums with pagination
-		return albumRepo.findAll(spec, pageable);
+		return withGenres(albumRepo.findAll(AlbumSpecs.matching(title, startYear, endYear, genreId), pageable));
 	}
 	
 	/**
@@ -386,4 +395,37 @@ public class AlbumService {
 	public List<Album> findByGenreId(Long genreId) {
 	    return albumRepo.findByGenres_GenreId(genreId);
 	}
+
+	/**
+	 * Maps sort properties of Album to their album_view columns: the scalar
+	 * properties have the same names, the artist is flattened
+	 * (artist.name -> artistName).
+	 */
+	private static Pageable onView(Pageable pageable) {
+		if (pageable.isUnpaged() || pageable.getSort().isUnsorted()) {
+			return pageable;
+		}
+		List<Sort.Order> orders = new ArrayList<>();
+		for (Sort.Order order : pageable.getSort()) {
+			String property = switch (order.getProperty()) {
+				case "artist.name" -> "artistName";
+				case "artist.artistId", "artist.id" -> "artistId";
+				default -> order.getProperty();
+			};
+			orders.add(order.withProperty(property));
+		}
+		return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(orders));
+	}
+
+	/**
+	 * Initializes the genres of a page of albums while the transaction is
+	 * still open. The first access batch-loads the genre sets of the whole
+	 * page (@BatchSize on Album.genres); Hibernate only batches inside a
+	 * transaction, so leaving it to JSON serialization would cost one query
+	 * per album.
+	 */
+	private Page<Album> withGenres(Page<Album> page) {
+		page.forEach(album -> Hibernate.initialize(album.getGenres()));
+		return page;
+	}
 }
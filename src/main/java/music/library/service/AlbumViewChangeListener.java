@@ -0,0 +1,170 @@
+package music.library.service;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import music.library.entity.Album;
+import music.library.entity.Artist;
+import music.library.entity.Genre;
+
+/**
+ * Brings album_view up to date for everything written through JPA:
+ * AlbumService, ArtistService and GenreService, and any repository save or
+ * delete.
+ *
+ * Hibernate reports each flushed change; the listener only records what was
+ * touched, per session:
+ * - albums inserted, updated or deleted, or whose genre links changed
+ * - artists whose name changed (the rename fans out to all their albums)
+ * - genres whose name changed (likewise)
+ * Right before the transaction commits, after the last flush, the recorded
+ * changes are handed to {@link AlbumViewService}, which rewrites the rows
+ * from the tables. A transaction that rolls back writes nothing.
+ *
+ * Description or timestamp-only changes of artists and genres are ignored;
+ * the view does not carry them.
+ */
+@Component
+@RequiredArgsConstructor
+public class AlbumViewChangeListener implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener,
+        PostCollectionRemoveEventListener {
+
+    private final EntityManagerFactory emf;
+    private final AlbumViewService views;
+
+    // Changes recorded per session, until its transaction completes
+    private final Map<SharedSessionContractImplementor, Changes> pending = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = emf.unwrap(SessionFactoryImplementor.class).getServiceRegistry()
+                .requireService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof Album album) {
+            changes(event.getSession()).albumIds.add(album.getAlbumId());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object entity = event.getEntity();
+        if (entity instanceof Album album) {
+            changes(event.getSession()).albumIds.add(album.getAlbumId());
+        } else if (entity instanceof Artist artist && nameChanged(event)) {
+            changes(event.getSession()).artistIds.add(artist.getArtistId());
+        } else if (entity instanceof Genre genre && nameChanged(event)) {
+            changes(event.getSession()).genreIds.add(genre.getGenreId());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Album album) {
+            changes(event.getSession()).albumIds.add(album.getAlbumId());
+        }
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        collectionChanged(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        collectionChanged(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        collectionChanged(event);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    // Album.genres is the owning side of album_genre; the inverse collections write nothing
+    private void collectionChanged(AbstractCollectionEvent event) {
+        if (event.getAffectedOwnerOrNull() instanceof Album album) {
+            changes(event.getSession()).albumIds.add(album.getAlbumId());
+        }
+    }
+
+    private static boolean nameChanged(PostUpdateEvent event) {
+        int name = Arrays.asList(event.getPersister().getPropertyNames()).indexOf("name");
+        Object[] old = event.getOldState();
+        return old == null || !Objects.equals(old[name], event.getState()[name]);
+    }
+
+    private Changes changes(EventSource session) {
+        return pending.computeIfAbsent(session, s -> {
+            Changes changes = new Changes();
+            session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) changes);
+            session.getActionQueue().registerProcess((AfterTransactionCompletionProcess) changes);
+            return changes;
+        });
+    }
+
+    private final class Changes implements BeforeTransactionCompletionProcess, AfterTransactionCompletionProcess {
+
+        final Set<Long> albumIds = new HashSet<>();
+        final Set<Long> artistIds = new HashSet<>();
+        final Set<Long> genreIds = new HashSet<>();
+
+        @Override
+        public void doBeforeTransactionCompletion(SessionImplementor session) {
+            artistIds.forEach(views::refreshArtist);
+            genreIds.forEach(views::refreshGenre);
+            if (!albumIds.isEmpty()) {
+                views.refresh(albumIds);
+            }
+        }
+
+        @Override
+        public void doAfterTransactionCompletion(boolean success, SharedSessionContractImplementor session) {
+            pending.remove(session);
+        }
+    }
+}
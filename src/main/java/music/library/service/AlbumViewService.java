@@ -0,0 +1,206 @@
+package music.library.service;
+
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+import music.library.entity.AlbumView;
+import music.library.entity.AlbumView.GenreRef;
+
+/**
+ * Writes the album_view read model ({@link AlbumView}) that the album list
+ * and search endpoints read.
+ *
+ * A row is rebuilt from album, artist and album_genre/genre rather than
+ * patched, so every write path only has to say which albums it touched:
+ * 1. DELETE the view rows of those albums
+ * 2. SELECT the albums with their artist names, and their genres
+ * 3. INSERT the rows again (one JDBC batch); albums that no longer exist
+ *    simply get no row
+ * Four statements per {@code albums.view.chunk-size} albums.
+ *
+ * Step 2 is a locking read (FOR SHARE on MySQL, FOR UPDATE on H2, which has
+ * no shared row locks). A plain read under REPEATABLE READ would see the
+ * transaction's snapshot: if an artist or genre rename committed after it
+ * was taken, the row would be rewritten with the old name after the
+ * rename's UPDATE, and stay stale. The locking read sees the latest
+ * committed names, or waits for a rename in flight.
+ *
+ * Every method but {@link #rebuild()} runs in the caller's transaction
+ * (propagation MANDATORY), so the view commits or rolls back together with
+ * the change it reflects. JPA writes reach it through
+ * {@link AlbumViewChangeListener}; the JDBC write paths (genre links,
+ * tagging, bulk, artist deletion, snapshots, the generator) call it
+ * themselves.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class AlbumViewService implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(AlbumViewService.class);
+
+    private static final String ALBUM_ROWS =
+            "SELECT a.album_id, a.title, a.release_date, a.cover_image_url, a.track_count, a.catalog_number, "
+            + "a.created_at, a.updated_at, a.version, a.artist_id, ar.name AS artist_name "
+            + "FROM album a JOIN artist ar ON ar.artist_id = a.artist_id WHERE a.album_id IN (:ids) ";
+    private static final String GENRE_ROWS =
+            "SELECT ag.album_id, g.genre_id, g.name FROM album_genre ag JOIN genre g ON g.genre_id = ag.genre_id "
+            + "WHERE ag.album_id IN (:ids) ORDER BY g.name ";
+    private static final String INSERT_ROW =
+            "INSERT INTO album_view (album_id, title, release_date, release_year, cover_image_url, track_count, "
+            + "catalog_number, created_at, updated_at, version, artist_id, artist_name, genres) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int[] INSERT_TYPES = { Types.BIGINT, Types.VARCHAR, Types.DATE, Types.INTEGER,
+            Types.VARCHAR, Types.INTEGER, Types.VARCHAR, Types.TIMESTAMP, Types.TIMESTAMP, Types.BIGINT,
+            Types.BIGINT, Types.VARCHAR, Types.VARCHAR };
+    private static final String RENAME_ARTIST =
+            "UPDATE album_view SET artist_name = (SELECT name FROM artist WHERE artist_id = ?) WHERE artist_id = ?";
+
+    private static final AlbumView.GenreRefsConverter GENRES = new AlbumView.GenreRefsConverter();
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate namedJdbc;
+
+    // FOR SHARE or FOR UPDATE, resolved from the database on first use
+    private volatile String lockingRead;
+
+    // Albums per SELECT / INSERT batch
+    @Value("${albums.view.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    /**
+     * Rewrites the view rows of the given albums from the catalog tables;
+     * rows of albums that were deleted are removed.
+     */
+    public void refresh(Collection<Long> albumIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(albumIds));
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            namedJdbc.update("DELETE FROM album_view WHERE album_id IN (:ids)", new MapSqlParameterSource("ids", chunk));
+            write(chunk);
+        }
+    }
+
+    /**
+     * Copies an artist's (new) name into the rows of all its albums, one
+     * UPDATE through idx_album_view_artist however many albums it has.
+     */
+    public void refreshArtist(Long artistId) {
+        jdbc.update(RENAME_ARTIST, artistId, artistId);
+    }
+
+    /**
+     * Rewrites the rows of every album that has the genre, e.g. after a rename.
+     */
+    public void refreshGenre(Long genreId) {
+        refresh(jdbc.queryForList("SELECT album_id FROM album_genre WHERE genre_id = ? " + lockingRead(), Long.class,
+                genreId));
+    }
+
+    /**
+     * Removes the rows of an artist's albums (the albums are deleted with set-based SQL).
+     */
+    public void deleteArtist(Long artistId) {
+        jdbc.update("DELETE FROM album_view WHERE artist_id = ?", artistId);
+    }
+
+    /**
+     * Rebuilds the whole view from the catalog tables, walking the albums in
+     * id order one chunk at a time.
+     *
+     * @return the number of rows written
+     */
+    @Transactional
+    public int rebuild() {
+        long start = System.nanoTime();
+        jdbc.update("DELETE FROM album_view");
+        int rows = 0;
+        long after = 0;
+        while (true) {
+            List<Long> ids = jdbc.queryForList("SELECT album_id FROM album WHERE album_id > ? ORDER BY album_id LIMIT ?",
+                    Long.class, after, chunkSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            rows += write(ids);
+            after = ids.get(ids.size() - 1);
+        }
+        log.info("Rebuilt album_view ({} rows) in {} ms", rows, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    /**
+     * Fills the view on the first start after it was added (db/migration/V7
+     * creates it empty), or whenever it is empty while albums exist.
+     */
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        if (hasRows("album_view") || !hasRows("album")) {
+            return;
+        }
+        rebuild();
+    }
+
+    // Inserts the rows of albums that have no row (any old row was deleted first)
+    private int write(List<Long> albumIds) {
+        MapSqlParameterSource ids = new MapSqlParameterSource("ids", albumIds);
+        Map<Long, List<GenreRef>> genres = new HashMap<>();
+        namedJdbc.query(GENRE_ROWS + lockingRead(), ids, (ResultSet rs) -> {
+            genres.computeIfAbsent(rs.getLong("album_id"), id -> new ArrayList<>())
+                    .add(new GenreRef(rs.getLong("genre_id"), rs.getString("name")));
+        });
+        List<Object[]> rows = namedJdbc.query(ALBUM_ROWS + lockingRead(), ids, (rs, n) -> row(rs, genres));
+        if (!rows.isEmpty()) {
+            jdbc.batchUpdate(INSERT_ROW, rows, INSERT_TYPES);
+        }
+        return rows.size();
+    }
+
+    private static Object[] row(ResultSet rs, Map<Long, List<GenreRef>> genres) throws SQLException {
+        long albumId = rs.getLong("album_id");
+        Date releaseDate = rs.getDate("release_date");
+        return new Object[] { albumId, rs.getString("title"), releaseDate,
+                releaseDate != null ? releaseDate.toLocalDate().getYear() : null, rs.getString("cover_image_url"),
+                rs.getObject("track_count", Integer.class), rs.getString("catalog_number"),
+                rs.getTimestamp("created_at"), rs.getTimestamp("updated_at"), rs.getLong("version"),
+                rs.getLong("artist_id"), rs.getString("artist_name"),
+                GENRES.convertToDatabaseColumn(genres.getOrDefault(albumId, List.of())) };
+    }
+
+    private String lockingRead() {
+        if (lockingRead == null) {
+            String product = jdbc.execute((ConnectionCallback<String>) con -> con.getMetaData().getDatabaseProductName());
+            lockingRead = product != null && product.contains("MySQL") ? "FOR SHARE" : "FOR UPDATE";
+        }
+        return lockingRead;
+    }
+
+    private boolean hasRows(String table) {
+        Integer any = jdbc.queryForObject("SELECT COUNT(*) FROM (SELECT 1 FROM " + table + " LIMIT 1) t",
+                Integer.class);
+        return any != null && any > 0;
+    }
+}
@@ -0,0 +1,85 @@
+package music.library.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import music.library.dto.ArtistDeletionResponse;
+import music.library.entity.Album;
+import music.library.entity.Artist;
+import music.library.exception.ResourceNotFoundException;
+
+/**
+ * Deletes an artist together with its albums and their genre links using a
+ * few set-based statements in one transaction.
+ *
+ * Going through JPA ({@code artistRepo.deleteById}) cascades via
+ * {@code Artist.albums} (CascadeType.ALL, orphanRemoval): Hibernate loads
+ * every album, then each album's genre collection, and deletes them row by
+ * row, i.e. thousands of statements for a prolific artist. Here the cost is
+ * six statements however many albums the artist has:
+ * 1. Lock the artist row (404 if missing)
+ * 2. Lock the artist's album rows, album rows before album_genre as in
+ *    AlbumGenreLinkService
+ * 3. DELETE the album_genre rows of those albums
+ * 4. DELETE the albums
+ * 5. DELETE the artist
+ * 6. DELETE the albums' album_view rows (AlbumViewService)
+ *
+ * Because the rows are removed behind Hibernate's back, pending changes are
+ * flushed first, and afterwards the persistence context is cleared and the
+ * artist and album entries are evicted from the second-level cache (a no-op
+ * while no L2 cache is configured), so no stale copy survives.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class ArtistDeletionService {
+
+    private static final Logger log = LoggerFactory.getLogger(ArtistDeletionService.class);
+
+    private final JdbcTemplate jdbc;
+    private final AlbumViewService albumViews;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    /**
+     * Deletes the artist, its albums and their genre links.
+     *
+     * @param artistId the artist ID
+     * @return the number of albums and genre links removed with the artist
+     * @throws ResourceNotFoundException if the artist does not exist
+     */
+    public ArtistDeletionResponse delete(Long artistId) {
+        em.flush();
+
+        List<Long> artist = jdbc.queryForList("SELECT artist_id FROM artist WHERE artist_id = ? FOR UPDATE",
+                Long.class, artistId);
+        if (artist.isEmpty()) {
+            throw new ResourceNotFoundException("Artist with ID " + artistId + " not found");
+        }
+        jdbc.queryForList("SELECT album_id FROM album WHERE artist_id = ? ORDER BY album_id FOR UPDATE",
+                Long.class, artistId);
+
+        int links = jdbc.update(
+                "DELETE FROM album_genre WHERE album_id IN (SELECT album_id FROM album WHERE artist_id = ?)", artistId);
+        int albums = jdbc.update("DELETE FROM album WHERE artist_id = ?", artistId);
+        jdbc.update("DELETE FROM artist WHERE artist_id = ?", artistId);
+        albumViews.deleteArtist(artistId);
+
+        em.clear();
+        em.getEntityManagerFactory().getCache().evict(Artist.class, artistId);
+        em.getEntityManagerFactory().getCache().evict(Album.class);
+
+        log.info("Deleted artist {} with {} albums and {} genre links", artistId, albums, links);
+        return new ArtistDeletionResponse(artistId, albums, links);
+    }
+}
@@ -1,5 +1,6 @@
 package music.library.service;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.domain.Page;
@@ -14,8 +15,10 @@ import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import music.library.entity.Artist;
 import music.library.exception.DuplicateResourceException;
+import music.library.exception.PreconditionFailedException;
 import music.library.exception.ResourceNotFoundException;
 import music.library.repository.ArtistRepository;
+import music.library.dto.ArtistDeletionResponse;
 import music.library.dto.CreateArtistRequest;
 import music.library.dto.UpdateArtistRequest;
 
@@ -42,6 +45,7 @@ public class ArtistService {
 
     // Repository dependency injected via Lombok's @RequiredArgsConstructor
     private final ArtistRepository repo;
+    private final ArtistDeletionService deletionSvc;   // set-based delete of the artist and its albums
 
     /**
      * Retrieves all artists without pagination.
@@ -84,6 +88,20 @@ public class ArtistService {
         		"Artist with ID " + id + " not found"));
     }
 
+    /**
+     * Retrieves several artists by ID in a single query.
+     * Missing IDs are simply absent from the result.
+     * 
+     * @param ids the artist IDs to load
+     * @return the artists that exist, in no particular order
+     */
+    public List<Artist> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return repo.findAllById(ids);
+    }
+
     /**
      * Creates a new artist from an Artist entity.
      * Checks for duplicate artist names before saving.
@@ -138,8 +156,23 @@ public class ArtistService {
      * @throws ResourceNotFoundException if artist not found
      */
     public Artist updateArtist(Long id, UpdateArtistRequest request) {
+        return updateArtist(id, null, request);
+    }
+
+    /**
+     * Same as {@link #updateArtist(Long, UpdateArtistRequest)}, but only if the
+     * artist is still at {@code expectedVersion} (the client's If-Match).
+     * 
+     * @param expectedVersion version the client read, or null to skip the check
+     * @throws PreconditionFailedException if the artist is at another version
+     */
+    public Artist updateArtist(Long id, Long expectedVersion, UpdateArtistRequest request) {
         // Fetch and validate the artist exists
         Artist artist = findById(id);
+        if (expectedVersion != null && !expectedVersion.equals(artist.getVersion())) {
+            throw new PreconditionFailedException("Artist with ID " + id + " is at version "
+                    + artist.getVersion() + ", not " + expectedVersion);
+        }
         
         // Update the artist fields
         artist.setName(request.getName());
@@ -165,14 +198,15 @@ public class ArtistService {
     }
 
     /**
-     * Deletes an artist by ID.
-     * Transactional annotation ensures clean deletion with cascade of orphaned albums.
-     * This guarantees database consistency when deleting artists.
+     * Deletes an artist by ID, together with its albums and their genre links.
+     * Uses set-based statements (see {@link ArtistDeletionService}) instead of
+     * cascading through every loaded album.
      * 
      * @param id the artist ID to delete
+     * @return how many albums and genre links were removed with the artist
+     * @throws ResourceNotFoundException if artist not found
      */
-    @Transactional
-    public void delete(Long id) {
-        repo.deleteById(id);
+    public ArtistDeletionResponse delete(Long id) {
+        return deletionSvc.delete(id);
     }
 }
@@ -0,0 +1,432 @@
+package music.library.service;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+import music.library.config.CatalogGeneratorProperties;
+
+/**
+ * Generates a large, realistic synthetic catalog for scale testing and
+ * bulk-loads it with JDBC batches (MySQL or H2).
+ *
+ * Runs at startup when {@code catalog-generator.albums} is above zero and the
+ * catalog is empty or still holds only the V2 seed rows (which Flyway puts
+ * into every fresh MySQL database; they are replaced), e.g.
+ * {@code --catalog-generator.albums=1000000} for 1M albums, 100k artists and
+ * 300 genres. Capture the result as a snapshot (POST /api/snapshots/{name})
+ * to get it back in seconds later.
+ *
+ * Shape of the data:
+ * - artist and genre popularity are Zipfian (a few artists and genres have
+ *   most albums, most have a handful); popularity ranks are shuffled over
+ *   the ids, so popular rows are not clustered at low ids
+ * - every artist has at least one album (when there are enough albums)
+ * - album titles have 1-10 words (mostly 1-3), with Zipfian word frequency,
+ *   so searches match anything from a handful to a large share of albums
+ * - release years from 1950 to 2025, more albums in recent decades
+ * - 1-3 genres per album, EPs, LPs and compilations, most with a catalog number
+ *
+ * Rows are inserted with explicit ids (1..n), parents before children, and
+ * the identity counters are moved past them afterwards; album_view is
+ * rebuilt from the new rows at the end. The same seed and
+ * sizes always produce the same rows (timestamps aside).
+ *
+ * @see CatalogGeneratorProperties
+ */
+@Service
+@RequiredArgsConstructor
+public class CatalogGenerator implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogGenerator.class);
+
+    private static final int FIRST_YEAR = 1950;
+    private static final int LAST_YEAR = 2025;
+
+    private static final List<String> GENRES = List.of("Rock", "Pop", "Jazz", "Blues", "Hip Hop", "Electronic",
+            "Classical", "Country", "Folk", "Reggae", "Soul", "Funk", "Metal", "Punk", "R&B", "Gospel", "Disco",
+            "House", "Techno", "Trance", "Ambient", "Dubstep", "Drum and Bass", "Ska", "Grunge", "Indie",
+            "Alternative", "Latin", "Salsa", "Bossa Nova", "Samba", "Flamenco", "Afrobeat", "K-Pop", "J-Pop",
+            "Opera", "Bluegrass", "Swing", "Bebop", "Fusion", "Trip Hop", "Shoegaze", "Emo", "Hardcore",
+            "Garage", "Synthwave", "Lo-Fi", "New Wave", "Industrial", "World");
+    private static final List<String> GENRE_PREFIXES = List.of("Progressive", "Psychedelic", "Experimental",
+            "Acoustic", "Dark", "Neo", "Post", "Avant-Garde", "Melodic", "Minimal", "Contemporary", "Traditional",
+            "Symphonic", "Instrumental");
+
+    private static final List<String> FIRST_NAMES = List.of("James", "Mary", "John", "Patricia", "Robert",
+            "Jennifer", "Michael", "Linda", "David", "Elizabeth", "William", "Barbara", "Richard", "Susan", "Joseph",
+            "Jessica", "Thomas", "Sarah", "Carlos", "Lucia", "Kenji", "Yuki", "Amara", "Kwame", "Ingrid", "Lars",
+            "Priya", "Ravi", "Sofia", "Mateo", "Chloe", "Noah", "Aisha", "Omar", "Elena", "Ivan", "Mei", "Wei",
+            "Fatima", "Diego");
+    private static final List<String> LAST_NAMES = List.of("Smith", "Johnson", "Williams", "Brown", "Jones",
+            "Garcia", "Miller", "Davis", "Rodriguez", "Martinez", "Hernandez", "Lopez", "Wilson", "Anderson",
+            "Taylor", "Thomas", "Moore", "Jackson", "Martin", "Lee", "Thompson", "White", "Harris", "Clark",
+            "Lewis", "Young", "Walker", "Hall", "Allen", "King", "Nakamura", "Okafor", "Svensson", "Kowalski",
+            "Rossi", "Dubois", "Novak", "Silva", "Kim", "Chen");
+    private static final List<String> ADJECTIVES = List.of("Black", "Silver", "Electric", "Velvet", "Broken",
+            "Golden", "Midnight", "Crimson", "Wild", "Lost", "Neon", "Hollow", "Burning", "Frozen", "Atomic",
+            "Cosmic", "Rusty", "Quiet", "Savage", "Lucky");
+    private static final List<String> NOUNS = List.of("Wolves", "Lions", "Ravens", "Machines", "Kings", "Angels",
+            "Ghosts", "Riders", "Saints", "Strangers", "Satellites", "Horses", "Pilots", "Tigers", "Sparrows",
+            "Echoes", "Rebels", "Monks", "Sisters", "Brothers");
+    private static final List<String> CITIES = List.of("London", "Detroit", "Memphis", "Berlin", "Tokyo", "Lagos",
+            "Kingston", "Seattle", "Manchester", "Havana", "Stockholm", "Montreal", "Melbourne", "Nashville",
+            "Paris", "Chicago", "Seoul", "Rio de Janeiro", "Bristol", "New Orleans");
+    private static final List<String> LABELS = List.of("CAT", "EMI", "SONY", "WB", "ATL", "COL", "BLUE", "ECM",
+            "XL", "SUB", "MERGE", "4AD", "ROUGH", "DOMINO", "WARP");
+    // Most frequent first (Zipfian word frequency in titles)
+    private static final List<String> TITLE_WORDS = List.of("love", "the", "night", "heart", "of", "time",
+            "life", "dream", "world", "light", "blue", "home", "fire", "live", "soul", "dance", "rain", "road",
+            "city", "moon", "sun", "days", "summer", "gold", "wild", "river", "song", "sky", "shadows", "hope",
+            "forever", "again", "stars", "black", "angel", "paradise", "highway", "ocean", "storm", "winter",
+            "electric", "midnight", "silver", "echoes", "stone", "freedom", "thunder", "velvet", "garden",
+            "mirror", "horizon", "island", "machine", "rebel", "signal", "spirit", "sunset", "tide", "gravity",
+            "neon", "harmony", "memories", "journey", "kingdom", "secrets", "revolution", "symphony", "whispers",
+            "wonder", "voices", "colours", "diamonds", "ghosts", "rhythm", "blossom", "canyon", "desert",
+            "frontier", "lullaby", "mountain", "odyssey", "prism", "serenade", "wanderer", "avalanche", "cathedral",
+            "eclipse", "labyrinth", "nocturne", "requiem", "solstice", "tempest", "zenith", "aurora", "chrysalis",
+            "meridian", "obsidian", "quasar", "vermilion");
+    private static final List<String> EDITIONS = List.of(" (Deluxe Edition)", " (Live)", " (Remastered)",
+            " (Expanded Edition)", " (Anniversary Edition)");
+    // Words per title: index = count - 1
+    private static final double[] TITLE_LENGTH_WEIGHTS = { 25, 30, 20, 12, 7, 3, 1.5, 0.7, 0.5, 0.3 };
+    // Genres per album: 55% one, 30% two, 15% three
+    private static final double[] GENRE_COUNT_CUMULATIVE = cumulative(new double[] { 55, 30, 15 });
+
+    // Rows inserted by V2__Seed_Data.sql, which the generator may replace
+    private static final Map<String, Integer> SEED_ROWS = Map.of("genre", 8, "artist", 10, "album", 19);
+    private static final int SEED_LINKS = 25;
+
+    private final JdbcTemplate jdbc;
+    private final SnapshotService snapshotService;
+    private final AlbumViewService albumViews;
+    private final CatalogGeneratorProperties props;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (props.getAlbums() <= 0) {
+            return;
+        }
+        if (!isCatalogEmpty()) {
+            if (!holdsOnlySeed()) {
+                log.info("catalog-generator.albums is set but the catalog already has data; nothing generated");
+                return;
+            }
+            log.info("Replacing the V2 seed catalog with a generated one");
+            snapshotService.truncateAll();
+        }
+        generate(props);
+    }
+
+    /**
+     * Generates and loads a catalog of the given size into the (empty) catalog tables.
+     *
+     * @return rows inserted per table
+     * @throws IllegalStateException if any catalog table has rows
+     */
+    public Map<String, Integer> generate(CatalogGeneratorProperties spec) {
+        if (!isCatalogEmpty()) {
+            throw new IllegalStateException("The catalog must be empty to generate into it; reset it first");
+        }
+        long start = System.nanoTime();
+        SplittableRandom random = new SplittableRandom(spec.getSeed());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int genres = spec.getGenres();
+        int artists = spec.artistCount();
+        int batchSize = spec.getBatchSize();
+        log.info("Generating catalog: {} albums, {} artists, {} genres (seed {})", spec.getAlbums(), artists,
+                genres, spec.getSeed());
+
+        Batch genreRows = new Batch(
+                "INSERT INTO genre (genre_id, name, description, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, 0)",
+                batchSize, null);
+        List<String> genreNames = genreNames(genres, random);
+        for (int id = 1; id <= genres; id++) {
+            String name = genreNames.get(id - 1);
+            genreRows.add(id, name, name + " music, as catalogued by the synthetic generator.", now, now);
+        }
+        genreRows.flush();
+
+        Batch artistRows = new Batch(
+                "INSERT INTO artist (artist_id, name, description, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, 0)",
+                batchSize, null);
+        Map<String, Integer> artistNames = new HashMap<>();
+        for (int id = 1; id <= artists; id++) {
+            String name = unique(artistName(random), artistNames);
+            String bio = random.nextInt(10) < 6
+                    ? name + " is an artist from " + pick(CITIES, random) + ", recording since "
+                            + (FIRST_YEAR + random.nextInt(LAST_YEAR - FIRST_YEAR)) + "."
+                    : null;
+            artistRows.add(id, name, bio, now, now);
+        }
+        artistRows.flush();
+
+        int[] artistByRank = permutation(artists, random);
+        int[] genreByRank = permutation(genres, random);
+        ZipfDistribution artistPopularity = new ZipfDistribution(artists, spec.getArtistExponent());
+        ZipfDistribution genrePopularity = new ZipfDistribution(genres, spec.getGenreExponent());
+        ZipfDistribution titleWords = new ZipfDistribution(TITLE_WORDS.size(), 1.0);
+        double[] yearWeights = new double[LAST_YEAR - FIRST_YEAR + 1];
+        for (int y = 0; y < yearWeights.length; y++) {
+            yearWeights[y] = Math.pow(1.04, y); // releases per year grow ~4% a year
+        }
+        double[] yearCumulative = cumulative(yearWeights);
+        double[] lengthCumulative = cumulative(TITLE_LENGTH_WEIGHTS);
+
+        Batch albumRows = new Batch("INSERT INTO album (album_id, title, release_date, track_count, catalog_number, "
+                + "artist_id, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", batchSize, null);
+        Batch linkRows = new Batch("INSERT INTO album_genre (album_id, genre_id) VALUES (?, ?)", batchSize,
+                albumRows);
+        Set<String> titles = new HashSet<>();
+        Map<String, Integer> volumes = new HashMap<>();
+        int links = 0;
+        for (int id = 1; id <= spec.getAlbums(); id++) {
+            int artistId = id <= artists ? id : artistByRank[artistPopularity.sample(random)];
+            String title = uniqueTitle(title(random, titleWords, lengthCumulative), titles, volumes);
+            Date released = random.nextInt(100) < 3 ? null
+                    : Date.valueOf(LocalDate.ofYearDay(FIRST_YEAR + draw(yearCumulative, random),
+                            1 + random.nextInt(365)));
+            String catalogNumber = random.nextInt(10) < 8
+                    ? pick(LABELS, random) + "-" + String.format("%07d", id)
+                    : null;
+            albumRows.add(id, title, released, trackCount(random), catalogNumber, artistId, now, now);
+
+            int count = Math.min(genres, 1 + draw(GENRE_COUNT_CUMULATIVE, random));
+            Set<Integer> albumGenres = new HashSet<>();
+            while (albumGenres.size() < count) {
+                albumGenres.add(genreByRank[genrePopularity.sample(random)]);
+            }
+            for (int genreId : albumGenres.stream().sorted().toList()) {
+                linkRows.add(id, genreId);
+                links++;
+            }
+        }
+        linkRows.flush();
+        snapshotService.syncIdentities();
+        albumViews.rebuild();
+
+        Map<String, Integer> rows = new LinkedHashMap<>();
+        rows.put("genre", genres);
+        rows.put("artist", artists);
+        rows.put("album", spec.getAlbums());
+        rows.put("album_genre", links);
+        log.info("Generated catalog {} in {} ms", rows, (System.nanoTime() - start) / 1_000_000);
+        return rows;
+    }
+
+    // The catalog is exactly what V2__Seed_Data.sql inserted: the seed's row
+    // counts, no ids beyond them (nothing deleted and re-added) and every row
+    // still at version 0 (nothing edited since)
+    boolean holdsOnlySeed() {
+        for (Map.Entry<String, Integer> seed : SEED_ROWS.entrySet()) {
+            String table = seed.getKey();
+            Map<String, Object> row = jdbc.queryForMap("SELECT COUNT(*) AS n, MAX(" + table + "_id) AS max_id, "
+                    + "MAX(version) AS max_version FROM " + table);
+            if (((Number) row.get("n")).intValue() != seed.getValue()
+                    || ((Number) row.get("max_id")).intValue() != seed.getValue()
+                    || ((Number) row.get("max_version")).longValue() != 0) {
+                return false;
+            }
+        }
+        return jdbc.queryForObject("SELECT COUNT(*) FROM album_genre", Integer.class) == SEED_LINKS;
+    }
+
+    private boolean isCatalogEmpty() {
+        for (String table : SnapshotService.TABLES) {
+            Integer any = jdbc.queryForObject("SELECT COUNT(*) FROM (SELECT 1 FROM " + table + " LIMIT 1) t",
+                    Integer.class);
+            if (any != null && any > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // ========== Names and titles ==========
+
+    // Plain genres first, then "Prefix Genre" combinations in random order, then numbered
+    private static List<String> genreNames(int count, SplittableRandom random) {
+        List<String> names = new ArrayList<>(GENRES);
+        List<String> combined = new ArrayList<>();
+        for (String prefix : GENRE_PREFIXES) {
+            for (String genre : GENRES) {
+                combined.add(prefix + " " + genre);
+            }
+        }
+        for (int i = combined.size() - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            String swap = combined.get(i);
+            combined.set(i, combined.get(j));
+            combined.set(j, swap);
+        }
+        names.addAll(combined);
+        for (int n = 2; names.size() < count; n++) {
+            for (int i = 0; i < GENRES.size() + combined.size() && names.size() < count; i++) {
+                names.add(names.get(i) + " " + n);
+            }
+        }
+        return names.subList(0, count);
+    }
+
+    private static String artistName(SplittableRandom random) {
+        return switch (random.nextInt(4)) {
+            case 0, 1 -> pick(FIRST_NAMES, random) + " " + pick(LAST_NAMES, random);
+            case 2 -> "The " + pick(ADJECTIVES, random) + " " + pick(NOUNS, random);
+            default -> pick(ADJECTIVES, random) + " " + pick(NOUNS, random);
+        };
+    }
+
+    private static String title(SplittableRandom random, ZipfDistribution words, double[] lengthCumulative) {
+        int length = 1 + draw(lengthCumulative, random);
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            String word = TITLE_WORDS.get(words.sample(random));
+            title.append(i == 0 ? "" : " ").append(Character.toUpperCase(word.charAt(0))).append(word, 1,
+                    word.length());
+        }
+        return title.toString();
+    }
+
+    // Titles are unique (case-insensitive); repeats become editions, then volumes.
+    // The next volume per title is remembered, so common titles stay O(1).
+    private static String uniqueTitle(String title, Set<String> seen, Map<String, Integer> volumes) {
+        String key = title.toLowerCase(Locale.ROOT);
+        if (seen.add(key)) {
+            return title;
+        }
+        for (String edition : EDITIONS) {
+            if (seen.add((title + edition).toLowerCase(Locale.ROOT))) {
+                return title + edition;
+            }
+        }
+        for (int volume = volumes.getOrDefault(key, 2);; volume++) {
+            String candidate = title + ", Vol. " + volume;
+            if (seen.add(candidate.toLowerCase(Locale.ROOT))) {
+                volumes.put(key, volume + 1);
+                return candidate;
+            }
+        }
+    }
+
+    // Names are unique; repeats get a number, the way Discogs disambiguates artists ("Nirvana (2)")
+    private static String unique(String name, Map<String, Integer> seen) {
+        int n = seen.merge(name, 1, Integer::sum);
+        if (n == 1) {
+            return name;
+        }
+        String numbered = name + " (" + n + ")";
+        return seen.putIfAbsent(numbered, 1) == null ? numbered : unique(name, seen);
+    }
+
+    // EPs, albums and compilations; a few without a track count
+    private static Integer trackCount(SplittableRandom random) {
+        int kind = random.nextInt(100);
+        if (kind < 5) {
+            return null;
+        }
+        if (kind < 20) {
+            return 3 + random.nextInt(4);
+        }
+        if (kind < 25) {
+            return 18 + random.nextInt(23);
+        }
+        return 8 + random.nextInt(5) + random.nextInt(5);
+    }
+
+    // ========== Sampling helpers ==========
+
+    private static <T> T pick(List<T> values, SplittableRandom random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    // Ids 1..n in random order (Fisher-Yates)
+    private static int[] permutation(int n, SplittableRandom random) {
+        int[] ids = new int[n];
+        for (int i = 0; i < n; i++) {
+            ids[i] = i + 1;
+        }
+        for (int i = n - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            int swap = ids[i];
+            ids[i] = ids[j];
+            ids[j] = swap;
+        }
+        return ids;
+    }
+
+    private static double[] cumulative(double[] weights) {
+        double[] cumulative = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            cumulative[i] = sum;
+        }
+        for (int i = 0; i < weights.length; i++) {
+            cumulative[i] /= sum;
+        }
+        return cumulative;
+    }
+
+    // Index drawn according to cumulative probabilities
+    private static int draw(double[] cumulative, SplittableRandom random) {
+        double r = random.nextDouble();
+        for (int i = 0; i < cumulative.length; i++) {
+            if (r < cumulative[i]) {
+                return i;
+            }
+        }
+        return cumulative.length - 1;
+    }
+
+    // Rows for one INSERT statement, sent as a JDBC batch when full. The
+    // parent's pending rows are sent first, so foreign keys always resolve.
+    private final class Batch {
+
+        private final String sql;
+        private final int size;
+        private final Batch parent;
+        private final List<Object[]> rows;
+
+        Batch(String sql, int size, Batch parent) {
+            this.sql = sql;
+            this.size = size;
+            this.parent = parent;
+            this.rows = new ArrayList<>(size);
+        }
+
+        void add(Object... row) {
+            rows.add(row);
+            if (rows.size() >= size) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (parent != null) {
+                parent.flush();
+            }
+            if (!rows.isEmpty()) {
+                jdbc.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+    }
+}
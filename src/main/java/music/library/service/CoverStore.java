@@ -0,0 +1,208 @@
+package music.library.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+
+import jakarta.annotation.PostConstruct;
+import music.library.config.CoverStoreProperties;
+
+/**
+ * Content store for album cover images kept in a directory on disk.
+ *
+ * On startup every file in the store directory is hashed (SHA-256, first 16 hex
+ * characters) into an in-memory manifest. The hash becomes part of the public
+ * URL ({@code /covers/{hash}/{fileName}}), so a URL always points at the same
+ * bytes and can be cached by browsers and CDNs forever. Replacing a file
+ * changes its hash and therefore its URL.
+ *
+ * Files dropped into the directory after startup are picked up lazily the
+ * first time they are requested. Every lookup compares the file's size and
+ * last-modified time with the manifest (one stat, no read) and re-hashes a
+ * file that was replaced in place; a deleted file is dropped.
+ *
+ * @see music.library.controller.CoverController
+ * @see CoverStoreProperties
+ */
+@Service
+public class CoverStore {
+
+    private static final Logger log = LoggerFactory.getLogger(CoverStore.class);
+
+    // Length of the hex hash used in URLs (64 bits - plenty for a few thousand files)
+    private static final int HASH_LENGTH = 16;
+
+    private final CoverStoreProperties props;
+    private final Path root;
+    private final Map<String, StoredCover> manifest = new ConcurrentHashMap<>();
+
+    public CoverStore(CoverStoreProperties props) {
+        this.props = props;
+        this.root = props.getStoreDir().toAbsolutePath().normalize();
+    }
+
+    /**
+     * Metadata for a single cover file.
+     *
+     * @param fileName     the bare file name (e.g. "daft-punk-discovery.jpg")
+     * @param path         absolute path of the file on disk
+     * @param hash         content hash used in immutable URLs
+     * @param size         file size in bytes
+     * @param contentType  media type derived from the file extension
+     * @param lastModified last-modified time of the file
+     */
+    public record StoredCover(String fileName, Path path, String hash, long size,
+                              MediaType contentType, Instant lastModified) {
+
+        // ETag for this exact content (strong validator)
+        public String etag() {
+            return "\"" + hash + "\"";
+        }
+    }
+
+    /**
+     * Hashes every file currently in the store directory.
+     * A missing directory is not an error - the store simply starts empty.
+     */
+    @PostConstruct
+    public void refresh() {
+        if (!Files.isDirectory(root)) {
+            log.warn("Cover store directory '{}' does not exist - no covers will be served", root);
+            return;
+        }
+        try (Stream<Path> files = Files.list(root)) {
+            files.filter(Files::isRegularFile).forEach(this::index);
+        } catch (IOException e) {
+            log.error("Unable to scan cover store directory '{}': {}", root, e.getMessage());
+        }
+        log.info("Cover store ready: {} files indexed from {}", manifest.size(), root);
+    }
+
+    /**
+     * Looks up a cover by file name, indexing it on first access if it was
+     * added after startup and re-indexing it if it changed since.
+     *
+     * @param fileName the bare file name
+     * @return the cover metadata, or empty if no such file exists in the store
+     */
+    public Optional<StoredCover> find(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            return Optional.empty();
+        }
+        StoredCover cover = manifest.get(fileName);
+        if (cover != null) {
+            return Optional.ofNullable(current(cover));
+        }
+        // Only plain names inside the root are allowed - no path traversal
+        Path candidate = root.resolve(fileName).normalize();
+        if (!candidate.getParent().equals(root) || !Files.isRegularFile(candidate)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(index(candidate));
+    }
+
+    /**
+     * Rewrites a plain cover URL (e.g. "/covers/abbey-road.jpg") to its
+     * content-hashed form. URLs that do not point into the store (external
+     * links, unknown files, null) are returned unchanged.
+     *
+     * @param url the stored cover URL
+     * @return the immutable URL, or the original value
+     */
+    public String resolveUrl(String url) {
+        String prefix = props.getUrlPrefix();
+        if (url == null || !url.startsWith(prefix)) {
+            return url;
+        }
+        String fileName = url.substring(prefix.length());
+        if (fileName.contains("/")) {
+            return url; // already hashed (or not ours)
+        }
+        return find(fileName).map(this::immutableUrl).orElse(url);
+    }
+
+    /**
+     * Builds the immutable, content-hashed URL for a cover.
+     *
+     * @param cover the cover
+     * @return URL of the form {prefix}{hash}/{fileName}
+     */
+    public String immutableUrl(StoredCover cover) {
+        return props.getUrlPrefix() + cover.hash() + "/" + cover.fileName();
+    }
+
+    /**
+     * @return number of covers currently indexed
+     */
+    public int size() {
+        return manifest.size();
+    }
+
+    // The cover as it is on disk now: unchanged, re-hashed, or null if it is gone
+    private StoredCover current(StoredCover cover) {
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(cover.path(), BasicFileAttributes.class);
+        } catch (IOException e) {
+            manifest.remove(cover.fileName(), cover);
+            return null;
+        }
+        if (attributes.size() == cover.size()
+                && attributes.lastModifiedTime().toInstant().equals(cover.lastModified())) {
+            return cover;
+        }
+        log.info("Cover '{}' changed on disk, re-hashing", cover.fileName());
+        return index(cover.path());
+    }
+
+    private StoredCover index(Path file) {
+        try {
+            String fileName = file.getFileName().toString();
+            StoredCover cover = new StoredCover(
+                    fileName,
+                    file,
+                    hash(file),
+                    Files.size(file),
+                    MediaTypeFactory.getMediaType(fileName).orElse(MediaType.APPLICATION_OCTET_STREAM),
+                    Files.getLastModifiedTime(file).toInstant());
+            manifest.put(fileName, cover);
+            return cover;
+        } catch (IOException e) {
+            log.warn("Skipping unreadable cover '{}': {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private static String hash(Path file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest()).substring(0, HASH_LENGTH);
+    }
+}
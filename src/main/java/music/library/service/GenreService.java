@@ -1,6 +1,8 @@
 package music.library.service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -8,11 +10,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import lombok.RequiredArgsConstructor;
-import music.library.entity.Album;
 import music.library.entity.Genre;
 import music.library.exception.DuplicateResourceException;
+import music.library.exception.PreconditionFailedException;
 import music.library.exception.ResourceNotFoundException;
-import music.library.repository.AlbumRepository;
 import music.library.repository.GenreRepository;
 import music.library.dto.CreateGenreRequest;
 import music.library.dto.UpdateGenreRequest;
@@ -42,7 +43,7 @@ public class GenreService {
 
     // Repository dependencies injected via Lombok's @RequiredArgsConstructor
     private final GenreRepository repo;
-    private final AlbumRepository albumRepo;   // Needed for bidirectional album-genre operations
+    private final AlbumGenreLinkService linkSvc;   // album-genre links are written from the album side
 
     /**
      * Retrieves all genres without pagination.
@@ -76,6 +77,20 @@ public class GenreService {
         		"Genre with ID " + id + " not found"));
     }
 
+    /**
+     * Retrieves several genres by ID in a single query.
+     * Missing IDs are simply absent from the result.
+     * 
+     * @param ids the genre IDs to load
+     * @return the genres that exist, in no particular order
+     */
+    public List<Genre> findAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return repo.findAllById(ids);
+    }
+
     /**
      * Creates a new genre from a Genre entity.
      * Checks for duplicate genre names before saving.
@@ -109,18 +124,35 @@ public class GenreService {
         }
         
         Genre genre = new Genre();
+        lockAlbumsBeforeRename(genre, request.getName());
         genre.setName(request.getName());
         genre.setDescription(request.getDescription());
         return repo.save(genre);
     }
 	
 	public Genre updateGenre(Long id, UpdateGenreRequest request) {
-    Genre genre = findById(id);
-    genre.setName(request.getName());
-    genre.setDescription(request.getDescription());
-    return repo.save(genre);
+    return updateGenre(id, null, request);
 }
 
+    /**
+     * Updates a genre only if it is still at {@code expectedVersion} (the
+     * client's If-Match).
+     * 
+     * @param expectedVersion version the client read, or null to skip the check
+     * @throws PreconditionFailedException if the genre is at another version
+     */
+    public Genre updateGenre(Long id, Long expectedVersion, UpdateGenreRequest request) {
+        Genre genre = findById(id);
+        if (expectedVersion != null && !expectedVersion.equals(genre.getVersion())) {
+            throw new PreconditionFailedException("Genre with ID " + id + " is at version "
+                    + genre.getVersion() + ", not " + expectedVersion);
+        }
+        lockAlbumsBeforeRename(genre, request.getName());
+        genre.setName(request.getName());
+        genre.setDescription(request.getDescription());
+        return repo.save(genre);
+    }
+
     /**
      * Updates an existing genre.
      * 
@@ -131,61 +163,62 @@ public class GenreService {
      */
     public Genre update(Long id, Genre g) {
         Genre existing = findById(id);
+        lockAlbumsBeforeRename(existing, g.getName());
         existing.setName(g.getName());
         existing.setDescription(g.getDescription());
         return repo.save(existing);
     }
 
+    // A rename rewrites the album_view rows of the genre's albums at commit,
+    // reading those albums after the genre row is locked. Locking the albums
+    // first keeps the album-then-genre order of AlbumGenreLinkService.link.
+    private void lockAlbumsBeforeRename(Genre genre, String newName) {
+        if (!Objects.equals(genre.getName(), newName)) {
+            linkSvc.lockGenreAlbums(genre.getGenreId());
+        }
+    }
+
     /**
      * Deletes a genre by ID.
-     * Note: Cascade behavior depends on entity configuration. If albums reference
-     * this genre, the operation may fail with a constraint violation.
+     * The albums that have the genre keep existing without it: their links are
+     * removed first (through {@link AlbumGenreLinkService}, so their versions
+     * and album_view rows follow), rather than left to the ON DELETE CASCADE
+     * of album_genre, which bypasses both.
      * 
      * @param id the genre ID to delete
      */
     public void delete(Long id) {
+        linkSvc.unlinkGenre(id);
         repo.deleteById(id);
     }
     
     // ========== Many-to-Many Relationship Management ==========
     
     /**
-     * Adds an album to a genre's album collection.
-     * Maintains bidirectional relationship consistency by updating both sides.
-     * 
-     * Note: Album owns the relationship (via @JoinTable), so changes to
-     * album.genres are what actually modify the join table. This method
-     * updates the inverse side (genre.albums) for consistency.
+     * Adds an album to a genre. Delegates to {@link AlbumGenreLinkService},
+     * which writes the album_genre row directly (Album owns the join table)
+     * without loading the genre's album collection. No-op if already linked.
      * 
      * @param genreId the genre ID
      * @param albumId the album ID to add
-     * @return the updated genre with the new album
+     * @return the genre
      * @throws ResourceNotFoundException if genre or album not found
      */
     public Genre addAlbum(Long genreId, Long albumId) {
-        Genre genre = repo.findById(genreId)
-                .orElseThrow(() -> new ResourceNotFoundException("Genre with ID " + genreId + " not found"));
-        Album album = albumRepo.findById(albumId)
-                .orElseThrow(() -> new ResourceNotFoundException("Album with ID " + albumId + " not found"));
-        genre.getAlbums().add(album);
-        return repo.save(genre);
+        linkSvc.link(albumId, genreId);
+        return findById(genreId);
     }
 
     /**
-     * Removes an album from a genre's album collection.
-     * Maintains bidirectional relationship consistency by updating both sides.
+     * Removes an album from a genre (no-op if not linked).
      * 
      * @param genreId the genre ID
      * @param albumId the album ID to remove
-     * @return the updated genre without the removed album
+     * @return the genre
      * @throws ResourceNotFoundException if genre or album not found
      */
     public Genre removeAlbum(Long genreId, Long albumId) {
-        Genre genre = repo.findById(genreId)
-                .orElseThrow(() -> new ResourceNotFoundException("Genre with ID " + genreId + " not found"));
-        Album album = albumRepo.findById(albumId)
-                .orElseThrow(() -> new ResourceNotFoundException("Album with ID " + albumId + " not found"));
-        genre.getAlbums().remove(album);
-        return repo.save(genre);
+        linkSvc.unlink(albumId, genreId);
+        return findById(genreId);
     }
 }
@@ -0,0 +1,210 @@
+package music.library.service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.RequiredArgsConstructor;
+import music.library.dto.GenreTaggingRequest;
+import music.library.dto.GenreTaggingResponse;
+import music.library.entity.Album;
+import music.library.exception.BadRequestException;
+import music.library.exception.ResourceNotFoundException;
+import music.library.specification.AlbumSpecs;
+
+/**
+ * Adds or removes one genre on many albums at once
+ * (POST /api/genres/{genreId}/albums/tag and /untag).
+ *
+ * Albums are selected by id list or by album-search criteria and processed
+ * in chunks of {@code albums.tagging.chunk-size}, one transaction per chunk.
+ * Each chunk costs three set-based statements however many albums it holds:
+ * 1. Select the chunk's album ids (existing ids from the list, or the next
+ *    keyset page of the filter)
+ * 2. Bump version/updated_at of the albums whose link will change
+ *    (this also locks those album rows before album_genre is touched,
+ *    the same order AlbumGenreLinkService uses)
+ * 3. INSERT ... SELECT the missing links, or DELETE the existing ones
+ * and, when any album changed, the chunk's album_view rows are rewritten
+ * (AlbumViewService) in the same transaction.
+ *
+ * Tagging is idempotent: albums that already have (or lack) the genre are
+ * matched but not changed, and their version is left alone.
+ *
+ * @see AlbumGenreLinkService
+ */
+@Service
+@RequiredArgsConstructor
+public class GenreTaggingService {
+
+    private static final Logger log = LoggerFactory.getLogger(GenreTaggingService.class);
+
+    private static final String LINK_EXISTS =
+            "EXISTS (SELECT 1 FROM album_genre ag WHERE ag.album_id = album.album_id AND ag.genre_id = :genreId)";
+    private static final String BUMP_TAGGED =
+            "UPDATE album SET version = version + 1, updated_at = :now WHERE album_id IN (:ids) AND NOT " + LINK_EXISTS;
+    private static final String BUMP_UNTAGGED =
+            "UPDATE album SET version = version + 1, updated_at = :now WHERE album_id IN (:ids) AND " + LINK_EXISTS;
+    private static final String INSERT_LINKS =
+            "INSERT INTO album_genre (album_id, genre_id) SELECT a.album_id, :genreId FROM album a "
+            + "WHERE a.album_id IN (:ids) AND NOT EXISTS "
+            + "(SELECT 1 FROM album_genre ag WHERE ag.album_id = a.album_id AND ag.genre_id = :genreId)";
+    private static final String DELETE_LINKS = "DELETE FROM album_genre WHERE genre_id = :genreId AND album_id IN (:ids)";
+
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final TransactionTemplate tx;
+    private final AlbumViewService albumViews;
+
+    @PersistenceContext
+    private EntityManager em;
+
+    // Albums per statement / transaction
+    @Value("${albums.tagging.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    /**
+     * Adds the genre to every selected album that does not have it yet.
+     *
+     * @throws ResourceNotFoundException if the genre does not exist
+     * @throws BadRequestException if not exactly one of albumIds / filter is given,
+     *         or the filter has no criterion
+     */
+    public GenreTaggingResponse tag(Long genreId, GenreTaggingRequest request) {
+        return apply(genreId, request, true);
+    }
+
+    /**
+     * Removes the genre from every selected album that has it.
+     *
+     * @throws ResourceNotFoundException if the genre does not exist
+     * @throws BadRequestException if not exactly one of albumIds / filter is given,
+     *         or the filter has no criterion
+     */
+    public GenreTaggingResponse untag(Long genreId, GenreTaggingRequest request) {
+        return apply(genreId, request, false);
+    }
+
+    private GenreTaggingResponse apply(Long genreId, GenreTaggingRequest request, boolean tag) {
+        boolean byIds = request.getAlbumIds() != null;
+        if (byIds == (request.getFilter() != null)) {
+            throw new BadRequestException("Exactly one of albumIds or filter is required");
+        }
+        // A filter without criteria would select the whole catalog
+        GenreTaggingRequest.Filter filter = request.getFilter();
+        Specification<Album> spec = byIds ? null : AlbumSpecs.matching(filter.getTitle(), filter.getStartYear(),
+                filter.getEndYear(), filter.getGenreId());
+        if (!byIds && spec == null) {
+            throw new BadRequestException("filter needs at least one of title, startYear, endYear or genreId");
+        }
+        Integer genres = namedJdbc.queryForObject("SELECT COUNT(*) FROM genre WHERE genre_id = :id",
+                new MapSqlParameterSource("id", genreId), Integer.class);
+        if (genres == null || genres == 0) {
+            throw new ResourceNotFoundException("Genre with ID " + genreId + " not found");
+        }
+
+        GenreTaggingResponse response = byIds
+                ? applyToIds(genreId, request.getAlbumIds(), tag)
+                : applyToFilter(genreId, spec, tag);
+        log.info("{} genre {}: {} albums matched, {} changed", tag ? "Tagged" : "Untagged", genreId,
+                response.getMatched(), response.getChanged());
+        return response;
+    }
+
+    private GenreTaggingResponse applyToIds(Long genreId, List<Long> albumIds, boolean tag) {
+        List<Long> requested = new ArrayList<>(albumIds.stream().filter(Objects::nonNull)
+                .collect(LinkedHashSet::new, Set::add, Set::addAll));
+        List<Long> missing = new ArrayList<>();
+        int matched = 0;
+        int changed = 0;
+
+        for (int from = 0; from < requested.size(); from += chunkSize) {
+            List<Long> chunk = requested.subList(from, Math.min(from + chunkSize, requested.size()));
+            int[] counts = tx.execute(status -> {
+                Set<Long> existing = new HashSet<>(namedJdbc.queryForList(
+                        "SELECT album_id FROM album WHERE album_id IN (:ids)",
+                        new MapSqlParameterSource("ids", chunk), Long.class));
+                chunk.stream().filter(id -> !existing.contains(id)).forEach(missing::add);
+                return new int[] { existing.size(), existing.isEmpty() ? 0 : write(genreId, existing, tag) };
+            });
+            matched += counts[0];
+            changed += counts[1];
+        }
+        return new GenreTaggingResponse(genreId, matched, changed, missing);
+    }
+
+    private GenreTaggingResponse applyToFilter(Long genreId, Specification<Album> spec, boolean tag) {
+        int matched = 0;
+        int changed = 0;
+        long after = 0;
+
+        while (true) {
+            long from = after;
+            Chunk chunk = tx.execute(status -> {
+                List<Long> ids = nextIds(spec, from);
+                return new Chunk(ids, ids.isEmpty() ? 0 : write(genreId, ids, tag));
+            });
+            if (chunk.ids().isEmpty()) {
+                break;
+            }
+            matched += chunk.ids().size();
+            changed += chunk.changed();
+            after = chunk.ids().get(chunk.ids().size() - 1);
+        }
+        return new GenreTaggingResponse(genreId, matched, changed, List.of());
+    }
+
+    /**
+     * Bumps the versions of the albums that will change, then inserts or
+     * deletes their links and rewrites their album_view rows. Returns the
+     * number of albums changed.
+     */
+    private int write(Long genreId, Collection<Long> ids, boolean tag) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids)
+                .addValue("genreId", genreId)
+                .addValue("now", Timestamp.valueOf(LocalDateTime.now()));
+        int changed = namedJdbc.update(tag ? BUMP_TAGGED : BUMP_UNTAGGED, params);
+        if (changed > 0) {
+            namedJdbc.update(tag ? INSERT_LINKS : DELETE_LINKS, params);
+            albumViews.refresh(ids);
+        }
+        return changed;
+    }
+
+    // Next chunk of matching album ids after the given id (keyset paging, so
+    // rows changed by earlier chunks do not shift later ones)
+    private List<Long> nextIds(Specification<Album> spec, long after) {
+        CriteriaBuilder cb = em.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Album> root = query.from(Album.class);
+        Predicate keyset = cb.greaterThan(root.get("albumId"), after);
+        Predicate filter = spec == null ? null : spec.toPredicate(root, query, cb);
+        query.select(root.get("albumId"))
+                .where(filter == null ? keyset : cb.and(filter, keyset))
+                .orderBy(cb.asc(root.get("albumId")));
+        return em.createQuery(query).setMaxResults(chunkSize).getResultList();
+    }
+
+    private record Chunk(List<Long> ids, int changed) {
+    }
+}
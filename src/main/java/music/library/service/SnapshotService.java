@@ -0,0 +1,527 @@
+package music.library.service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManagerFactory;
+import music.library.dto.SnapshotInfo;
+import music.library.exception.BadRequestException;
+import music.library.exception.ResourceNotFoundException;
+
+/**
+ * Named catalog snapshots for demo and performance environments.
+ *
+ * {@link #capture(String)} streams the four catalog tables into a compact
+ * gzip'd binary file ({@code <snapshots.dir>/<name>.snapshot}), and
+ * {@link #restore(String)} truncates the tables and bulk-inserts the rows
+ * back with JDBC batches, so a populated catalog comes back in seconds
+ * instead of re-running populate scripts through the API.
+ *
+ * Works on MySQL and on H2 (test profile); the only dialect-specific parts
+ * are switching foreign-key checks off for the truncate/reload and putting
+ * the identity counters back after it. On MySQL TRUNCATE is DDL and commits
+ * implicitly, so a restore that fails halfway leaves partial data; run it
+ * again.
+ *
+ * File layout (all via DataOutputStream, inside gzip):
+ * <pre>
+ * int magic, int format version, int table count
+ * per table: string name, int column count, per column (string name, byte type),
+ *            then per row: byte 1 followed by the values; byte 0 ends the table
+ * per value: boolean isNull, then long / int / string / epoch-day / epoch-milli+nanos
+ * </pre>
+ * Columns are read from the result-set metadata, so schema additions
+ * (e.g. the version columns) are captured without code changes. Generated
+ * columns (release_year) are captured too but left out on restore. The
+ * album_view read model is not captured: it is emptied with the catalog and
+ * rebuilt after a restore.
+ */
+@Service
+public class SnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(SnapshotService.class);
+
+    private static final int MAGIC = 0x4D4C534E; // "MLSN"
+    private static final int FORMAT_VERSION = 1;
+    private static final String SUFFIX = ".snapshot";
+    private static final Pattern NAME = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    // Parents before children, so a restore never inserts a dangling reference
+    static final List<String> TABLES = List.of("genre", "artist", "album", "album_genre");
+    // Identity column of each table that has one
+    private static final Map<String, String> IDENTITY = Map.of(
+            "genre", "genre_id", "artist", "artist_id", "album", "album_id");
+
+    private static final byte LONG = 0;
+    private static final byte INT = 1;
+    private static final byte STRING = 2;
+    private static final byte DATE = 3;
+    private static final byte TIMESTAMP = 4;
+
+    private final JdbcTemplate jdbc;
+    private final EntityManagerFactory emf;
+    private final AlbumViewService albumViews;
+    private final Path dir;
+    private final int batchSize;
+
+    private volatile Dialect dialect;
+
+    public SnapshotService(JdbcTemplate jdbc, EntityManagerFactory emf, AlbumViewService albumViews,
+            @Value("${snapshots.dir:snapshots}") Path dir,
+            @Value("${snapshots.batch-size:1000}") int batchSize) {
+        this.jdbc = jdbc;
+        this.emf = emf;
+        this.albumViews = albumViews;
+        this.dir = dir;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Writes the current catalog to the named snapshot, replacing any
+     * snapshot of the same name. The file is written to a temp file first
+     * and moved into place, so a failed capture never leaves a torn file.
+     *
+     * @throws BadRequestException if the name is not [A-Za-z0-9_-]{1,64}
+     */
+    @Transactional(readOnly = true)
+    public SnapshotInfo capture(String name) {
+        Path file = file(name);
+        long start = System.nanoTime();
+        Map<String, Integer> rows = new LinkedHashMap<>();
+        try {
+            Files.createDirectories(dir);
+            Path tmp = Files.createTempFile(dir, name, ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(tmp), 1 << 16)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(TABLES.size());
+                for (String table : TABLES) {
+                    rows.put(table, jdbc.execute((ConnectionCallback<Integer>) con -> writeTable(con, table, out)));
+                }
+            } catch (IOException | RuntimeException e) {
+                Files.deleteIfExists(tmp);
+                throw e;
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            SnapshotInfo info = new SnapshotInfo(name, Files.size(file), Files.getLastModifiedTime(file).toInstant(),
+                    rows, elapsedMs(start));
+            log.info("Captured snapshot '{}' ({} bytes, rows {}) in {} ms", name, info.getBytes(), rows,
+                    info.getMillis());
+            return info;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write snapshot '" + name + "'", e);
+        }
+    }
+
+    /**
+     * Replaces the catalog with the contents of the named snapshot.
+     *
+     * @throws ResourceNotFoundException if there is no snapshot of that name
+     */
+    @Transactional
+    public SnapshotInfo restore(String name) {
+        Path file = file(name);
+        if (!Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("Snapshot '" + name + "' not found");
+        }
+        long start = System.nanoTime();
+        Map<String, Integer> rows = jdbc.execute((ConnectionCallback<Map<String, Integer>>) con -> {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                    new GZIPInputStream(Files.newInputStream(file), 1 << 16)))) {
+                if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                    throw new IllegalStateException("'" + name + "' is not a snapshot this version can read");
+                }
+                Map<String, Integer> counts = new LinkedHashMap<>();
+                withoutForeignKeys(con, () -> {
+                    truncate(con);
+                    int tables = in.readInt();
+                    for (int t = 0; t < tables; t++) {
+                        String table = readString(in);
+                        counts.put(table, readTable(con, table, in));
+                    }
+                    resetIdentities(con);
+                });
+                return counts;
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read snapshot '" + name + "'", e);
+            }
+        });
+        albumViews.rebuild();
+        emf.getCache().evictAll();
+        try {
+            SnapshotInfo info = new SnapshotInfo(name, Files.size(file), Files.getLastModifiedTime(file).toInstant(),
+                    rows, elapsedMs(start));
+            log.info("Restored snapshot '{}' (rows {}) in {} ms", name, rows, info.getMillis());
+            return info;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Empties the catalog tables and resets their identity counters to 1.
+     */
+    @Transactional
+    public void truncateAll() {
+        jdbc.execute((ConnectionCallback<Void>) con -> {
+            withoutForeignKeys(con, () -> {
+                truncate(con);
+                resetIdentities(con);
+            });
+            return null;
+        });
+        emf.getCache().evictAll();
+    }
+
+    /**
+     * Moves the identity counters past the highest ids, after rows were
+     * inserted with explicit ids (see CatalogGenerator).
+     */
+    void syncIdentities() {
+        jdbc.execute((ConnectionCallback<Void>) con -> {
+            resetIdentities(con);
+            return null;
+        });
+    }
+
+    /**
+     * Lists the snapshots in {@code snapshots.dir}, newest first. Row counts
+     * are not read from the files and are left empty.
+     */
+    public List<SnapshotInfo> list() {
+        if (!Files.isDirectory(dir)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(dir)) {
+            List<SnapshotInfo> snapshots = new ArrayList<>();
+            for (Path file : (Iterable<Path>) files.filter(f -> f.getFileName().toString().endsWith(SUFFIX))::iterator) {
+                String fileName = file.getFileName().toString();
+                snapshots.add(new SnapshotInfo(fileName.substring(0, fileName.length() - SUFFIX.length()),
+                        Files.size(file), Files.getLastModifiedTime(file).toInstant(), Map.of(), 0));
+            }
+            snapshots.sort((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()));
+            return snapshots;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list snapshots", e);
+        }
+    }
+
+    // ========== Writing ==========
+
+    private int writeTable(Connection con, String table, DataOutputStream out) throws SQLException {
+        try (Statement st = con.createStatement()) {
+            st.setFetchSize(batchSize);
+            try (ResultSet rs = st.executeQuery("SELECT * FROM " + table)) {
+                ResultSetMetaData meta = rs.getMetaData();
+                int columns = meta.getColumnCount();
+                byte[] types = new byte[columns];
+                writeString(out, table);
+                out.writeInt(columns);
+                for (int c = 1; c <= columns; c++) {
+                    types[c - 1] = typeOf(meta.getColumnType(c));
+                    writeString(out, meta.getColumnName(c).toLowerCase(Locale.ROOT));
+                    out.writeByte(types[c - 1]);
+                }
+                int rows = 0;
+                while (rs.next()) {
+                    out.writeByte(1);
+                    for (int c = 1; c <= columns; c++) {
+                        writeValue(out, rs, c, types[c - 1]);
+                    }
+                    rows++;
+                }
+                out.writeByte(0);
+                return rows;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte typeOf(int sqlType) {
+        switch (sqlType) {
+            case Types.BIGINT:
+                return LONG;
+            case Types.INTEGER:
+            case Types.SMALLINT:
+            case Types.TINYINT:
+                return INT;
+            case Types.DATE:
+                return DATE;
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                return TIMESTAMP;
+            default:
+                return STRING;
+        }
+    }
+
+    private static void writeValue(DataOutputStream out, ResultSet rs, int column, byte type)
+            throws SQLException, IOException {
+        switch (type) {
+            case LONG -> {
+                long value = rs.getLong(column);
+                out.writeBoolean(rs.wasNull());
+                if (!rs.wasNull()) out.writeLong(value);
+            }
+            case INT -> {
+                int value = rs.getInt(column);
+                out.writeBoolean(rs.wasNull());
+                if (!rs.wasNull()) out.writeInt(value);
+            }
+            case DATE -> {
+                Date value = rs.getDate(column);
+                out.writeBoolean(value == null);
+                if (value != null) out.writeLong(value.toLocalDate().toEpochDay());
+            }
+            case TIMESTAMP -> {
+                Timestamp value = rs.getTimestamp(column);
+                out.writeBoolean(value == null);
+                if (value != null) {
+                    out.writeLong(value.getTime());
+                    out.writeInt(value.getNanos());
+                }
+            }
+            default -> {
+                String value = rs.getString(column);
+                out.writeBoolean(value == null);
+                if (value != null) writeString(out, value);
+            }
+        }
+    }
+
+    // Length-prefixed UTF-8; writeUTF is limited to 64 KB and descriptions are TEXT
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    // ========== Reading ==========
+
+    private int readTable(Connection con, String table, DataInputStream in) throws SQLException, IOException {
+        if (!TABLES.contains(table)) {
+            throw new IllegalStateException("Snapshot contains unknown table '" + table + "'");
+        }
+        int columns = in.readInt();
+        Set<String> generated = generatedColumns(con, table);
+        List<String> names = new ArrayList<>(columns);
+        byte[] types = new byte[columns];
+        boolean[] skip = new boolean[columns];
+        for (int c = 0; c < columns; c++) {
+            String name = readString(in);
+            types[c] = in.readByte();
+            skip[c] = generated.contains(name);
+            if (!skip[c]) {
+                names.add(name);
+            }
+        }
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", names) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(names.size(), "?")) + ")";
+        int rows = 0;
+        try (PreparedStatement ps = con.prepareStatement(sql)) {
+            while (in.readByte() == 1) {
+                int index = 1;
+                for (int c = 0; c < columns; c++) {
+                    if (skip[c]) {
+                        skipValue(in, types[c]);
+                    } else {
+                        readValue(in, ps, index++, types[c]);
+                    }
+                }
+                ps.addBatch();
+                if (++rows % batchSize == 0) {
+                    ps.executeBatch();
+                }
+            }
+            if (rows % batchSize != 0) {
+                ps.executeBatch();
+            }
+        }
+        return rows;
+    }
+
+    private static void readValue(DataInputStream in, PreparedStatement ps, int index, byte type)
+            throws SQLException, IOException {
+        if (in.readBoolean()) {
+            ps.setNull(index, switch (type) {
+                case LONG -> Types.BIGINT;
+                case INT -> Types.INTEGER;
+                case DATE -> Types.DATE;
+                case TIMESTAMP -> Types.TIMESTAMP;
+                default -> Types.VARCHAR;
+            });
+            return;
+        }
+        switch (type) {
+            case LONG -> ps.setLong(index, in.readLong());
+            case INT -> ps.setInt(index, in.readInt());
+            case DATE -> ps.setDate(index, Date.valueOf(LocalDate.ofEpochDay(in.readLong())));
+            case TIMESTAMP -> {
+                Timestamp value = new Timestamp(in.readLong());
+                value.setNanos(in.readInt());
+                ps.setTimestamp(index, value);
+            }
+            default -> ps.setString(index, readString(in));
+        }
+    }
+
+    private static void skipValue(DataInputStream in, byte type) throws IOException {
+        if (in.readBoolean()) {
+            return;
+        }
+        switch (type) {
+            case LONG, DATE -> in.readLong();
+            case INT -> in.readInt();
+            case TIMESTAMP -> {
+                in.readLong();
+                in.readInt();
+            }
+            default -> readString(in);
+        }
+    }
+
+    // Columns the database computes itself (album.release_year), which an INSERT
+    // must leave out. Snapshots carry their values, which are simply skipped.
+    private static Set<String> generatedColumns(Connection con, String table) throws SQLException {
+        DatabaseMetaData meta = con.getMetaData();
+        String name = meta.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+        Set<String> generated = new HashSet<>();
+        try (ResultSet rs = meta.getColumns(con.getCatalog(), null, name, null)) {
+            while (rs.next()) {
+                if ("YES".equals(rs.getString("IS_GENERATEDCOLUMN"))) {
+                    generated.add(rs.getString("COLUMN_NAME").toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return generated;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[in.readInt()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // ========== Dialect-specific DDL ==========
+
+    private enum Dialect {
+        MYSQL, H2
+    }
+
+    private Dialect dialect(Connection con) throws SQLException {
+        if (dialect == null) {
+            String product = con.getMetaData().getDatabaseProductName();
+            if (product.contains("MySQL")) {
+                dialect = Dialect.MYSQL;
+            } else if (product.contains("H2")) {
+                dialect = Dialect.H2;
+            } else {
+                throw new IllegalStateException("Snapshots support MySQL and H2, not " + product);
+            }
+        }
+        return dialect;
+    }
+
+    @FunctionalInterface
+    private interface SqlWork {
+        void run() throws SQLException, IOException;
+    }
+
+    private void withoutForeignKeys(Connection con, SqlWork work) throws SQLException {
+        String off = dialect(con) == Dialect.MYSQL ? "SET FOREIGN_KEY_CHECKS = 0" : "SET REFERENTIAL_INTEGRITY FALSE";
+        String on = dialect(con) == Dialect.MYSQL ? "SET FOREIGN_KEY_CHECKS = 1" : "SET REFERENTIAL_INTEGRITY TRUE";
+        try (Statement st = con.createStatement()) {
+            st.execute(off);
+            try {
+                work.run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } finally {
+                st.execute(on);
+            }
+        }
+    }
+
+    private void truncate(Connection con) throws SQLException {
+        try (Statement st = con.createStatement()) {
+            st.execute("TRUNCATE TABLE album_view");
+            for (int t = TABLES.size() - 1; t >= 0; t--) {
+                st.execute("TRUNCATE TABLE " + TABLES.get(t));
+            }
+        }
+    }
+
+    // MySQL moves AUTO_INCREMENT past explicitly inserted ids by itself (and
+    // TRUNCATE resets it); H2 identity columns have to be restarted by hand
+    private void resetIdentities(Connection con) throws SQLException {
+        if (dialect(con) != Dialect.H2) {
+            return;
+        }
+        try (Statement st = con.createStatement()) {
+            for (Map.Entry<String, String> identity : IDENTITY.entrySet()) {
+                long next;
+                try (ResultSet rs = st.executeQuery("SELECT COALESCE(MAX(" + identity.getValue() + "), 0) + 1 FROM "
+                        + identity.getKey())) {
+                    rs.next();
+                    next = rs.getLong(1);
+                }
+                st.execute("ALTER TABLE " + identity.getKey() + " ALTER COLUMN " + identity.getValue()
+                        + " RESTART WITH " + next);
+            }
+        }
+    }
+
+    // ========== Helpers ==========
+
+    private Path file(String name) {
+        if (name == null || !NAME.matcher(name).matches()) {
+            throw new BadRequestException("Snapshot name must be 1-64 characters of A-Z, a-z, 0-9, '_' or '-'");
+        }
+        return dir.resolve(name + SUFFIX);
+    }
+
+    private static long elapsedMs(long start) {
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+}
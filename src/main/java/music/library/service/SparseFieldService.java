@@ -0,0 +1,380 @@
+package music.library.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import music.library.entity.Album;
+import music.library.entity.Artist;
+import music.library.entity.Genre;
+import music.library.exception.BadRequestException;
+import music.library.exception.ResourceNotFoundException;
+
+/**
+ * Read-only queries behind the {@code fields=} parameter (sparse fieldsets).
+ *
+ * Only the requested columns are selected, and joins are added only when a
+ * nested field asks for them: {@code fields=title,coverImageUrl,artist.name}
+ * selects three album/artist columns with one join and never touches the
+ * genre tables. Genres, when requested, are loaded with one extra query for
+ * the whole page (keyed by album id), not one per album.
+ *
+ * Results are plain maps that keep the JSON shape of the full entities
+ * (nested {@code artist} object, {@code genres} array, same date formats).
+ * The identifier of each object is always included. Single-object loads
+ * also select the version, so the caller can send it as the ETag; it stays
+ * out of the map unless it was requested.
+ *
+ * Supported fields:
+ * - albums: albumId, title, releaseDate, releaseYear, coverImageUrl, trackCount,
+ *   catalogNumber, createdAt, updatedAt, version, artist, artist.{field}, genres,
+ *   genres.{field}
+ * - artists: artistId, name, description, createdAt, updatedAt, version
+ * - genres: genreId, name, description, createdAt, updatedAt, version
+ *
+ * Unknown fields are rejected with BadRequestException (400).
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SparseFieldService {
+
+	static final List<String> ALBUM_FIELDS = List.of("albumId", "title", "releaseDate", "releaseYear",
+			"coverImageUrl", "trackCount", "catalogNumber", "createdAt", "updatedAt", "version");
+	static final List<String> ARTIST_FIELDS = List.of("artistId", "name", "description", "createdAt", "updatedAt",
+			"version");
+	static final List<String> GENRE_FIELDS = List.of("genreId", "name", "description", "createdAt", "updatedAt",
+			"version");
+
+	// Same pattern as the @JsonFormat on the entity timestamps
+	private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+	@PersistenceContext
+	private EntityManager em;
+
+	private final CoverStore coverStore;
+
+	// ========== Albums ==========
+
+	/**
+	 * Pages albums matching {@code spec}, selecting only the requested fields.
+	 *
+	 * @param fields comma-separated field list
+	 * @param spec optional filter, null for all albums
+	 * @param pageable pagination and sort
+	 * @return page of album maps
+	 * @throws BadRequestException if a field is unknown
+	 */
+	public Page<Map<String, Object>> findAlbums(String fields, Specification<Album> spec, Pageable pageable) {
+		FieldSet selection = FieldSet.parse(fields, "albums", "albumId", ALBUM_FIELDS, true);
+		List<Map<String, Object>> rows = selectAlbums(selection, spec, pageable);
+		return PageableExecutionUtils.getPage(rows, pageable, () -> count(Album.class, spec));
+	}
+
+	/**
+	 * Loads one album, selecting only the requested fields and its version.
+	 *
+	 * @throws ResourceNotFoundException if the album does not exist
+	 */
+	public Versioned findAlbum(Long id, String fields) {
+		FieldSet selection = FieldSet.parse(fields, "albums", "albumId", ALBUM_FIELDS, true);
+		boolean withVersion = !selection.own().add("version");
+		List<Map<String, Object>> rows = selectAlbums(selection,
+				(root, query, cb) -> cb.equal(root.get("albumId"), id), Pageable.unpaged());
+		if (rows.isEmpty()) {
+			throw new ResourceNotFoundException("Album with id " + id + " not found");
+		}
+		return Versioned.of(rows.get(0), withVersion);
+	}
+
+	private List<Map<String, Object>> selectAlbums(FieldSet selection, Specification<Album> spec, Pageable pageable) {
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Album> root = query.from(Album.class);
+
+		List<Selection<?>> columns = new ArrayList<>();
+		columnsFor(root, selection.own(), columns);
+		if (!selection.artist().isEmpty()) {
+			// artist_id is NOT NULL, so an inner join never drops albums
+			Join<Album, Artist> artist = root.join("artist");
+			columnsFor(artist, selection.artist(), columns);
+		}
+
+		List<Tuple> tuples = run(query, root, columns, spec, pageable);
+
+		List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+		for (Tuple tuple : tuples) {
+			Map<String, Object> row = new LinkedHashMap<>();
+			int i = copy(tuple, 0, selection.own(), row);
+			if (!selection.artist().isEmpty()) {
+				Map<String, Object> artist = new LinkedHashMap<>();
+				copy(tuple, i, selection.artist(), artist);
+				row.put("artist", artist);
+			}
+			rows.add(row);
+		}
+
+		if (!selection.genres().isEmpty() && !rows.isEmpty()) {
+			attachGenres(rows, selection.genres());
+		}
+		return rows;
+	}
+
+	/**
+	 * Loads the genres of all albums in {@code rows} with a single query and
+	 * adds them as a {@code genres} array to each row.
+	 */
+	private void attachGenres(List<Map<String, Object>> rows, Set<String> genreFields) {
+		Map<Long, List<Map<String, Object>>> byAlbum = new HashMap<>();
+		for (Map<String, Object> row : rows) {
+			List<Map<String, Object>> genres = new ArrayList<>();
+			byAlbum.put((Long) row.get("albumId"), genres);
+			row.put("genres", genres);
+		}
+
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Album> root = query.from(Album.class);
+		Join<Album, Genre> genre = root.join("genres");
+
+		List<Selection<?>> columns = new ArrayList<>();
+		columns.add(root.get("albumId"));
+		columnsFor(genre, genreFields, columns);
+		query.multiselect(columns)
+				.where(root.get("albumId").in(byAlbum.keySet()))
+				.orderBy(cb.asc(genre.get("name")));
+
+		for (Tuple tuple : em.createQuery(query).getResultList()) {
+			Map<String, Object> g = new LinkedHashMap<>();
+			copy(tuple, 1, genreFields, g);
+			byAlbum.get(tuple.get(0, Long.class)).add(g);
+		}
+	}
+
+	// ========== Artists and Genres ==========
+
+	/**
+	 * Pages artists, selecting only the requested fields.
+	 */
+	public Page<Map<String, Object>> findArtists(String fields, Pageable pageable) {
+		return findFlat(Artist.class, FieldSet.parse(fields, "artists", "artistId", ARTIST_FIELDS, false), pageable);
+	}
+
+	/**
+	 * Loads one artist, selecting only the requested fields and its version.
+	 *
+	 * @throws ResourceNotFoundException if the artist does not exist
+	 */
+	public Versioned findArtist(Long id, String fields) {
+		return findOneFlat(Artist.class, "artistId", id,
+				FieldSet.parse(fields, "artists", "artistId", ARTIST_FIELDS, false), "Artist");
+	}
+
+	/**
+	 * Pages genres, selecting only the requested fields.
+	 */
+	public Page<Map<String, Object>> findGenres(String fields, Pageable pageable) {
+		return findFlat(Genre.class, FieldSet.parse(fields, "genres", "genreId", GENRE_FIELDS, false), pageable);
+	}
+
+	/**
+	 * Loads one genre, selecting only the requested fields and its version.
+	 *
+	 * @throws ResourceNotFoundException if the genre does not exist
+	 */
+	public Versioned findGenre(Long id, String fields) {
+		return findOneFlat(Genre.class, "genreId", id,
+				FieldSet.parse(fields, "genres", "genreId", GENRE_FIELDS, false), "Genre");
+	}
+
+	private <T> Page<Map<String, Object>> findFlat(Class<T> type, FieldSet selection, Pageable pageable) {
+		List<Map<String, Object>> rows = selectFlat(type, selection, null, pageable);
+		return PageableExecutionUtils.getPage(rows, pageable, () -> count(type, null));
+	}
+
+	private <T> Versioned findOneFlat(Class<T> type, String idField, Long id, FieldSet selection, String label) {
+		boolean withVersion = !selection.own().add("version");
+		List<Map<String, Object>> rows = selectFlat(type, selection,
+				(root, query, cb) -> cb.equal(root.get(idField), id), Pageable.unpaged());
+		if (rows.isEmpty()) {
+			throw new ResourceNotFoundException(label + " with ID " + id + " not found");
+		}
+		return Versioned.of(rows.get(0), withVersion);
+	}
+
+	private <T> List<Map<String, Object>> selectFlat(Class<T> type, FieldSet selection, Specification<T> spec,
+			Pageable pageable) {
+		CriteriaQuery<Tuple> query = em.getCriteriaBuilder().createTupleQuery();
+		Root<T> root = query.from(type);
+		List<Selection<?>> columns = new ArrayList<>();
+		columnsFor(root, selection.own(), columns);
+
+		List<Map<String, Object>> rows = new ArrayList<>();
+		for (Tuple tuple : run(query, root, columns, spec, pageable)) {
+			Map<String, Object> row = new LinkedHashMap<>();
+			copy(tuple, 0, selection.own(), row);
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	// ========== Query helpers ==========
+
+	private <T> List<Tuple> run(CriteriaQuery<Tuple> query, Root<T> root, List<Selection<?>> columns,
+			Specification<T> spec, Pageable pageable) {
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		query.multiselect(columns);
+		if (spec != null) {
+			Predicate predicate = spec.toPredicate(root, query, cb);
+			if (predicate != null) {
+				query.where(predicate);
+			}
+		}
+		if (pageable.getSort().isSorted()) {
+			query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+		}
+		TypedQuery<Tuple> typed = em.createQuery(query);
+		if (pageable.isPaged()) {
+			typed.setFirstResult((int) pageable.getOffset());
+			typed.setMaxResults(pageable.getPageSize());
+		}
+		return typed.getResultList();
+	}
+
+	private <T> long count(Class<T> type, Specification<T> spec) {
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<T> root = query.from(type);
+		query.select(cb.count(root));
+		if (spec != null) {
+			Predicate predicate = spec.toPredicate(root, query, cb);
+			if (predicate != null) {
+				query.where(predicate);
+			}
+		}
+		return em.createQuery(query).getSingleResult();
+	}
+
+	// Selects one column per field; columns are read back by position
+	private static void columnsFor(From<?, ?> from, Set<String> fields, List<Selection<?>> columns) {
+		for (String field : fields) {
+			// releaseYear is derived from releaseDate, like Album#getReleaseYear
+			columns.add(from.get("releaseYear".equals(field) ? "releaseDate" : field));
+		}
+	}
+
+	private int copy(Tuple tuple, int start, Set<String> fields, Map<String, Object> target) {
+		int i = start;
+		for (String field : fields) {
+			target.put(field, jsonValue(field, tuple.get(i++)));
+		}
+		return i;
+	}
+
+	private Object jsonValue(String field, Object value) {
+		if (value == null) {
+			return null;
+		}
+		if ("releaseYear".equals(field)) {
+			return ((LocalDate) value).getYear();
+		}
+		if ("coverImageUrl".equals(field)) {
+			return coverStore.resolveUrl((String) value);
+		}
+		if (value instanceof LocalDateTime timestamp) {
+			return TIMESTAMP.format(timestamp);
+		}
+		return value;
+	}
+
+	/**
+	 * One sparse object and its version (the ETag of the entity).
+	 */
+	public record Versioned(Map<String, Object> fields, Long version) {
+
+		// The version column was selected either way; drop it again unless it was asked for
+		static Versioned of(Map<String, Object> row, boolean requested) {
+			Long version = (Long) (requested ? row.get("version") : row.remove("version"));
+			return new Versioned(row, version);
+		}
+	}
+
+	// ========== Field parsing ==========
+
+	/**
+	 * Parsed {@code fields=} value: the entity's own fields plus, for albums,
+	 * the nested artist and genre fields. Each set is in request order and
+	 * starts with the identifier.
+	 */
+	record FieldSet(Set<String> own, Set<String> artist, Set<String> genres) {
+
+		static FieldSet parse(String fields, String resource, String idField, List<String> allowed,
+				boolean nested) {
+			Set<String> own = new LinkedHashSet<>(List.of(idField));
+			Set<String> artist = new LinkedHashSet<>();
+			Set<String> genres = new LinkedHashSet<>();
+
+			for (String raw : fields.split(",")) {
+				String field = raw.trim();
+				if (field.isEmpty()) {
+					continue;
+				}
+				if (allowed.contains(field)) {
+					own.add(field);
+				} else if (!nested || !(addNested(field, "artist", "artistId", ARTIST_FIELDS, artist)
+						|| addNested(field, "genres", "genreId", GENRE_FIELDS, genres))) {
+					throw unknown(field, resource, allowed, nested);
+				}
+			}
+			return new FieldSet(own, artist, genres);
+		}
+
+		// "artist" selects every artist field, "artist.name" just one (plus the id)
+		private static boolean addNested(String field, String prefix, String idField, List<String> allowed,
+				Set<String> target) {
+			if (field.equals(prefix)) {
+				target.addAll(allowed);
+				return true;
+			}
+			if (field.startsWith(prefix + ".") && allowed.contains(field.substring(prefix.length() + 1))) {
+				target.add(idField);
+				target.add(field.substring(prefix.length() + 1));
+				return true;
+			}
+			return false;
+		}
+
+		private static BadRequestException unknown(String field, String resource, List<String> allowed,
+				boolean nested) {
+			String hint = String.join(", ", allowed) + (nested ? ", artist, artist.<field>, genres, genres.<field>" : "");
+			return new BadRequestException("Unknown field '" + field + "' for " + resource + ". Allowed: " + hint);
+		}
+	}
+}
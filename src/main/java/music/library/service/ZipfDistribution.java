@@ -0,0 +1,35 @@
+package music.library.service;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Zipf distribution over ranks 0..n-1: rank k is drawn with probability
+ * proportional to 1 / (k + 1)^exponent. Sampling is a binary search over the
+ * precomputed cumulative probabilities (O(log n), n doubles of memory).
+ */
+final class ZipfDistribution {
+
+    private final double[] cumulative;
+
+    ZipfDistribution(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n must be at least 1");
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1 / Math.pow(k + 1, exponent);
+            cumulative[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cumulative[k] /= sum;
+        }
+    }
+
+    int sample(SplittableRandom random) {
+        int i = Arrays.binarySearch(cumulative, random.nextDouble());
+        int rank = i >= 0 ? i + 1 : -i - 1;
+        return Math.min(rank, cumulative.length - 1);
+    }
+}
@@ -1,11 +1,13 @@
 package music.library.specification;
 
-import java.time.LocalDate;
-
 import org.springframework.data.jpa.domain.Specification;
 
 import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
 import music.library.entity.Album;
+import music.library.entity.Artist;
 import music.library.entity.Genre;
 
 /**
@@ -50,10 +52,43 @@ public class AlbumSpecs {
                 cb.like(cb.lower(root.get("title")), "%" + term.toLowerCase() + "%");
     }
 
+    /**
+     * Creates a specification that matches albums whose title or artist name contains
+     * the given term (case-insensitive). Criteria equivalent of
+     * {@code AlbumViewRepository.searchByTitleOrArtist}, for queries that build their own selection.
+     * Reuses an inner join on artist the query already has (e.g. for selected
+     * artist columns), so the artist table is joined only once.
+     * 
+     * @param term the search term to match (case-insensitive)
+     * @return a Specification that filters albums by title or artist name
+     */
+    public static Specification<Album> titleOrArtistContains(String term) {
+        return (root, query, cb) -> {
+            String pattern = "%" + term.toLowerCase() + "%";
+            Join<Album, Artist> artist = artistJoin(root);
+            return cb.or(cb.like(cb.lower(root.get("title")), pattern),
+                         cb.like(cb.lower(artist.get("name")), pattern));
+        };
+    }
+
+    // The query's inner join on artist, created if there is none yet
+    @SuppressWarnings("unchecked")
+    private static Join<Album, Artist> artistJoin(Root<Album> root) {
+        for (Join<Album, ?> join : root.getJoins()) {
+            if ("artist".equals(join.getAttribute().getName()) && join.getJoinType() == JoinType.INNER) {
+                return (Join<Album, Artist>) join;
+            }
+        }
+        return root.join("artist");
+    }
+
     /**
      * Creates a specification that matches albums released between two years (inclusive).
      * Either or both bounds can be null to create open-ended ranges.
      * 
+     * Compares the generated {@code release_year} column, which is indexed
+     * (idx_album_release_year), rather than a date range on release_date.
+     * 
      * @param startYear the minimum release year (inclusive), null for no lower bound
      * @param endYear the maximum release year (inclusive), null for no upper bound
      * @return a Specification that filters albums by release year range, or null if both bounds are null
@@ -70,23 +105,20 @@ public class AlbumSpecs {
             if (startYear == null && endYear == null) {
                 return null;
             }
+            Path<Integer> year = root.get("releaseYear");
             
             // Both bounds provided - use BETWEEN
             if (startYear != null && endYear != null) {
-                return cb.between(root.get("releaseDate"),
-                                  LocalDate.of(startYear, 1, 1),
-                                  LocalDate.of(endYear, 12, 31));
+                return cb.between(year, startYear, endYear);
             }
             
             // Only start year provided - greater than or equal to
             if (startYear != null) {
-                return cb.greaterThanOrEqualTo(root.get("releaseDate"),
-                                              LocalDate.of(startYear, 1, 1));
+                return cb.greaterThanOrEqualTo(year, startYear);
             }
             
             // Only end year provided - less than or equal to
-            return cb.lessThanOrEqualTo(root.get("releaseDate"),
-                                        LocalDate.of(endYear, 12, 31));
+            return cb.lessThanOrEqualTo(year, endYear);
         };
     }
 
@@ -111,4 +143,30 @@ public class AlbumSpecs {
             return cb.equal(join.get("genreId"), genreId);
         };
     }
+
+    /**
+     * Combines the optional filters of album search (AND logic). Null or blank
+     * criteria are skipped; with no criteria at all the result is null, which
+     * Spring Data treats as "match everything".
+     * 
+     * @param title partial title (case-insensitive), null to skip
+     * @param startYear minimum release year (inclusive), null for no lower bound
+     * @param endYear maximum release year (inclusive), null for no upper bound
+     * @param genreId genre ID the album must have, null to skip
+     * @return the combined Specification, or null if no criteria were given
+     */
+    public static Specification<Album> matching(String title, Integer startYear, Integer endYear, Long genreId) {
+        Specification<Album> spec = null;
+
+        if (title != null && !title.isBlank()) {
+            spec = titleContains(title);
+        }
+        if (startYear != null || endYear != null) {
+            spec = (spec == null) ? releasedBetween(startYear, endYear) : spec.and(releasedBetween(startYear, endYear));
+        }
+        if (genreId != null) {
+            spec = (spec == null) ? hasGenre(genreId) : spec.and(hasGenre(genreId));
+        }
+        return spec;
+    }
 }
@@ -120,22 +120,22 @@ INSERT INTO album_genre (album_id, genre_id) VALUES
 
 -- Radiohead albums (Rock, Electronic)
 INSERT INTO album_genre (album_id, genre_id) VALUES
-(15, 1),  -- OK Computer -> Rock
-(16, 1),  -- Kid A -> Rock
-(16, 5);  -- Kid A -> Electronic
+(13, 1),  -- OK Computer -> Rock
+(14, 1),  -- Kid A -> Rock
+(14, 5);  -- Kid A -> Electronic
 
 -- Daft Punk albums (Electronic, Pop)
 INSERT INTO album_genre (album_id, genre_id) VALUES
-(17, 5),  -- Discovery -> Electronic
-(17, 2),  -- Discovery -> Pop
-(18, 5),  -- Random Access Memories -> Electronic
-(18, 2);  -- Random Access Memories -> Pop
+(15, 5),  -- Discovery -> Electronic
+(15, 2),  -- Discovery -> Pop
+(16, 5),  -- Random Access Memories -> Electronic
+(16, 2);  -- Random Access Memories -> Pop
 
 -- Miles Davis albums (Jazz)
 INSERT INTO album_genre (album_id, genre_id) VALUES
-(19, 3);  -- Kind of Blue -> Jazz
+(17, 3);  -- Kind of Blue -> Jazz
 
 -- Taylor Swift albums (Pop)
 INSERT INTO album_genre (album_id, genre_id) VALUES
-(21, 2),  -- 1989 -> Pop
-(22, 2);  -- Folklore -> Pop
+(18, 2),  -- 1989 -> Pop
+(19, 2);  -- Folklore -> Pop
@@ -0,0 +1,24 @@
+-- Secondary indexes for the queries the API actually runs (see
+-- QueryPlanTest, which fails when one of them turns into a full scan).
+-- InnoDB appends the primary key to every secondary index, so an index on
+-- (x) also covers "x -> album_id" lookups.
+
+-- An artist's albums (AlbumRepository.findByArtist_ArtistId, artist deletion).
+-- Replaces the index InnoDB created implicitly for fk_album_artist.
+CREATE INDEX idx_album_artist ON album (artist_id);
+
+-- Albums of a genre (AlbumSpecs.hasGenre, findByGenres_GenreId, genre tagging):
+-- the primary key (album_id, genre_id) only helps from the album side.
+CREATE INDEX idx_album_genre_genre ON album_genre (genre_id, album_id);
+
+-- Year filter and facets (AlbumSpecs.releasedBetween)
+CREATE INDEX idx_album_release_year ON album (release_year);
+
+-- Sort columns of GET /api/albums (sortBy=title|releaseDate|createdAt; id is the primary key)
+CREATE INDEX idx_album_title ON album (title);
+CREATE INDEX idx_album_release_date ON album (release_date);
+CREATE INDEX idx_album_created_at ON album (created_at);
+
+-- Artist and genre lists are sorted by name (the filter dropdowns)
+CREATE INDEX idx_artist_name ON artist (name);
+CREATE INDEX idx_genre_name ON genre (name);
@@ -0,0 +1,35 @@
+-- Read model of the album list and search endpoints (entity AlbumView): one
+-- row per album with the artist name and the genres copied in, so a page is
+-- one single-table indexed query. Written only by AlbumViewService, in the
+-- transaction of the change it reflects; it is rebuilt from the catalog
+-- tables at any time, hence no foreign keys.
+--
+-- Created empty: the application fills it on the first start after this
+-- migration (AlbumViewService.run), since genres are stored as JSON text
+-- that MySQL and H2 cannot build with the same SQL.
+CREATE TABLE album_view (
+    album_id BIGINT PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    release_date DATE,
+    release_year INT,
+    cover_image_url VARCHAR(255),
+    track_count INT,
+    catalog_number VARCHAR(50),
+    created_at TIMESTAMP NULL,
+    updated_at TIMESTAMP NULL,
+    version BIGINT NOT NULL,
+    artist_id BIGINT NOT NULL,
+    artist_name VARCHAR(255) NOT NULL,
+    -- [{"genreId":1,"name":"Rock"}, ...], ordered by name
+    genres TEXT
+);
+
+-- Sort columns of GET /api/albums (sortBy=title|releaseDate|releaseYear|createdAt|artist.name)
+CREATE INDEX idx_album_view_title ON album_view (title);
+CREATE INDEX idx_album_view_release_date ON album_view (release_date);
+CREATE INDEX idx_album_view_release_year ON album_view (release_year);
+CREATE INDEX idx_album_view_created_at ON album_view (created_at);
+CREATE INDEX idx_album_view_artist_name ON album_view (artist_name);
+
+-- Artist renames and deletions rewrite all rows of the artist
+CREATE INDEX idx_album_view_artist ON album_view (artist_id);
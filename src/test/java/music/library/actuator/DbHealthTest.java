@@ -0,0 +1,135 @@
+package music.library.actuator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import music.library.service.CoverStore;
+
+// DbHealth against a one-connection H2 pool, so the test can exhaust it.
+// Not in native tests: CoverStore is a Mockito mock.
+@DisabledInNativeImage
+class DbHealthTest {
+
+	private final CoverStore coverStore = mock(CoverStore.class);
+	private final DbHealthProperties props = new DbHealthProperties();
+	private HikariDataSource pool;
+
+	@AfterEach
+	void closePool() {
+		if (pool != null) {
+			pool.close();
+		}
+	}
+
+	@Test
+	void health_beforeFirstProbe_isUnknown() {
+		DbHealth health = new DbHealth(pool(), coverStore, props);
+
+		assertThat(health.health().getStatus()).isEqualTo(Status.UNKNOWN);
+	}
+
+	@Test
+	void health_answersFromLastProbe_evenWhenEveryConnectionIsBusy() throws SQLException {
+		when(coverStore.size()).thenReturn(3);
+		DbHealth health = new DbHealth(pool(), coverStore, props);
+		health.probe();
+
+		try (Connection busy = pool.getConnection()) {
+			long start = System.nanoTime();
+			Health result = health.health();
+			health.probe(); // skipped: it would have to wait for "busy"
+
+			assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(1));
+			assertThat(result.getStatus()).isEqualTo(Status.UP);
+			assertThat(result.getDetails()).containsEntry("database", "H2").containsEntry("replication", "n/a");
+			assertThat(pool(result)).containsEntry("active", 1).containsEntry("max", 1)
+					.containsEntry("saturated", true);
+			assertThat(warm(result)).containsEntry("coversIndexed", 3);
+			assertThat(pool(health.health())).containsEntry("skippedProbes", 1L);
+		}
+	}
+
+	@Test
+	void probe_databaseUnreachable_reportsDown() throws SQLException {
+		DataSource broken = mock(DataSource.class);
+		when(broken.getConnection()).thenThrow(new SQLException("Connection refused"));
+		DbHealth health = new DbHealth(broken, coverStore, props);
+
+		health.probe();
+
+		Health result = health.health();
+		assertThat(result.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(result.getDetails().get("error").toString()).contains("Connection refused");
+	}
+
+	@Test
+	void health_lastResultOlderThanStaleAfter_reportsDown() throws InterruptedException {
+		props.setStaleAfter(Duration.ofMillis(1));
+		DbHealth health = new DbHealth(pool(), coverStore, props);
+		health.probe();
+
+		Thread.sleep(20);
+
+		Health result = health.health();
+		assertThat(result.getStatus()).isEqualTo(Status.DOWN);
+		assertThat(result.getDetails()).containsKey("reason");
+	}
+
+	@Test
+	void health_poolSaturatedLongerThanStaleAfter_staysUp() throws Exception {
+		props.setStaleAfter(Duration.ofMillis(50));
+		DbHealth health = new DbHealth(pool(), coverStore, props);
+		health.probe();
+
+		try (Connection busy = pool.getConnection()) {
+			// Steady load: every probe finds the pool saturated and is skipped
+			for (int i = 0; i < 4; i++) {
+				Thread.sleep(30);
+				health.probe();
+			}
+
+			Health result = health.health();
+			assertThat(result.getStatus()).isEqualTo(Status.UP);
+			assertThat(result.getDetails()).containsEntry("saturated", true).doesNotContainKey("reason");
+			assertThat(pool(result)).containsEntry("skippedProbes", 4L);
+		}
+
+		// The next real probe drops the saturated flag
+		health.probe();
+		assertThat(health.health().getDetails()).doesNotContainKey("saturated");
+	}
+
+	private DataSource pool() {
+		pool = new HikariDataSource();
+		pool.setJdbcUrl("jdbc:h2:mem:dbhealth;DB_CLOSE_DELAY=-1");
+		pool.setMaximumPoolSize(1);
+		pool.setConnectionTimeout(250);
+		return pool;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> pool(Health health) {
+		return (Map<String, Object>) health.getDetails().get("pool");
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> warm(Health health) {
+		return (Map<String, Object>) health.getDetails().get("warm");
+	}
+}
@@ -0,0 +1,83 @@
+package music.library.actuator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import music.library.entity.Album;
+import music.library.entity.Artist;
+import music.library.jdbc.SlowQuery;
+import music.library.jdbc.SlowQueryLog;
+import music.library.repository.AlbumRepository;
+import music.library.repository.ArtistRepository;
+import music.library.service.AlbumService;
+
+// Threshold 0: every statement counts as slow
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@TestPropertySource(properties = { "slow-queries.threshold=0ms", "slow-queries.capacity=500" })
+class SlowQueryEndpointTest {
+
+	@Autowired
+	private SlowQueryEndpoint endpoint;
+
+	@Autowired
+	private SlowQueryLog slowQueries;
+
+	@Autowired
+	private AlbumService albumService;
+
+	@Autowired
+	private AlbumRepository albumRepo;
+
+	@Autowired
+	private ArtistRepository artistRepo;
+
+	private final String marker = "slowq" + UUID.randomUUID().toString().substring(0, 8);
+
+	@Test
+	void search_isRecordedWithCallerParametersAndRows_andExplainCapturesThePlan() {
+		Artist artist = artistRepo.save(Artist.builder().name("Slow Artist " + marker).build());
+		albumRepo.save(Album.builder().title("First " + marker).artist(artist).build());
+		albumRepo.saveAndFlush(Album.builder().title("Second " + marker).artist(artist).build());
+		endpoint.clear();
+
+		albumService.search(marker, null, null, null, PageRequest.of(0, 5));
+
+		SlowQuery search = slowQueries.slowest().stream()
+				.filter(q -> q.getCaller().equals("AlbumService.search"))
+				.filter(q -> q.getParameters().stream().anyMatch(p -> p.contains(marker)))
+				.findFirst().orElseThrow();
+		assertThat(search.getShape()).startsWith("select").contains("from album");
+		assertThat(search.getRows()).isEqualTo(2);
+		assertThat(search.getPlan()).isNull();
+
+		SlowQuery explained = endpoint.explain(search.getId());
+		assertThat(explained.getPlan()).isNotEmpty();
+		assertThat(explained.getPlan().get(0).values().toString()).containsIgnoringCase("album");
+		assertThat(endpoint.list()).containsEntry("thresholdMillis", 0L);
+	}
+
+	@Test
+	void explain_refusesStatementsOtherThanSelect() {
+		endpoint.clear();
+		artistRepo.saveAndFlush(Artist.builder().name("Insert " + marker).build());
+
+		SlowQuery insert = slowQueries.slowest().stream()
+				.filter(q -> q.getShape().startsWith("insert")).findFirst().orElseThrow();
+		assertThat(insert.getRows()).isEqualTo(1);
+		assertThatThrownBy(() -> endpoint.explain(insert.getId()))
+				.isInstanceOf(InvalidEndpointRequestException.class);
+	}
+}
@@ -0,0 +1,106 @@
+package music.library.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+class AdmissionControlFilterTest {
+
+	private SimpleMeterRegistry registry;
+	private AdmissionControlFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		AdmissionProperties properties = new AdmissionProperties();
+		AdmissionProperties.Limit write = new AdmissionProperties.Limit();
+		write.setInitialLimit(1);
+		write.setMaxLimit(1);
+		properties.getClasses().put(EndpointClass.WRITE, write);
+		registry = new SimpleMeterRegistry();
+		filter = new AdmissionControlFilter(properties, new ObjectMapper().registerModule(new JavaTimeModule()),
+				registry);
+	}
+
+	@Test
+	void requestOverLimit_isShedWithRetryAfter_whileOtherClassesAreAdmitted() throws Exception {
+		AtomicReference<MockHttpServletResponse> nestedWrite = new AtomicReference<>();
+		AtomicReference<MockHttpServletResponse> nestedList = new AtomicReference<>();
+
+		// The outer write holds the only WRITE slot while the nested requests arrive
+		filter.doFilter(request("POST", "/api/albums"), new MockHttpServletResponse(), (req, res) -> {
+			nestedWrite.set(run(request("PUT", "/api/albums/1")));
+			nestedList.set(run(request("GET", "/api/albums")));
+		});
+
+		assertThat(nestedWrite.get().getStatus()).isEqualTo(503);
+		assertThat(nestedWrite.get().getHeader("Retry-After")).isEqualTo("1");
+		assertThat(nestedWrite.get().getContentAsString()).contains("Too many concurrent write requests");
+		assertThat(nestedList.get().getStatus()).isEqualTo(200);
+		assertThat(registry.get("admission.rejected").tag("class", "write").counter().count()).isEqualTo(1);
+		// Slot given back afterwards
+		assertThat(filter.limiter(EndpointClass.WRITE).getInFlight()).isZero();
+		assertThat(run(request("PUT", "/api/albums/1")).getStatus()).isEqualTo(200);
+	}
+
+	@Test
+	void classify_groupsEndpointsByDatabaseCost() {
+		assertThat(EndpointClass.of(request("GET", "/api/albums/search"))).isEqualTo(EndpointClass.SEARCH);
+		assertThat(EndpointClass.of(request("GET", "/api/artists"))).isEqualTo(EndpointClass.LIST);
+		assertThat(EndpointClass.of(request("GET", "/api/genres/batch"))).isEqualTo(EndpointClass.LIST);
+		assertThat(EndpointClass.of(request("GET", "/api/genres/3/albums"))).isEqualTo(EndpointClass.LIST);
+		assertThat(EndpointClass.of(request("POST", "/api/albums/bulk"))).isEqualTo(EndpointClass.WRITE);
+		assertThat(EndpointClass.of(request("POST", "/api/snapshots/demo"))).isEqualTo(EndpointClass.EXPORT);
+		assertThat(EndpointClass.of(request("DELETE", "/api/reset"))).isEqualTo(EndpointClass.RESET);
+		// Cheap or pool-free requests are never limited
+		assertThat(EndpointClass.of(request("GET", "/api/albums/12"))).isNull();
+		assertThat(EndpointClass.of(request("GET", "/api"))).isNull();
+		assertThat(EndpointClass.of(request("GET", "/covers/a.jpg"))).isNull();
+	}
+
+	@Test
+	void limiter_growsWhileFastAndBusy_andBacksOffOnSlowOrFailedRequests() {
+		long threshold = Duration.ofMillis(100).toNanos();
+		AdaptiveLimiter limiter = new AdaptiveLimiter(4, 1, 6, threshold, 0.5);
+
+		for (int i = 0; i < 4; i++) {
+			assertThat(limiter.tryAcquire()).isTrue();
+		}
+		assertThat(limiter.tryAcquire()).isFalse();
+		limiter.release(threshold / 2, false);
+		assertThat(limiter.getLimit()).isEqualTo(5);
+
+		limiter.release(threshold * 2, false);
+		assertThat(limiter.getLimit()).isEqualTo(2);
+		limiter.release(threshold / 2, true);
+		limiter.release(threshold / 2, true);
+		assertThat(limiter.getLimit()).isEqualTo(1);
+		assertThat(limiter.getInFlight()).isZero();
+	}
+
+	private MockHttpServletResponse run(MockHttpServletRequest request) {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		try {
+			filter.doFilter(request, response, (FilterChain) (req, res) -> {
+			});
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		return response;
+	}
+
+	private static MockHttpServletRequest request(String method, String uri) {
+		return new MockHttpServletRequest(method, uri);
+	}
+}
@@ -0,0 +1,156 @@
+package music.library.admission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class SingleFlightFilterTest {
+
+	private SimpleMeterRegistry registry;
+	private SingleFlightFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		filter = new SingleFlightFilter(new AdmissionProperties(), registry);
+	}
+
+	@Test
+	void identicalConcurrentReads_shareOneExecution() throws Exception {
+		CountDownLatch leaderRunning = new CountDownLatch(1);
+		CountDownLatch releaseLeader = new CountDownLatch(1);
+		AtomicInteger executions = new AtomicInteger();
+		FilterChain slowQuery = (req, res) -> {
+			executions.incrementAndGet();
+			leaderRunning.countDown();
+			try {
+				releaseLeader.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			res.setContentType("application/json");
+			res.getWriter().write("{\"page\":0}");
+		};
+
+		CompletableFuture<MockHttpServletResponse> leader = CompletableFuture
+				.supplyAsync(() -> run(albums("page", "0", "size", "20"), slowQuery));
+		assertThat(leaderRunning.await(5, TimeUnit.SECONDS)).isTrue();
+		// Same parameters in a different order
+		CompletableFuture<MockHttpServletResponse> follower = CompletableFuture
+				.supplyAsync(() -> run(albums("size", "20", "page", "0"), slowQuery));
+		while (registry.get("singleflight.requests").tag("role", "follower").counter().count() < 1) {
+			Thread.sleep(5);
+		}
+		releaseLeader.countDown();
+
+		assertThat(leader.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("{\"page\":0}");
+		MockHttpServletResponse copy = follower.get(5, TimeUnit.SECONDS);
+		assertThat(copy.getContentAsString()).isEqualTo("{\"page\":0}");
+		assertThat(copy.getContentType()).isEqualTo("application/json");
+		assertThat(executions).hasValue(1);
+		assertThat(registry.get("singleflight.coalescing.ratio").gauge().value()).isEqualTo(0.5);
+	}
+
+	@Test
+	void key_normalizesParameterOrder_butKeepsDistinctPages() {
+		assertThat(SingleFlightFilter.key(albums("page", "0", "size", "20")))
+				.isEqualTo(SingleFlightFilter.key(albums("size", "20", "page", "0")));
+		assertThat(SingleFlightFilter.key(albums("page", "0")))
+				.isNotEqualTo(SingleFlightFilter.key(albums("page", "1")));
+	}
+
+	@Test
+	void key_keepsBlankValues_andSeparatesOrigins() {
+		// ?q= is rejected with 400, a missing q is not
+		assertThat(SingleFlightFilter.key(albums("q", "")))
+				.isNotEqualTo(SingleFlightFilter.key(albums()));
+		MockHttpServletRequest fromA = albums("page", "0");
+		fromA.addHeader("Origin", "https://a.example");
+		MockHttpServletRequest fromB = albums("page", "0");
+		fromB.addHeader("Origin", "https://b.example");
+		assertThat(SingleFlightFilter.key(fromA)).isNotEqualTo(SingleFlightFilter.key(fromB));
+	}
+
+	@Test
+	void followers_getNoSqlStats_andRunThemselvesWhenAVaryHeaderDiffers() throws Exception {
+		CountDownLatch leaderRunning = new CountDownLatch(1);
+		CountDownLatch releaseLeader = new CountDownLatch(1);
+		AtomicInteger executions = new AtomicInteger();
+		FilterChain slowQuery = (req, res) -> {
+			if (executions.incrementAndGet() == 1) {
+				leaderRunning.countDown();
+				try {
+					releaseLeader.await(5, TimeUnit.SECONDS);
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				}
+			}
+			HttpServletResponse http = (HttpServletResponse) res;
+			http.addHeader("Vary", "Accept-Language");
+			http.addHeader("X-Sql-Statements", "1");
+			res.getWriter().write(((HttpServletRequest) req).getHeader("Accept-Language"));
+		};
+
+		CompletableFuture<MockHttpServletResponse> leader = CompletableFuture
+				.supplyAsync(() -> run(language(albums("page", "0"), "en"), slowQuery));
+		assertThat(leaderRunning.await(5, TimeUnit.SECONDS)).isTrue();
+		CompletableFuture<MockHttpServletResponse> same = CompletableFuture
+				.supplyAsync(() -> run(language(albums("page", "0"), "en"), slowQuery));
+		CompletableFuture<MockHttpServletResponse> other = CompletableFuture
+				.supplyAsync(() -> run(language(albums("page", "0"), "de"), slowQuery));
+		while (registry.get("singleflight.requests").tag("role", "follower").counter().count() < 2) {
+			Thread.sleep(5);
+		}
+		releaseLeader.countDown();
+
+		assertThat(leader.get(5, TimeUnit.SECONDS).getHeader("X-Sql-Statements")).isEqualTo("1");
+		MockHttpServletResponse copy = same.get(5, TimeUnit.SECONDS);
+		assertThat(copy.getContentAsString()).isEqualTo("en");
+		assertThat(copy.getHeader("X-Sql-Statements")).isNull();
+		assertThat(other.get(5, TimeUnit.SECONDS).getContentAsString()).isEqualTo("de");
+		assertThat(executions).hasValue(2);
+	}
+
+	@Test
+	void writesAndPointReads_areNotCoalesced() {
+		assertThat(filter.shouldNotFilter(new MockHttpServletRequest("POST", "/api/albums"))).isTrue();
+		assertThat(filter.shouldNotFilter(new MockHttpServletRequest("GET", "/api/albums/7"))).isTrue();
+		assertThat(filter.shouldNotFilter(new MockHttpServletRequest("GET", "/api/albums/search"))).isFalse();
+	}
+
+	private MockHttpServletResponse run(MockHttpServletRequest request, FilterChain chain) {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		try {
+			filter.doFilter(request, response, chain);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+		return response;
+	}
+
+	private static MockHttpServletRequest language(MockHttpServletRequest request, String language) {
+		request.addHeader("Accept-Language", language);
+		return request;
+	}
+
+	private static MockHttpServletRequest albums(String... params) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/albums");
+		for (int i = 0; i < params.length; i += 2) {
+			request.addParameter(params[i], params[i + 1]);
+		}
+		return request;
+	}
+}
@@ -0,0 +1,67 @@
+package music.library.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.annotation.ReflectiveRuntimeHintsRegistrar;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.util.ClassUtils;
+
+import music.library.entity.Album;
+import music.library.jdbc.SlowQuery;
+import music.library.logging.AsyncLogAppender;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+
+// The hints NativeRuntimeHints contributes, checked the way the AOT engine collects them
+class NativeRuntimeHintsTest {
+
+	private final RuntimeHints hints = new RuntimeHints();
+
+	@BeforeEach
+	void setUp() {
+		new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+		new ReflectiveRuntimeHintsRegistrar().registerRuntimeHints(hints, NativeRuntimeHints.class);
+	}
+
+	@Test
+	void entitiesAndDtos_areRegisteredForJsonBinding() throws Exception {
+		assertThat(RuntimeHintsPredicates.reflection().onMethod(Album.class, "getTitle")).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onMethod(Album.class, "setTitle")).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onMethod(SlowQuery.class, "getShape")).accepts(hints);
+
+		// A new DTO has to be added to @RegisterReflectionForBinding as well
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+		scanner.addIncludeFilter((reader, factory) -> true);
+		var dtos = scanner.findCandidateComponents("music.library.dto");
+		assertThat(dtos).isNotEmpty();
+		for (var candidate : dtos) {
+			Class<?> dto = ClassUtils.forName(candidate.getBeanClassName(), getClass().getClassLoader());
+			assertThat(RuntimeHintsPredicates.reflection().onType(dto)).as(dto.getName()).accepts(hints);
+		}
+	}
+
+	@Test
+	void jdbcProxies_migrations_andLogging_areRegistered() {
+		assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, Connection.class))
+				.accepts(hints);
+		assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, PreparedStatement.class))
+				.accepts(hints);
+		assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, ResultSet.class))
+				.accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onType(CoverUrlSerializer.class)).accepts(hints);
+		assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__Create_Schema.sql"))
+				.accepts(hints);
+		assertThat(RuntimeHintsPredicates.resource().forResource("db/vendor/mysql/V4__Add_Release_Year.sql"))
+				.accepts(hints);
+		assertThat(RuntimeHintsPredicates.resource().forResource("logback/console-json.xml")).accepts(hints);
+		assertThat(RuntimeHintsPredicates.reflection().onMethod(AsyncLogAppender.class, "setQueueSize"))
+				.accepts(hints);
+	}
+}
@@ -1,5 +1,6 @@
 package music.library.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import music.library.dto.CreateAlbumRequest;
 import music.library.entity.Album;
@@ -51,6 +52,11 @@ public class AlbumControllerIT {
     @Autowired
     private ObjectMapper objectMapper;
 
+    // JDBC statements allowed per page, independent of page size
+    private static final int BUDGET_LIST = 1;    // one album_view query
+    private static final int BUDGET_SEARCH = 1;  // one album_view query
+    private static final int BUDGET_SPARSE = 2;  // selected columns, then genres for the page
+
     private String baseUrl;
     private Artist testArtist;
     private Genre testGenre;
@@ -223,4 +229,139 @@ public class AlbumControllerIT {
 		assertThat(response.getBody()).isNotNull();
 		assertThat(response.getBody().getContent()).isEmpty();
 	}
-}
\ No newline at end of file
+
+	@Test
+	void testGetAlbumsByIds() {
+		Genre managedGenre = genreRepository.findById(testGenre.getGenreId()).orElseThrow();
+
+		Album first = new Album();
+		first.setTitle("First Album");
+		first.setArtist(testArtist);
+		first.setGenres(Set.of(managedGenre));
+		first = albumRepository.save(first);
+
+		Album second = new Album();
+		second.setTitle("Second Album");
+		second.setArtist(testArtist);
+		second = albumRepository.save(second);
+
+		// Ask in reverse order with an unknown id in the middle
+		ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+				baseUrl + "/batch?ids=" + second.getAlbumId() + ",999," + first.getAlbumId(),
+				JsonNode.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		JsonNode body = response.getBody();
+		assertThat(body.get("requested").asInt()).isEqualTo(3);
+		assertThat(body.get("found").asInt()).isEqualTo(2);
+		assertThat(body.get("missingIds").get(0).asLong()).isEqualTo(999L);
+
+		JsonNode results = body.get("results");
+		assertThat(results.get(0).get("item").get("title").asText()).isEqualTo("Second Album");
+		assertThat(results.get(1).get("found").asBoolean()).isFalse();
+		assertThat(results.get(1).get("item").isNull()).isTrue();
+		assertThat(results.get(2).get("item").get("title").asText()).isEqualTo("First Album");
+		// Artist and genres come back with the album (fetched in the same query)
+		assertThat(results.get(2).get("item").get("artist").get("name").asText()).isEqualTo("Test Artist");
+		assertThat(results.get(2).get("item").get("genres").get(0).get("name").asText()).isEqualTo("Test Genre");
+	}
+
+	@Test
+	void testGetAlbumsByIdsTooMany() {
+		StringBuilder ids = new StringBuilder("1");
+		for (int i = 2; i <= 101; i++) {
+			ids.append(',').append(i);
+		}
+
+		ResponseEntity<String> response = restTemplate.getForEntity(baseUrl + "/batch?ids=" + ids, String.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+	}
+
+	@Test
+	void testBulkWithNullOperation() {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+
+		ResponseEntity<String> response = restTemplate.postForEntity(baseUrl + "/bulk",
+				new HttpEntity<>("{\"operations\":[null]}", headers), String.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		assertThat(response.getBody()).contains("must not be null");
+	}
+
+	@Test
+	void testGetAlbumsWithSparseFields() {
+		Genre managedGenre = genreRepository.findById(testGenre.getGenreId()).orElseThrow();
+
+		Album album = new Album();
+		album.setTitle("Sparse Album");
+		album.setReleaseDate(LocalDate.of(1999, 5, 1));
+		album.setArtist(testArtist);
+		album.setGenres(Set.of(managedGenre));
+		album = albumRepository.save(album);
+
+		ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+				baseUrl + "?fields=title,releaseYear,artist.name", JsonNode.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		JsonNode first = response.getBody().get("content").get(0);
+		assertThat(first.get("albumId").asLong()).isEqualTo(album.getAlbumId());
+		assertThat(first.get("title").asText()).isEqualTo("Sparse Album");
+		assertThat(first.get("releaseYear").asInt()).isEqualTo(1999);
+		assertThat(first.get("artist").get("name").asText()).isEqualTo("Test Artist");
+		// Only what was asked for: no description, timestamps or genres
+		assertThat(first.get("artist").has("description")).isFalse();
+		assertThat(first.has("genres")).isFalse();
+		assertThat(first.has("createdAt")).isFalse();
+		assertThat(response.getBody().get("page").get("totalElements").asInt()).isEqualTo(1);
+
+		// Genres are loaded on request
+		ResponseEntity<JsonNode> withGenres = restTemplate.getForEntity(
+				baseUrl + "/" + album.getAlbumId() + "?fields=title,genres.name", JsonNode.class);
+
+		assertThat(withGenres.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(withGenres.getBody().get("genres").get(0).get("name").asText()).isEqualTo("Test Genre");
+		assertThat(withGenres.getBody().has("artist")).isFalse();
+		// Same ETag as the full response, though version itself was not asked for
+		assertThat(withGenres.getHeaders().getETag()).isEqualTo("\"" + album.getVersion() + "\"");
+		assertThat(withGenres.getBody().has("version")).isFalse();
+	}
+
+	@Test
+	void testGetAlbumsWithUnknownField() {
+		ResponseEntity<String> response = restTemplate.getForEntity(baseUrl + "?fields=title,password", String.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		assertThat(response.getBody()).contains("password");
+	}
+
+	@Test
+	void testAlbumReadsStayWithinQueryBudget() {
+		// Enough albums, each with its own artist and genre, that a per-row lazy load would be flagged
+		for (int i = 0; i < 15; i++) {
+			Artist artist = new Artist();
+			artist.setName("Budget Artist " + i);
+			artist = artistRepository.save(artist);
+			Genre genre = new Genre();
+			genre.setName("Budget Genre " + i);
+			genre = genreRepository.save(genre);
+
+			Album album = new Album();
+			album.setTitle("Budget Album " + i);
+			album.setArtist(artist);
+			album.setGenres(Set.of(genre));
+			albumRepository.save(album);
+		}
+
+		ResponseEntity<String> page = restTemplate.getForEntity(baseUrl + "?size=20", String.class);
+		ResponseEntity<String> search = restTemplate.getForEntity(baseUrl + "/search?q=budget", String.class);
+		ResponseEntity<String> sparse = restTemplate.getForEntity(baseUrl + "?fields=title,artist.name,genres.name",
+				String.class);
+
+		assertThat(page.getStatusCode()).isEqualTo(HttpStatus.OK);
+		QueryBudget.assertWithin(page, BUDGET_LIST);
+		QueryBudget.assertWithin(search, BUDGET_SEARCH);
+		QueryBudget.assertWithin(sparse, BUDGET_SPARSE);
+	}
+}
@@ -96,6 +96,7 @@ public class AlbumControllerUpdateDeleteIT {
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setIfMatch("\"" + testAlbum.getVersion() + "\"");
         HttpEntity<UpdateAlbumRequest> request = new HttpEntity<>(updateRequest, headers);
 
         ResponseEntity<Album> response = restTemplate.exchange(
@@ -110,6 +111,55 @@ public class AlbumControllerUpdateDeleteIT {
         assertThat(response.getBody().getTitle()).isEqualTo("Updated Album Title");
         assertThat(response.getBody().getReleaseDate()).isEqualTo(LocalDate.of(2024, 1, 1));
         assertThat(response.getBody().getAlbumId()).isEqualTo(testAlbum.getAlbumId());
+        // The new version comes back as the ETag for the next update
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"" + (testAlbum.getVersion() + 1) + "\"");
+    }
+
+    @Test
+    void testGetAlbumReturnsETag() {
+        ResponseEntity<Album> response = restTemplate.getForEntity(
+                baseUrl + "/" + testAlbum.getAlbumId(), Album.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"" + testAlbum.getVersion() + "\"");
+    }
+
+    @Test
+    void testUpdateAlbumWithStaleETag() {
+        // Two editors read version 0; the first update wins, the second gets 412
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setIfMatch("\"" + testAlbum.getVersion() + "\"");
+
+        assertThat(restTemplate.exchange(baseUrl + "/" + testAlbum.getAlbumId(), HttpMethod.PUT,
+                new HttpEntity<>(updateRequest("First Editor"), headers), Album.class).getStatusCode())
+                .isEqualTo(HttpStatus.OK);
+
+        ResponseEntity<String> second = restTemplate.exchange(baseUrl + "/" + testAlbum.getAlbumId(), HttpMethod.PUT,
+                new HttpEntity<>(updateRequest("Second Editor"), headers), String.class);
+
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(albumRepository.findById(testAlbum.getAlbumId()).orElseThrow().getTitle())
+                .isEqualTo("First Editor");
+    }
+
+    @Test
+    void testUpdateAlbumWithoutIfMatch() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+
+        ResponseEntity<String> response = restTemplate.exchange(baseUrl + "/" + testAlbum.getAlbumId(),
+                HttpMethod.PUT, new HttpEntity<>(updateRequest("No Precondition"), headers), String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_REQUIRED);
+    }
+
+    private UpdateAlbumRequest updateRequest(String title) {
+        UpdateAlbumRequest updateRequest = new UpdateAlbumRequest();
+        updateRequest.setTitle(title);
+        updateRequest.setArtistId(testArtist.getArtistId());
+        updateRequest.setGenreIds(Arrays.asList(testGenre.getGenreId()));
+        return updateRequest;
     }
 
     @Test
@@ -123,6 +173,7 @@ public class AlbumControllerUpdateDeleteIT {
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setIfMatch("\"0\"");
         HttpEntity<UpdateAlbumRequest> request = new HttpEntity<>(updateRequest, headers);
 
         ResponseEntity<Album> response = restTemplate.exchange(
@@ -1,6 +1,7 @@
 package music.library.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import music.library.dto.ArtistDeletionResponse;
 import music.library.dto.CreateArtistRequest;
 import music.library.dto.UpdateArtistRequest;
 import music.library.entity.Artist;
@@ -152,6 +153,7 @@ public class ArtistControllerIT {
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setIfMatch("\"" + savedArtist.getVersion() + "\"");
         HttpEntity<UpdateArtistRequest> request = new HttpEntity<>(updateRequest, headers);
 
         ResponseEntity<Artist> response = restTemplate.exchange(
@@ -176,14 +178,16 @@ public class ArtistControllerIT {
         artist.setDescription("Test Description");
         Artist savedArtist = artistRepository.save(artist);
 
-        ResponseEntity<Void> response = restTemplate.exchange(
+        ResponseEntity<ArtistDeletionResponse> response = restTemplate.exchange(
                 baseUrl + "/" + savedArtist.getArtistId(),
                 HttpMethod.DELETE,
                 null,
-                Void.class
+                ArtistDeletionResponse.class
         );
 
-        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        // The delete now reports what it removed along with the artist
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getAlbumsDeleted()).isZero();
         
         // Verify artist is deleted
         assertThat(artistRepository.findById(savedArtist.getArtistId())).isEmpty();
@@ -0,0 +1,175 @@
+package music.library.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import music.library.entity.Album;
+import music.library.service.CoverStore;
+
+/* Exercises the external cover store end to end: hashed immutable URLs,
+ * legacy URLs with ETag revalidation, and byte-range requests. */
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class CoverControllerIT {
+
+    @TempDir
+    static Path coverDir;
+
+    // 100 KB so the body is large enough for Tomcat to use sendfile
+    private static final byte[] CONTENT = new byte[100 * 1024];
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private CoverStore coverStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @DynamicPropertySource
+    static void coverStoreDir(DynamicPropertyRegistry registry) {
+        registry.add("covers.store-dir", () -> coverDir.toString());
+    }
+
+    @BeforeAll
+    static void writeCover() throws IOException {
+        for (int i = 0; i < CONTENT.length; i++) {
+            CONTENT[i] = (byte) (i % 251);
+        }
+        Files.write(coverDir.resolve("test-cover.jpg"), CONTENT);
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+
+    @Test
+    void hashedUrl_servesImmutableContent() {
+        String hashed = coverStore.resolveUrl("/covers/test-cover.jpg");
+        assertThat(hashed).matches("/covers/[0-9a-f]{16}/test-cover\\.jpg");
+
+        ResponseEntity<byte[]> response = restTemplate.getForEntity(url(hashed), byte[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isEqualTo(CONTENT);
+        assertThat(response.getHeaders().getCacheControl()).contains("immutable").contains("max-age=31536000");
+        assertThat(response.getHeaders().getFirst(HttpHeaders.ACCEPT_RANGES)).isEqualTo("bytes");
+        assertThat(response.getHeaders().getContentType().toString()).isEqualTo("image/jpeg");
+    }
+
+    @Test
+    void legacyUrl_revalidatesWithEtag() {
+        ResponseEntity<byte[]> first = restTemplate.getForEntity(url("/covers/test-cover.jpg"), byte[].class);
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        String etag = first.getHeaders().getETag();
+        assertThat(etag).isNotNull();
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setIfNoneMatch(etag);
+        ResponseEntity<byte[]> second = restTemplate.exchange(url("/covers/test-cover.jpg"), HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+    }
+
+    @Test
+    void rangeRequest_returnsPartialContent() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=1000-1999");
+
+        ResponseEntity<byte[]> response = restTemplate.exchange(url("/covers/test-cover.jpg"), HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.CONTENT_RANGE))
+                .isEqualTo("bytes 1000-1999/" + CONTENT.length);
+        assertThat(response.getBody()).hasSize(1000);
+        assertThat(response.getBody()[0]).isEqualTo(CONTENT[1000]);
+    }
+
+    @Test
+    void suffixRange_returnsTail() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=-10");
+
+        ResponseEntity<byte[]> response = restTemplate.exchange(url("/covers/test-cover.jpg"), HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(response.getBody()).hasSize(10);
+        assertThat(response.getBody()[9]).isEqualTo(CONTENT[CONTENT.length - 1]);
+    }
+
+    @Test
+    void unsatisfiableRange_returns416() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RANGE, "bytes=" + CONTENT.length + "-");
+
+        ResponseEntity<byte[]> response = restTemplate.exchange(url("/covers/test-cover.jpg"), HttpMethod.GET,
+                new HttpEntity<>(headers), byte[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
+        assertThat(response.getHeaders().get(HttpHeaders.CONTENT_RANGE)).isEqualTo(List.of("bytes */" + CONTENT.length));
+    }
+
+    @Test
+    void albumJson_rewritesCoverUrlToHashedForm() throws Exception {
+        Album album = Album.builder().title("Cover Test").coverImageUrl("/covers/test-cover.jpg").build();
+
+        String json = objectMapper.writeValueAsString(album);
+
+        assertThat(json).contains("\"coverImageUrl\":\"" + coverStore.resolveUrl("/covers/test-cover.jpg") + "\"");
+        assertThat(json).doesNotContain("\"/covers/test-cover.jpg\"");
+    }
+
+    @Test
+    void replacedCover_getsANewHashedUrl() throws IOException {
+        Path file = coverDir.resolve("replaced-cover.jpg");
+        Files.write(file, new byte[] { 1, 2, 3 });
+        String before = coverStore.resolveUrl("/covers/replaced-cover.jpg");
+
+        Files.write(file, new byte[] { 4, 5, 6, 7 });
+        String after = coverStore.resolveUrl("/covers/replaced-cover.jpg");
+
+        assertThat(after).isNotEqualTo(before).endsWith("/replaced-cover.jpg");
+        ResponseEntity<byte[]> current = restTemplate.getForEntity(url(after), byte[].class);
+        assertThat(current.getBody()).containsExactly(4, 5, 6, 7);
+
+        Files.delete(file);
+        assertThat(coverStore.find("replaced-cover.jpg")).isEmpty();
+    }
+
+    @Test
+    void unknownCover_returns404() {
+        ResponseEntity<byte[]> response = restTemplate.getForEntity(url("/covers/missing.jpg"), byte[].class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+}
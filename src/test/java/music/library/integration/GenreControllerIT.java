@@ -1,5 +1,6 @@
 package music.library.integration;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import music.library.dto.CreateGenreRequest;
 import music.library.entity.Genre;
@@ -148,6 +149,7 @@ public class GenreControllerIT {
 
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setIfMatch("\"" + savedGenre.getVersion() + "\"");
         HttpEntity<Genre> request = new HttpEntity<>(updatedGenre, headers);
 
         ResponseEntity<Genre> response = restTemplate.exchange(
@@ -185,4 +187,48 @@ public class GenreControllerIT {
         assertThat(genreRepository.findById(savedGenre.getGenreId())).isEmpty();
     }
 
-}
\ No newline at end of file
+
+    @Test
+    void testGetGenresByIds() {
+        Genre rock = new Genre();
+        rock.setName("Rock");
+        rock = genreRepository.save(rock);
+
+        Genre jazz = new Genre();
+        jazz.setName("Jazz");
+        jazz = genreRepository.save(jazz);
+
+        ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                baseUrl + "/batch?ids=" + jazz.getGenreId() + "," + rock.getGenreId() + ",12345",
+                JsonNode.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        JsonNode results = response.getBody().get("results");
+        assertThat(results).hasSize(3);
+        assertThat(results.get(0).get("item").get("name").asText()).isEqualTo("Jazz");
+        assertThat(results.get(1).get("item").get("name").asText()).isEqualTo("Rock");
+        assertThat(results.get(2).get("found").asBoolean()).isFalse();
+        assertThat(response.getBody().get("missingIds").get(0).asLong()).isEqualTo(12345L);
+    }
+
+    @Test
+    void testGetGenreWithSparseFields() {
+        Genre genre = new Genre();
+        genre.setName("Ambient");
+        genre.setDescription("A long description nobody asked for");
+        genre = genreRepository.save(genre);
+
+        ResponseEntity<JsonNode> response = restTemplate.getForEntity(
+                baseUrl + "/" + genre.getGenreId() + "?fields=name", JsonNode.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().get("genreId").asLong()).isEqualTo(genre.getGenreId());
+        assertThat(response.getBody().get("name").asText()).isEqualTo("Ambient");
+        assertThat(response.getBody().has("description")).isFalse();
+        assertThat(response.getHeaders().getETag()).isEqualTo("\"" + genre.getVersion() + "\"");
+
+        ResponseEntity<JsonNode> withVersion = restTemplate.getForEntity(
+                baseUrl + "/" + genre.getGenreId() + "?fields=name,version", JsonNode.class);
+        assertThat(withVersion.getBody().get("version").asLong()).isEqualTo(genre.getVersion());
+    }
+}
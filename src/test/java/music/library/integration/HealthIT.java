@@ -0,0 +1,51 @@
+package music.library.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+/* Liveness leaves the database out; readiness answers from the cached DB probe. */
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class HealthIT {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void liveness_reportsOnlyTheApplicationState() {
+        ResponseEntity<String> liveness = restTemplate.getForEntity(url("/actuator/health/liveness"), String.class);
+
+        assertThat(liveness.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(liveness.getBody()).contains("livenessState").doesNotContain("dbHealth");
+    }
+
+    @Test
+    void readiness_includesCachedDbProbeWithPoolAndWarmDetails() {
+        ResponseEntity<String> readiness = restTemplate.getForEntity(url("/actuator/health/readiness"), String.class);
+
+        assertThat(readiness.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(readiness.getBody())
+                .contains("\"dbHealth\"")
+                .contains("\"validationMs\"")
+                .contains("\"checkedAt\"")
+                .contains("\"saturation\"")
+                .contains("\"replication\":\"n/a\"")
+                .contains("\"coversIndexed\"");
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+}
@@ -0,0 +1,53 @@
+package music.library.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+/* The Prometheus scrape covers routes, Hibernate, the pool and the JVM. */
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@AutoConfigureObservability(tracing = false)
+class MetricsIT {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Test
+    void prometheusScrape_includesRouteHistogramsHibernatePoolAndJvmMetrics() {
+        restTemplate.getForEntity(url("/api/albums"), String.class);
+
+        ResponseEntity<String> scrape = restTemplate.getForEntity(url("/actuator/prometheus"), String.class);
+
+        assertThat(scrape.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(scrape.getBody())
+                .contains("http_server_requests_seconds_bucket{")
+                .contains("uri=\"/api/albums\"")
+                .contains("le=\"0.25\"")
+                .contains("hibernate_statements_total")
+                .contains("hibernate_entities_loads_total")
+                .contains("hibernate_collections_fetches_total")
+                .contains("hibernate_cache_query_requests_total")
+                .contains("hikaricp_connections_acquire_seconds_bucket")
+                .contains("hikaricp_connections_usage_seconds")
+                .contains("jvm_gc_memory_allocated_bytes_total")
+                .contains("admission_limit")
+                .contains("application=\"music-library\"");
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + path;
+    }
+}
@@ -0,0 +1,41 @@
+package music.library.integration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.springframework.http.ResponseEntity;
+
+import music.library.jdbc.SqlStatsFilter;
+
+/**
+ * Query budgets for integration tests, read from the X-Sql-* headers that
+ * the test profile turns on (sql-stats.expose-headers).
+ *
+ * <pre>
+ * ResponseEntity&lt;String&gt; response = restTemplate.getForEntity(url, String.class);
+ * QueryBudget.assertWithin(response, 2);
+ * </pre>
+ */
+final class QueryBudget {
+
+    private QueryBudget() {
+    }
+
+    /**
+     * @return the number of JDBC statements the request executed
+     */
+    static int statements(ResponseEntity<?> response) {
+        String header = response.getHeaders().getFirst(SqlStatsFilter.STATEMENTS_HEADER);
+        assertThat(header).as("%s header (is sql-stats.expose-headers on?)", SqlStatsFilter.STATEMENTS_HEADER)
+                .isNotNull();
+        return Integer.parseInt(header);
+    }
+
+    /**
+     * Fails if the request ran more than {@code maxStatements} statements or
+     * was flagged for repeating one statement shape (a likely N+1).
+     */
+    static void assertWithin(ResponseEntity<?> response, int maxStatements) {
+        assertThat(response.getHeaders().getFirst(SqlStatsFilter.REPEATED_HEADER)).as("repeated statement").isNull();
+        assertThat(statements(response)).as("JDBC statements").isLessThanOrEqualTo(maxStatements);
+    }
+}
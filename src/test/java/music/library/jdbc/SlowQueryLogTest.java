@@ -0,0 +1,87 @@
+package music.library.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+class SlowQueryLogTest {
+
+	private final SlowQueryProperties props = new SlowQueryProperties();
+
+	@Test
+	void keepsOnlyTheSlowestStatementsOverTheThreshold() {
+		props.setThreshold(Duration.ofMillis(10));
+		props.setCapacity(2);
+		SlowQueryLog slowQueries = new SlowQueryLog(props);
+
+		execute(slowQueries, "select * from album where album_id = 1", 5);
+		execute(slowQueries, "select * from album where title like ?", 50);
+		execute(slowQueries, "select * from artist where artist_id = 2", 20);
+		execute(slowQueries, "select * from genre", 30);
+
+		assertThat(slowQueries.slowest()).extracting(SlowQuery::getElapsedMillis).containsExactly(50L, 30L);
+		assertThat(slowQueries.slowest().get(1).getShape()).isEqualTo("select * from genre");
+	}
+
+	@Test
+	void recordsNothingWhenDisabled() {
+		props.setThreshold(Duration.ZERO);
+		props.setEnabled(false);
+		SlowQueryLog slowQueries = new SlowQueryLog(props);
+
+		execute(slowQueries, "select * from genre", 30);
+
+		assertThat(slowQueries.slowest()).isEmpty();
+	}
+
+	@Test
+	void summarizesBindParameters_andCountsUpdatedRows() throws Exception {
+		props.setThreshold(Duration.ZERO);
+		SlowQueryLog slowQueries = new SlowQueryLog(props);
+		ExecutionInfo execInfo = execInfo(15);
+		execInfo.setResult(3);
+		QueryInfo query = new QueryInfo("update album set title = ?, track_count = ? where artist_id = ?");
+		query.getParametersList().add(List.of(
+				set("setLong", long.class, 3, 7L),
+				set("setString", String.class, 1, "x".repeat(100)),
+				new ParameterSetOperation(PreparedStatement.class.getMethod("setNull", int.class, int.class),
+						new Object[] { 2, java.sql.Types.INTEGER })));
+
+		slowQueries.afterQuery(execInfo, List.of(query));
+
+		// By default only the types are shown; the values are kept for EXPLAIN
+		SlowQuery entry = slowQueries.slowest().get(0);
+		assertThat(entry.getParameters()).containsExactly("String", "null", "Long");
+		assertThat(entry.getValues()).containsExactly("x".repeat(100), null, 7L);
+		assertThat(entry.getRows()).isEqualTo(3);
+
+		props.setShowValues(true);
+		slowQueries.afterQuery(execInfo, List.of(query));
+		assertThat(slowQueries.slowest()).extracting(SlowQuery::getParameters)
+				.contains(List.of("'" + "x".repeat(40) + "... (100 chars)'", "null", "7"));
+	}
+
+	private static void execute(SlowQueryLog slowQueries, String sql, long millis) {
+		slowQueries.afterQuery(execInfo(millis), List.of(new QueryInfo(sql)));
+	}
+
+	private static ExecutionInfo execInfo(long millis) {
+		ExecutionInfo execInfo = new ExecutionInfo();
+		execInfo.setElapsedTime(millis);
+		return execInfo;
+	}
+
+	private static ParameterSetOperation set(String name, Class<?> type, int index, Object value) throws Exception {
+		Method method = PreparedStatement.class.getMethod(name, int.class, type);
+		return new ParameterSetOperation(method, new Object[] { index, value });
+	}
+}
@@ -0,0 +1,39 @@
+package music.library.jdbc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class SqlStatsTest {
+
+	@AfterEach
+	void tearDown() {
+		SqlStats.end();
+	}
+
+	@Test
+	void shape_ignoresLiteralsInListLengthAndWhitespace() {
+		assertThat(SqlStats.shape("SELECT * FROM genre g1_0\n WHERE g1_0.genre_id = 42 AND name = 'It''s'"))
+				.isEqualTo("select * from genre g1_0 where g1_0.genre_id = ? and name = ?");
+		assertThat(SqlStats.shape("select a from album where album_id in (?, ?, ?)"))
+				.isEqualTo(SqlStats.shape("select a from album where album_id in (?)"));
+	}
+
+	@Test
+	void mostRepeated_reportsTheShapeRunPerRow() {
+		SqlStats stats = SqlStats.start();
+		stats.statement("select * from album limit 20", 1_000_000);
+		for (int id = 1; id <= 20; id++) {
+			stats.statement("select * from genre where genre_id=" + id, 1_000_000);
+		}
+		stats.rows(40);
+
+		assertThat(SqlStats.current()).isSameAs(stats);
+		assertThat(stats.getStatements()).isEqualTo(21);
+		assertThat(stats.getRows()).isEqualTo(40);
+		assertThat(stats.getElapsedMillis()).isEqualTo(21);
+		assertThat(stats.getMostRepeated().getKey()).isEqualTo("select * from genre where genre_id=?");
+		assertThat(stats.getMostRepeated().getValue()).isEqualTo(20);
+	}
+}
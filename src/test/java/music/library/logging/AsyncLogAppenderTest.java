@@ -0,0 +1,102 @@
+package music.library.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+
+class AsyncLogAppenderTest {
+
+	private final LoggerContext context = new LoggerContext();
+	private final Logger logger = context.getLogger("test");
+	private final GatedAppender target = new GatedAppender();
+	private final AsyncLogAppender async = new AsyncLogAppender();
+
+	@AfterEach
+	void tearDown() {
+		target.open.countDown();
+		context.stop();
+	}
+
+	@Test
+	void writesEventsInOrder_andFlushesOnStop() {
+		start(8192);
+		target.open.countDown();
+		for (int i = 0; i < 100; i++) {
+			logger.info("event {}", i);
+		}
+		async.stop();
+
+		assertThat(target.events).hasSize(100);
+		assertThat(target.events.get(42).getFormattedMessage()).isEqualTo("event 42");
+	}
+
+	@Test
+	void fullQueue_dropsWithoutBlocking_keepsWarningsLongest_andSummarizes() throws Exception {
+		start(4);
+		logger.info("taken by the writer, which then waits");
+		assertThat(target.entered.await(5, TimeUnit.SECONDS)).isTrue();
+		long droppedBefore = AsyncLogAppender.droppedTotal();
+
+		// 4 slots, discarding threshold 2: three INFO fit, the rest are dropped before the queue is full
+		for (int i = 0; i < 5; i++) {
+			logger.info("info {}", i);
+		}
+		logger.warn("warning 1");
+		logger.warn("warning 2"); // queue full
+		assertThat(AsyncLogAppender.droppedTotal() - droppedBefore).isEqualTo(3);
+
+		target.open.countDown();
+		async.stop();
+
+		assertThat(target.events).extracting(ILoggingEvent::getFormattedMessage).containsExactly(
+				"taken by the writer, which then waits",
+				"3 log events dropped by ASYNC: the log queue (4 events) was full",
+				"info 0", "info 1", "info 2", "warning 1");
+		assertThat(target.events.get(1).getLevel()).isEqualTo(Level.WARN);
+	}
+
+	private void start(int queueSize) {
+		context.setMDCAdapter(new LogbackMDCAdapter()); // set up by SLF4J binding outside a test
+		target.setContext(context);
+		target.start();
+		async.setContext(context);
+		async.setName("ASYNC");
+		async.setQueueSize(queueSize);
+		async.setDiscardingThreshold(2);
+		async.addAppender(target);
+		async.start();
+		logger.addAppender(async);
+	}
+
+	// Records events; the first one blocks until the gate is opened
+	static class GatedAppender extends AppenderBase<ILoggingEvent> {
+
+		final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+		final CountDownLatch entered = new CountDownLatch(1);
+		final CountDownLatch open = new CountDownLatch(1);
+
+		@Override
+		protected void append(ILoggingEvent event) {
+			entered.countDown();
+			try {
+				open.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+			events.add(event);
+		}
+	}
+}
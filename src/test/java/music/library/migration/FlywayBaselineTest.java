@@ -0,0 +1,111 @@
+package music.library.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Starts the application on a database as the releases before Flyway left
+ * it: the V1-V2 schema and data, built by ddl-auto: update, with no history
+ * table and no version columns. The baseline from application.yaml has to
+ * let V3 run, and ddl-auto: validate has to accept the result.
+ *
+ * The schema is created in @BeforeAll, before the test instance (and with it
+ * the application context) exists.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+		"spring.datasource.url=" + FlywayBaselineTest.URL,
+		"spring.flyway.enabled=true",
+		"spring.flyway.locations=classpath:db/migration,classpath:db/vendor/{vendor}",
+		"spring.jpa.hibernate.ddl-auto=validate" })
+class FlywayBaselineTest {
+
+	static final String URL = "jdbc:h2:mem:baseline;DB_CLOSE_DELAY=-1;MODE=MYSQL";
+
+	@Autowired
+	private Flyway flyway;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@BeforeAll
+	static void createPreFlywaySchema() {
+		new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__Create_Schema.sql"),
+				new ClassPathResource("db/migration/V2__Seed_Data.sql")).execute(dataSource(URL));
+	}
+
+	@Test
+	void baselinedDatabase_getsTheVersionColumnsAndEveryLaterMigration() {
+		List<String> applied = Arrays.stream(flyway.info().applied()).map(MigrationInfo::getDescription).toList();
+
+		assertThat(applied).first().isEqualTo("<< Flyway Baseline >>");
+		assertThat(applied).contains("Add Version Columns", "Create Album View");
+		assertThat(flyway.info().pending()).isEmpty();
+		for (String table : List.of("artist", "genre", "album")) {
+			assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE version <> 0", Integer.class))
+					.isZero();
+		}
+		// The seed data was kept, not replayed
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM album", Integer.class)).isEqualTo(19);
+	}
+
+	@Test
+	void versionColumnsAddedByAnEarlierBuild_areKept() throws Exception {
+		DataSource db = dataSource("jdbc:h2:mem:baseline-versioned;DB_CLOSE_DELAY=-1;MODE=MYSQL");
+		new ResourceDatabasePopulator(new ClassPathResource("db/migration/V1__Create_Schema.sql")).execute(db);
+		JdbcTemplate versioned = new JdbcTemplate(db);
+		// As ddl-auto: update added them for @Version Long: nullable, no default
+		for (String table : List.of("artist", "genre", "album")) {
+			versioned.execute("ALTER TABLE " + table + " ADD COLUMN version BIGINT");
+		}
+		versioned.update("INSERT INTO artist (name, version) VALUES ('Versioned', 4)");
+		versioned.update("INSERT INTO genre (name) VALUES ('Unversioned')");
+
+		try (Connection connection = db.getConnection()) {
+			new V3__Add_Version_Columns().migrate(context(connection));
+		}
+
+		assertThat(versioned.queryForObject("SELECT version FROM artist", Long.class)).isEqualTo(4L);
+		assertThat(versioned.queryForObject("SELECT version FROM genre", Long.class)).isZero();
+	}
+
+	private static DataSource dataSource(String url) {
+		return new DriverManagerDataSource(url, "sa", "");
+	}
+
+	private static Context context(Connection connection) {
+		return new Context() {
+			@Override
+			public Configuration getConfiguration() {
+				return null;
+			}
+
+			@Override
+			public Connection getConnection() {
+				return connection;
+			}
+		};
+	}
+}
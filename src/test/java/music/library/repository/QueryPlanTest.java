@@ -0,0 +1,156 @@
+package music.library.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import music.library.actuator.SlowQueryEndpoint;
+import music.library.jdbc.SlowQuery;
+import music.library.jdbc.SlowQueryLog;
+import music.library.specification.AlbumSpecs;
+
+/**
+ * EXPLAINs every statement the repository queries issue and fails when one
+ * reads a whole table. The schema comes from the Flyway migrations (H2
+ * variants), seeded by V2, not from the entities; ddl-auto: validate checks
+ * that the two agree.
+ *
+ * Statements are captured by the slow-query log (threshold 0) and explained
+ * by its endpoint with their bind values. H2 marks a full scan as
+ * "PUBLIC.TABLE.tableScan" in the plan.
+ */
+@SpringBootTest(webEnvironment = WebEnvironment.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+		"spring.datasource.url=jdbc:h2:mem:queryplans;DB_CLOSE_DELAY=-1;MODE=MYSQL",
+		"spring.flyway.enabled=true",
+		"spring.flyway.locations=classpath:db/migration,classpath:db/vendor/{vendor}",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"slow-queries.threshold=0ms",
+		"slow-queries.capacity=1000" })
+class QueryPlanTest {
+
+	private static final Pattern TABLE_SCAN = Pattern.compile("PUBLIC\\.(\\w+)\\.tableScan");
+
+	// Substring search ('%term%') cannot use a B-tree index on any database
+	private static final String SUBSTRING = "ALBUM";
+	private static final String SUBSTRING_VIEW = "ALBUM_VIEW";
+	// lower(column) = lower(?): MySQL serves it with the functional indexes of
+	// db/vendor/mysql/V6, H2 has no functional indexes
+	private static final String IGNORE_CASE_ALBUM = "ALBUM";
+	private static final String IGNORE_CASE_ARTIST = "ARTIST";
+	private static final String IGNORE_CASE_GENRE = "GENRE";
+
+	@Autowired
+	private AlbumRepository albumRepo;
+
+	@Autowired
+	private AlbumViewRepository viewRepo;
+
+	@Autowired
+	private ArtistRepository artistRepo;
+
+	@Autowired
+	private GenreRepository genreRepo;
+
+	@Autowired
+	private SlowQueryLog statements;
+
+	@Autowired
+	private SlowQueryEndpoint endpoint;
+
+	@Test
+	void albumPages_areReadThroughAnIndexForEverySortColumn() {
+		for (String sortBy : List.of("albumId", "title", "releaseDate", "createdAt")) {
+			assertIndexed(() -> albumRepo.findAll(PageRequest.of(0, 20, Sort.by(sortBy))));
+			assertIndexed(() -> albumRepo.findAll(PageRequest.of(0, 20, Sort.by(sortBy).descending())));
+		}
+	}
+
+	@Test
+	void albumSearchFilters_useAnIndex() {
+		PageRequest page = PageRequest.of(0, 20, Sort.by("title"));
+		assertIndexed(() -> albumRepo.findAll(AlbumSpecs.releasedBetween(1970, 1979), page));
+		assertIndexed(() -> albumRepo.findAll(AlbumSpecs.releasedBetween(2000, null), page));
+		assertIndexed(() -> albumRepo.findAll(AlbumSpecs.hasGenre(1L), page));
+		assertIndexed(() -> albumRepo.findAll(AlbumSpecs.matching(null, 1965, 1975, 4L), page));
+		assertIndexed(() -> albumRepo.findAll(AlbumSpecs.matching("the", 1965, 1975, null), page));
+
+		assertIndexed(() -> albumRepo.findAll(AlbumSpecs.titleContains("the"), page), SUBSTRING);
+	}
+
+	@Test
+	void albumViewPages_areReadFromOneTableThroughAnIndex() {
+		for (String sortBy : List.of("albumId", "title", "releaseDate", "releaseYear", "createdAt", "artistName")) {
+			assertIndexed(() -> viewRepo.findAll(PageRequest.of(0, 20, Sort.by(sortBy))));
+			assertIndexed(() -> viewRepo.findAll(PageRequest.of(0, 20, Sort.by(sortBy).descending())));
+		}
+		assertIndexed(() -> viewRepo.searchByTitleOrArtist("floyd", PageRequest.of(0, 20, Sort.by("title"))),
+				SUBSTRING_VIEW);
+	}
+
+	@Test
+	void albumLookups_useAnIndex() {
+		assertIndexed(() -> albumRepo.findById(1L));
+		assertIndexed(() -> albumRepo.findByAlbumIdIn(List.of(1L, 2L, 3L)));
+		assertIndexed(() -> albumRepo.findByArtist_ArtistId(3L));
+		assertIndexed(() -> albumRepo.findByGenres_GenreId(5L));
+
+		assertIndexed(() -> albumRepo.findByTitleIgnoreCase("abbey road"), IGNORE_CASE_ALBUM);
+		assertIndexed(() -> albumRepo.existsByTitleIgnoreCase("abbey road"), IGNORE_CASE_ALBUM);
+	}
+
+	@Test
+	void artistAndGenreQueries_useAnIndex() {
+		assertIndexed(() -> artistRepo.findAll(PageRequest.of(0, 100, Sort.by("name"))));
+		assertIndexed(() -> artistRepo.findById(1L));
+		assertIndexed(() -> genreRepo.findAll(PageRequest.of(0, 100, Sort.by("name"))));
+		assertIndexed(() -> genreRepo.findById(1L));
+
+		assertIndexed(() -> artistRepo.existsByNameIgnoreCase("queen"), IGNORE_CASE_ARTIST);
+		assertIndexed(() -> artistRepo.findByNameIgnoreCase("queen"), IGNORE_CASE_ARTIST);
+		assertIndexed(() -> genreRepo.existsByNameIgnoreCase("jazz"), IGNORE_CASE_GENRE);
+		assertIndexed(() -> genreRepo.findByNameIgnoreCase("jazz"), IGNORE_CASE_GENRE);
+	}
+
+	// Runs the query and EXPLAINs what it sent; only the named tables may be scanned
+	private void assertIndexed(Runnable query, String... scanAllowed) {
+		statements.clear();
+		query.run();
+		List<SlowQuery> issued = new ArrayList<>(statements.slowest());
+		issued.removeIf(statement -> !statement.getCaller().startsWith(QueryPlanTest.class.getSimpleName()));
+		assertThat(issued).as("statements issued").isNotEmpty();
+
+		for (SlowQuery statement : issued) {
+			String plan = plan(statement);
+			Matcher scan = TABLE_SCAN.matcher(plan);
+			while (scan.find()) {
+				assertThat(Arrays.asList(scanAllowed))
+						.as("full scan of %s in\n%s", scan.group(1), plan)
+						.contains(scan.group(1));
+			}
+		}
+	}
+
+	private String plan(SlowQuery statement) {
+		StringBuilder plan = new StringBuilder();
+		for (Map<String, Object> row : endpoint.explain(statement.getId()).getPlan()) {
+			row.values().forEach(value -> plan.append(value).append('\n'));
+		}
+		return plan.toString();
+	}
+}
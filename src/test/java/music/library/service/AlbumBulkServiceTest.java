@@ -0,0 +1,213 @@
+package music.library.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import music.library.dto.BulkAlbumOperation;
+import music.library.dto.BulkAlbumOperation.Op;
+import music.library.dto.BulkAlbumResponse;
+import music.library.dto.BulkAlbumResponse.ItemResult;
+import music.library.entity.Album;
+import music.library.entity.Artist;
+import music.library.entity.Genre;
+import music.library.repository.AlbumRepository;
+import music.library.repository.ArtistRepository;
+import music.library.repository.GenreRepository;
+
+/* Bulk writes run in their own chunk transactions, so these tests are not
+ * @Transactional; every title carries a unique suffix instead. */
+
+@SpringBootTest
+@ActiveProfiles("test")
+class AlbumBulkServiceTest {
+
+	@Autowired
+	private AlbumBulkService bulkService;
+
+	@Autowired
+	private AlbumRepository albumRepo;
+
+	@Autowired
+	private ArtistRepository artistRepo;
+
+	@Autowired
+	private GenreRepository genreRepo;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private String suffix;
+	private Artist artist;
+	private Genre rock;
+	private Genre jazz;
+
+	@BeforeEach
+	void setUp() {
+		suffix = UUID.randomUUID().toString().substring(0, 8);
+		artist = artistRepo.save(Artist.builder().name("Bulk Artist " + suffix).build());
+		rock = genreRepo.save(Genre.builder().name("Bulk Rock " + suffix).build());
+		jazz = genreRepo.save(Genre.builder().name("Bulk Jazz " + suffix).build());
+	}
+
+	private BulkAlbumOperation create(String title, Long... genreIds) {
+		return new BulkAlbumOperation(Op.CREATE, null, title + " " + suffix, artist.getArtistId(), List.of(genreIds));
+	}
+
+	private int genreLinks(Long albumId) {
+		return jdbc.queryForObject("SELECT COUNT(*) FROM album_genre WHERE album_id = ?", Integer.class, albumId);
+	}
+
+	@Test
+	void mixedBatch_appliesValidOperationsAndReportsEachItem() {
+		Album existing = albumRepo.save(Album.builder().title("Existing " + suffix).artist(artist).build());
+		Album doomed = albumRepo.save(Album.builder().title("Doomed " + suffix).artist(artist).build());
+
+		BulkAlbumOperation rename = new BulkAlbumOperation(Op.UPDATE, existing.getAlbumId(), "Renamed " + suffix,
+				artist.getArtistId(), List.of(jazz.getGenreId()));
+		rename.setVersion(existing.getVersion());
+		BulkAlbumOperation blankTitle = new BulkAlbumOperation(Op.CREATE, null, " ", artist.getArtistId(),
+				List.of(rock.getGenreId()));
+		BulkAlbumOperation unknownArtist = new BulkAlbumOperation(Op.CREATE, null, "Orphan " + suffix,
+				Long.MAX_VALUE, List.of(rock.getGenreId()));
+
+		BulkAlbumResponse response = bulkService.apply(List.of(
+				create("First", rock.getGenreId(), jazz.getGenreId()),
+				rename,
+				new BulkAlbumOperation(Op.DELETE, doomed.getAlbumId(), null, null, null),
+				blankTitle,
+				unknownArtist,
+				new BulkAlbumOperation(Op.DELETE, Long.MAX_VALUE, null, null, null)));
+
+		assertThat(response.getResults()).extracting(ItemResult::getStatus)
+				.containsExactly(201, 200, 204, 400, 404, 404);
+		assertThat(response.getSucceeded()).isEqualTo(3);
+		assertThat(response.getFailed()).isEqualTo(3);
+
+		Long createdId = response.getResults().get(0).getId();
+		assertThat(albumRepo.findById(createdId)).get().extracting(Album::getTitle).isEqualTo("First " + suffix);
+		assertThat(genreLinks(createdId)).isEqualTo(2);
+
+		assertThat(albumRepo.findById(existing.getAlbumId())).get().extracting(Album::getTitle)
+				.isEqualTo("Renamed " + suffix);
+		assertThat(genreLinks(existing.getAlbumId())).isEqualTo(1);
+
+		assertThat(albumRepo.existsById(doomed.getAlbumId())).isFalse();
+	}
+
+	@Test
+	void duplicateTitles_areRejectedAgainstDatabaseAndWithinBatch() {
+		albumRepo.save(Album.builder().title("Taken " + suffix).artist(artist).build());
+
+		BulkAlbumResponse response = bulkService.apply(List.of(
+				create("TAKEN", rock.getGenreId()),
+				create("Twice", rock.getGenreId()),
+				create("twice", rock.getGenreId())));
+
+		assertThat(response.getResults()).extracting(ItemResult::getStatus).containsExactly(409, 201, 409);
+		assertThat(response.getResults().get(2).getMessage()).contains("already exists");
+	}
+
+	@Test
+	void databaseFailure_isIsolatedToTheOffendingItem() {
+		// Passes request validation (max 100) but exceeds the column length (50)
+		BulkAlbumOperation tooLong = create("Long Catalog", rock.getGenreId());
+		tooLong.setCatalogNumber("X".repeat(80));
+
+		BulkAlbumResponse response = bulkService.apply(List.of(
+				create("Before", rock.getGenreId()),
+				tooLong,
+				create("After", jazz.getGenreId())));
+
+		assertThat(response.getResults()).extracting(ItemResult::isSuccess).containsExactly(true, false, true);
+		// The database's own message (SQL, constraint names) stays in the log
+		assertThat(response.getResults().get(1).getMessage()).doesNotContainIgnoringCase("catalog_number");
+		assertThat(albumRepo.findById(response.getResults().get(0).getId())).isPresent();
+		assertThat(albumRepo.findById(response.getResults().get(2).getId())).isPresent();
+	}
+
+	@Test
+	void albumIdInTwoOperations_secondIsRejected() {
+		Album album = albumRepo.save(Album.builder().title("Twice Touched " + suffix).artist(artist).build());
+
+		BulkAlbumResponse response = bulkService.apply(List.of(
+				new BulkAlbumOperation(Op.DELETE, album.getAlbumId(), null, null, null),
+				new BulkAlbumOperation(Op.UPDATE, album.getAlbumId(), "Revived " + suffix, artist.getArtistId(),
+						List.of(rock.getGenreId()))));
+
+		assertThat(response.getResults()).extracting(ItemResult::getStatus).containsExactly(204, 400);
+		assertThat(response.getResults().get(1).getMessage()).contains("more than one operation");
+		assertThat(albumRepo.existsById(album.getAlbumId())).isFalse();
+	}
+
+	@Test
+	void deletedAlbum_freesItsTitleAndCatalogNumberForLaterOperations() {
+		Album old = albumRepo.save(Album.builder().title("Reissue " + suffix).catalogNumber("CAT-" + suffix)
+				.artist(artist).build());
+		BulkAlbumOperation reissue = create("Reissue", rock.getGenreId());
+		reissue.setCatalogNumber("CAT-" + suffix);
+
+		BulkAlbumResponse response = bulkService.apply(List.of(
+				new BulkAlbumOperation(Op.DELETE, old.getAlbumId(), null, null, null),
+				reissue));
+
+		assertThat(response.getResults()).extracting(ItemResult::getStatus).containsExactly(204, 201);
+		assertThat(albumRepo.findById(response.getResults().get(1).getId())).get()
+				.extracting(Album::getCatalogNumber).isEqualTo("CAT-" + suffix);
+	}
+
+	@Test
+	void update_appliesOnlyAtTheVersionItNames() {
+		Album album = albumRepo.save(Album.builder().title("Versioned " + suffix).artist(artist).build());
+		BulkAlbumOperation current = update(album, "Current " + suffix, 0L);
+		BulkAlbumOperation stale = update(album, "Stale " + suffix, 0L);
+		BulkAlbumOperation unversioned = update(album, "Unversioned " + suffix, null);
+
+		assertThat(bulkService.apply(List.of(current)).getResults()).extracting(ItemResult::getStatus)
+				.containsExactly(200);
+		ItemResult rejected = bulkService.apply(List.of(stale)).getResults().get(0);
+		assertThat(rejected.getStatus()).isEqualTo(412);
+		assertThat(rejected.getMessage()).contains("is at version 1, not 0");
+		assertThat(bulkService.apply(List.of(unversioned)).getResults()).extracting(ItemResult::getStatus)
+				.containsExactly(428);
+
+		assertThat(albumRepo.findById(album.getAlbumId())).get().extracting(Album::getTitle, Album::getVersion)
+				.containsExactly("Current " + suffix, 1L);
+	}
+
+	@Test
+	void updatesInDescendingIdOrder_areAppliedAndReportedInRequestOrder() {
+		Album first = albumRepo.save(Album.builder().title("Order One " + suffix).artist(artist).build());
+		Album second = albumRepo.save(Album.builder().title("Order Two " + suffix).artist(artist).build());
+		Album third = albumRepo.save(Album.builder().title("Order Three " + suffix).artist(artist).build());
+
+		// Locked and written by id, reported by position
+		BulkAlbumResponse response = bulkService.apply(List.of(update(third, "Third " + suffix, 0L),
+				update(second, "Second " + suffix, 5L), update(first, "First " + suffix, 0L)));
+
+		assertThat(response.getResults()).extracting(ItemResult::getIndex, ItemResult::getStatus)
+				.containsExactly(tuple(0, 200), tuple(1, 412), tuple(2, 200));
+		assertThat(response.getResults()).extracting(ItemResult::getId)
+				.containsExactly(third.getAlbumId(), second.getAlbumId(), first.getAlbumId());
+		assertThat(albumRepo.findById(third.getAlbumId())).get().extracting(Album::getTitle)
+				.isEqualTo("Third " + suffix);
+		assertThat(albumRepo.findById(second.getAlbumId())).get().extracting(Album::getTitle)
+				.isEqualTo("Order Two " + suffix);
+	}
+
+	private BulkAlbumOperation update(Album album, String title, Long version) {
+		BulkAlbumOperation op = new BulkAlbumOperation(Op.UPDATE, album.getAlbumId(), title, artist.getArtistId(),
+				null);
+		op.setVersion(version);
+		return op;
+	}
+}
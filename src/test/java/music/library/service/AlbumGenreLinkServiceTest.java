@@ -0,0 +1,88 @@
+package music.library.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import music.library.entity.Album;
+import music.library.entity.Artist;
+import music.library.entity.Genre;
+import music.library.exception.ResourceNotFoundException;
+import music.library.repository.AlbumRepository;
+import music.library.repository.ArtistRepository;
+import music.library.repository.GenreRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class AlbumGenreLinkServiceTest {
+
+	@Autowired
+	private AlbumGenreLinkService linkService;
+
+	@Autowired
+	private AlbumRepository albumRepo;
+
+	@Autowired
+	private ArtistRepository artistRepo;
+
+	@Autowired
+	private GenreRepository genreRepo;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private Album album;
+	private Genre genre;
+
+	@BeforeEach
+	void setUp() {
+		Artist artist = artistRepo.save(Artist.builder().name("Link Artist").build());
+		album = albumRepo.save(Album.builder().title("Link Album").artist(artist).build());
+		genre = genreRepo.save(Genre.builder().name("Link Genre").build());
+	}
+
+	@Test
+	void link_isIdempotentAndBumpsVersionOnce() {
+		assertThat(linkService.link(album.getAlbumId(), genre.getGenreId())).isTrue();
+		assertThat(linkService.link(album.getAlbumId(), genre.getGenreId())).isFalse();
+
+		assertThat(links()).isEqualTo(1);
+		// The managed album was refreshed: new version and the genre in its set
+		assertThat(album.getVersion()).isEqualTo(1L);
+		assertThat(album.getGenres()).extracting(Genre::getName).containsExactly("Link Genre");
+	}
+
+	@Test
+	void unlink_isIdempotent() {
+		linkService.link(album.getAlbumId(), genre.getGenreId());
+
+		assertThat(linkService.unlink(album.getAlbumId(), genre.getGenreId())).isTrue();
+		assertThat(linkService.unlink(album.getAlbumId(), genre.getGenreId())).isFalse();
+
+		assertThat(links()).isZero();
+		assertThat(album.getVersion()).isEqualTo(2L);
+	}
+
+	@Test
+	void link_unknownAlbumOrGenre_throwsNotFound() {
+		assertThatThrownBy(() -> linkService.link(999_999L, genre.getGenreId()))
+				.isInstanceOf(ResourceNotFoundException.class)
+				.hasMessageContaining("Album with id 999999 not found");
+		assertThatThrownBy(() -> linkService.link(album.getAlbumId(), 999_999L))
+				.isInstanceOf(ResourceNotFoundException.class)
+				.hasMessageContaining("Genre with ID 999999 not found");
+	}
+
+	private int links() {
+		return jdbc.queryForObject("SELECT COUNT(*) FROM album_genre WHERE album_id = ?", Integer.class,
+				album.getAlbumId());
+	}
+}
@@ -3,14 +3,16 @@ package music.library.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -24,7 +26,6 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.test.context.ActiveProfiles;
 
 import music.library.entity.Album;
-import music.library.entity.Genre;
 import music.library.exception.ResourceNotFoundException;
 import music.library.repository.AlbumRepository;
 import music.library.repository.GenreRepository;
@@ -37,6 +38,7 @@ import music.library.repository.GenreRepository;
  * just confirm the service forwards the spec and pageable to the repository. */
 
 @ExtendWith(MockitoExtension.class)
+@DisabledInNativeImage // Mockito generates classes at runtime
 
 class AlbumServiceTest {
 
@@ -46,6 +48,9 @@ class AlbumServiceTest {
     @Mock
     private GenreRepository genreRepo;
 
+    @Mock
+    private AlbumGenreLinkService linkSvc;
+
     @InjectMocks
     private AlbumService albumService;
 
@@ -78,27 +83,22 @@ class AlbumServiceTest {
     void addGenre_successful() {
         Album album = new Album();
         album.setAlbumId(1L);
-        album.setGenres(new HashSet<>());
-
-        Genre genre = new Genre();
-        genre.setGenreId(2L);
 
+        when(linkSvc.link(1L, 2L)).thenReturn(true);
         when(albumRepo.findById(1L)).thenReturn(Optional.of(album));
-        when(genreRepo.findById(2L)).thenReturn(Optional.of(genre));
-        when(albumRepo.save(any())).thenAnswer(i -> i.getArgument(0)); // return the passed album
 
         Album saved = albumService.addGenre(1L, 2L);
 
-        assertThat(saved.getGenres()).containsExactly(genre);
-        verify(albumRepo).save(album);
+        // The link is written directly; neither aggregate is saved
+        assertThat(saved).isSameAs(album);
+        verify(linkSvc).link(1L, 2L);
+        verify(albumRepo, never()).save(any());
+        verifyNoInteractions(genreRepo);
     }
 
     @Test
     void addGenre_genreMissing_throwsNotFound() {
-        Album album = new Album();
-        album.setAlbumId(1L);
-        when(albumRepo.findById(1L)).thenReturn(Optional.of(album));
-        when(genreRepo.findById(2L)).thenReturn(Optional.empty());
+        when(linkSvc.link(1L, 2L)).thenThrow(new ResourceNotFoundException("Genre with ID 2 not found"));
 
         assertThatThrownBy(() -> albumService.addGenre(1L, 2L))
                 .isInstanceOf(ResourceNotFoundException.class)
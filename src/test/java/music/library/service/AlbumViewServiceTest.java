@@ -0,0 +1,224 @@
+package music.library.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import music.library.dto.CreateAlbumRequest;
+import music.library.dto.UpdateAlbumRequest;
+import music.library.dto.UpdateArtistRequest;
+import music.library.dto.UpdateGenreRequest;
+import music.library.entity.Album;
+import music.library.entity.AlbumView;
+import music.library.entity.AlbumView.GenreRef;
+import music.library.entity.Artist;
+import music.library.entity.Genre;
+import music.library.repository.AlbumViewRepository;
+
+// Not @Transactional: album_view is written right before the transaction
+// commits, so each change has to commit. The artists created here are
+// deleted afterwards, which takes their albums and view rows with them.
+@SpringBootTest
+@ActiveProfiles("test")
+class AlbumViewServiceTest {
+
+	@Autowired
+	private AlbumService albumService;
+
+	@Autowired
+	private ArtistService artistService;
+
+	@Autowired
+	private GenreService genreService;
+
+	@Autowired
+	private AlbumGenreLinkService linkService;
+
+	@Autowired
+	private AlbumViewService viewService;
+
+	@Autowired
+	private AlbumViewRepository viewRepo;
+
+	@Autowired
+	private TransactionTemplate tx;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+	private final List<Long> artistIds = new ArrayList<>();
+	private final List<Long> genreIds = new ArrayList<>();
+
+	private Artist artist;
+	private Genre rock;
+	private Genre jazz;
+
+	@BeforeEach
+	void setUp() {
+		artist = artist("View Artist");
+		rock = genre("View Rock");
+		jazz = genre("View Jazz");
+	}
+
+	@AfterEach
+	void cleanUp() {
+		artistIds.forEach(artistService::delete);
+		genreIds.forEach(genreService::delete);
+	}
+
+	@Test
+	void createAlbum_writesOneRowWithArtistNameGenresAndReleaseYear() {
+		Album album = album("First", artist, rock, jazz);
+
+		AlbumView row = view(album);
+		assertThat(row.getTitle()).isEqualTo("First " + suffix);
+		assertThat(row.getReleaseYear()).isEqualTo(1971);
+		assertThat(row.getVersion()).isEqualTo(album.getVersion());
+		assertThat(row.getArtist().artistId()).isEqualTo(artist.getArtistId());
+		assertThat(row.getArtist().name()).isEqualTo("View Artist " + suffix);
+		// Ordered by name
+		assertThat(row.getGenres()).extracting(GenreRef::name)
+				.containsExactly("View Jazz " + suffix, "View Rock " + suffix);
+	}
+
+	@Test
+	void updateAlbum_rewritesTheRow() {
+		Artist other = artist("Other Artist");
+		Album album = album("Before", artist, rock);
+
+		Album updated = albumService.updateAlbum(album.getAlbumId(), new UpdateAlbumRequest("After " + suffix,
+				LocalDate.of(1985, 1, 1), other.getArtistId(), List.of(jazz.getGenreId())));
+
+		AlbumView row = view(album);
+		assertThat(row.getTitle()).isEqualTo("After " + suffix);
+		assertThat(row.getReleaseYear()).isEqualTo(1985);
+		assertThat(row.getVersion()).isEqualTo(updated.getVersion());
+		assertThat(row.getArtist().name()).isEqualTo("Other Artist " + suffix);
+		assertThat(row.getGenres()).extracting(GenreRef::genreId).containsExactly(jazz.getGenreId());
+	}
+
+	@Test
+	void artistRename_fansOutToAllItsAlbums() {
+		Album first = album("Rename One", artist, rock);
+		Album second = album("Rename Two", artist);
+
+		artistService.updateArtist(artist.getArtistId(),
+				new UpdateArtistRequest("Renamed Artist " + suffix, null, null, null, null, null));
+
+		assertThat(view(first).getArtist().name()).isEqualTo("Renamed Artist " + suffix);
+		assertThat(view(second).getArtist().name()).isEqualTo("Renamed Artist " + suffix);
+	}
+
+	@Test
+	void genreRename_fansOutToAlbumsWithTheGenre() {
+		Album tagged = album("Tagged", artist, rock, jazz);
+		Album untagged = album("Untagged", artist, jazz);
+
+		genreService.updateGenre(rock.getGenreId(), new UpdateGenreRequest("Hard Rock " + suffix, null));
+
+		assertThat(view(tagged).getGenres()).extracting(GenreRef::name)
+				.containsExactly("Hard Rock " + suffix, "View Jazz " + suffix);
+		assertThat(view(untagged).getGenres()).extracting(GenreRef::name).containsExactly("View Jazz " + suffix);
+	}
+
+	@Test
+	void genreLinks_writtenWithJdbc_updateTheRow() {
+		Album album = album("Linked", artist);
+
+		linkService.link(album.getAlbumId(), rock.getGenreId());
+
+		AlbumView row = view(album);
+		assertThat(row.getGenres()).extracting(GenreRef::genreId).containsExactly(rock.getGenreId());
+		assertThat(row.getVersion()).isEqualTo(1L);
+	}
+
+	@Test
+	void deletes_removeTheRows() {
+		Album deleted = album("Deleted", artist);
+		Artist gone = artist("Gone Artist");
+		Album ofGone = album("Of Gone", gone);
+
+		albumService.delete(deleted.getAlbumId());
+		artistService.delete(gone.getArtistId());
+		artistIds.remove(gone.getArtistId());
+
+		assertThat(viewRepo.findById(deleted.getAlbumId())).isEmpty();
+		assertThat(viewRepo.findById(ofGone.getAlbumId())).isEmpty();
+	}
+
+	@Test
+	void deletingALinkedGenre_removesItFromTheRows() {
+		Album album = album("Genre Gone", artist, rock, jazz);
+
+		genreService.delete(rock.getGenreId());
+		genreIds.remove(rock.getGenreId());
+
+		AlbumView row = view(album);
+		assertThat(row.getGenres()).extracting(GenreRef::genreId).containsExactly(jazz.getGenreId());
+		assertThat(row.getVersion()).isEqualTo(album.getVersion() + 1);
+	}
+
+	@Test
+	void rolledBackChange_leavesTheRowAlone() {
+		Album album = album("Kept", artist);
+
+		tx.executeWithoutResult(status -> {
+			artistService.updateArtist(artist.getArtistId(),
+					new UpdateArtistRequest("Never Committed " + suffix, null, null, null, null, null));
+			status.setRollbackOnly();
+		});
+
+		assertThat(view(album).getArtist().name()).isEqualTo("View Artist " + suffix);
+	}
+
+	@Test
+	void rebuild_writesTheSameRowsAsTheWritePaths() {
+		album("Rebuilt One", artist, rock);
+		album("Rebuilt Two", artist, rock, jazz);
+		List<String> before = rows();
+
+		int rebuilt = viewService.rebuild();
+
+		assertThat(rebuilt).isEqualTo(jdbc.queryForObject("SELECT COUNT(*) FROM album", Integer.class));
+		assertThat(rows()).isEqualTo(before);
+	}
+
+	private Artist artist(String name) {
+		Artist created = artistService.create(Artist.builder().name(name + " " + suffix).build());
+		artistIds.add(created.getArtistId());
+		return created;
+	}
+
+	private Genre genre(String name) {
+		Genre created = genreService.create(Genre.builder().name(name + " " + suffix).build());
+		genreIds.add(created.getGenreId());
+		return created;
+	}
+
+	private Album album(String title, Artist by, Genre... genres) {
+		return albumService.createAlbum(new CreateAlbumRequest(title + " " + suffix, LocalDate.of(1971, 6, 1),
+				by.getArtistId(), List.of(genres).stream().map(Genre::getGenreId).toList()));
+	}
+
+	private AlbumView view(Album album) {
+		return viewRepo.findById(album.getAlbumId()).orElseThrow();
+	}
+
+	private List<String> rows() {
+		return jdbc.queryForList("SELECT CONCAT(album_id, '|', title, '|', release_year, '|', version, '|', "
+				+ "artist_name, '|', genres) FROM album_view ORDER BY album_id", String.class);
+	}
+}
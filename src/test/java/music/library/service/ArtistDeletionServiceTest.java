@@ -0,0 +1,76 @@
+package music.library.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import music.library.dto.ArtistDeletionResponse;
+import music.library.entity.Album;
+import music.library.entity.Artist;
+import music.library.entity.Genre;
+import music.library.exception.ResourceNotFoundException;
+import music.library.repository.AlbumRepository;
+import music.library.repository.ArtistRepository;
+import music.library.repository.GenreRepository;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ArtistDeletionServiceTest {
+
+	@Autowired
+	private ArtistDeletionService deletionService;
+
+	@Autowired
+	private AlbumGenreLinkService linkService;
+
+	@Autowired
+	private AlbumRepository albumRepo;
+
+	@Autowired
+	private ArtistRepository artistRepo;
+
+	@Autowired
+	private GenreRepository genreRepo;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	@Test
+	void delete_removesAlbumsAndLinksButKeepsGenresAndOtherArtists() {
+		Artist doomed = artistRepo.save(Artist.builder().name("Prolific Artist").build());
+		Artist other = artistRepo.save(Artist.builder().name("Other Artist").build());
+		Genre rock = genreRepo.save(Genre.builder().name("Delete Rock").build());
+		Genre jazz = genreRepo.save(Genre.builder().name("Delete Jazz").build());
+		for (int i = 0; i < 3; i++) {
+			Album album = albumRepo.save(Album.builder().title("Doomed " + i).artist(doomed).build());
+			linkService.link(album.getAlbumId(), rock.getGenreId());
+			linkService.link(album.getAlbumId(), jazz.getGenreId());
+		}
+		Album kept = albumRepo.save(Album.builder().title("Kept").artist(other).build());
+		linkService.link(kept.getAlbumId(), rock.getGenreId());
+
+		ArtistDeletionResponse result = deletionService.delete(doomed.getArtistId());
+
+		assertThat(result.getAlbumsDeleted()).isEqualTo(3);
+		assertThat(result.getGenreLinksDeleted()).isEqualTo(6);
+		assertThat(artistRepo.findById(doomed.getArtistId())).isEmpty();
+		assertThat(albumRepo.findById(kept.getAlbumId())).isPresent();
+		assertThat(genreRepo.findById(rock.getGenreId())).isPresent();
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM album_genre WHERE genre_id = ?", Integer.class,
+				rock.getGenreId())).isEqualTo(1);
+	}
+
+	@Test
+	void delete_unknownArtist_throwsNotFound() {
+		assertThatThrownBy(() -> deletionService.delete(999_999L))
+				.isInstanceOf(ResourceNotFoundException.class)
+				.hasMessageContaining("Artist with ID 999999 not found");
+	}
+}
@@ -8,6 +8,7 @@ import static org.mockito.Mockito.when;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
@@ -20,6 +21,7 @@ import music.library.exception.ResourceNotFoundException;
 import music.library.repository.ArtistRepository;
 
 @ExtendWith(MockitoExtension.class)          // <-- enables @Mock/@InjectMocks
+@DisabledInNativeImage                        // Mockito generates classes at runtime
 
 class ArtistServiceTest {
 
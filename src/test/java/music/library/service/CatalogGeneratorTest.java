@@ -0,0 +1,137 @@
+package music.library.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import music.library.config.CatalogGeneratorProperties;
+import music.library.entity.Artist;
+import music.library.repository.ArtistRepository;
+
+// Not @Transactional: the generator writes with plain JDBC batches into a
+// truncated catalog. The catalog is captured before each test and put back.
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "snapshots.dir=target/test-snapshots")
+class CatalogGeneratorTest {
+
+	@Autowired
+	private CatalogGenerator generator;
+
+	@Autowired
+	private SnapshotService snapshotService;
+
+	@Autowired
+	private ArtistRepository artistRepo;
+
+	@Autowired
+	private AlbumViewService albumViews;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+	@BeforeEach
+	void saveCatalog() {
+		snapshotService.capture("before-" + suffix);
+		snapshotService.truncateAll();
+	}
+
+	@AfterEach
+	void restoreCatalog() {
+		snapshotService.restore("before-" + suffix);
+	}
+
+	@Test
+	void generate_loadsRequestedSizes_withSkewedPopularityAndOneToThreeGenres() {
+		var counts = generator.generate(spec(2000, 200, 30, 7));
+
+		assertThat(counts).containsEntry("genre", 30).containsEntry("artist", 200).containsEntry("album", 2000);
+		assertThat(count("SELECT COUNT(*) FROM album")).isEqualTo(2000);
+		assertThat(count("SELECT COUNT(*) FROM album_genre")).isEqualTo(counts.get("album_genre"));
+		assertThat(count("SELECT COUNT(DISTINCT LOWER(title)) FROM album")).isEqualTo(2000);
+		assertThat(count("SELECT COUNT(*) FROM artist a WHERE NOT EXISTS "
+				+ "(SELECT 1 FROM album b WHERE b.artist_id = a.artist_id)")).isZero();
+
+		List<Integer> genresPerAlbum = jdbc.queryForList(
+				"SELECT COUNT(*) FROM album_genre GROUP BY album_id", Integer.class);
+		assertThat(genresPerAlbum).hasSize(2000).allSatisfy(n -> assertThat(n).isBetween(1, 3));
+
+		// Zipfian: the busiest artist has many times the albums of the median one
+		List<Integer> perArtist = jdbc.queryForList(
+				"SELECT COUNT(*) FROM album GROUP BY artist_id ORDER BY COUNT(*) DESC", Integer.class);
+		assertThat(perArtist.get(0)).isGreaterThan(5 * perArtist.get(perArtist.size() / 2));
+	}
+
+	@Test
+	void generate_sameSeed_producesSameCatalog_andIdentitiesContinueAfterIt() {
+		generator.generate(spec(300, 40, 10, 99));
+		List<String> first = titles();
+		snapshotService.truncateAll();
+
+		generator.generate(spec(300, 40, 10, 99));
+		assertThat(titles()).isEqualTo(first);
+
+		Artist saved = artistRepo.save(Artist.builder().name("After Generate " + suffix).build());
+		assertThat(saved.getArtistId()).isGreaterThan(40L);
+	}
+
+	@Test
+	void generate_nonEmptyCatalog_isRejected() {
+		generator.generate(spec(10, 2, 3, 1));
+
+		assertThatThrownBy(() -> generator.generate(spec(10, 2, 3, 1)))
+				.isInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void run_replacesTheV2Seed_butKeepsAnEditedCatalog() {
+		new ResourceDatabasePopulator(new ClassPathResource("db/migration/V2__Seed_Data.sql"))
+				.execute(jdbc.getDataSource());
+		CatalogGenerator startup = new CatalogGenerator(jdbc, snapshotService, albumViews, spec(50, 5, 4, 3));
+
+		startup.run(null);
+		assertThat(count("SELECT COUNT(*) FROM album")).isEqualTo(50);
+		assertThat(count("SELECT COUNT(*) FROM album WHERE title = 'Abbey Road'")).isZero();
+
+		snapshotService.truncateAll();
+		new ResourceDatabasePopulator(new ClassPathResource("db/migration/V2__Seed_Data.sql"))
+				.execute(jdbc.getDataSource());
+		jdbc.update("UPDATE album SET version = version + 1 WHERE album_id = 1");
+
+		startup.run(null);
+		assertThat(count("SELECT COUNT(*) FROM album")).isEqualTo(19);
+	}
+
+	private static CatalogGeneratorProperties spec(int albums, int artists, int genres, long seed) {
+		CatalogGeneratorProperties spec = new CatalogGeneratorProperties();
+		spec.setAlbums(albums);
+		spec.setArtists(artists);
+		spec.setGenres(genres);
+		spec.setSeed(seed);
+		spec.setBatchSize(128);
+		return spec;
+	}
+
+	private List<String> titles() {
+		return jdbc.queryForList("SELECT title FROM album ORDER BY album_id", String.class);
+	}
+
+	private int count(String sql) {
+		return jdbc.queryForObject(sql, Integer.class);
+	}
+}
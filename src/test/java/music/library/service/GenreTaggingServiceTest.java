@@ -0,0 +1,127 @@
+package music.library.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import music.library.dto.GenreTaggingRequest;
+import music.library.dto.GenreTaggingRequest.Filter;
+import music.library.dto.GenreTaggingResponse;
+import music.library.entity.Album;
+import music.library.entity.Artist;
+import music.library.entity.Genre;
+import music.library.exception.BadRequestException;
+import music.library.repository.AlbumRepository;
+import music.library.repository.ArtistRepository;
+import music.library.repository.GenreRepository;
+
+/* Tagging runs in its own chunk transactions, so these tests are not
+ * @Transactional; every title carries a unique suffix instead. A chunk size
+ * of 2 makes five albums span three chunks. */
+
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = "albums.tagging.chunk-size=2")
+class GenreTaggingServiceTest {
+
+	@Autowired
+	private GenreTaggingService taggingService;
+
+	@Autowired
+	private AlbumRepository albumRepo;
+
+	@Autowired
+	private ArtistRepository artistRepo;
+
+	@Autowired
+	private GenreRepository genreRepo;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private String suffix;
+	private Genre electronic;
+	private List<Long> albumIds;
+
+	@BeforeEach
+	void setUp() {
+		suffix = UUID.randomUUID().toString().substring(0, 8);
+		Artist artist = artistRepo.save(Artist.builder().name("Tag Artist " + suffix).build());
+		electronic = genreRepo.save(Genre.builder().name("Electronic " + suffix).build());
+		albumIds = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			albumIds.add(albumRepo.save(Album.builder().title("Tag Album " + i + " " + suffix).artist(artist)
+					.releaseDate(LocalDate.of(1990 + i, 1, 1)).build()).getAlbumId());
+		}
+	}
+
+	@Test
+	void tagByIds_isIdempotentAndReportsMissing() {
+		List<Long> ids = new ArrayList<>(albumIds.subList(0, 3));
+		ids.add(999_999L);
+
+		GenreTaggingResponse first = taggingService.tag(electronic.getGenreId(), new GenreTaggingRequest(ids, null));
+		GenreTaggingResponse second = taggingService.tag(electronic.getGenreId(), new GenreTaggingRequest(ids, null));
+
+		assertThat(first.getMatched()).isEqualTo(3);
+		assertThat(first.getChanged()).isEqualTo(3);
+		assertThat(first.getMissingIds()).containsExactly(999_999L);
+		assertThat(second.getChanged()).isZero();
+		assertThat(linked()).isEqualTo(3);
+		// Only the tagged albums' versions (ETags) moved, once
+		assertThat(albumRepo.findById(albumIds.get(0)).orElseThrow().getVersion()).isEqualTo(1L);
+		assertThat(albumRepo.findById(albumIds.get(4)).orElseThrow().getVersion()).isZero();
+	}
+
+	@Test
+	void tagAndUntagByFilter_spanSeveralChunks() {
+		Filter filter = new Filter(suffix, null, null, null);
+
+		GenreTaggingResponse tagged = taggingService.tag(electronic.getGenreId(), new GenreTaggingRequest(null, filter));
+		assertThat(tagged.getMatched()).isEqualTo(5);
+		assertThat(linked()).isEqualTo(5);
+
+		// Untag the albums released up to 1992, selected by the genre itself
+		Filter early = new Filter(null, null, 1992, electronic.getGenreId());
+		GenreTaggingResponse untagged = taggingService.untag(electronic.getGenreId(), new GenreTaggingRequest(null, early));
+		assertThat(untagged.getChanged()).isEqualTo(3);
+		assertThat(linked()).isEqualTo(2);
+	}
+
+	@Test
+	void tag_requiresExactlyOneSelector() {
+		assertThatThrownBy(() -> taggingService.tag(electronic.getGenreId(), new GenreTaggingRequest(null, null)))
+				.isInstanceOf(BadRequestException.class);
+		assertThatThrownBy(() -> taggingService.tag(electronic.getGenreId(),
+				new GenreTaggingRequest(albumIds, new Filter())))
+				.isInstanceOf(BadRequestException.class);
+	}
+
+	@Test
+	void tag_rejectsAFilterWithoutCriteria() {
+		assertThatThrownBy(() -> taggingService.tag(electronic.getGenreId(), new GenreTaggingRequest(null, new Filter())))
+				.isInstanceOf(BadRequestException.class);
+		// A blank title is no criterion either
+		assertThatThrownBy(() -> taggingService.tag(electronic.getGenreId(),
+				new GenreTaggingRequest(null, new Filter(" ", null, null, null))))
+				.isInstanceOf(BadRequestException.class);
+		assertThat(linked()).isZero();
+	}
+
+	private int linked() {
+		return jdbc.queryForObject("SELECT COUNT(*) FROM album_genre WHERE genre_id = ?", Integer.class,
+				electronic.getGenreId());
+	}
+}
@@ -0,0 +1,125 @@
+package music.library.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import music.library.dto.SnapshotInfo;
+import music.library.entity.Album;
+import music.library.entity.Artist;
+import music.library.entity.Genre;
+import music.library.exception.BadRequestException;
+import music.library.exception.ResourceNotFoundException;
+import music.library.repository.AlbumRepository;
+import music.library.repository.ArtistRepository;
+import music.library.repository.GenreRepository;
+
+// Not @Transactional: TRUNCATE commits, and restore replaces every row. The
+// catalog is captured before each test and put back afterwards.
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = { "snapshots.dir=target/test-snapshots", "snapshots.batch-size=2" })
+class SnapshotServiceTest {
+
+	@Autowired
+	private SnapshotService snapshotService;
+
+	@Autowired
+	private DatabaseResetService resetService;
+
+	@Autowired
+	private AlbumGenreLinkService linkService;
+
+	@Autowired
+	private AlbumRepository albumRepo;
+
+	@Autowired
+	private ArtistRepository artistRepo;
+
+	@Autowired
+	private GenreRepository genreRepo;
+
+	@Autowired
+	private JdbcTemplate jdbc;
+
+	private final String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+	@BeforeEach
+	void saveCatalog() {
+		snapshotService.capture("before-" + suffix);
+	}
+
+	@AfterEach
+	void restoreCatalog() {
+		snapshotService.restore("before-" + suffix);
+	}
+
+	@Test
+	void restore_bringsBackRowsIdsAndLinks_andIdentitiesContinueAfterThem() {
+		Artist artist = artistRepo.save(Artist.builder().name("Snapshot Artist " + suffix)
+				.description("x".repeat(70_000)).build());
+		Genre genre = genreRepo.save(Genre.builder().name("Snapshot Genre " + suffix).build());
+		Album album = albumRepo.save(Album.builder().title("Snapshot Album " + suffix).artist(artist)
+				.releaseDate(LocalDate.of(1969, 9, 26)).build());
+		albumRepo.save(Album.builder().title("Snapshot Album 2 " + suffix).artist(artist).build());
+		linkService.link(album.getAlbumId(), genre.getGenreId());
+
+		SnapshotInfo captured = snapshotService.capture("demo-" + suffix);
+		assertThat(captured.getRows()).containsKeys("genre", "artist", "album", "album_genre");
+		assertThat(captured.getBytes()).isPositive();
+
+		resetService.resetDatabase();
+		assertThat(count("album")).isZero();
+		assertThat(count("album_genre")).isZero();
+
+		SnapshotInfo restored = resetService.resetDatabase("demo-" + suffix);
+
+		assertThat(restored.getRows()).isEqualTo(captured.getRows());
+		assertThat(count("album")).isEqualTo(captured.getRows().get("album"));
+		Album back = albumRepo.findById(album.getAlbumId()).orElseThrow();
+		assertThat(back.getTitle()).isEqualTo("Snapshot Album " + suffix);
+		assertThat(back.getReleaseDate()).isEqualTo(LocalDate.of(1969, 9, 26));
+		assertThat(artistRepo.findById(artist.getArtistId()).orElseThrow().getDescription()).hasSize(70_000);
+		assertThat(back.getVersion()).isEqualTo(1L);
+		assertThat(back.getCreatedAt()).isNotNull();
+		assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM album_genre WHERE album_id = ? AND genre_id = ?",
+				Integer.class, album.getAlbumId(), genre.getGenreId())).isEqualTo(1);
+
+		// New rows get ids after the restored ones instead of colliding with them
+		Artist next = artistRepo.save(Artist.builder().name("After Restore " + suffix).build());
+		assertThat(next.getArtistId()).isGreaterThan(artist.getArtistId());
+	}
+
+	@Test
+	void resetWithoutSnapshot_emptiesTablesAndRestartsIds() {
+		resetService.resetDatabase();
+
+		assertThat(count("artist")).isZero();
+		assertThat(artistRepo.save(Artist.builder().name("First " + suffix).build()).getArtistId()).isEqualTo(1L);
+	}
+
+	@Test
+	void badOrUnknownNames_areRejected() {
+		assertThatThrownBy(() -> snapshotService.capture("../etc"))
+				.isInstanceOf(BadRequestException.class);
+		assertThatThrownBy(() -> snapshotService.restore("missing-" + suffix))
+				.isInstanceOf(ResourceNotFoundException.class)
+				.hasMessageContaining("not found");
+		assertThat(snapshotService.list()).extracting(SnapshotInfo::getName).contains("before-" + suffix);
+	}
+
+	private int count(String table) {
+		return jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+	}
+}
@@ -0,0 +1,52 @@
+package music.library.specification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.test.context.ActiveProfiles;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import music.library.entity.Album;
+import music.library.entity.Artist;
+
+@SpringBootTest(webEnvironment = WebEnvironment.NONE)
+@ActiveProfiles("test")
+class AlbumSpecsTest {
+
+	@Autowired
+	private EntityManager em;
+
+	@Test
+	void titleOrArtistContains_reusesTheArtistJoinOfTheQuery() {
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Album> root = query.from(Album.class);
+		// As SparseFieldService joins it for ?fields=artist.name
+		Join<Album, Artist> artist = root.join("artist");
+		query.multiselect(root.get("title"), artist.get("name"));
+
+		query.where(AlbumSpecs.titleOrArtistContains("abbey").toPredicate(root, query, cb));
+
+		assertThat(root.getJoins()).containsExactly(artist);
+		assertThat(em.createQuery(query).getResultList()).isNotNull();
+	}
+
+	@Test
+	void titleOrArtistContains_joinsArtistWhenTheQueryDoesNot() {
+		CriteriaBuilder cb = em.getCriteriaBuilder();
+		CriteriaQuery<Album> query = cb.createQuery(Album.class);
+		Root<Album> root = query.from(Album.class);
+
+		AlbumSpecs.titleOrArtistContains("abbey").toPredicate(root, query, cb);
+
+		assertThat(root.getJoins()).hasSize(1);
+	}
+}
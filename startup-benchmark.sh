@@ -0,0 +1,100 @@
+#!/bin/bash
+# Measures cold start as the time from launching the JVM to the first
+# successful GET /api/albums, for today's build and for the startup-optimized
+# one (Spring AOT + an AppCDS archive from a training run), and prints the
+# median and best of several runs per variant.
+#
+# Usage:
+#   ./startup-benchmark.sh                       # builds both jars, in-memory H2
+#   PROFILE= MYSQL_HOST=... ./startup-benchmark.sh   # against MySQL (ddl-auto: update)
+#
+# Tunables (env): RUNS (5), PORT (18080), PROFILE (h2; empty = default profile/MySQL),
+#                 JAVA_OPTS (-Xmx512m -Xms256m, as in startup.sh), SKIP_BUILD (reuse target/startup)
+# Variants:
+#   jvm      java -jar, as deployed today
+#   cds      extracted jar + AppCDS archive
+#   aot-cds  extracted AOT jar + AppCDS archive + -Dspring.aot.enabled=true (mvn -Paot)
+set -euo pipefail
+
+RUNS="${RUNS:-5}"
+PORT="${PORT:-18080}"
+PROFILE="${PROFILE-h2}"
+JAVA_OPTS="${JAVA_OPTS:--Xmx512m -Xms256m}"
+WORK="target/startup"
+URL="http://localhost:${PORT}/api/albums?page=0&size=20"
+COVERS="$(pwd)/covers"
+
+log() { echo "[$(date +'%Y-%m-%d %H:%M:%S')] $1"; }
+
+trap '[ -n "${APP_PID:-}" ] && kill "$APP_PID" 2>/dev/null || true' EXIT
+
+APP_ARGS=(--server.port="$PORT" --covers.store-dir="$COVERS")
+[ -n "$PROFILE" ] && APP_ARGS+=(--spring.profiles.active="$PROFILE")
+
+jar_of() { ls target/music-library-*.jar | grep -v original | head -1; }
+
+# Extracts a jar (lib/ next to the application jar, as CDS needs) and trains an
+# archive: the context is refreshed and the JVM exits, dumping every loaded class.
+extract_and_train() {
+  local name="$1" jar="$2"
+  shift 2
+  rm -rf "${WORK:?}/$name"
+  java -Djarmode=tools -jar "$jar" extract --destination "$WORK/$name" > /dev/null
+  log "Training AppCDS archive for $name"
+  java -XX:ArchiveClassesAtExit="$WORK/$name/app.jsa" "$@" -Dspring.context.exit=onRefresh \
+    -jar "$WORK/$name/$(basename "$jar")" "${APP_ARGS[@]}" > "$WORK/$name-training.log" 2>&1
+}
+
+if [ -z "${SKIP_BUILD:-}" ]; then
+  mkdir -p "$WORK"
+  log "Building today's jar"
+  mvn -B -q -DskipTests package
+  cp "$(jar_of)" "$WORK/jvm.jar"
+  extract_and_train cds "$WORK/jvm.jar"
+  log "Building the AOT-processed jar (-Paot)"
+  mvn -B -q -DskipTests -Paot package
+  cp "$(jar_of)" "$WORK/aot.jar"
+  extract_and_train aot-cds "$WORK/aot.jar" -Dspring.aot.enabled=true
+fi
+
+# Milliseconds from launch until GET /api/albums answers 200
+time_to_first_request() {
+  local start now
+  start=$(date +%s%N)
+  # shellcheck disable=SC2086
+  java $JAVA_OPTS "$@" "${APP_ARGS[@]}" > "$WORK/run.log" 2>&1 &
+  APP_PID=$!
+  until curl -sf -o /dev/null "$URL"; do
+    kill -0 "$APP_PID" 2>/dev/null || { echo "Application exited, see $WORK/run.log" >&2; exit 1; }
+    sleep 0.02
+  done
+  now=$(date +%s%N)
+  kill "$APP_PID"
+  wait "$APP_PID" 2>/dev/null || true
+  APP_PID=
+  echo $(((now - start) / 1000000))
+}
+
+measure() {
+  local name="$1"
+  shift
+  local times=()
+  # One unmeasured start first, so every variant sees a warm OS file cache
+  time_to_first_request "$@" > /dev/null
+  for run in $(seq 1 "$RUNS"); do
+    times+=("$(time_to_first_request "$@")")
+    log "$name run $run: ${times[-1]} ms"
+  done
+  printf "%s\n" "${times[@]}" | sort -n | awk -v name="$name" '
+    { t[NR] = $1 }
+    END { printf "%-8s median %6d ms   best %6d ms\n", name, t[int((NR + 1) / 2)], t[1] }' >> "$WORK/results.txt"
+}
+
+rm -f "$WORK/results.txt"
+measure jvm -jar "$WORK/jvm.jar"
+measure cds -XX:SharedArchiveFile="$WORK/cds/app.jsa" -jar "$WORK/cds/jvm.jar"
+measure aot-cds -XX:SharedArchiveFile="$WORK/aot-cds/app.jsa" -Dspring.aot.enabled=true -jar "$WORK/aot-cds/aot.jar"
+
+echo
+echo "Time to first successful GET /api/albums (${RUNS} runs, profile ${PROFILE:-default}):"
+cat "$WORK/results.txt"
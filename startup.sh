@@ -4,6 +4,14 @@ set -e
 echo "Starting DNS Auto-Update..."
 /update-namesilo-dns.sh || echo "WARNING: Namesilo DNS update failed, continuing anyway..."
 
+# Images built with AOT_CDS=true run the extracted AOT jar with its AppCDS archive
+JAR=/app/app.jar
+STARTUP_OPTS=""
+if [ -f /app/cds/app.jsa ]; then
+  JAR=/app/cds/app.jar
+  STARTUP_OPTS="-XX:SharedArchiveFile=/app/cds/app.jsa -Dspring.aot.enabled=true"
+fi
+
 echo "Starting Java Application on Port 80..."
 exec java \
   -Xmx512m \
@@ -11,4 +19,5 @@ exec java \
   -XX:+UseContainerSupport \
   -Djava.security.egd=file:/dev/./urandom \
   -Dserver.port=80 \
-  -jar /app/app.jar
+  $STARTUP_OPTS \
+  -jar "$JAR"